@@ -31,6 +31,9 @@ import org.slf4j.LoggerFactory;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class DataStageConnector extends DataEngineConnectorBase {
 
@@ -38,6 +41,7 @@ public class DataStageConnector extends DataEngineConnectorBase {
 
     private static final String SYNC_RULE_PREFIX = "Job metadata will be synced through Egeria";
     private static final String SYNC_RULE_DESC = "GENERATED -- DO NOT UPDATE: last synced at ";
+    private static final int DEFAULT_PARALLELISM = 4;
 
     private final SimpleDateFormat syncDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
 
@@ -46,6 +50,8 @@ public class DataStageConnector extends DataEngineConnectorBase {
     private SoftwareServerCapability dataEngine;
 
     private DataStageCache dataStageCache;
+    private DataStoreCache dataStoreCache;
+    private ExecutorService executor;
     private List<ProcessHierarchy> processHierarchies;
 
     private boolean includeVirtualAssets = true;
@@ -71,6 +77,8 @@ public class DataStageConnector extends DataEngineConnectorBase {
         super.initialize(connectorInstanceId, connectionProperties);
         this.objectMapper = new ObjectMapper();
         this.dataStageCache = null;
+        this.dataStoreCache = null;
+        this.executor = null;
     }
 
     /**
@@ -99,8 +107,12 @@ public class DataStageConnector extends DataEngineConnectorBase {
 
                 Map<String, Object> proxyProperties = this.connectionBean.getConfigurationProperties();
                 Integer igcPage = null;
+                Integer storeCacheSize = null;
+                Integer parallelism = null;
                 if (proxyProperties != null) {
                     igcPage = (Integer) proxyProperties.get(DataStageConnectorProvider.PAGE_SIZE);
+                    storeCacheSize = (Integer) proxyProperties.get(DataStageConnectorProvider.STORE_CACHE_SIZE);
+                    parallelism = (Integer) proxyProperties.get(DataStageConnectorProvider.PARALLELISM);
                     includeVirtualAssets = (Boolean) proxyProperties.getOrDefault(DataStageConnectorProvider.INCLUDE_VIRTUAL_ASSETS, true);
                     createDataStoreSchemas = (Boolean) proxyProperties.getOrDefault(DataStageConnectorProvider.CREATE_DATA_STORE_SCHEMAS, false);
                     Object projects = proxyProperties.getOrDefault(DataStageConnectorProvider.LIMIT_TO_PROJECTS, null);
@@ -119,6 +131,13 @@ public class DataStageConnector extends DataEngineConnectorBase {
                         }
                     }
                 }
+                dataStoreCache = new DataStoreCache(storeCacheSize == null ? DataStoreCache.DEFAULT_MAX_SIZE : storeCacheSize);
+                if (parallelism == null) {
+                    parallelism = DEFAULT_PARALLELISM;
+                }
+                if (parallelism > 1) {
+                    executor = Executors.newFixedThreadPool(parallelism);
+                }
 
                 IGCVersionEnum igcVersion;
                 try {
@@ -160,6 +179,10 @@ public class DataStageConnector extends DataEngineConnectorBase {
     @Override
     public synchronized void disconnect() {
         final String methodName = "disconnect";
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
         try {
             // Close the session on the IGC REST client
             this.igcRestClient.disconnect();
@@ -241,36 +264,55 @@ public class DataStageConnector extends DataEngineConnectorBase {
     @Override
     public List<SchemaType> getChangedSchemaTypes(Date from, Date to) {
 
+        final String methodName = "getChangedSchemaTypes";
         log.debug("Looking for changed SchemaTypes...");
-        Map<String, SchemaType> schemaTypeMap = new HashMap<>();
 
         initializeCache(from, to);
 
-        // Iterate through each job looking for any virtual assets -- these must be created first
+        // De-duplicate the stores used across all of the jobs before translating any of them
+        Set<String> storeRids = new TreeSet<>();
         for (DataStageJob job : dataStageCache.getAllJobs()) {
             for (String storeRid : job.getStoreRids()) {
                 log.debug(" ... considering store: {}", storeRid);
-                if (!schemaTypeMap.containsKey(storeRid)) {
-                    if ( (IGCRestClient.isVirtualAssetRid(storeRid) && includeVirtualAssets)
-                            || (!IGCRestClient.isVirtualAssetRid(storeRid) && createDataStoreSchemas) ) {
-                        log.debug(" ... Creating a SchemaType ...");
-                        SchemaTypeMapping schemaTypeMapping = new SchemaTypeMapping(dataStageCache);
-                        SchemaType deSchemaType = schemaTypeMapping.getForDataStore(dataStageCache.getStoreIdentityFromRid(storeRid));
-                        if (log.isDebugEnabled()) {
-                            try {
-                                log.debug(" ... created: {}", objectMapper.writeValueAsString(deSchemaType));
-                            } catch (JsonProcessingException e) {
-                                log.error("Unable to serialise to JSON: {}", deSchemaType, e);
-                            }
-                        }
-                        schemaTypeMap.put(storeRid, deSchemaType);
-                    }
+                if ( (IGCRestClient.isVirtualAssetRid(storeRid) && includeVirtualAssets)
+                        || (!IGCRestClient.isVirtualAssetRid(storeRid) && createDataStoreSchemas) ) {
+                    storeRids.add(storeRid);
                 }
             }
         }
+        // Ensure the fields of any virtual stores not yet retrieved are retrieved in bulk, before translating
+        dataStageCache.cachePendingVirtualStores();
 
-        return new ArrayList<>(schemaTypeMap.values());
+        // Then translate each store into a SchemaType, in parallel where possible
+        List<Callable<SchemaType>> translations = new ArrayList<>();
+        for (String storeRid : storeRids) {
+            translations.add(() -> getSchemaTypeForStore(storeRid));
+        }
+        List<SchemaType> schemaTypes = dataStageCache.runInParallel(translations, methodName);
+        schemaTypes.removeIf(Objects::isNull);
+
+        return schemaTypes;
+
+    }
 
+    /**
+     * Translate the data store with the provided RID into a SchemaType.
+     *
+     * @param storeRid the RID of the data store to translate
+     * @return SchemaType
+     */
+    private SchemaType getSchemaTypeForStore(String storeRid) {
+        log.debug(" ... Creating a SchemaType for: {}", storeRid);
+        SchemaTypeMapping schemaTypeMapping = new SchemaTypeMapping(dataStageCache);
+        SchemaType deSchemaType = schemaTypeMapping.getForDataStore(dataStageCache.getStoreIdentityFromRid(storeRid));
+        if (log.isDebugEnabled()) {
+            try {
+                log.debug(" ... created: {}", objectMapper.writeValueAsString(deSchemaType));
+            } catch (JsonProcessingException e) {
+                log.error("Unable to serialise to JSON: {}", deSchemaType, e);
+            }
+        }
+        return deSchemaType;
     }
 
     /**
@@ -282,10 +324,12 @@ public class DataStageConnector extends DataEngineConnectorBase {
         initializeCache(from, to);
 
         List<Process> processes = new ArrayList<>();
+        Set<String> alreadyOutputProcesses = new HashSet<>();
 
         List<DataStageJob> seqList = new ArrayList<>();
-        // Translate changed jobs first, to build up appropriate PortAliases list
-        for (DataStageJob detailedJob : dataStageCache.getAllJobs()) {
+        // Translate changed jobs first, to build up appropriate PortAliases list (working from a copy of the jobs, as
+        // resolving sequences below may cache the details of additional jobs)
+        for (DataStageJob detailedJob : new ArrayList<>(dataStageCache.getAllJobs())) {
             if (detailedJob.getType().equals(DataStageJob.JobType.SEQUENCE)) {
                 seqList.add(detailedJob);
             } else {
@@ -296,25 +340,26 @@ public class DataStageConnector extends DataEngineConnectorBase {
                         cacheHierarchyRelationshipsFromProcessDetails(stageLevel);
                         processes.add(stageLevel);
                     }
-
-                    // Then load sequences, re-using the PortAliases constructed for the jobs
-                    // TODO: this probably will NOT work for nested sequences?
-                    for (DataStageJob detailedSeq : seqList) {
-                        List<Process> sequencedJobs = getProcessesForSequence(detailedSeq);
-                        for (Process sequenced : sequencedJobs) {
-                            cacheHierarchyRelationshipsFromProcessDetails(sequenced);
-                            processes.add(sequenced);
-                        }
-                    }
                 }
                 Process jobProcess = getProcessForJob(detailedJob);
                 if (jobProcess != null) {
                     cacheHierarchyRelationshipsFromProcessDetails(jobProcess);
                     processes.add(jobProcess);
+                    alreadyOutputProcesses.add(detailedJob.getJobObject().getId());
                 }
             }
         }
 
+        if (mode == LineageMode.GRANULAR && !seqList.isEmpty()) {
+            // Then load sequences (including any nested within them) once all jobs are done, re-using the PortAliases
+            // constructed for the jobs
+            List<Process> sequencedJobs = getProcessesForSequences(seqList, alreadyOutputProcesses);
+            for (Process sequenced : sequencedJobs) {
+                cacheHierarchyRelationshipsFromProcessDetails(sequenced);
+                processes.add(sequenced);
+            }
+        }
+
         return processes;
 
     }
@@ -359,11 +404,15 @@ public class DataStageConnector extends DataEngineConnectorBase {
      * @param to the date and time up to which to cache changes (inclusive)
      */
     private void initializeCache(Date from, Date to) {
-        DataStageCache forComparison = new DataStageCache(from, to, mode, limitToProjects, limitToLineageEnabledJobs);
+        DataStageCache forComparison = new DataStageCache(from, to, mode, limitToProjects, limitToLineageEnabledJobs, dataStoreCache);
         if (dataStageCache == null || !dataStageCache.equals(forComparison)) {
             // Initialize the cache, if it is empty, or reset it if it differs from the dates and times we've been given
+            // (data store details are retained across these resets by the long-lived data store cache)
+            if (dataStageCache != null) {
+                log.debug(" ... identity cache for previous sync window: {}", dataStageCache.getIdentityCache());
+            }
             dataStageCache = forComparison;
-            dataStageCache.initialize(igcRestClient);
+            dataStageCache.initialize(igcRestClient, executor);
             processHierarchies = new ArrayList<>();
         }
     }
@@ -402,9 +451,8 @@ public class DataStageConnector extends DataEngineConnectorBase {
         log.debug("Load process for job...");
         Process process = dataStageCache.getProcessByRid(job.getJobObject().getId());
         if (process != null) {
-            if (mode == LineageMode.JOB_LEVEL) {
-                // TODO: fill in the LineageMapping at this process level
-            }
+            // Any job-level LineageMappings (including those collapsed from the job's stage columns) are already
+            // included in the process by the ProcessMapping
             try {
                 if (log.isDebugEnabled()) { log.debug(" ... process: {}", objectMapper.writeValueAsString(process)); }
             } catch (JsonProcessingException e) {
@@ -415,49 +463,34 @@ public class DataStageConnector extends DataEngineConnectorBase {
     }
 
     /**
-     * Translate a DataStage sequence into a Process, as well as any other jobs that the sequence calls which are not
-     * already included as changes (executing a job from a sequence does not cause the job to be updated, so will not
-     * appear at job-level as a separate change, but needs to be included to update the process hierarchy
-     * relationships).
+     * Translate DataStage sequences into Processes, as well as any other jobs (or nested sequences) that the sequences
+     * call which are not already included as changes (executing a job from a sequence does not cause the job to be
+     * updated, so will not appear at job-level as a separate change, but needs to be included to update the process
+     * hierarchy relationships). Every job and sequence is translated only once, and only after everything it runs.
      *
-     * @param job the job object for which to load a process
+     * @param sequences the sequences for which to load processes
+     * @param alreadyOutputProcesses the RIDs of jobs whose processes have already been output (updated by this method)
      * @return {@code List<Process>}
      */
-    private List<Process> getProcessesForSequence(DataStageJob job) {
-        log.debug("Load process for sequence...");
+    private List<Process> getProcessesForSequences(List<DataStageJob> sequences, Set<String> alreadyOutputProcesses) {
+        log.debug("Load processes for {} sequences...", sequences.size());
         List<Process> processes = new ArrayList<>();
-        // Create a copy of the map, as the next step could update it by caching additional job details
-        // necessary for the port aliases
-        Set<String> alreadyOutputProcesses = dataStageCache.getCachedProcessRids();
-        Process process = dataStageCache.getProcessByRid(job.getJobObject().getId());
-        if (process != null) {
-            log.debug(" ... examining {} jobs run by the sequence", job.getAllStages().size());
-            for (Stage stage : job.getAllStages()) {
-                Dsjob runsJob = stage.getRunsSequencesJobs();
-                String rid = runsJob.getId();
-                if (rid != null && !alreadyOutputProcesses.contains(rid)) {
-                    log.debug(" ...... found a job not already included in our changes: {}", rid);
-                    // For any remaining, add them to the list of processes
-                    Process sequencedProcess = dataStageCache.getProcessByRid(rid);
-                    if (sequencedProcess != null) {
-                        try {
-                            if (log.isDebugEnabled()) { log.debug(" ...... adding process: {}", objectMapper.writeValueAsString(sequencedProcess)); }
-                        } catch (JsonProcessingException e) {
-                            log.error("Unable to serialise to JSON: {}", sequencedProcess, e);
-                        }
-                        processes.add(sequencedProcess);
-                    } else {
-                        log.error(" ... job could not be found or cached, something went wrong: {}", rid);
+        SequenceGraph sequenceGraph = new SequenceGraph(dataStageCache);
+        for (String rid : sequenceGraph.getTopologicalOrder(sequences)) {
+            if (alreadyOutputProcesses.add(rid)) {
+                log.debug(" ... found a job or sequence not already included in our changes: {}", rid);
+                Process process = dataStageCache.getProcessByRid(rid);
+                if (process != null) {
+                    try {
+                        if (log.isDebugEnabled()) { log.debug(" ... adding process: {}", objectMapper.writeValueAsString(process)); }
+                    } catch (JsonProcessingException e) {
+                        log.error("Unable to serialise to JSON: {}", process, e);
                     }
+                    processes.add(process);
+                } else {
+                    log.error(" ... job could not be found or cached, something went wrong: {}", rid);
                 }
             }
-            // And then finally add the sequence itself
-            processes.add(process);
-            try {
-                if (log.isDebugEnabled()) { log.debug(" ... process: {}", objectMapper.writeValueAsString(process)); }
-            } catch (JsonProcessingException e) {
-                log.error("Unable to serialise to JSON: {}", process, e);
-            }
         }
         return processes;
     }
@@ -39,6 +39,12 @@ import java.util.List;
  *         limitToLineageEnabledJobs - a boolean that indicates if the connector should only process lineage-enabled jobs.
  *         If this is set to 'true' then only jobs having 'include_for_lineage' set to 'true' will be processed for lineage information. Default is 'false'.
  *     </li>
+ *     <li>storeCacheSize - an integer giving the maximum number of data stores whose details (identity and fields) are
+ *          retained across sync windows, so that heavily re-used stores need not be retrieved again on every poll
+ *          (defaults to 1000).</li>
+ *     <li>parallelism - an integer giving the maximum number of threads to use for work that can be done in parallel,
+ *          such as retrieving the fields of virtual data stores and translating data stores into schemas (defaults
+ *          to 4, and 1 will do everything serially).</li>
  * </ul>
  */
 public class DataStageConnectorProvider extends DataEngineConnectorProviderBase {
@@ -53,6 +59,8 @@ public class DataStageConnectorProvider extends DataEngineConnectorProviderBase
     static final String CREATE_DATA_STORE_SCHEMAS = "createDataStoreSchemas";
     static final String LIMIT_TO_PROJECTS = "limitToProjects";
     static final String LIMIT_TO_LINEAGE_ENABLED_JOBS = "limitToLineageEnabledJobs";
+    static final String STORE_CACHE_SIZE = "storeCacheSize";
+    static final String PARALLELISM = "parallelism";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -78,6 +86,8 @@ public class DataStageConnectorProvider extends DataEngineConnectorProviderBase
         recognizedConfigurationProperties.add(CREATE_DATA_STORE_SCHEMAS);
         recognizedConfigurationProperties.add(LIMIT_TO_PROJECTS);
         recognizedConfigurationProperties.add(LIMIT_TO_LINEAGE_ENABLED_JOBS);
+        recognizedConfigurationProperties.add(STORE_CACHE_SIZE);
+        recognizedConfigurationProperties.add(PARALLELISM);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
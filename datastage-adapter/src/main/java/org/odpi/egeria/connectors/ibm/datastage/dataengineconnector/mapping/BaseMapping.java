@@ -3,6 +3,7 @@
 package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.mapping;
 
 import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model.DataStageCache;
+import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model.IdentityCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestConstants;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
@@ -47,25 +48,56 @@ class BaseMapping {
      */
     String getFullyQualifiedName(Identity identity, String qualifier) {
         if (identity != null) {
-            String type = identity.getAssetType();
-            String qualifiedName;
-            if (IGCRestConstants.getDatastageSpecificTypes().contains(type) || IGCRestClient.isVirtualAssetRid(identity.getRid())) {
-                // If this is a DataStage-specific asset type, or a virtual asset, prefix the qualifiedName
-                // so that it is clearly distinguishable (and can be used to skip any attempt at searching for
-                // the asset by qualifiedName in IGC)
-                qualifiedName = IGCRestConstants.NON_IGC_PREFIX + identity.toString();
-            } else {
-                qualifiedName = identity.toString();
-            }
-            if (qualifier != null) {
-                return qualifier + qualifiedName;
-            } else {
-                return qualifiedName;
+            IdentityCache identityCache = cache.getIdentityCache();
+            String rid = identity.getRid();
+            String fullyQualifiedName = identityCache.getQualifiedName(rid, qualifier);
+            if (fullyQualifiedName == null) {
+                fullyQualifiedName = buildFullyQualifiedName(identity, qualifier);
+                identityCache.putQualifiedName(rid, qualifier, fullyQualifiedName);
             }
+            return fullyQualifiedName;
         }
         return null;
     }
 
+    /**
+     * Construct the fully-qualified name for the provided (non-null) IGC identity.
+     *
+     * @param identity the identity of an IGC object for which to construct the fully-qualified name
+     * @param qualifier an additional qualifier to add, in particular for embedded elements
+     * @return String
+     */
+    private String buildFullyQualifiedName(Identity identity, String qualifier) {
+        String type = identity.getAssetType();
+        String qualifiedName;
+        if (IGCRestConstants.getDatastageSpecificTypes().contains(type) || IGCRestClient.isVirtualAssetRid(identity.getRid())) {
+            // If this is a DataStage-specific asset type, or a virtual asset, prefix the qualifiedName
+            // so that it is clearly distinguishable (and can be used to skip any attempt at searching for
+            // the asset by qualifiedName in IGC)
+            qualifiedName = IGCRestConstants.NON_IGC_PREFIX + identity.toString();
+        } else {
+            qualifiedName = identity.toString();
+        }
+        if (qualifier != null) {
+            return qualifier + qualifiedName;
+        } else {
+            return qualifiedName;
+        }
+    }
+
+    /**
+     * Retrieve the identity of the provided IGC object, memoized for the sync window.
+     *
+     * @param igcObj the IGC object for which to retrieve the identity
+     * @return Identity
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
+     */
+    Identity getIdentity(Reference igcObj) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        return cache.getIdentityCache().getIdentity(igcObj, igcRestClient, cache.getIgcCache());
+    }
+
     /**
      * Retrieve the fully-qualified name of the provided IGC object.
      *
@@ -78,7 +110,7 @@ class BaseMapping {
      */
     String getFullyQualifiedName(Reference igcObj, String qualifier) throws IGCConnectivityException, IGCParsingException, IGCIOException {
         if (igcObj != null) {
-            Identity identity = igcObj.getIdentity(igcRestClient, cache.getIgcCache());
+            Identity identity = getIdentity(igcObj);
             return getFullyQualifiedName(identity, qualifier);
         }
         return null;
@@ -154,7 +186,7 @@ class BaseMapping {
     Identity getParentIdentity(Reference igcObj) throws IGCConnectivityException, IGCParsingException, IGCIOException {
         Identity parent = null;
         if (igcObj != null) {
-            Identity identity = igcObj.getIdentity(igcRestClient, cache.getIgcCache());
+            Identity identity = getIdentity(igcObj);
             parent = identity.getParentIdentity();
         }
         return parent;
@@ -172,7 +204,7 @@ class BaseMapping {
     String getParentDisplayName(Reference igcObj) throws IGCConnectivityException, IGCParsingException, IGCIOException {
         String parentDN = null;
         if (igcObj != null) {
-            Identity thisObjIdentity = igcObj.getIdentity(igcRestClient, cache.getIgcCache());
+            Identity thisObjIdentity = getIdentity(igcObj);
             Identity parentObjIdentity = thisObjIdentity.getParentIdentity();
             if (parentObjIdentity != null) {
                 parentDN = parentObjIdentity.getName();
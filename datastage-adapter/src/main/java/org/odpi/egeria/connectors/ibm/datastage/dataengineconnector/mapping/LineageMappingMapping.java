@@ -18,6 +18,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -146,11 +147,12 @@ class LineageMappingMapping extends BaseMapping {
         try {
             List<DataItem> allStageColumns = igcRestClient.getAllPages("stage_columns", stageColumns);
             log.debug("Constructing LineageMappings between stages: {}", link);
+            // The stages are the same for every column on the link, so only qualify them once
+            String inputQN = getFullyQualifiedName(inputStage);
+            String outputQN = getFullyQualifiedName(outputStage);
             // For each stage column defined on the link...
             for (DataItem stageColRef : allStageColumns) {
                 ColumnLevelLineage stageColFull = job.getColumnLevelLineageByRid(stageColRef.getId());
-                String inputQN = getFullyQualifiedName(inputStage);
-                String outputQN = getFullyQualifiedName(outputStage);
                 String stageColNameIn = getFullyQualifiedName(stageColFull, inputQN);
                 String stageColNameOut = getFullyQualifiedName(stageColFull, outputQN);
                 if (stageColNameIn != null && stageColNameOut != null) {
@@ -213,6 +215,43 @@ class LineageMappingMapping extends BaseMapping {
         return lineageMappings;
     }
 
+    /**
+     * Creates LineageMappings at the job-level between data store fields, collapsing all of the stage columns and
+     * variables in between.
+     * - {@code StoreX.field -> StoreY.field (reads_from_(design) ... written_by_(design))}
+     *
+     * @param job the job for which to create the LineageMappings
+     * @return {@code Set<LineageMapping>}
+     */
+    Set<LineageMapping> getForColumnsInJob(DataStageJob job) {
+        final String methodName = "getForColumnsInJob";
+        Set<LineageMapping> lineageMappings = new HashSet<>();
+        Map<Reference, List<Reference>> fieldLineage = job.getColumnLineageGraph().getSourceToTargetLineage();
+        try {
+            for (Map.Entry<Reference, List<Reference>> entry : fieldLineage.entrySet()) {
+                String sourceQN = getFullyQualifiedName(entry.getKey());
+                if (sourceQN != null) {
+                    for (Reference target : entry.getValue()) {
+                        String targetQN = getFullyQualifiedName(target);
+                        if (targetQN != null) {
+                            lineageMappings.add(getLineageMapping(sourceQN, targetQN));
+                        } else {
+                            log.error("Unable to determine identity for target field -- not including: {}", target);
+                        }
+                    }
+                } else {
+                    log.error("Unable to determine identity for source field -- not including: {}", entry.getKey());
+                }
+            }
+        } catch (IGCException e) {
+            DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                    this.getClass().getName(),
+                    methodName,
+                    e);
+        }
+        return lineageMappings;
+    }
+
     /**
      * Creates LineageMappings between data stores and stages.
      * - {@code STAGEA (data source -> )}
@@ -65,8 +65,16 @@ public class ProcessMapping extends BaseMapping {
 
                     // Setup job-level lineage mappings
                     LineageMappingMapping lineageMappingMapping = new LineageMappingMapping(cache);
-                    Set<LineageMapping> jobLevelLineage = lineageMappingMapping.getForJob(job);
-                    if (jobLevelLineage != null && !jobLevelLineage.isEmpty()) {
+                    Set<LineageMapping> jobLevelLineage = new HashSet<>();
+                    Set<LineageMapping> storeLineage = lineageMappingMapping.getForJob(job);
+                    if (storeLineage != null) {
+                        jobLevelLineage.addAll(storeLineage);
+                    }
+                    Set<LineageMapping> columnLineage = lineageMappingMapping.getForColumnsInJob(job);
+                    if (columnLineage != null) {
+                        jobLevelLineage.addAll(columnLineage);
+                    }
+                    if (!jobLevelLineage.isEmpty()) {
                         process.setLineageMappings(new ArrayList<>(jobLevelLineage));
                     }
 
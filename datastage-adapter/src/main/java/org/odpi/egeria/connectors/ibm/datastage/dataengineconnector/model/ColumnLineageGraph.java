@@ -0,0 +1,204 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+
+import java.util.*;
+
+/**
+ * A compact, directed graph of the column-level flow of data through a single DataStage job: from the data store
+ * fields the job reads, through its stage columns and stage variables, to the data store fields it writes. Nodes are
+ * held by integer index and edges in flat int arrays (compressed into adjacency arrays once the graph is complete),
+ * so that even jobs with tens of thousands of stage columns can be collapsed cheaply into the source-field to
+ * target-field lineage of the job as a whole.
+ */
+public class ColumnLineageGraph {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> ridToIndex;
+    private final List<Reference> nodes;
+    private final BitSet sources;
+    private final BitSet targets;
+
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private int edgeCount;
+
+    // Adjacency arrays: the successors of node n are adjacency[offsets[n]] .. adjacency[offsets[n + 1] - 1]
+    private int[] offsets;
+    private int[] adjacency;
+
+    /**
+     * Create a new, empty column lineage graph.
+     */
+    public ColumnLineageGraph() {
+        this.ridToIndex = new HashMap<>();
+        this.nodes = new ArrayList<>();
+        this.sources = new BitSet();
+        this.targets = new BitSet();
+        this.edgeFrom = new int[INITIAL_CAPACITY];
+        this.edgeTo = new int[INITIAL_CAPACITY];
+        this.edgeCount = 0;
+        this.offsets = null;
+        this.adjacency = null;
+    }
+
+    /**
+     * Add a directed edge to the graph, indicating that data flows from the first object to the second.
+     *
+     * @param from the object from which data flows
+     * @param to the object to which data flows
+     */
+    public void addEdge(Reference from, Reference to) {
+        int f = indexOf(from);
+        int t = indexOf(to);
+        if (f >= 0 && t >= 0 && f != t) {
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = f;
+            edgeTo[edgeCount] = t;
+            edgeCount++;
+            adjacency = null;
+        }
+    }
+
+    /**
+     * Mark the provided object (a data store field) as a source of data for the job.
+     *
+     * @param source the object to mark as a source
+     */
+    public void addSource(Reference source) {
+        int idx = indexOf(source);
+        if (idx >= 0) {
+            sources.set(idx);
+        }
+    }
+
+    /**
+     * Mark the provided object (a data store field) as a target of data from the job.
+     *
+     * @param target the object to mark as a target
+     */
+    public void addTarget(Reference target) {
+        int idx = indexOf(target);
+        if (idx >= 0) {
+            targets.set(idx);
+        }
+    }
+
+    /**
+     * Retrieve the number of nodes in the graph.
+     *
+     * @return int
+     */
+    public int getNodeCount() { return nodes.size(); }
+
+    /**
+     * Retrieve the number of edges in the graph.
+     *
+     * @return int
+     */
+    public int getEdgeCount() { return edgeCount; }
+
+    /**
+     * Retrieve all of the sources of data for the job.
+     *
+     * @return {@code List<Reference>}
+     */
+    public List<Reference> getSources() {
+        List<Reference> list = new ArrayList<>();
+        for (int i = sources.nextSetBit(0); i >= 0; i = sources.nextSetBit(i + 1)) {
+            list.add(nodes.get(i));
+        }
+        return list;
+    }
+
+    /**
+     * Retrieve the lineage of the job collapsed to its end-points: a mapping from each source of data to all of the
+     * targets that can be (transitively) reached from it, through any number of stage columns and variables.
+     * Sources from which no target is reachable are not included.
+     *
+     * @return {@code Map<Reference, List<Reference>>} keyed by source, in the order the sources were first seen
+     */
+    public Map<Reference, List<Reference>> getSourceToTargetLineage() {
+        compact();
+        Map<Reference, List<Reference>> lineage = new LinkedHashMap<>();
+        int nodeCount = nodes.size();
+        // Rather than clearing a visited set for every source, stamp each visited node with the source being walked
+        int[] visitedBy = new int[nodeCount];
+        int[] stack = new int[Math.max(nodeCount, 1)];
+        for (int source = sources.nextSetBit(0); source >= 0; source = sources.nextSetBit(source + 1)) {
+            int stamp = source + 1;
+            List<Reference> reachable = new ArrayList<>();
+            int top = 0;
+            stack[top++] = source;
+            visitedBy[source] = stamp;
+            while (top > 0) {
+                int node = stack[--top];
+                if (node != source && targets.get(node)) {
+                    reachable.add(nodes.get(node));
+                }
+                for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                    int next = adjacency[e];
+                    if (visitedBy[next] != stamp) {
+                        visitedBy[next] = stamp;
+                        stack[top++] = next;
+                    }
+                }
+            }
+            if (!reachable.isEmpty()) {
+                lineage.put(nodes.get(source), reachable);
+            }
+        }
+        return lineage;
+    }
+
+    /**
+     * Retrieve the index of the provided object, adding it as a new node if it is not already in the graph.
+     *
+     * @param object the object for which to retrieve the node index
+     * @return int, or -1 if the object cannot be a node (it has no RID)
+     */
+    private int indexOf(Reference object) {
+        if (object == null || object.getId() == null) {
+            return -1;
+        }
+        Integer idx = ridToIndex.get(object.getId());
+        if (idx == null) {
+            idx = nodes.size();
+            ridToIndex.put(object.getId(), idx);
+            nodes.add(object);
+            // The adjacency arrays must be rebuilt to include the new node
+            adjacency = null;
+        }
+        return idx;
+    }
+
+    /**
+     * Compress the list of edges into adjacency arrays (a counting sort of the edges by their origin), if this has not
+     * already been done since the last edge was added.
+     */
+    private void compact() {
+        if (adjacency != null) {
+            return;
+        }
+        int nodeCount = nodes.size();
+        offsets = new int[nodeCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[edgeFrom[e] + 1]++;
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            offsets[n + 1] += offsets[n];
+        }
+        adjacency = new int[edgeCount];
+        int[] position = Arrays.copyOf(offsets, nodeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            adjacency[position[edgeFrom[e]]++] = edgeTo[e];
+        }
+    }
+
+}
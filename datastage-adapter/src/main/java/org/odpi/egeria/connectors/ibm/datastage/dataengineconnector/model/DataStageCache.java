@@ -22,6 +22,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Utility class to cache DataStage information for use by multiple steps in the Data Engine processing.
@@ -34,9 +38,13 @@ public class DataStageCache {
     private Map<String, Process> ridToProcess;
     private Map<String, Identity> storeToIdentity;
     private Map<String, List<Classificationenabledgroup>> storeToColumns;
+    private Map<String, InformationAsset> pendingVirtualStores;
 
+    private DataStoreCache storeCache;
     private IGCRestClient igcRestClient;
     private ObjectCache igcCache;
+    private IdentityCache identityCache;
+    private ExecutorService executor;
     private Date from;
     private Date to;
     private LineageMode mode;
@@ -53,11 +61,29 @@ public class DataStageCache {
      * @param limitToLineageEnabledJobs limit the processing to those jobs for which lineage is enabled
      */
     public DataStageCache(Date from, Date to, LineageMode mode, List<String> limitToProjects, boolean limitToLineageEnabledJobs) {
+        this(from, to, mode, limitToProjects, limitToLineageEnabledJobs, new DataStoreCache());
+    }
+
+    /**
+     * Create a new cache for changes between the times provided, re-using the provided (long-lived) cache of data
+     * store details.
+     *
+     * @param from the date and time from which to cache changes
+     * @param to the date and time until which to cache changes
+     * @param mode the mode of operation for the connector, indicating the level of detail to include for lineage
+     * @param limitToProjects limit the cached jobs to only those in the provided list of projects
+     * @param limitToLineageEnabledJobs limit the processing to those jobs for which lineage is enabled
+     * @param storeCache the cache of data store details that is retained across sync windows
+     */
+    public DataStageCache(Date from, Date to, LineageMode mode, List<String> limitToProjects, boolean limitToLineageEnabledJobs, DataStoreCache storeCache) {
         this.igcCache = new ObjectCache();
+        this.identityCache = new IdentityCache();
+        this.storeCache = storeCache;
         this.ridToJob = new HashMap<>();
         this.ridToProcess = new HashMap<>();
-        this.storeToIdentity = new HashMap<>();
-        this.storeToColumns = new HashMap<>();
+        this.storeToIdentity = Collections.synchronizedMap(new HashMap<>());
+        this.storeToColumns = Collections.synchronizedMap(new HashMap<>());
+        this.pendingVirtualStores = new LinkedHashMap<>();
         this.from = from;
         this.to = to;
         this.mode = mode;
@@ -71,8 +97,23 @@ public class DataStageCache {
      * @param igcRestClient connectivity to the IGC environment
      */
     public void initialize(IGCRestClient igcRestClient) {
+        initialize(igcRestClient, null);
+    }
+
+    /**
+     * Initialize the cache by retrieving the details of all changed jobs, using the provided executor to retrieve
+     * details that can be retrieved in parallel.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param executor the executor through which to run parallel retrievals (or null to run everything serially)
+     */
+    public void initialize(IGCRestClient igcRestClient, ExecutorService executor) {
         this.igcRestClient = igcRestClient;
+        this.executor = executor;
+        // Drop any data store details that have changed since the last sync window before re-using them
+        storeCache.validate(igcRestClient, to);
         getChangedJobs();
+        cachePendingVirtualStores();
     }
 
     /**
@@ -99,6 +140,18 @@ public class DataStageCache {
      */
     public ObjectCache getIgcCache() { return igcCache; }
 
+    /**
+     * Retrieve the embedded cache of identities and fully-qualified names.
+     * @return IdentityCache
+     */
+    public IdentityCache getIdentityCache() { return identityCache; }
+
+    /**
+     * Retrieve the executor through which to run parallel work (or null if everything should be run serially).
+     * @return ExecutorService
+     */
+    public ExecutorService getExecutor() { return executor; }
+
     /**
      * {@inheritDoc}
      */
@@ -230,6 +283,13 @@ public class DataStageCache {
 
         // Regardless of mode, we at least need the store identity
         Identity storeIdentity = storeToIdentity.getOrDefault(rid, null);
+        if (storeIdentity == null && mode == LineageMode.JOB_LEVEL) {
+            // Next try the long-lived cache of stores, which survives across sync windows
+            storeIdentity = storeCache.getIdentity(rid);
+            if (storeIdentity != null) {
+                storeToIdentity.put(rid, storeIdentity);
+            }
+        }
         if (storeIdentity == null && mode == LineageMode.JOB_LEVEL) {
 
             // If not there, retrieve it and cache it
@@ -239,6 +299,7 @@ public class DataStageCache {
                 try {
                     storeIdentity = store.getIdentity(igcRestClient, igcCache);
                     storeToIdentity.put(rid, storeIdentity);
+                    storeCache.putIdentity(rid, storeIdentity);
                 } catch (IGCException e) {
                     DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
                             this.getClass().getName(),
@@ -249,7 +310,9 @@ public class DataStageCache {
                 // For virtual assets, we must retrieve the full object (search by RID is not possible)
                 try {
                     Reference virtualStore = igcRestClient.getAssetById(rid, igcCache);
-                    storeToIdentity.put(rid, virtualStore.getIdentity(igcRestClient, igcCache));
+                    storeIdentity = virtualStore.getIdentity(igcRestClient, igcCache);
+                    storeToIdentity.put(rid, storeIdentity);
+                    storeCache.putIdentity(rid, storeIdentity);
                 } catch (IGCException e) {
                     DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
                             this.getClass().getName(),
@@ -261,6 +324,19 @@ public class DataStageCache {
         } else if (mode == LineageMode.GRANULAR) {
 
             fields = storeToColumns.getOrDefault(rid, null);
+            if (fields == null) {
+                // Next try the long-lived cache of stores, which survives across sync windows
+                fields = storeCache.getFields(rid);
+                Identity cachedIdentity = storeCache.getIdentity(rid);
+                if (fields != null && (fields.isEmpty() || cachedIdentity != null)) {
+                    storeToColumns.put(rid, fields);
+                    if (cachedIdentity != null) {
+                        storeToIdentity.put(cachedIdentity.getRid(), cachedIdentity);
+                    }
+                } else {
+                    fields = null;
+                }
+            }
             if (fields == null) {
                 // If not there, run a search to retrieve it
                 log.debug("(cache miss) -- retrieving data field details for {}: {}", storeType, rid);
@@ -294,21 +370,8 @@ public class DataStageCache {
                     }
                 } else {
                     // For virtual assets, we must retrieve the full object and page through its fields (search by RID is not possible)
-                    fields = new ArrayList<>();
                     try {
-                        Reference virtualStore = igcRestClient.getAssetById(rid, igcCache);
-                        if (virtualStore instanceof DatabaseTable) {
-                            DatabaseTable virtualTable = (DatabaseTable) virtualStore;
-                            fields.addAll(getDataFieldsFromVirtualList("database_columns", virtualTable.getDatabaseColumns()));
-                        } else if (virtualStore instanceof View) {
-                            View virtualView = (View) virtualStore;
-                            fields.addAll(getDataFieldsFromVirtualList("database_columns", virtualView.getDatabaseColumns()));
-                        } else if (virtualStore instanceof DataFileRecord) {
-                            DataFileRecord virtualRecord = (DataFileRecord) virtualStore;
-                            fields.addAll(getDataFieldsFromVirtualList("data_file_fields", virtualRecord.getDataFileFields()));
-                        } else {
-                            log.warn("Unhandled case for type: {}", virtualStore.getType());
-                        }
+                        fields = getFullVirtualFields(getVirtualFieldRefs(rid));
                     } catch (IGCException e) {
                         DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
                                 this.getClass().getName(),
@@ -317,22 +380,7 @@ public class DataStageCache {
                     }
                 }
                 // Add them to the cache once they've been retrieved
-                if (fields != null) {
-                    storeToColumns.put(rid, fields);
-                    if (!fields.isEmpty()) {
-                        try {
-                            storeIdentity = fields.get(0).getIdentity(igcRestClient, igcCache).getParentIdentity();
-                            String storeId = storeIdentity.getRid();
-                            storeToIdentity.put(storeId, storeIdentity);
-                        } catch (IGCException e) {
-                            DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
-                                    this.getClass().getName(),
-                                    methodName,
-                                    e);
-                        }
-                    }
-                }
-
+                cacheFieldsForStore(rid, fields);
             }
 
         }
@@ -340,33 +388,172 @@ public class DataStageCache {
     }
 
     /**
-     * Retrieve the full list of virtual fields contained within the provided list of virtual fields.  Note that this
-     * should ONLY be used for virtual assets, as it is a very expensive operation.
+     * Ensure the fields of the provided data store will be cached. Most stores are cached immediately, but the fields
+     * of virtual stores (which can only be retrieved one-by-one) are deferred so that they can be retrieved in bulk
+     * for all of the changed jobs at once.
      *
-     * @param propertyName name of the property from which the virtual fields are retrieved
-     * @param virtualFields the paged list of virtual fields that has been retrieved
-     * @param <T> the type of field
+     * @param store the InformationAsset representing the data store for which to cache fields
+     */
+    public void prepareFieldsForStore(InformationAsset store) {
+        String rid = store.getId();
+        if (mode == LineageMode.GRANULAR && store.isVirtualAsset()) {
+            if (!storeToColumns.containsKey(rid)) {
+                pendingVirtualStores.put(rid, store);
+            }
+        } else {
+            getFieldsForStore(store);
+        }
+    }
+
+    /**
+     * Retrieve and cache the fields of all of the virtual data stores that have been deferred, in bulk: the stores
+     * are de-duplicated across all jobs, and then both the stores and all of their fields are retrieved in parallel.
+     */
+    public void cachePendingVirtualStores() {
+        List<String> storeRids = new ArrayList<>();
+        for (String rid : pendingVirtualStores.keySet()) {
+            if (!storeToColumns.containsKey(rid)) {
+                storeRids.add(rid);
+            }
+        }
+        pendingVirtualStores.clear();
+        if (!storeRids.isEmpty()) {
+            log.debug("Retrieving data field details for {} virtual data stores in bulk", storeRids.size());
+            List<Callable<List<Classificationenabledgroup>>> storeRetrievals = new ArrayList<>();
+            for (String rid : storeRids) {
+                storeRetrievals.add(() -> getVirtualFieldRefs(rid));
+            }
+            List<List<Classificationenabledgroup>> fieldRefsByStore = runInParallel(storeRetrievals, "cachePendingVirtualStores");
+            List<Classificationenabledgroup> allFieldRefs = new ArrayList<>();
+            for (List<Classificationenabledgroup> fieldRefs : fieldRefsByStore) {
+                allFieldRefs.addAll(fieldRefs);
+            }
+            List<Classificationenabledgroup> allFields = getFullVirtualFields(allFieldRefs);
+            // Fields are returned in the same order as requested, so can be split back out per store by position
+            int position = 0;
+            for (int i = 0; i < storeRids.size(); i++) {
+                int count = fieldRefsByStore.get(i).size();
+                cacheFieldsForStore(storeRids.get(i), new ArrayList<>(allFields.subList(position, position + count)));
+                position += count;
+            }
+        }
+    }
+
+    /**
+     * Cache the provided fields (and the identity of the store that contains them) against the provided data store.
+     *
+     * @param rid the RID of the data store
+     * @param fields the fields of the data store
+     */
+    private void cacheFieldsForStore(String rid, List<Classificationenabledgroup> fields) {
+        final String methodName = "cacheFieldsForStore";
+        if (fields != null) {
+            storeToColumns.put(rid, fields);
+            storeCache.putFields(rid, fields);
+            if (!fields.isEmpty()) {
+                try {
+                    Identity storeIdentity = fields.get(0).getIdentity(igcRestClient, igcCache).getParentIdentity();
+                    String storeId = storeIdentity.getRid();
+                    storeToIdentity.put(storeId, storeIdentity);
+                    storeCache.putIdentity(storeId, storeIdentity);
+                } catch (IGCException e) {
+                    DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                            this.getClass().getName(),
+                            methodName,
+                            e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieve the (paged-in, but not fully-detailed) list of fields of the virtual data store with the provided RID.
+     *
+     * @param rid the RID of the virtual data store
+     * @return {@code List<Classificationenabledgroup>} of references to the fields
+     * @throws IGCException if there is any issue retrieving the store or its fields
+     */
+    private List<Classificationenabledgroup> getVirtualFieldRefs(String rid) throws IGCException {
+        List<Classificationenabledgroup> fieldRefs = new ArrayList<>();
+        Reference virtualStore = igcRestClient.getAssetById(rid, igcCache);
+        if (virtualStore instanceof DatabaseTable) {
+            DatabaseTable virtualTable = (DatabaseTable) virtualStore;
+            fieldRefs.addAll(igcRestClient.getAllPages("database_columns", virtualTable.getDatabaseColumns()));
+        } else if (virtualStore instanceof View) {
+            View virtualView = (View) virtualStore;
+            fieldRefs.addAll(igcRestClient.getAllPages("database_columns", virtualView.getDatabaseColumns()));
+        } else if (virtualStore instanceof DataFileRecord) {
+            DataFileRecord virtualRecord = (DataFileRecord) virtualStore;
+            fieldRefs.addAll(igcRestClient.getAllPages("data_file_fields", virtualRecord.getDataFileFields()));
+        } else if (virtualStore != null) {
+            log.warn("Unhandled case for type: {}", virtualStore.getType());
+        }
+        return fieldRefs;
+    }
+
+    /**
+     * Retrieve the fully-detailed virtual fields for the provided list of references to virtual fields, in the same
+     * order. Note that this should ONLY be used for virtual assets, as each field must be retrieved individually; these
+     * retrievals are therefore run in parallel where an executor is available.
+     *
+     * @param virtualFields the references to the virtual fields
      * @return {@code List<Classificationenabledgroup>} containing the full list of fully-detailed virtual fields
      */
-    private <T extends Classificationenabledgroup> List<Classificationenabledgroup> getDataFieldsFromVirtualList(String propertyName, ItemList<T> virtualFields) {
-        final String methodName = "getDataFieldsFromVirtualList";
-        List<Classificationenabledgroup> fullFields = null;
-        if (virtualFields != null) {
-            fullFields = new ArrayList<>();
-            try {
-                List<T> allVirtualFields = igcRestClient.getAllPages(propertyName, virtualFields);
-                for (Classificationenabledgroup virtualField : allVirtualFields) {
-                    Classificationenabledgroup fullField = (Classificationenabledgroup) igcRestClient.getAssetById(virtualField.getId(), igcCache);
-                    fullFields.add(fullField);
+    private List<Classificationenabledgroup> getFullVirtualFields(List<Classificationenabledgroup> virtualFields) {
+        List<Callable<Classificationenabledgroup>> fieldRetrievals = new ArrayList<>();
+        for (Classificationenabledgroup virtualField : virtualFields) {
+            fieldRetrievals.add(() -> (Classificationenabledgroup) igcRestClient.getAssetById(virtualField.getId(), igcCache));
+        }
+        return runInParallel(fieldRetrievals, "getFullVirtualFields");
+    }
+
+    /**
+     * Run all of the provided tasks, in parallel if there is an executor available, returning their results in the
+     * same order as the tasks. The tasks may share the embedded ObjectCache, IdentityCache and long-lived DataStoreCache
+     * (and the IGC connectivity, and the assets cached by it), all of which are safe for concurrent use; but they must
+     * not populate the caches of jobs or processes, which are only ever populated by the calling thread.
+     *
+     * @param tasks the tasks to run
+     * @param methodName the name of the calling method (for any error)
+     * @param <T> the type of result of each task
+     * @return {@code List<T>} of results
+     */
+    public <T> List<T> runInParallel(List<Callable<T>> tasks, String methodName) {
+        List<T> results = new ArrayList<>();
+        try {
+            if (executor == null || tasks.size() < 2) {
+                for (Callable<T> task : tasks) {
+                    results.add(task.call());
                 }
-            } catch (IGCException e) {
-                DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
-                        this.getClass().getName(),
-                        methodName,
-                        e);
+            } else {
+                for (Future<T> future : executor.invokeAll(tasks)) {
+                    results.add(future.get());
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
             }
+            DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                    this.getClass().getName(),
+                    methodName,
+                    cause instanceof Exception ? (Exception) cause : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                    this.getClass().getName(),
+                    methodName,
+                    e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                    this.getClass().getName(),
+                    methodName,
+                    e);
         }
-        return fullFields == null ? Collections.emptyList() : fullFields;
+        return results;
     }
 
     /**
@@ -72,9 +72,15 @@ public class DataStageJob {
         if (cache.getMode() == LineageMode.GRANULAR) {
             getStageDetailsForJob();
             getLinkDetailsForJob();
-            getStageVariablesForJob();
+            getStageVariablesForJob(true);
             classifyStages(stageMap.values());
             getStageColumnDetailsForLinks();
+        } else if (cache.getMode() == LineageMode.JOB_LEVEL && type.equals(JobType.JOB)) {
+            // Job-level lineage is still calculated from the stage columns (and any stage variables through which
+            // they flow), but needs none of the other details: without the stages, the variables are not grouped by
+            // the stage they belong to until (and unless) the variables of a stage are asked for
+            getStageVariablesForJob(false);
+            getStageColumnDetailsForLinks();
         }
         getDataAssets(cache);
 
@@ -254,7 +260,7 @@ public class DataStageJob {
                     Stage stage = (Stage) thing;
                     ItemList<StageVariable> vars = stage.getStageVariable();
                     stageToVarsMap.put(rid, new TreeSet<>());
-                    buildStageVariableMaps(igcRestClient.getAllPages("stage_variable", vars));
+                    buildStageVariableMaps(igcRestClient.getAllPages("stage_variable", vars), true);
                     stageVarRids = stageToVarsMap.getOrDefault(rid, null);
                 } else {
                     log.error("Unable to find stage with RID: {} -- found asset of type {} instead.", rid, thing == null ? "<null>" : thing.getType());
@@ -279,6 +285,73 @@ public class DataStageJob {
         return Collections.emptyList();
     }
 
+    /**
+     * Build a graph of the column-level flow of data through this job, from the data store fields it reads, through
+     * all of its stage columns and stage variables, to the data store fields it writes.
+     *
+     * @return ColumnLineageGraph
+     */
+    public ColumnLineageGraph getColumnLineageGraph() {
+        final String methodName = "getColumnLineageGraph";
+        ColumnLineageGraph graph = new ColumnLineageGraph();
+        try {
+            for (StageColumn column : columnMap.values()) {
+                addColumnLevelEdges(graph, column);
+                for (InformationAsset field : getAllPages("reads_from_(design)", column.getReadsFromDesign())) {
+                    graph.addSource(field);
+                    graph.addEdge(field, column);
+                }
+                for (InformationAsset field : getAllPages("writes_to_(design)", column.getWritesToDesign())) {
+                    graph.addTarget(field);
+                    graph.addEdge(column, field);
+                }
+            }
+            for (StageVariable variable : varMap.values()) {
+                addColumnLevelEdges(graph, variable);
+            }
+        } catch (IGCException e) {
+            DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                    this.getClass().getName(),
+                    methodName,
+                    e);
+        }
+        log.debug("Built column lineage graph for job {} with {} nodes and {} edges", job.getId(), graph.getNodeCount(), graph.getEdgeCount());
+        return graph;
+    }
+
+    /**
+     * Add the edges to and from the provided stage column or variable into the provided graph.
+     *
+     * @param graph the graph into which to add the edges
+     * @param cll the stage column or variable for which to add edges
+     * @throws IGCException if there is any issue retrieving further pages of related columns
+     */
+    private void addColumnLevelEdges(ColumnLineageGraph graph, ColumnLevelLineage cll) throws IGCException {
+        Reference node = (Reference) cll;
+        for (DataItem previous : getAllPages("previous_stage_columns", cll.getPreviousStageColumns())) {
+            graph.addEdge(previous, node);
+        }
+        for (DataItem next : getAllPages("next_stage_columns", cll.getNextStageColumns())) {
+            graph.addEdge(node, next);
+        }
+    }
+
+    /**
+     * Retrieve all pages of the provided list of related objects, or an empty list if there are none.
+     *
+     * @param propertyName the name of the property from which the list was retrieved
+     * @param list the first page of related objects
+     * @param <T> the type of related object
+     * @return {@code List<T>}
+     * @throws IGCException if there is any issue retrieving further pages
+     */
+    private <T extends Reference> List<T> getAllPages(String propertyName, ItemList<T> list) throws IGCException {
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        return igcRestClient.getAllPages(propertyName, list);
+    }
+
     /**
      * Retrieve a listing of the stages within this particular DataStage job.
      */
@@ -331,8 +404,10 @@ public class DataStageJob {
 
     /**
      * Retrieve a listing of the stage variables within this particular DataStage job.
+     *
+     * @param byStage true if the variables should also be grouped by their stage (only once the stages are retrieved)
      */
-    private void getStageVariablesForJob() {
+    private void getStageVariablesForJob(boolean byStage) {
         final String methodName = "getStageVariablesForJob";
         String jobRid = job.getId();
         log.debug("Retrieving stage variables for job: {}", jobRid);
@@ -343,7 +418,7 @@ public class DataStageJob {
         igcSearch.addConditions(conditionSet);
         try {
             ItemList<StageVariable> vars = igcRestClient.search(igcSearch);
-            buildStageVariableMaps(igcRestClient.getAllPages(null, vars));
+            buildStageVariableMaps(igcRestClient.getAllPages(null, vars), byStage);
         } catch (IGCException e) {
             DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
                     this.getClass().getName(),
@@ -355,8 +430,9 @@ public class DataStageJob {
     /**
      * Cache relationships for all of the stage variables provided.
      * @param allStageVars the list of stage variables to cache
+     * @param byStage true if the variables should also be grouped by their stage
      */
-    private void buildStageVariableMaps(List<StageVariable> allStageVars) throws IGCConnectivityException, IGCParsingException {
+    private void buildStageVariableMaps(List<StageVariable> allStageVars, boolean byStage) throws IGCConnectivityException, IGCParsingException {
         for (StageVariable stageVar : allStageVars) {
             String rid = stageVar.getId();
             // If the modification details are empty, likely we did not get this from a search but from paging
@@ -368,13 +444,15 @@ public class DataStageJob {
             }
             log.debug("...... caching RID: {}", rid);
             varMap.put(rid, stageVar);
-            String stageRid = stageVar.getStage().getId();
-            Set<String> stageVars = stageToVarsMap.getOrDefault(stageRid, null);
-            if (stageVars != null) {
-                stageVars.add(rid);
-                stageToVarsMap.put(stageRid, stageVars);
-            } else {
-                log.error("Stage variables were null for stage RID: {}", stageRid);
+            if (byStage) {
+                String stageRid = stageVar.getStage().getId();
+                Set<String> stageVars = stageToVarsMap.getOrDefault(stageRid, null);
+                if (stageVars != null) {
+                    stageVars.add(rid);
+                    stageToVarsMap.put(stageRid, stageVars);
+                } else {
+                    log.error("Stage variables were null for stage RID: {}", stageRid);
+                }
             }
         }
     }
@@ -460,7 +538,7 @@ public class DataStageJob {
                     } else if (propertyName.equals("writes_to_(design)")) {
                         outputStoreRIDs.add(storeId);
                     }
-                    cache.getFieldsForStore(candidate);
+                    cache.prepareFieldsForStore(candidate);
                 }
             } catch (IGCException e) {
                 DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
@@ -0,0 +1,206 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.DataStageConnector;
+import org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.auditlog.DataStageErrorCode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestConstants;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Classificationenabledgroup;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchCondition;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Long-lived cache of data store metadata (identity and fields of 'database_table', 'view' and 'data_file_record'
+ * assets), which is retained across sync windows rather than being rebuilt for every poll. The cache is bounded in
+ * size (least-recently-used stores are evicted first) and entries are invalidated whenever the 'modified_on' of the
+ * store itself moves beyond the point at which the cache was last validated.
+ */
+public class DataStoreCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DataStoreCache.class);
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final List<String> STORE_TYPES = Arrays.asList("database_table", "view", "data_file_record");
+
+    private final int maxSize;
+    private final Map<String, StoreDetails> ridToStore;
+    private Date validatedAsOf;
+
+    /**
+     * Create a new store cache using the default maximum number of stores.
+     */
+    public DataStoreCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a new store cache that will retain at most the provided number of stores.
+     *
+     * @param maxSize the maximum number of stores to retain in the cache
+     */
+    public DataStoreCache(int maxSize) {
+        this.maxSize = maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+        this.ridToStore = new LinkedHashMap<String, StoreDetails>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoreDetails> eldest) {
+                return size() > DataStoreCache.this.maxSize;
+            }
+        };
+        this.validatedAsOf = null;
+    }
+
+    /**
+     * Retrieve the maximum number of stores this cache will retain.
+     *
+     * @return int
+     */
+    public int getMaxSize() { return maxSize; }
+
+    /**
+     * Retrieve the number of stores currently in the cache.
+     *
+     * @return int
+     */
+    public synchronized int size() { return ridToStore.size(); }
+
+    /**
+     * Retrieve the cached identity of the data store with the provided RID.
+     *
+     * @param rid the data store RID for which to retrieve an identity
+     * @return Identity, or null if it is not cached
+     */
+    public synchronized Identity getIdentity(String rid) {
+        StoreDetails details = ridToStore.get(rid);
+        return details == null ? null : details.identity;
+    }
+
+    /**
+     * Retrieve the cached fields of the data store with the provided RID.
+     *
+     * @param rid the data store RID for which to retrieve fields
+     * @return {@code List<Classificationenabledgroup>}, or null if they are not cached
+     */
+    public synchronized List<Classificationenabledgroup> getFields(String rid) {
+        StoreDetails details = ridToStore.get(rid);
+        return details == null ? null : details.fields;
+    }
+
+    /**
+     * Cache the identity of the data store with the provided RID.
+     *
+     * @param rid the data store RID
+     * @param identity the identity of the data store
+     */
+    public synchronized void putIdentity(String rid, Identity identity) {
+        if (rid != null && identity != null) {
+            ridToStore.computeIfAbsent(rid, k -> new StoreDetails()).identity = identity;
+        }
+    }
+
+    /**
+     * Cache the fields of the data store with the provided RID.
+     *
+     * @param rid the data store RID
+     * @param fields the fields of the data store
+     */
+    public synchronized void putFields(String rid, List<Classificationenabledgroup> fields) {
+        if (rid != null && fields != null) {
+            ridToStore.computeIfAbsent(rid, k -> new StoreDetails()).fields = fields;
+        }
+    }
+
+    /**
+     * Remove any cached details of the data store with the provided RID.
+     *
+     * @param rid the data store RID
+     */
+    public synchronized void invalidate(String rid) {
+        ridToStore.remove(rid);
+    }
+
+    /**
+     * Remove all cached details.
+     */
+    public synchronized void clear() {
+        ridToStore.clear();
+        validatedAsOf = null;
+    }
+
+    /**
+     * Ensure the cache only contains details of stores that have not been modified since the cache was last validated,
+     * and mark the cache as valid as of the provided date and time. Virtual assets cannot be searched by RID (and are
+     * only ever defined by the jobs that use them), so these are never retained from one validation to the next.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param asOf the date and time up to which the cache should be considered valid after this call
+     */
+    public synchronized void validate(IGCRestClient igcRestClient, Date asOf) {
+
+        final String methodName = "validate";
+
+        List<String> toCheck = new ArrayList<>();
+        Iterator<String> rids = ridToStore.keySet().iterator();
+        while (rids.hasNext()) {
+            String rid = rids.next();
+            if (IGCRestClient.isVirtualAssetRid(rid)) {
+                rids.remove();
+            } else {
+                toCheck.add(rid);
+            }
+        }
+
+        if (validatedAsOf != null && !toCheck.isEmpty()) {
+            int batchSize = igcRestClient.getDefaultPageSize();
+            log.debug("Validating {} cached data stores as modified since: {}", toCheck.size(), validatedAsOf);
+            for (int i = 0; i < toCheck.size(); i += batchSize) {
+                List<String> batch = toCheck.subList(i, Math.min(i + batchSize, toCheck.size()));
+                IGCSearch igcSearch = new IGCSearch();
+                for (String storeType : STORE_TYPES) {
+                    igcSearch.addType(storeType);
+                }
+                igcSearch.addProperty(IGCRestConstants.MOD_MODIFIED_ON);
+                IGCSearchCondition cRids = new IGCSearchCondition("_id", batch);
+                IGCSearchCondition cModified = new IGCSearchCondition(IGCRestConstants.MOD_MODIFIED_ON, ">", "" + validatedAsOf.getTime());
+                IGCSearchConditionSet conditionSet = new IGCSearchConditionSet(cRids);
+                conditionSet.addCondition(cModified);
+                conditionSet.setMatchAnyCondition(false);
+                igcSearch.addConditions(conditionSet);
+                igcSearch.setPageSize(batchSize);
+                try {
+                    ItemList<Reference> modified = igcRestClient.search(igcSearch);
+                    for (Reference store : igcRestClient.getAllPages(null, modified)) {
+                        log.debug(" ... invalidating modified data store: {}", store.getId());
+                        ridToStore.remove(store.getId());
+                    }
+                } catch (IGCException e) {
+                    DataStageConnector.raiseRuntimeError(DataStageErrorCode.UNKNOWN_RUNTIME_ERROR,
+                            this.getClass().getName(),
+                            methodName,
+                            e);
+                }
+            }
+        }
+        validatedAsOf = asOf;
+
+    }
+
+    /**
+     * Cached details for a single data store.
+     */
+    private static class StoreDetails {
+        private Identity identity;
+        private List<Classificationenabledgroup> fields;
+    }
+
+}
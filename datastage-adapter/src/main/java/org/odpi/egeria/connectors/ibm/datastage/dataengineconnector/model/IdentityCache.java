@@ -0,0 +1,145 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoizes the identities and fully-qualified names of IGC objects for a single sync window, so that the mappings
+ * need not repeatedly build the same strings (or retrieve the same context from IGC) for objects that are referred
+ * to many times within a job, such as the stages and stage columns used by each link.
+ */
+public class IdentityCache {
+
+    private static final String NO_QUALIFIER = "";
+
+    private final Map<String, Identity> ridToIdentity;
+    private final Map<String, Map<String, String>> qualifierToNames;
+
+    private final AtomicLong identityHits;
+    private final AtomicLong identityMisses;
+    private final AtomicLong nameHits;
+    private final AtomicLong nameMisses;
+
+    /**
+     * Create a new, empty identity cache.
+     */
+    public IdentityCache() {
+        this.ridToIdentity = new ConcurrentHashMap<>();
+        this.qualifierToNames = new ConcurrentHashMap<>();
+        this.identityHits = new AtomicLong(0);
+        this.identityMisses = new AtomicLong(0);
+        this.nameHits = new AtomicLong(0);
+        this.nameMisses = new AtomicLong(0);
+    }
+
+    /**
+     * Retrieve the identity of the provided IGC object, only calculating it (and potentially retrieving its context
+     * from IGC) the first time an object with that RID is seen.
+     *
+     * @param igcObj the IGC object for which to retrieve the identity
+     * @param igcRestClient connectivity to the IGC environment
+     * @param igcCache the cache of IGC objects for the sync window
+     * @return Identity
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
+     */
+    public Identity getIdentity(Reference igcObj,
+                                IGCRestClient igcRestClient,
+                                ObjectCache igcCache) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+        String rid = igcObj.getId();
+        if (rid == null) {
+            return igcObj.getIdentity(igcRestClient, igcCache);
+        }
+        Identity identity = ridToIdentity.get(rid);
+        if (identity == null) {
+            identityMisses.incrementAndGet();
+            identity = igcObj.getIdentity(igcRestClient, igcCache);
+            if (identity != null) {
+                ridToIdentity.put(rid, identity);
+            }
+        } else {
+            identityHits.incrementAndGet();
+        }
+        return identity;
+    }
+
+    /**
+     * Retrieve the memoized fully-qualified name for the provided RID and qualifier.
+     *
+     * @param rid the RID of the IGC object
+     * @param qualifier the additional qualifier used in the name (or null if none)
+     * @return String, or null if no name has yet been memoized
+     */
+    public String getQualifiedName(String rid, String qualifier) {
+        if (rid == null) {
+            return null;
+        }
+        Map<String, String> names = qualifierToNames.get(qualifier == null ? NO_QUALIFIER : qualifier);
+        String qualifiedName = names == null ? null : names.get(rid);
+        if (qualifiedName == null) {
+            nameMisses.incrementAndGet();
+        } else {
+            nameHits.incrementAndGet();
+        }
+        return qualifiedName;
+    }
+
+    /**
+     * Memoize the fully-qualified name for the provided RID and qualifier.
+     *
+     * @param rid the RID of the IGC object
+     * @param qualifier the additional qualifier used in the name (or null if none)
+     * @param qualifiedName the fully-qualified name
+     */
+    public void putQualifiedName(String rid, String qualifier, String qualifiedName) {
+        if (rid != null && qualifiedName != null) {
+            qualifierToNames.computeIfAbsent(qualifier == null ? NO_QUALIFIER : qualifier, k -> new ConcurrentHashMap<>()).put(rid, qualifiedName);
+        }
+    }
+
+    /**
+     * Retrieve the proportion of identity requests that were answered from the cache.
+     *
+     * @return double between 0 and 1
+     */
+    public double getIdentityHitRate() {
+        return getHitRate(identityHits.get(), identityMisses.get());
+    }
+
+    /**
+     * Retrieve the proportion of fully-qualified name requests that were answered from the cache.
+     *
+     * @return double between 0 and 1
+     */
+    public double getQualifiedNameHitRate() {
+        return getHitRate(nameHits.get(), nameMisses.get());
+    }
+
+    private static double getHitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("identities: %d hits / %d misses (%.1f%%), qualified names: %d hits / %d misses (%.1f%%)",
+                identityHits.get(), identityMisses.get(), getIdentityHitRate() * 100,
+                nameHits.get(), nameMisses.get(), getQualifiedNameHitRate() * 100);
+    }
+
+}
@@ -0,0 +1,117 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Dsjob;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Resolves the (possibly nested) graph of DataStage sequences and the jobs they run, for a single sync window. The
+ * jobs run by each sequence are only determined once, and sequences can then be put into an order in which every job
+ * or nested sequence comes before any sequence that runs it.
+ */
+public class SequenceGraph {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceGraph.class);
+
+    private static final String SEQUENCE_TYPE = "sequence_job";
+
+    private final DataStageCache cache;
+    private final Map<String, List<Dsjob>> sequenceToRuns;
+
+    /**
+     * Create a new sequence graph over the provided cache.
+     *
+     * @param cache the cache of DataStage details for the sync window
+     */
+    public SequenceGraph(DataStageCache cache) {
+        this.cache = cache;
+        this.sequenceToRuns = new HashMap<>();
+    }
+
+    /**
+     * Retrieve the jobs (and sequences) that are run directly by the provided sequence.
+     *
+     * @param sequence the sequence for which to retrieve the jobs it runs
+     * @return {@code List<Dsjob>}
+     */
+    public List<Dsjob> getJobsRunBy(DataStageJob sequence) {
+        String rid = sequence.getJobObject().getId();
+        List<Dsjob> runs = sequenceToRuns.get(rid);
+        if (runs == null) {
+            Collection<Stage> stages = sequence.getAllStages();
+            log.debug("(cache miss) -- examining {} stages run by the sequence: {}", stages.size(), rid);
+            runs = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            for (Stage stage : stages) {
+                Dsjob runsJob = stage.getRunsSequencesJobs();
+                if (runsJob != null && runsJob.getId() != null && seen.add(runsJob.getId())) {
+                    runs.add(runsJob);
+                }
+            }
+            sequenceToRuns.put(rid, runs);
+        }
+        return runs;
+    }
+
+    /**
+     * Order the provided sequences, along with every job and nested sequence they run, so that each appears exactly
+     * once and only after everything that it runs.
+     *
+     * @param sequences the sequences to order
+     * @return {@code List<String>} of the RIDs of the jobs and sequences, in the order they should be translated
+     */
+    public List<String> getTopologicalOrder(Collection<DataStageJob> sequences) {
+        List<String> ordered = new ArrayList<>();
+        Set<String> done = new HashSet<>();
+        Set<String> inProgress = new HashSet<>();
+        for (DataStageJob sequence : sequences) {
+            visit(sequence, ordered, done, inProgress);
+        }
+        return ordered;
+    }
+
+    /**
+     * Depth-first visit of the provided sequence, adding the jobs it runs (recursing into any nested sequences) and
+     * then the sequence itself to the ordered list.
+     *
+     * @param sequence the sequence to visit
+     * @param ordered the list of RIDs ordered so far
+     * @param done the RIDs that have already been ordered
+     * @param inProgress the RIDs of the sequences currently being visited (to guard against any cycle)
+     */
+    private void visit(DataStageJob sequence, List<String> ordered, Set<String> done, Set<String> inProgress) {
+        String rid = sequence.getJobObject().getId();
+        if (done.contains(rid)) {
+            return;
+        }
+        if (!inProgress.add(rid)) {
+            log.warn("Found a cycle in the sequences that run one another -- not following: {}", rid);
+            return;
+        }
+        for (Dsjob runsJob : getJobsRunBy(sequence)) {
+            String runsRid = runsJob.getId();
+            if (!done.contains(runsRid)) {
+                if (SEQUENCE_TYPE.equals(runsJob.getType())) {
+                    DataStageJob nested = cache.getJobByRid(runsRid);
+                    if (nested != null) {
+                        visit(nested, ordered, done, inProgress);
+                    } else {
+                        log.error("Unable to retrieve nested sequence -- not including: {}", runsRid);
+                    }
+                } else {
+                    done.add(runsRid);
+                    ordered.add(runsRid);
+                }
+            }
+        }
+        inProgress.remove(rid);
+        done.add(rid);
+        ordered.add(rid);
+    }
+
+}
@@ -0,0 +1,135 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the collapsing of the column-level flow of data through a job by the ColumnLineageGraph into the lineage from
+ * each source field to the target fields it reaches.
+ */
+public class ColumnLineageGraphTest {
+
+    private static final Reference SOURCE_1 = new Reference("CUSTID", "data_file_field", "src1");
+    private static final Reference SOURCE_2 = new Reference("NAME", "data_file_field", "src2");
+    private static final Reference SOURCE_3 = new Reference("UNUSED", "data_file_field", "src3");
+    private static final Reference COLUMN_1 = new Reference("CUSTID", "ds_stage_column", "col1");
+    private static final Reference COLUMN_2 = new Reference("NAME", "ds_stage_column", "col2");
+    private static final Reference VARIABLE = new Reference("svKey", "stage_variable", "var1");
+    private static final Reference DEAD_END = new Reference("UNUSED", "ds_stage_column", "col3");
+    private static final Reference TARGET_1 = new Reference("CUSTOMER_ID", "database_column", "tgt1");
+    private static final Reference TARGET_2 = new Reference("CUSTOMER_KEY", "database_column", "tgt2");
+
+    public ColumnLineageGraphTest() {
+        // Do nothing...
+    }
+
+    @Test
+    public void testEmptyGraph() {
+
+        ColumnLineageGraph graph = new ColumnLineageGraph();
+        assertEquals(graph.getNodeCount(), 0);
+        assertEquals(graph.getEdgeCount(), 0);
+        assertTrue(graph.getSources().isEmpty());
+        assertTrue(graph.getSourceToTargetLineage().isEmpty());
+
+    }
+
+    @Test
+    public void testTransitiveLineage() {
+
+        ColumnLineageGraph graph = getJobGraph();
+        assertEquals(graph.getNodeCount(), 9);
+        assertEquals(graph.getEdgeCount(), 7);
+        assertEquals(graph.getSources(), Arrays.asList(SOURCE_1, SOURCE_2, SOURCE_3));
+
+        // Only the end-points are kept, and sources that reach no target are left out
+        Map<Reference, List<Reference>> lineage = graph.getSourceToTargetLineage();
+        assertEquals(lineage.keySet(), new LinkedHashSet<>(Arrays.asList(SOURCE_1, SOURCE_2)));
+        assertEquals(new HashSet<>(lineage.get(SOURCE_1)), new HashSet<>(Arrays.asList(TARGET_1, TARGET_2)));
+        assertEquals(lineage.get(SOURCE_2), Collections.singletonList(TARGET_2));
+
+    }
+
+    @Test
+    public void testCyclesAndDuplicates() {
+
+        ColumnLineageGraph graph = new ColumnLineageGraph();
+        graph.addSource(SOURCE_1);
+        graph.addTarget(TARGET_1);
+        graph.addEdge(SOURCE_1, COLUMN_1);
+        graph.addEdge(COLUMN_1, COLUMN_2);
+        graph.addEdge(COLUMN_2, COLUMN_1);
+        graph.addEdge(COLUMN_2, TARGET_1);
+        graph.addEdge(COLUMN_1, TARGET_1);
+        // Edges to itself, or to objects without a RID, are not added
+        graph.addEdge(COLUMN_1, COLUMN_1);
+        graph.addEdge(COLUMN_1, new Reference("NoRid", "ds_stage_column", null));
+        graph.addEdge(null, COLUMN_1);
+        assertEquals(graph.getEdgeCount(), 5);
+
+        // Each target is only reached once from a source, however many paths lead to it
+        assertEquals(graph.getSourceToTargetLineage().get(SOURCE_1), Collections.singletonList(TARGET_1));
+
+    }
+
+    @Test
+    public void testGrowingAfterLineage() {
+
+        ColumnLineageGraph graph = getJobGraph();
+        assertFalse(graph.getSourceToTargetLineage().containsKey(SOURCE_3));
+
+        // Nodes and edges added after the lineage has been retrieved are included when it is next retrieved
+        Reference target = new Reference("SPARE", "database_column", "tgt3");
+        Reference source = new Reference("SPARE", "data_file_field", "src4");
+        graph.addTarget(target);
+        graph.addSource(source);
+        assertEquals(graph.getSourceToTargetLineage().size(), 2);
+        graph.addEdge(DEAD_END, target);
+        assertEquals(graph.getNodeCount(), 11);
+        assertEquals(graph.getSourceToTargetLineage().get(SOURCE_3), Collections.singletonList(target));
+
+    }
+
+    @Test
+    public void testManyEdges() {
+
+        // A long chain of columns, well beyond the initial capacity of the edge arrays
+        ColumnLineageGraph graph = new ColumnLineageGraph();
+        graph.addSource(SOURCE_1);
+        Reference previous = SOURCE_1;
+        for (int i = 0; i < 1000; i++) {
+            Reference column = new Reference("COL" + i, "ds_stage_column", "chain" + i);
+            graph.addEdge(previous, column);
+            previous = column;
+        }
+        graph.addEdge(previous, TARGET_1);
+        graph.addTarget(TARGET_1);
+        assertEquals(graph.getEdgeCount(), 1001);
+        assertEquals(graph.getSourceToTargetLineage().get(SOURCE_1), Collections.singletonList(TARGET_1));
+
+    }
+
+    private static ColumnLineageGraph getJobGraph() {
+        ColumnLineageGraph graph = new ColumnLineageGraph();
+        graph.addSource(SOURCE_1);
+        graph.addSource(SOURCE_2);
+        graph.addSource(SOURCE_3);
+        graph.addTarget(TARGET_1);
+        graph.addTarget(TARGET_2);
+        graph.addEdge(SOURCE_1, COLUMN_1);
+        graph.addEdge(SOURCE_2, COLUMN_2);
+        graph.addEdge(COLUMN_1, TARGET_1);
+        graph.addEdge(COLUMN_1, VARIABLE);
+        graph.addEdge(COLUMN_2, VARIABLE);
+        graph.addEdge(VARIABLE, TARGET_2);
+        graph.addEdge(SOURCE_3, DEAD_END);
+        return graph;
+    }
+
+}
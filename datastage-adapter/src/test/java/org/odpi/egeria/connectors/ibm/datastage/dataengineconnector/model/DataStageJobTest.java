@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Dsjob;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Stage;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.StageVariable;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Paging;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the retrieval of the details of a job by the DataStageJob, for the different levels of lineage.
+ */
+public class DataStageJobTest {
+
+    private Logger logger;
+    private Level level;
+    private ListAppender<ILoggingEvent> appender;
+    private StageClient client;
+
+    public DataStageJobTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() throws IGCException {
+        // Capture anything logged as an error by the job (all logging is otherwise turned off for the tests)
+        logger = (Logger) LoggerFactory.getLogger(DataStageJob.class);
+        level = logger.getLevel();
+        logger.setLevel(Level.ERROR);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        client = new StageClient();
+        client.addStage("stage1", "var1", "var2");
+        client.addStage("stage2", "var3");
+    }
+
+    @AfterMethod
+    public void teardown() {
+        logger.detachAppender(appender);
+        logger.setLevel(level);
+    }
+
+    @Test
+    public void testJobLevel() {
+
+        DataStageJob job = new DataStageJob(getCache(LineageMode.JOB_LEVEL), getJob());
+
+        // The variables are retrieved (without their stages, so without logging any error about the stages)...
+        assertEquals(client.searchedTypes, Arrays.asList("stage_variable", "stage_column", "ds_stage_column"));
+        assertTrue(appender.list.isEmpty(), "Unexpected errors: " + appender.list);
+        assertTrue(job.getAllStages().isEmpty());
+        // ... and every variable is still mapped, for the lineage that flows through it
+        for (String rid : Arrays.asList("var1", "var2", "var3")) {
+            assertTrue(job.getColumnLevelLineageByRid(rid) instanceof StageVariable);
+        }
+        assertTrue(client.retrieved.isEmpty());
+
+        // The variables of a stage are only grouped by it once asked for
+        assertEquals(getRids(job.getStageVarsForStage("stage1")), Arrays.asList("var1", "var2"));
+        assertEquals(getRids(job.getStageVarsForStage("stage1")), Arrays.asList("var1", "var2"));
+        assertEquals(client.retrieved, Collections.singletonList("stage1"));
+        assertTrue(appender.list.isEmpty(), "Unexpected errors: " + appender.list);
+
+    }
+
+    @Test
+    public void testGranular() {
+
+        DataStageJob job = new DataStageJob(getCache(LineageMode.GRANULAR), getJob());
+
+        // The stages are retrieved first, so the variables are grouped by them as they are retrieved
+        assertEquals(client.searchedTypes.subList(0, 3), Arrays.asList("stage", "link", "stage_variable"));
+        assertTrue(appender.list.isEmpty(), "Unexpected errors: " + appender.list);
+        assertEquals(job.getAllStages().size(), 2);
+        assertEquals(getRids(job.getStageVarsForStage("stage1")), Arrays.asList("var1", "var2"));
+        assertEquals(getRids(job.getStageVarsForStage("stage2")), Collections.singletonList("var3"));
+        assertTrue(client.retrieved.isEmpty());
+
+    }
+
+    private DataStageCache getCache(LineageMode mode) {
+        return new DataStageCache(new Date(0), new Date(), mode, null, false) {
+            @Override
+            public IGCRestClient getIgcRestClient() {
+                return client;
+            }
+        };
+    }
+
+    private static Dsjob getJob() {
+        Dsjob job = new Dsjob();
+        job.setId("job1");
+        job.setType("dsjob");
+        job.setName("job1");
+        return job;
+    }
+
+    private static List<String> getRids(List<? extends Reference> objects) {
+        List<String> rids = new ArrayList<>();
+        for (Reference object : objects) {
+            rids.add(object.getId());
+        }
+        return rids;
+    }
+
+    /**
+     * Responds to searches for the stages and stage variables of a job with those that have been added to it (and to
+     * any other search with no results), recording the types searched and the assets retrieved rather than running
+     * against IGC.
+     */
+    private static class StageClient extends IGCRestClient {
+
+        private final Map<String, Stage> stages = new TreeMap<>();
+        private final List<StageVariable> variables = new ArrayList<>();
+        private final List<String> searchedTypes = new ArrayList<>();
+        private final List<String> retrieved = new ArrayList<>();
+
+        StageClient() throws IGCException {
+            super(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS);
+        }
+
+        void addStage(String rid, String... variableRids) {
+            Stage stage = new Stage();
+            stage.setId(rid);
+            stage.setType("stage");
+            stage.setName(rid);
+            List<StageVariable> stageVariables = new ArrayList<>();
+            for (String variableRid : variableRids) {
+                StageVariable variable = new StageVariable();
+                variable.setId(variableRid);
+                variable.setType("stage_variable");
+                variable.setName(variableRid);
+                variable.setModifiedBy("isadmin");
+                variable.setStage(stage);
+                stageVariables.add(variable);
+            }
+            stage.setStageVariable(getPage(stageVariables));
+            stages.put(rid, stage);
+            variables.addAll(stageVariables);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Reference> ItemList<T> search(IGCSearch igcSearch) {
+            List<Reference> results = new ArrayList<>();
+            for (JsonNode type : igcSearch.getQuery().path("types")) {
+                searchedTypes.add(type.asText());
+                if (type.asText().equals("stage")) {
+                    results.addAll(stages.values());
+                } else if (type.asText().equals("stage_variable")) {
+                    results.addAll(variables);
+                }
+            }
+            return (ItemList<T>) getPage(results);
+        }
+
+        @Override
+        public <T extends Reference> List<T> getAllPages(String propertyName, ItemList<T> list) {
+            return list.getItems();
+        }
+
+        @Override
+        public Reference getAssetById(String rid) {
+            retrieved.add(rid);
+            return stages.get(rid);
+        }
+
+        private static <T extends Reference> ItemList<T> getPage(List<T> items) {
+            ItemList<T> page = new ItemList<>();
+            page.setPaging(new Paging(items.size()));
+            page.setItems(items);
+            return page;
+        }
+
+    }
+
+}
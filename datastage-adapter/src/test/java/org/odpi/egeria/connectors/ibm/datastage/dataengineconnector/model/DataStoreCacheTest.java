@@ -0,0 +1,176 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Classificationenabledgroup;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the retention, eviction and validation of data store details by the DataStoreCache.
+ */
+public class DataStoreCacheTest {
+
+    private ModifiedClient client;
+
+    public DataStoreCacheTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() throws IGCException {
+        client = new ModifiedClient();
+    }
+
+    @Test
+    public void testPutAndGet() {
+
+        DataStoreCache cache = new DataStoreCache();
+        assertEquals(cache.getMaxSize(), DataStoreCache.DEFAULT_MAX_SIZE);
+        Identity identity = getIdentity("rid1");
+        List<Classificationenabledgroup> fields = Collections.singletonList(new Classificationenabledgroup());
+
+        // The identity and fields of a store are cached independently of each other
+        cache.putIdentity("rid1", identity);
+        assertSame(cache.getIdentity("rid1"), identity);
+        assertNull(cache.getFields("rid1"));
+        cache.putFields("rid1", fields);
+        assertSame(cache.getFields("rid1"), fields);
+        assertEquals(cache.size(), 1);
+
+        // ... and nothing is cached without a RID or without any details
+        cache.putIdentity(null, identity);
+        cache.putIdentity("rid2", null);
+        cache.putFields("rid2", null);
+        assertEquals(cache.size(), 1);
+
+        cache.invalidate("rid1");
+        assertNull(cache.getIdentity("rid1"));
+        assertNull(cache.getFields("rid1"));
+        assertEquals(cache.size(), 0);
+
+    }
+
+    @Test
+    public void testLeastRecentlyUsed() {
+
+        DataStoreCache cache = new DataStoreCache(2);
+        cache.putIdentity("rid1", getIdentity("rid1"));
+        cache.putIdentity("rid2", getIdentity("rid2"));
+        assertNotNull(cache.getIdentity("rid1"));
+
+        // Beyond the maximum size, the store used least recently is evicted
+        cache.putIdentity("rid3", getIdentity("rid3"));
+        assertEquals(cache.size(), 2);
+        assertNotNull(cache.getIdentity("rid1"));
+        assertNull(cache.getIdentity("rid2"));
+        assertNotNull(cache.getIdentity("rid3"));
+
+        assertEquals(new DataStoreCache(0).getMaxSize(), DataStoreCache.DEFAULT_MAX_SIZE);
+
+    }
+
+    @Test
+    public void testValidate() {
+
+        DataStoreCache cache = new DataStoreCache();
+        for (int i = 1; i <= 5; i++) {
+            cache.putIdentity("rid" + i, getIdentity("rid" + i));
+        }
+        cache.putIdentity("extern:virtual", getIdentity("extern:virtual"));
+
+        // The first validation has nothing to validate against, but still drops any virtual assets
+        cache.validate(client, new Date(1000));
+        assertTrue(client.batches.isEmpty());
+        assertEquals(cache.size(), 5);
+        assertNull(cache.getIdentity("extern:virtual"));
+
+        // Subsequent validations check every cached store in batches, and drop those that have been modified since
+        client.setDefaultPageSize(2);
+        client.modified.addAll(Arrays.asList("rid2", "rid5"));
+        cache.validate(client, new Date(2000));
+        assertEquals(client.batches.size(), 3);
+        assertEquals(client.since, Collections.singletonList("1000"));
+        Set<String> checked = new HashSet<>();
+        for (List<String> batch : client.batches) {
+            assertTrue(batch.size() <= 2);
+            checked.addAll(batch);
+        }
+        assertEquals(checked, new HashSet<>(Arrays.asList("rid1", "rid2", "rid3", "rid4", "rid5")));
+        assertEquals(cache.size(), 3);
+        assertNull(cache.getIdentity("rid2"));
+        assertNull(cache.getIdentity("rid5"));
+
+        // Once cleared, the cache has again nothing to validate against
+        client.batches.clear();
+        cache.clear();
+        cache.putIdentity("rid1", getIdentity("rid1"));
+        cache.validate(client, new Date(3000));
+        assertTrue(client.batches.isEmpty());
+        assertEquals(cache.size(), 1);
+
+    }
+
+    private static Identity getIdentity(String rid) {
+        return new Identity(Collections.emptyList(), "database_table", rid, rid);
+    }
+
+    /**
+     * Responds to each search by RID with those of the RIDs that have been marked as modified, recording the RIDs and
+     * the modification time of each search rather than running it against IGC.
+     */
+    private static class ModifiedClient extends IGCRestClient {
+
+        private final Set<String> modified = new HashSet<>();
+        private final List<List<String>> batches = new ArrayList<>();
+        private final List<String> since = new ArrayList<>();
+
+        ModifiedClient() throws IGCException {
+            super(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Reference> ItemList<T> search(IGCSearch igcSearch) {
+            List<Reference> results = new ArrayList<>();
+            for (JsonNode condition : igcSearch.getQuery().path("where").path("conditions")) {
+                if (condition.path("property").asText().equals("_id")) {
+                    List<String> batch = new ArrayList<>();
+                    for (JsonNode rid : condition.path("value")) {
+                        batch.add(rid.asText());
+                        if (modified.contains(rid.asText())) {
+                            results.add(new Reference(rid.asText(), "database_table", rid.asText()));
+                        }
+                    }
+                    batches.add(batch);
+                } else if (condition.path("operator").asText().equals(">")) {
+                    if (!since.contains(condition.path("value").asText())) {
+                        since.add(condition.path("value").asText());
+                    }
+                }
+            }
+            ItemList<Reference> page = new ItemList<>();
+            page.setItems(results);
+            return (ItemList<T>) page;
+        }
+
+        @Override
+        public <T extends Reference> List<T> getAllPages(String propertyName, ItemList<T> list) {
+            return list.getItems();
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the memoization of identities and fully-qualified names by the IdentityCache.
+ */
+public class IdentityCacheTest {
+
+    public IdentityCacheTest() {
+        // Do nothing...
+    }
+
+    @Test
+    public void testIdentities() throws IGCException {
+
+        IdentityCache cache = new IdentityCache();
+        CountingReference column = new CountingReference("rid1", true);
+        CountingReference sameColumn = new CountingReference("rid1", true);
+
+        // The identity is only calculated the first time an object with the RID is seen
+        Identity identity = cache.getIdentity(column, null, null);
+        assertNotNull(identity);
+        assertSame(cache.getIdentity(column, null, null), identity);
+        assertSame(cache.getIdentity(sameColumn, null, null), identity);
+        assertEquals(column.calculations, 1);
+        assertEquals(sameColumn.calculations, 0);
+        assertEquals(cache.getIdentityHitRate(), 2.0 / 3.0, 0.0001);
+
+        // ... but objects without a RID, or without an identity, are never memoized
+        CountingReference noRid = new CountingReference(null, true);
+        cache.getIdentity(noRid, null, null);
+        cache.getIdentity(noRid, null, null);
+        assertEquals(noRid.calculations, 2);
+        CountingReference noIdentity = new CountingReference("rid2", false);
+        assertNull(cache.getIdentity(noIdentity, null, null));
+        assertNull(cache.getIdentity(noIdentity, null, null));
+        assertEquals(noIdentity.calculations, 2);
+
+    }
+
+    @Test
+    public void testQualifiedNames() {
+
+        IdentityCache cache = new IdentityCache();
+        assertEquals(cache.getQualifiedNameHitRate(), 0.0);
+        assertNull(cache.getQualifiedName("rid1", null));
+
+        // Names are kept apart by their qualifier, where no qualifier is a qualifier of its own
+        cache.putQualifiedName("rid1", null, "(stage_column)=COL1");
+        cache.putQualifiedName("rid1", "job1", "(job)=job1::(stage_column)=COL1");
+        assertEquals(cache.getQualifiedName("rid1", null), "(stage_column)=COL1");
+        assertEquals(cache.getQualifiedName("rid1", "job1"), "(job)=job1::(stage_column)=COL1");
+        assertNull(cache.getQualifiedName("rid1", "job2"));
+        assertEquals(cache.getQualifiedNameHitRate(), 0.5);
+
+        // ... and nothing is memoized without a RID or without a name
+        cache.putQualifiedName(null, null, "(stage_column)=COL2");
+        cache.putQualifiedName("rid2", null, null);
+        assertNull(cache.getQualifiedName(null, null));
+        assertNull(cache.getQualifiedName("rid2", null));
+
+        assertTrue(cache.toString().contains("qualified names: 2 hits / 3 misses"));
+
+    }
+
+    /**
+     * Counts the number of times its identity is calculated, rather than calculating it from its context in IGC.
+     */
+    private static class CountingReference extends Reference {
+
+        private final boolean hasIdentity;
+        private int calculations = 0;
+
+        CountingReference(String rid, boolean hasIdentity) {
+            super("COL1", "stage_column", rid);
+            this.hasIdentity = hasIdentity;
+        }
+
+        @Override
+        public synchronized Identity getIdentity(IGCRestClient igcrest, ObjectCache cache) {
+            calculations++;
+            return hasIdentity ? new Identity(Collections.emptyList(), getType(), getName(), getId()) : null;
+        }
+
+    }
+
+}
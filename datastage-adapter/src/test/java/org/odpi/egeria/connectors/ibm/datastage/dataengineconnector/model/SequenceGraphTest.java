@@ -0,0 +1,161 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.datastage.dataengineconnector.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Dsjob;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Stage;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the resolution of the jobs run by (possibly nested) sequences by the SequenceGraph, and the order in which
+ * it puts them.
+ */
+public class SequenceGraphTest {
+
+    private SequenceCache cache;
+
+    public SequenceGraphTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() {
+        cache = new SequenceCache();
+    }
+
+    @Test
+    public void testJobsRunBy() {
+
+        Sequence sequence = cache.addSequence("seq1", getJob("job1"), null, getJob("job2"), getJob("job1"));
+        SequenceGraph graph = new SequenceGraph(cache);
+
+        // Each job is only included once, however many stages run it, and stages that run nothing are skipped
+        List<Dsjob> runs = graph.getJobsRunBy(sequence);
+        assertEquals(getRids(runs), Arrays.asList("job1", "job2"));
+        // ... and the stages of a sequence are only examined the first time
+        assertSame(graph.getJobsRunBy(sequence), runs);
+        assertEquals(sequence.stageRetrievals, 1);
+
+    }
+
+    @Test
+    public void testNestedSequences() {
+
+        Sequence outer = cache.addSequence("seq1", getJob("job1"), getSequence("seq2"), getJob("job2"));
+        Sequence inner = cache.addSequence("seq2", getJob("job1"), getJob("job3"));
+        SequenceGraph graph = new SequenceGraph(cache);
+
+        // Every job and nested sequence comes exactly once, and before any sequence that runs it
+        assertEquals(graph.getTopologicalOrder(Arrays.asList(outer, inner)),
+                Arrays.asList("job1", "job3", "seq2", "job2", "seq1"));
+        assertEquals(graph.getTopologicalOrder(Arrays.asList(inner, outer)),
+                Arrays.asList("job1", "job3", "seq2", "job2", "seq1"));
+        assertEquals(outer.stageRetrievals, 1);
+        assertEquals(inner.stageRetrievals, 1);
+
+    }
+
+    @Test
+    public void testCycle() {
+
+        Sequence first = cache.addSequence("seq1", getSequence("seq2"));
+        cache.addSequence("seq2", getJob("job1"), getSequence("seq1"));
+        SequenceGraph graph = new SequenceGraph(cache);
+
+        // A cycle is not followed back around, so each sequence still appears once
+        assertEquals(graph.getTopologicalOrder(Collections.singletonList(first)), Arrays.asList("job1", "seq2", "seq1"));
+
+    }
+
+    @Test
+    public void testUnknownNestedSequence() {
+
+        Sequence sequence = cache.addSequence("seq1", getSequence("missing"), getJob("job1"));
+        SequenceGraph graph = new SequenceGraph(cache);
+
+        // A nested sequence that cannot be retrieved is left out, but everything else is still ordered
+        assertEquals(graph.getTopologicalOrder(Collections.singletonList(sequence)), Arrays.asList("job1", "seq1"));
+
+    }
+
+    private static List<String> getRids(List<Dsjob> jobs) {
+        List<String> rids = new ArrayList<>();
+        for (Dsjob job : jobs) {
+            rids.add(job.getId());
+        }
+        return rids;
+    }
+
+    private static Dsjob getJob(String rid) {
+        return getDsjob(rid, "dsjob");
+    }
+
+    private static Dsjob getSequence(String rid) {
+        return getDsjob(rid, "sequence_job");
+    }
+
+    private static Dsjob getDsjob(String rid, String type) {
+        Dsjob job = new Dsjob();
+        job.setId(rid);
+        job.setType(type);
+        job.setName(rid);
+        return job;
+    }
+
+    /**
+     * Provides the sequences that have been added to it, rather than searching for jobs in IGC.
+     */
+    private static class SequenceCache extends DataStageCache {
+
+        private final Map<String, Sequence> sequences = new HashMap<>();
+
+        SequenceCache() {
+            super(new Date(0), new Date(), LineageMode.JOB_LEVEL, null, false);
+        }
+
+        Sequence addSequence(String rid, Dsjob... runs) {
+            Sequence sequence = new Sequence(this, getSequence(rid), runs);
+            sequences.put(rid, sequence);
+            return sequence;
+        }
+
+        @Override
+        public DataStageJob getJobByRid(String rid) {
+            return sequences.get(rid);
+        }
+
+    }
+
+    /**
+     * A sequence with a stage for each of the provided jobs it runs (where a null job is a stage that runs nothing),
+     * counting the number of times its stages are retrieved.
+     */
+    private static class Sequence extends DataStageJob {
+
+        private final List<Stage> stages;
+        private int stageRetrievals = 0;
+
+        Sequence(DataStageCache cache, Dsjob job, Dsjob... runs) {
+            super(cache, job);
+            stages = new ArrayList<>();
+            for (Dsjob run : runs) {
+                Stage stage = new Stage();
+                stage.setRunsSequencesJobs(run);
+                stages.add(stage);
+            }
+        }
+
+        @Override
+        public Collection<Stage> getAllStages() {
+            stageRetrievals++;
+            return stages;
+        }
+
+    }
+
+}
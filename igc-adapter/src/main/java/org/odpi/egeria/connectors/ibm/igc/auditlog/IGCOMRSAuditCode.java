@@ -80,7 +80,32 @@ public enum IGCOMRSAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.EXCEPTION,
             "The IBM Information Governance Catalog connector failed to disconnect",
             "The local server failed to disconnect from IBM Information Governance Catalog.",
-            "Investigate the logs for additional information and clear session manually in IGC if needed.")
+            "Investigate the logs for additional information and clear session manually in IGC if needed."),
+    INITIAL_LOAD_STARTING("OMRS-IGC-REPOSITORY-0013",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The IBM Information Governance Catalog event mapper is loading the existing assets of {0} mapped types",
+            "The local server is sending out events for every existing asset in IBM Information Governance Catalog of a mapped type.",
+            "No action is required.  This is part of the normal operation of the service."),
+    INITIAL_LOAD_COMPLETE("OMRS-IGC-REPOSITORY-0014",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The IBM Information Governance Catalog event mapper has loaded {0} existing assets ({1} could not be loaded)",
+            "The local server has sent out events for the existing assets in IBM Information Governance Catalog.",
+            "No action is required if all assets were loaded, otherwise investigate the logs for the assets that could not be loaded (which are retried each time the event mapper is started, until they are loaded)."),
+    INITIAL_LOAD_FAILURE("OMRS-IGC-REPOSITORY-0015",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The IBM Information Governance Catalog event mapper failed to load the existing assets of type {0}",
+            "The local server failed to load some of the existing IBM Information Governance Catalog assets of this type, and will continue with the remaining types.",
+            "Investigate the logs for additional information; the remaining assets of the type will be loaded when the event mapper is next started."),
+    RECONCILIATION_FAILURE("OMRS-IGC-REPOSITORY-0016",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The IBM Information Governance Catalog event mapper failed to reconcile the modified assets of type {0}",
+            "The local server failed to reconcile some of the modified IBM Information Governance Catalog assets of this type, and will retry them in its next cycle of reconciliation.",
+            "Investigate the logs for additional information."),
+    OMRS_STUB_DROPPED("OMRS-IGC-REPOSITORY-0017",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The IBM Information Governance Catalog proxy has dropped the write of OMRS stub {0}, after IGC rejected it {1} times",
+            "The local server has stopped retrying the write of the OMRS stub, so that it no longer holds up the writes of other stubs; changes to its asset may not be detected until the stub is next written.",
+            "Investigate the logs for the reason IGC rejected the stub, and raise a GitHub issue with the details.")
     ;
 
     private String logMessageId;
@@ -61,6 +61,18 @@ public enum IGCOMRSErrorCode implements ExceptionMessageSet {
             "An unknown runtime error occurred, and the system is unable to proceed with its processing",
             "The system was unable to complete processing of a given action due to a connectivity-related problem.",
             "Check the system logs and diagnose or report the problem."),
+    STUB_JOURNAL_FAILURE(500, "OMRS-IGC-REPOSITORY-500-008 ",
+            "Unable to open the OMRS stub journal in \"{0}\"",
+            "The system was unable to open or recover the local journal of updates to OMRS stubs.",
+            "Check the configured directory exists (or can be created), is writable, and that its contents have not been corrupted."),
+    INITIAL_LOAD_CHECKPOINT_FAILURE(500, "OMRS-IGC-REPOSITORY-500-009 ",
+            "Unable to read the initial load checkpoint in \"{0}\"",
+            "The system was unable to read the local record of the progress of the initial load of assets from IGC.",
+            "Check the configured file is readable and has not been corrupted, or remove it to start the initial load again from the beginning."),
+    RECONCILIATION_WATERMARK_FAILURE(500, "OMRS-IGC-REPOSITORY-500-010 ",
+            "Unable to read the reconciliation watermarks in \"{0}\"",
+            "The system was unable to read the local record of the progress of the reconciliation of modified assets from IGC.",
+            "Check the configured file is readable and has not been corrupted, or remove it to start reconciling again from the current time."),
     REGEX_NOT_IMPLEMENTED(501, "OMRS-IGC-REPOSITORY-501-001 ",
             "Repository {0} is not able to support the regular expression \"{1}\"",
             "This repository has a fixed subset of regular expressions it can support.",
@@ -0,0 +1,251 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.*;
+
+/**
+ * Holds back the events received for each asset (by RID) for a short window, so that a burst of events for the same
+ * asset (for example its creation, followed by updates to its properties and then its relationships) can be compacted
+ * into processing only the latest of them. (This relies on the processing of an asset event always being based on the
+ * current state of the asset in IGC, rather than on the detail of the event itself.)
+ * <br><br>
+ * Each asset's events are held for the window from when the first of them was received, so that a continuous stream
+ * of events for an asset cannot hold it back indefinitely, and at most a maximum number of assets are held at any one
+ * time (beyond which the events held for the longest are released early). Events are only compacted within a single
+ * partition: an event for an asset from a different partition than its held event releases the held event.
+ * <br><br>
+ * The window also tracks the offset of the earliest event held for each asset, so that the offsets committed for a
+ * partition never move past an event that has been held back but not yet processed. An event that fails once it has
+ * been released can be handed back to the window to be released again after a backoff (see retry), and until then
+ * equally keeps the offsets committed for its partition from moving past it.
+ * <br><br>
+ * Events are only kept in order for each asset, not across assets: an asset's held event is processed at the end of
+ * its window, so the events of other assets (including any that relate to it, and any event that is not held) may be
+ * processed before it, even though they were received after it. This is tolerated because the processing of an asset
+ * sends out its relationships from the current state of both ends in IGC, and any asset that has not yet been sent
+ * out is sent out as new (rather than updated) once its own event is processed, so the same events result for every
+ * asset once the window has passed. Where this relaxed ordering is not acceptable, the window should not be
+ * configured.
+ */
+class AssetEventWindow {
+
+    private final long window;
+    private final int maxAssets;
+
+    // Ordered by when the first event for each asset was held, and therefore also by when each is due for release
+    private final LinkedHashMap<String, HeldEvent> held;
+    // Ordered by when each failed, and therefore also by when each is due to be retried
+    private final List<HeldEvent> retrying;
+
+    /**
+     * Create a new window for holding asset events.
+     *
+     * @param window the time (in milliseconds) for which to hold the events for an asset
+     * @param maxAssets the maximum number of assets for which to hold events at any one time
+     */
+    AssetEventWindow(long window, int maxAssets) {
+        this.window = window;
+        this.maxAssets = maxAssets;
+        this.held = new LinkedHashMap<>();
+        this.retrying = new ArrayList<>();
+    }
+
+    /**
+     * Hold the provided event for an asset, replacing any event already held for the same asset.
+     *
+     * @param rid the Repository ID (RID) of the asset to which the event applies
+     * @param event the event
+     * @param partition the partition from which the event was received
+     * @param offset the offset of the event within its partition
+     * @param now the current time (in milliseconds)
+     * @return {@code List<HeldEvent>} of any held events that must be released (processed) straight away as a result
+     */
+    List<HeldEvent> hold(String rid, String event, TopicPartition partition, long offset, long now) {
+        List<HeldEvent> released = new ArrayList<>();
+        HeldEvent existing = held.get(rid);
+        if (existing != null) {
+            if (existing.partition.equals(partition)) {
+                existing.event = event;
+                return released;
+            }
+            held.remove(rid);
+            released.add(existing);
+        }
+        held.put(rid, new HeldEvent(rid, event, partition, offset, now + window));
+        Iterator<HeldEvent> eldest = held.values().iterator();
+        while (held.size() > maxAssets && eldest.hasNext()) {
+            released.add(eldest.next());
+            eldest.remove();
+        }
+        return released;
+    }
+
+    /**
+     * Stop holding any event for the provided asset (including any event waiting to be retried), for example because
+     * a subsequent event for it supersedes any earlier event and is processed straight away.
+     *
+     * @param rid the Repository ID (RID) of the asset
+     * @return boolean true if an event was held for the asset, otherwise false
+     */
+    boolean discard(String rid) {
+        boolean retried = retrying.removeIf(event -> event.rid.equals(rid));
+        return held.remove(rid) != null || retried;
+    }
+
+    /**
+     * Hold a released event that failed to be processed, to be released again once the provided time has passed.
+     *
+     * @param event the released event that failed
+     * @param due the time (in milliseconds) after which to release the event again
+     */
+    void retry(HeldEvent event, long due) {
+        event.attempts++;
+        event.due = due;
+        retrying.add(event);
+    }
+
+    /**
+     * Release all of the held events whose window has passed, and all of the failed events whose backoff has passed.
+     *
+     * @param now the current time (in milliseconds)
+     * @return {@code List<HeldEvent>} of the released events, in the order they should be processed
+     */
+    List<HeldEvent> releaseDue(long now) {
+        List<HeldEvent> released = new ArrayList<>();
+        Iterator<HeldEvent> failed = retrying.iterator();
+        while (failed.hasNext()) {
+            HeldEvent next = failed.next();
+            if (next.due > now) {
+                break;
+            }
+            released.add(next);
+            failed.remove();
+        }
+        Iterator<HeldEvent> iterator = held.values().iterator();
+        while (iterator.hasNext()) {
+            HeldEvent next = iterator.next();
+            if (next.due > now) {
+                break;
+            }
+            released.add(next);
+            iterator.remove();
+        }
+        return released;
+    }
+
+    /**
+     * Release all of the held (and failed) events received from the provided partitions.
+     *
+     * @param partitions the partitions for which to release events
+     * @return {@code List<HeldEvent>} of the released events, in the order they should be processed
+     */
+    List<HeldEvent> release(Collection<TopicPartition> partitions) {
+        List<HeldEvent> released = new ArrayList<>();
+        releaseFrom(retrying.iterator(), partitions, released);
+        releaseFrom(held.values().iterator(), partitions, released);
+        return released;
+    }
+
+    /**
+     * Release all of the events received from the provided partitions from the provided events.
+     *
+     * @param iterator over the events from which to release
+     * @param partitions the partitions for which to release events
+     * @param released the list of released events to append
+     */
+    private void releaseFrom(Iterator<HeldEvent> iterator, Collection<TopicPartition> partitions, List<HeldEvent> released) {
+        while (iterator.hasNext()) {
+            HeldEvent next = iterator.next();
+            if (partitions.contains(next.partition)) {
+                released.add(next);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Retrieve the offset that can safely be committed for the provided partition: the offset of the earliest event
+     * still held (or waiting to be retried) from that partition, if there is one, or otherwise the provided position.
+     *
+     * @param partition the partition
+     * @param position the offset of the next event to be consumed from the partition
+     * @return long
+     */
+    long getCommittableOffset(TopicPartition partition, long position) {
+        return getEarliestOffset(retrying, partition, getEarliestOffset(held.values(), partition, position));
+    }
+
+    /**
+     * Retrieve the offset of the earliest of the provided events from the provided partition, if earlier than the
+     * provided offset.
+     *
+     * @param events the events
+     * @param partition the partition
+     * @param offset the offset to retrieve if none of the events from the partition is any earlier
+     * @return long
+     */
+    private static long getEarliestOffset(Collection<HeldEvent> events, TopicPartition partition, long offset) {
+        long earliest = offset;
+        for (HeldEvent next : events) {
+            if (next.offset < earliest && next.partition.equals(partition)) {
+                earliest = next.offset;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * The latest event held for a single asset, along with the details of the earliest event it replaced.
+     */
+    static class HeldEvent {
+
+        private final String rid;
+        private String event;
+        private final TopicPartition partition;
+        private final long offset;
+        private long due;
+        private int attempts;
+
+        HeldEvent(String rid, String event, TopicPartition partition, long offset, long due) {
+            this.rid = rid;
+            this.event = event;
+            this.partition = partition;
+            this.offset = offset;
+            this.due = due;
+            this.attempts = 0;
+        }
+
+        /**
+         * Retrieve the event itself.
+         *
+         * @return String
+         */
+        String getEvent() { return event; }
+
+        /**
+         * Retrieve the partition from which the (earliest) event was received.
+         *
+         * @return TopicPartition
+         */
+        TopicPartition getPartition() { return partition; }
+
+        /**
+         * Retrieve the offset of the earliest event held for the asset within its partition.
+         *
+         * @return long
+         */
+        long getOffset() { return offset; }
+
+        /**
+         * Retrieve the number of times processing the event has failed so far.
+         *
+         * @return int
+         */
+        int getAttempts() { return attempts; }
+
+    }
+
+}
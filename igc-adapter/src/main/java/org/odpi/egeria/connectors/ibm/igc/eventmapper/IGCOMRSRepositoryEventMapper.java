@@ -4,6 +4,7 @@ package org.odpi.egeria.connectors.ibm.igc.eventmapper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.clients.consumer.*;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSAuditCode;
 import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSErrorCode;
@@ -20,6 +21,7 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.events.*;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchCondition;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchSorting;
 import org.odpi.egeria.connectors.ibm.igc.eventmapper.model.ChangeSet;
 import org.odpi.egeria.connectors.ibm.igc.eventmapper.model.PurgeMarker;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSMetadataCollection;
@@ -46,9 +48,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * IGCOMRSRepositoryEventMapper supports the event mapper function for the IBM Information Server suite
@@ -60,6 +66,13 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
 
     private static final Logger log = LoggerFactory.getLogger(IGCOMRSRepositoryEventMapper.class);
     private static final Duration pollDuration = Duration.ofMillis(100);
+    private static final int MAX_COMPACTED_ASSETS = 1000;
+    private static final int MAX_EVENT_ATTEMPTS = 3;
+    private static final long EVENT_RETRY_BACKOFF_MS = 1000;
+    private static final int ASSET_LOCK_STRIPES = 64;
+    private static final int ASSET_LOAD_PAGE_SIZE = 500;
+    private static final long ASSET_TYPE_SETTLE_MS = 5000;
+    private static final long RECONCILIATION_OVERLAP_MS = 60000;
 
     private String sourceName;
     private IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
@@ -74,15 +87,51 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
     private Properties igcKafkaProperties;
     private String igcKafkaTopic;
 
-    private IGCKafkaConsumerThread igcKafkaConsumer;
+    private Function<Properties, Consumer<Long, String>> igcKafkaConsumerFactory;
+    private List<IGCKafkaConsumerThread> igcKafkaConsumers;
+    private IGCInitialLoadThread igcInitialLoad;
+    private IGCReconcilerThread igcReconciler;
     private ObjectMapper mapper;
 
+    // Serialises the processing of each asset (by RID) across all of the threads that process assets
+    private final Object[] assetLocks;
+
     /**
      * Default constructor
      */
     public IGCOMRSRepositoryEventMapper() {
         super();
         this.sourceName = "IGCOMRSRepositoryEventMapper";
+        this.igcKafkaConsumerFactory = KafkaConsumer::new;
+        this.assetLocks = new Object[ASSET_LOCK_STRIPES];
+        for (int i = 0; i < ASSET_LOCK_STRIPES; i++) {
+            assetLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Construct an event mapper that is not started, but can load assets through the provided connectivity (for
+     * testing the background loading of assets).
+     *
+     * @param connector the IGC repository connector
+     * @param helper the IGC repository helper
+     * @param client the IGC REST client
+     */
+    IGCOMRSRepositoryEventMapper(IGCOMRSRepositoryConnector connector, IGCRepositoryHelper helper, IGCRestClient client) {
+        this();
+        this.igcomrsRepositoryConnector = connector;
+        this.igcRepositoryHelper = helper;
+        this.igcRestClient = client;
+    }
+
+    /**
+     * Replace the means by which each consumer thread creates its Kafka consumer (for example with a mock consumer, to
+     * drive the consumer threads without Kafka). Only takes effect for consumer threads started after it is set.
+     *
+     * @param factory creates a consumer from the Kafka properties of the event mapper
+     */
+    void setKafkaConsumerFactory(Function<Properties, Consumer<Long, String>> factory) {
+        this.igcKafkaConsumerFactory = factory;
     }
 
     /**
@@ -148,22 +197,92 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
         if (!success) {
             raiseConnectorCheckedException(IGCOMRSErrorCode.OMRS_BUNDLE_FAILURE, methodName, null, "upload");
         } else {
-            this.igcKafkaConsumer = new IGCKafkaConsumerThread();
-            igcKafkaConsumer.start();
+            // Only open the journal once the bundle is in place, as any stubs recovered from it are written to IGC
+            String stubJournal = igcomrsRepositoryConnector.getStubJournal();
+            if (stubJournal != null) {
+                try {
+                    igcRepositoryHelper.openOMRSStubJournal(stubJournal);
+                } catch (IGCException e) {
+                    raiseConnectorCheckedException(IGCOMRSErrorCode.STUB_JOURNAL_FAILURE, methodName, e, stubJournal);
+                }
+            }
+            // Each consumer thread joins the same consumer group, so the partitions of the topic are shared out between
+            // them (and between the threads of any other instances of this proxy for the same metadata collection)
+            int consumerThreads = igcomrsRepositoryConnector.getConsumerThreads();
+            this.igcKafkaConsumers = new ArrayList<>(consumerThreads);
+            for (int i = 0; i < consumerThreads; i++) {
+                IGCKafkaConsumerThread igcKafkaConsumer = new IGCKafkaConsumerThread(igcomrsRepositoryConnector.getEventCompactionWindow());
+                igcKafkaConsumers.add(igcKafkaConsumer);
+                igcKafkaConsumer.start("IGC-OMRS-event-consumer-" + (i + 1));
+            }
+            if (igcomrsRepositoryConnector.isInitialLoadEnabled()) {
+                String checkpoint = igcomrsRepositoryConnector.getInitialLoadCheckpoint();
+                try {
+                    this.igcInitialLoad = new IGCInitialLoadThread(
+                            new InitialLoadCheckpoint(checkpoint == null ? null : Paths.get(checkpoint)),
+                            igcomrsRepositoryConnector.getInitialLoadRate()
+                    );
+                    igcInitialLoad.start("IGC-OMRS-initial-load");
+                } catch (IOException e) {
+                    raiseConnectorCheckedException(IGCOMRSErrorCode.INITIAL_LOAD_CHECKPOINT_FAILURE, methodName, e, checkpoint);
+                }
+            }
+            int reconciliationInterval = igcomrsRepositoryConnector.getReconciliationInterval();
+            if (reconciliationInterval > 0) {
+                String watermark = igcomrsRepositoryConnector.getReconciliationWatermark();
+                try {
+                    this.igcReconciler = new IGCReconcilerThread(
+                            new ReconciliationWatermark(watermark == null ? null : Paths.get(watermark)),
+                            reconciliationInterval * 1000L,
+                            igcomrsRepositoryConnector.getReconciliationRate()
+                    );
+                    igcReconciler.start("IGC-OMRS-reconciler");
+                } catch (IOException e) {
+                    raiseConnectorCheckedException(IGCOMRSErrorCode.RECONCILIATION_WATERMARK_FAILURE, methodName, e, watermark);
+                }
+            }
         }
 
     }
 
 
     /**
-     * Class to support multi-threaded consumption of IGC Kafka events.
+     * Class to support multi-threaded consumption of IGC Kafka events. Each thread has its own consumer, and commits
+     * the offset of each event it has processed (once any stubs it updated are durable) both after every poll and
+     * whenever any of its partitions are revoked from it, so that no other consumer picks up an event that has already
+     * been processed, nor skips one that has not.
+     * <br><br>
+     * When an event compaction window is configured, the creation and modification events for each asset are held
+     * back for the window and only the latest of them is processed. Any deletion of an asset is always processed
+     * straight away, and supersedes any event held for that asset. Events are then only kept in order for each asset,
+     * not across assets (see AssetEventWindow).
+     * <br><br>
+     * An event that fails is retried (by seeking its partition back to it, so that none of the events after it in the
+     * same partition are skipped) up to a maximum number of attempts, after which it is logged and skipped so that a
+     * single bad event cannot block its partition. A held event that fails once released from the compaction window is
+     * retried the same number of times, by handing it back to the window (whose offsets are not committed past it in
+     * the meantime). As the events for the same asset may be spread across partitions (and therefore threads), the
+     * processing of each asset is serialised by its RID (see processAsset).
      */
-    private class IGCKafkaConsumerThread implements Runnable {
+    private class IGCKafkaConsumerThread implements Runnable, ConsumerRebalanceListener {
 
         private final AtomicBoolean running = new AtomicBoolean(false);
 
-        void start() {
-            Thread worker = new Thread(this);
+        // The offset of the next event to be consumed from each partition, and the offset last committed for each
+        private final Map<TopicPartition, Long> positions = new HashMap<>();
+        private final Map<TopicPartition, Long> committed = new HashMap<>();
+        // The offset of the event in each partition that has failed (and is being retried), and its attempts so far
+        private final Map<TopicPartition, Long> failedOffsets = new HashMap<>();
+        private final Map<TopicPartition, Integer> failedAttempts = new HashMap<>();
+        private final AssetEventWindow window;
+        private Consumer<Long, String> consumer;
+
+        IGCKafkaConsumerThread(long compactionWindow) {
+            this.window = compactionWindow > 0 ? new AssetEventWindow(compactionWindow, MAX_COMPACTED_ASSETS) : null;
+        }
+
+        void start(String name) {
+            Thread worker = new Thread(this, name);
             worker.start();
         }
 
@@ -180,28 +299,662 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
             final String methodName = "run";
 
             running.set(true);
-            try (final Consumer<Long, String> consumer = new KafkaConsumer<>(igcKafkaProperties)) {
-                consumer.subscribe(Collections.singletonList(igcKafkaTopic));
+            try (final Consumer<Long, String> consumer = igcKafkaConsumerFactory.apply(igcKafkaProperties)) {
+                this.consumer = consumer;
+                consumer.subscribe(Collections.singletonList(igcKafkaTopic), this);
                 auditLog.logMessage(methodName, IGCOMRSAuditCode.EVENT_MAPPER_RUNNING.getMessageDefinition(igcomrsRepositoryConnector.getServerName()));
                 while (running.get()) {
                     try {
-                        // Per settings on the consumer properties, the poll should only ever return a single event at
-                        // a time (meaning despite the for-loop below, the wrapped try-catch should ensure that only one
-                        // event ever fails)
                         ConsumerRecords<Long, String> events = consumer.poll(pollDuration);
-                        for (ConsumerRecord<Long, String> event : events) {
-                            processEvent(event.value());
+                        for (TopicPartition partition : events.partitions()) {
+                            for (ConsumerRecord<Long, String> event : events.records(partition)) {
+                                if (!consumeEvent(event, partition)) {
+                                    // Re-poll the failed event (and everything after it) from this partition
+                                    consumer.seek(partition, event.offset());
+                                    break;
+                                }
+                                positions.put(partition, event.offset() + 1);
+                            }
+                        }
+                        if (window != null) {
+                            processReleased(window.releaseDue(System.currentTimeMillis()));
                         }
-                        consumer.commitSync();
+                        commitProcessed(positions.keySet());
                     } catch (Exception e) {
                         auditLog.logException(methodName, IGCOMRSAuditCode.EVENT_MAPPER_CONSUMER_FAILURE.getMessageDefinition(), e);
                     }
                 }
+                try {
+                    if (window != null) {
+                        processReleased(window.release(positions.keySet()));
+                    }
+                    // (Any event that still failed is not committed, so is retried by whichever consumer is next
+                    // assigned its partition)
+                    commitProcessed(positions.keySet());
+                } catch (Exception e) {
+                    auditLog.logException(methodName, IGCOMRSAuditCode.EVENT_MAPPER_CONSUMER_FAILURE.getMessageDefinition(), e);
+                }
+            } finally {
+                this.consumer = null;
+            }
+        }
+
+        /**
+         * Consume the provided event, logging any failure against the single event that failed.
+         *
+         * @param event the event
+         * @param partition the partition from which the event was received
+         * @return boolean true if the event is done with (processed, held back, or skipped after failing too many
+         *         times), or false if it failed and should be retried
+         */
+        private boolean consumeEvent(ConsumerRecord<Long, String> event, TopicPartition partition) {
+            final String methodName = "consumeEvent";
+            try {
+                consumeEvent(event.value(), partition, event.offset());
+            } catch (Exception e) {
+                auditLog.logException(methodName, IGCOMRSAuditCode.EVENT_MAPPER_CONSUMER_FAILURE.getMessageDefinition(), e);
+                int attempts = Long.valueOf(event.offset()).equals(failedOffsets.get(partition)) ? failedAttempts.get(partition) + 1 : 1;
+                if (attempts < MAX_EVENT_ATTEMPTS) {
+                    log.warn("Retrying event at offset {} of {} (attempt {} of {} failed).", event.offset(), partition, attempts, MAX_EVENT_ATTEMPTS);
+                    failedOffsets.put(partition, event.offset());
+                    failedAttempts.put(partition, attempts);
+                    pause();
+                    return false;
+                }
+                log.error("Skipping event at offset {} of {} after {} failed attempts: {}", event.offset(), partition, attempts, event.value());
+            }
+            failedOffsets.remove(partition);
+            failedAttempts.remove(partition);
+            return true;
+        }
+
+        /**
+         * Wait before retrying a failed event, unless stopped.
+         */
+        private void pause() {
+            try {
+                Thread.sleep(EVENT_RETRY_BACKOFF_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running.set(false);
+            }
+        }
+
+        /**
+         * Process the provided event, or hold it back (within the compaction window) if it can be compacted.
+         *
+         * @param event the event
+         * @param partition the partition from which the event was received
+         * @param offset the offset of the event within its partition
+         */
+        private void consumeEvent(String event, TopicPartition partition, long offset) {
+            if (window != null) {
+                InfosphereEventsAssetEvent assetEvent = getAssetEvent(event);
+                // (Events for the stubs themselves are skipped rather than processed, so there is nothing to compact)
+                if (assetEvent != null && assetEvent.getAssetRid() != null && !"OMRS Stub".equals(assetEvent.getAssetType())) {
+                    String action = assetEvent.getAction();
+                    if (InfosphereEventsAssetEvent.ACTION_CREATE.equals(action) || InfosphereEventsAssetEvent.ACTION_MODIFY.equals(action)) {
+                        processReleased(window.hold(assetEvent.getAssetRid(), event, partition, offset, System.currentTimeMillis()));
+                        return;
+                    } else if (InfosphereEventsAssetEvent.ACTION_DELETE.equals(action) && window.discard(assetEvent.getAssetRid())) {
+                        log.debug("Superseding held event for deleted asset: {}", assetEvent.getAssetRid());
+                    }
+                }
+            }
+            processEvent(event);
+        }
+
+        /**
+         * Process the provided events released from the compaction window, in order. Any failure is logged against
+         * the single event that failed, without preventing the others from being processed, and the failed event is
+         * handed back to the window to be retried after a backoff (up to the maximum number of attempts, after which
+         * it is logged and skipped).
+         *
+         * @param events the events to process
+         */
+        private void processReleased(List<AssetEventWindow.HeldEvent> events) {
+            final String methodName = "processReleased";
+            for (AssetEventWindow.HeldEvent event : events) {
+                try {
+                    processEvent(event.getEvent());
+                } catch (Exception e) {
+                    auditLog.logException(methodName, IGCOMRSAuditCode.EVENT_MAPPER_CONSUMER_FAILURE.getMessageDefinition(), e);
+                    int attempts = event.getAttempts() + 1;
+                    if (attempts < MAX_EVENT_ATTEMPTS) {
+                        log.warn("Retrying held event at offset {} of {} (attempt {} of {} failed).", event.getOffset(), event.getPartition(), attempts, MAX_EVENT_ATTEMPTS);
+                        window.retry(event, System.currentTimeMillis() + EVENT_RETRY_BACKOFF_MS);
+                    } else {
+                        log.error("Skipping held event at offset {} of {} after {} failed attempts: {}", event.getOffset(), event.getPartition(), attempts, event.getEvent());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Commit the offsets of the events processed for the provided partitions (up to, but not including, the
+         * earliest event still held back for each), once any stubs buffered while processing them are durable (either
+         * journalled, to be written to IGC in the background, or written to IGC directly).
+         *
+         * @param partitions the partitions for which to commit the processed events
+         * @throws IGCException if the buffered stubs cannot be made durable
+         */
+        private void commitProcessed(Collection<TopicPartition> partitions) throws IGCException {
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                Long position = positions.get(partition);
+                if (position != null) {
+                    long offset = window == null ? position : window.getCommittableOffset(partition, position);
+                    if (!Long.valueOf(offset).equals(committed.get(partition))) {
+                        offsets.put(partition, new OffsetAndMetadata(offset));
+                    }
+                }
+            }
+            if (!offsets.isEmpty()) {
+                igcRepositoryHelper.persistOMRSStubs();
+                consumer.commitSync(offsets);
+                for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : offsets.entrySet()) {
+                    committed.put(entry.getKey(), entry.getValue().offset());
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            final String methodName = "onPartitionsRevoked";
+            log.info("Partitions revoked from {}: {}", Thread.currentThread().getName(), partitions);
+            try {
+                // Nothing held back from the revoked partitions should wait for whichever consumer is next assigned them
+                if (window != null) {
+                    processReleased(window.release(partitions));
+                }
+                commitProcessed(partitions);
+            } catch (Exception e) {
+                auditLog.logException(methodName, IGCOMRSAuditCode.EVENT_MAPPER_CONSUMER_FAILURE.getMessageDefinition(), e);
+            }
+            if (window != null) {
+                // Any event that still failed was not committed, so is left to be retried by whichever consumer is
+                // next assigned its partition
+                window.release(partitions);
+            }
+            // Anything not committed will be re-processed by whichever consumer is next assigned the partition
+            positions.keySet().removeAll(partitions);
+            committed.keySet().removeAll(partitions);
+            failedOffsets.keySet().removeAll(partitions);
+            failedAttempts.keySet().removeAll(partitions);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            log.info("Partitions assigned to {}: {}", Thread.currentThread().getName(), partitions);
+        }
+
+    }
+
+    /**
+     * Base class for the threads that process existing assets in IGC in the background (rather than in response to an
+     * event), processing each asset exactly as though an event had been received for it: an asset is sent out as new
+     * if it has no OMRS stub, as updated if it has changed since its stub was last written, and otherwise skipped. Such
+     * processing can therefore safely be repeated, and (as the processing of each asset is serialised by its RID with
+     * that of any events received from IGC for the same asset) can overlap with events.
+     * <br><br>
+     * Each page of assets is processed in parallel (via the connector's executor). The rate at which assets are
+     * processed can be limited, to limit the load on IGC: the page is then processed in slices of (at most) a second's
+     * worth of assets, and this thread waits for the rate to permit each slice before handing it to the executor, so
+     * that none of the executor's threads (which are shared with the rest of the connector) are ever held up waiting.
+     */
+    abstract class IGCAssetLoaderThread implements Runnable {
+
+        protected final AtomicBoolean running = new AtomicBoolean(false);
+        protected final AtomicLong loaded = new AtomicLong(0);
+        protected final AtomicLong failed = new AtomicLong(0);
+        private final int sliceSize;
+        private final long interval;
+        private long nextPermit;
+
+        IGCAssetLoaderThread(int rate) {
+            this.sliceSize = Math.max(rate, 0);
+            this.interval = rate > 0 ? 1_000_000_000L / rate : 0;
+            this.nextPermit = 0;
+        }
+
+        void start(String name) {
+            running.set(true);
+            Thread worker = new Thread(this, name);
+            worker.start();
+        }
+
+        void stop() {
+            running.set(false);
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+
+        /**
+         * Wait for the provided time, or until stopped (whichever is sooner).
+         *
+         * @param millis the time (in milliseconds) for which to wait
+         */
+        protected void pause(long millis) {
+            long until = System.currentTimeMillis() + millis;
+            synchronized (this) {
+                long remaining = millis;
+                while (running.get() && remaining > 0) {
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        running.set(false);
+                    }
+                    remaining = until - System.currentTimeMillis();
+                }
+            }
+        }
+
+        /**
+         * Wait for the mapped types to settle, since the types are typically only mapped (as the cohort registers them)
+         * after the event mapper has started.
+         *
+         * @return {@code List<String>} of the mapped IGC asset types, or an empty list if stopped before any were mapped
+         */
+        protected List<String> getSettledAssetTypes() {
+            List<String> assetTypes = Collections.emptyList();
+            while (running.get()) {
+                List<String> latest = igcRepositoryHelper.getMappedIgcAssetTypes();
+                if (!latest.isEmpty() && latest.equals(assetTypes)) {
+                    return latest;
+                }
+                assetTypes = latest;
+                pause(ASSET_TYPE_SETTLE_MS);
+            }
+            return Collections.emptyList();
+        }
+
+        /**
+         * Retrieve the number of assets to retrieve in each page.
+         *
+         * @return int
+         */
+        protected int getPageSize() {
+            return Math.max(igcomrsRepositoryConnector.getMaxPageSize(), ASSET_LOAD_PAGE_SIZE);
+        }
+
+        /**
+         * Load the provided page of assets, in parallel, and then make the stubs of all of them durable.
+         *
+         * @param assets the assets to load
+         * @param methodName the name of the calling method (for any error)
+         * @return {@code List<Reference>} of the assets that could not be loaded (empty if the whole page was loaded),
+         *         or null if stopped before the page was completed
+         * @throws IGCException if the stubs cannot be made durable
+         * @throws RepositoryErrorException on any error running the processing of the assets
+         */
+        protected List<Reference> loadPage(List<Reference> assets, String methodName) throws IGCException, RepositoryErrorException {
+            List<Reference> failures = new ArrayList<>();
+            int size = sliceSize > 0 ? Math.min(sliceSize, assets.size()) : assets.size();
+            for (int i = 0; i < assets.size(); i += size) {
+                List<Reference> slice = assets.subList(i, Math.min(i + size, assets.size()));
+                acquire(slice.size());
+                if (!running.get()) {
+                    return null;
+                }
+                List<Callable<Boolean>> tasks = new ArrayList<>();
+                for (Reference asset : slice) {
+                    tasks.add(() -> loadAsset(asset));
+                }
+                List<Boolean> results = igcomrsRepositoryConnector.runInParallel(tasks, methodName);
+                for (int j = 0; j < slice.size(); j++) {
+                    if (!results.get(j)) {
+                        failures.add(slice.get(j));
+                    }
+                }
+            }
+            igcRepositoryHelper.persistOMRSStubs();
+            return failures;
+        }
+
+        /**
+         * Load the provided asset as though an event had been received for it. Any failure is logged against the
+         * single asset that failed, without preventing the others from being loaded.
+         *
+         * @param asset the asset to load
+         * @return boolean true if the asset was loaded, otherwise false
+         */
+        private boolean loadAsset(Reference asset) {
+            try {
+                processAsset(new ObjectCache(), asset.getId(), asset.getType());
+                loaded.incrementAndGet();
+                return true;
+            } catch (Exception e) {
+                log.error("Unable to load asset {} of type {}.", asset.getId(), asset.getType(), e);
+                return false;
+            }
+        }
+
+        /**
+         * Wait (on this thread) until the rate limit permits the provided number of assets to be loaded, or until
+         * stopped (if the rate is limited). Permits are spread evenly over time and are not accumulated while idle, so
+         * the rate is never exceeded even in a burst.
+         *
+         * @param permits the number of assets about to be loaded
+         */
+        private void acquire(int permits) {
+            if (interval > 0) {
+                long now = System.nanoTime();
+                nextPermit = Math.max(nextPermit, now);
+                long wait = nextPermit - now;
+                nextPermit += permits * interval;
+                if (wait > 0) {
+                    pause((wait + 999_999) / 1_000_000);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Class to support the initial load of every existing asset in IGC of a mapped type, so that the rest of the cohort
+     * learns of assets that existed before the event mapper was first started (rather than only of those that change
+     * after it has started). Each mapped type is paged through in order of creation.
+     * <br><br>
+     * Once the stubs for a page are durable, the index of the next page is checkpointed, so that an interrupted load
+     * resumes from (just before) where it left off. (It resumes one page early, so that any assets deleted from IGC in
+     * the meantime cannot cause others to be skipped.) The RIDs of any assets in the page that could not be loaded are
+     * checkpointed along with it, and are retried once the rest of the type has been loaded; any that still cannot be
+     * loaded are kept in the checkpoint, to be retried again when the event mapper is next started.
+     */
+    class IGCInitialLoadThread extends IGCAssetLoaderThread {
+
+        private final InitialLoadCheckpoint checkpoint;
+
+        IGCInitialLoadThread(InitialLoadCheckpoint checkpoint, int rate) {
+            super(rate);
+            this.checkpoint = checkpoint;
+        }
+
+        /**
+         * Load all of the existing assets of each mapped type, in turn.
+         */
+        @Override
+        public void run() {
+
+            final String methodName = "run";
+
+            List<String> assetTypes = getSettledAssetTypes();
+            if (assetTypes.isEmpty()) {
+                return;
+            }
+            auditLog.logMessage(methodName, IGCOMRSAuditCode.INITIAL_LOAD_STARTING.getMessageDefinition(String.valueOf(assetTypes.size())));
+            Set<String> attempted = new HashSet<>();
+            while (running.get() && !assetTypes.isEmpty()) {
+                for (String assetType : assetTypes) {
+                    attempted.add(assetType);
+                    if (!running.get()) {
+                        break;
+                    }
+                    try {
+                        if (checkpoint.isComplete(assetType)) {
+                            log.info("Skipping initial load of type {}: already loaded.", assetType);
+                        } else {
+                            loadAssetType(assetType);
+                        }
+                        if (checkpoint.isComplete(assetType)) {
+                            retryFailedAssets(assetType);
+                        }
+                    } catch (Exception e) {
+                        auditLog.logException(methodName, IGCOMRSAuditCode.INITIAL_LOAD_FAILURE.getMessageDefinition(assetType), e);
+                    }
+                }
+                // Pick up any types that were only mapped while the others were being loaded
+                assetTypes = new ArrayList<>(igcRepositoryHelper.getMappedIgcAssetTypes());
+                assetTypes.removeAll(attempted);
+            }
+            if (running.get()) {
+                auditLog.logMessage(methodName, IGCOMRSAuditCode.INITIAL_LOAD_COMPLETE.getMessageDefinition(String.valueOf(loaded.get()), String.valueOf(failed.get())));
+            }
+
+        }
+
+        /**
+         * Load all of the existing assets of the provided type, page by page from its last checkpoint.
+         *
+         * @param assetType the IGC asset type to load
+         * @throws IGCException on any error retrieving the assets, or making their stubs durable
+         * @throws RepositoryErrorException on any error running the processing of the assets
+         * @throws IOException if the progress cannot be checkpointed
+         */
+        void loadAssetType(String assetType) throws IGCException, RepositoryErrorException, IOException {
+
+            final String methodName = "loadAssetType";
+
+            int pageSize = getPageSize();
+            int beginAt = Math.max(0, checkpoint.getNextIndex(assetType) - pageSize);
+            log.info("Starting initial load of type {} from: {}", assetType, beginAt);
+            while (running.get()) {
+                IGCSearch igcSearch = new IGCSearch(assetType);
+                igcSearch.addSortingCriteria(new IGCSearchSorting("created_on", true));
+                igcSearch.setPageSize(pageSize);
+                igcSearch.setBeginAt(beginAt);
+                ItemList<Reference> page = igcRestClient.search(igcSearch);
+                List<Reference> assets = page == null ? null : page.getItems();
+                if (assets == null || assets.isEmpty()) {
+                    break;
+                }
+                List<Reference> failures = loadPage(assets, methodName);
+                if (failures == null) {
+                    // Leave the checkpoint before this page, as it may have been only partially loaded
+                    return;
+                }
+                beginAt += assets.size();
+                checkpoint.update(assetType, beginAt, getRids(failures));
+                log.debug("Initial load of type {} reached: {}", assetType, beginAt);
+                if (assets.size() < pageSize) {
+                    break;
+                }
+            }
+            if (running.get()) {
+                checkpoint.complete(assetType);
+                log.info("Completed initial load of type {}: {} assets.", assetType, beginAt);
+            }
+
+        }
+
+        /**
+         * Retry the loading of any assets of the provided type that could not previously be loaded, keeping only those
+         * that still cannot be loaded in the checkpoint.
+         *
+         * @param assetType the IGC asset type for which to retry the failed assets
+         * @throws IGCException if the stubs cannot be made durable
+         * @throws RepositoryErrorException on any error running the processing of the assets
+         * @throws IOException if the progress cannot be checkpointed
+         */
+        void retryFailedAssets(String assetType) throws IGCException, RepositoryErrorException, IOException {
+
+            final String methodName = "retryFailedAssets";
+
+            List<String> rids = new ArrayList<>(checkpoint.getFailed(assetType));
+            if (rids.isEmpty()) {
+                return;
+            }
+            log.info("Retrying initial load of {} assets of type {} that could not previously be loaded.", rids.size(), assetType);
+            List<String> stillFailed = new ArrayList<>();
+            int pageSize = getPageSize();
+            for (int i = 0; i < rids.size(); i += pageSize) {
+                List<Reference> assets = new ArrayList<>();
+                for (String rid : rids.subList(i, Math.min(i + pageSize, rids.size()))) {
+                    assets.add(new Reference(rid, assetType, rid));
+                }
+                List<Reference> failures = loadPage(assets, methodName);
+                if (failures == null) {
+                    // Leave all of the failures to be retried again, as they may have been only partially retried
+                    return;
+                }
+                stillFailed.addAll(getRids(failures));
+            }
+            checkpoint.setFailed(assetType, stillFailed);
+            failed.addAndGet(stillFailed.size());
+            if (!stillFailed.isEmpty()) {
+                log.warn("Unable to load {} assets of type {}, which will be retried on the next start: {}", stillFailed.size(), assetType, stillFailed);
+            }
+
+        }
+
+        /**
+         * Retrieve the RIDs of the provided assets.
+         *
+         * @param assets the assets
+         * @return {@code List<String>} of RIDs
+         */
+        private List<String> getRids(List<Reference> assets) {
+            List<String> rids = new ArrayList<>();
+            for (Reference asset : assets) {
+                rids.add(asset.getId());
+            }
+            return rids;
+        }
+
+    }
+
+    /**
+     * Class to support the periodic reconciliation of the assets in IGC with the rest of the cohort, so that any changes
+     * whose events were missed (for example while the event mapper was not running, or if events were lost) are still
+     * eventually sent out. Each cycle searches every mapped type for the assets modified since that type's watermark,
+     * and processes them as though an event had been received for each (so those whose stubs are already up-to-date are
+     * simply skipped).
+     * <br><br>
+     * A type's watermark is only moved forward (and persisted) once all of the assets modified up to the new watermark
+     * have been processed and their stubs are durable, so a failed or interrupted cycle is simply retried by the next.
+     * Any asset that could not be processed holds the watermark back to just before its modification, so that it (and
+     * everything modified after it) is retried by the next cycle; and if any of the stubs cannot be written, the
+     * watermark is not moved at all.
+     * Each search also overlaps the previous one by a margin, to allow for any skew between the clocks of IGC and the
+     * proxy. (Deleted assets cannot be found by their modification, so deletions still rely on IGC's events.)
+     */
+    class IGCReconcilerThread extends IGCAssetLoaderThread {
+
+        private final ReconciliationWatermark watermark;
+        private final long cycle;
+
+        IGCReconcilerThread(ReconciliationWatermark watermark, long cycle, int rate) {
+            super(rate);
+            this.watermark = watermark;
+            this.cycle = cycle;
+        }
+
+        /**
+         * Reconcile every mapped type at the start, to catch up on anything missed while not running, and then once
+         * per cycle.
+         */
+        @Override
+        public void run() {
+
+            final String methodName = "run";
+
+            if (getSettledAssetTypes().isEmpty()) {
+                return;
+            }
+            while (running.get()) {
+                long started = System.currentTimeMillis();
+                long before = loaded.get();
+                long failedBefore = failed.get();
+                for (String assetType : igcRepositoryHelper.getMappedIgcAssetTypes()) {
+                    if (!running.get()) {
+                        break;
+                    }
+                    try {
+                        reconcileAssetType(assetType, started);
+                    } catch (Exception e) {
+                        auditLog.logException(methodName, IGCOMRSAuditCode.RECONCILIATION_FAILURE.getMessageDefinition(assetType), e);
+                    }
+                }
+                if (running.get()) {
+                    log.info("Reconciled {} modified assets ({} could not be reconciled) in {} ms.", loaded.get() - before, failed.get() - failedBefore, System.currentTimeMillis() - started);
+                }
+                pause(cycle - (System.currentTimeMillis() - started));
+            }
+
+        }
+
+        /**
+         * Process all of the assets of the provided type modified since its watermark, and then move its watermark
+         * forward: up to the provided time, or to just before the earliest modification of any asset that could not be
+         * processed. (A type without a watermark has its watermark set without processing anything, as the assets that
+         * already existed are left to the initial load.)
+         *
+         * @param assetType the IGC asset type to reconcile
+         * @param to the time (in milliseconds) up to which to reconcile
+         * @throws IGCException on any error retrieving the assets, or making their stubs durable
+         * @throws RepositoryErrorException on any error running the processing of the assets
+         * @throws IOException if the watermark cannot be persisted
+         */
+        void reconcileAssetType(String assetType, long to) throws IGCException, RepositoryErrorException, IOException {
+
+            final String methodName = "reconcileAssetType";
+
+            Long from = watermark.get(assetType);
+            long next = to;
+            if (from != null) {
+                long since = Math.max(0, from - RECONCILIATION_OVERLAP_MS);
+                log.debug("Reconciling type {} modified > {} and <= {}", assetType, since, to);
+                IGCSearchConditionSet conditionSet = new IGCSearchConditionSet(new IGCSearchCondition("modified_on", ">", "" + since));
+                conditionSet.addCondition(new IGCSearchCondition("modified_on", "<=", "" + to));
+                conditionSet.setMatchAnyCondition(false);
+                IGCSearch igcSearch = new IGCSearch(assetType, conditionSet);
+                igcSearch.addProperty("modified_on");
+                igcSearch.addSortingCriteria(new IGCSearchSorting("modified_on", true));
+                igcSearch.setPageSize(getPageSize());
+                ItemList<Reference> page = igcRestClient.search(igcSearch);
+                while (running.get() && page != null && page.getItems() != null && !page.getItems().isEmpty()) {
+                    List<Reference> failures = loadPage(page.getItems(), methodName);
+                    if (failures == null) {
+                        return;
+                    }
+                    for (Reference failure : failures) {
+                        // Without its modification, all that is known is that the asset was modified after the watermark
+                        Date modifiedOn = failure.getModifiedOn();
+                        next = Math.min(next, modifiedOn == null ? from : modifiedOn.getTime() - 1);
+                    }
+                    failed.addAndGet(failures.size());
+                    page = page.getPaging() == null ? null : igcRestClient.getNextPage(null, page);
+                }
+                // Never move the watermark backwards: anything found by this search is found again from the same point
+                next = Math.max(next, from);
+                if (next < to) {
+                    log.warn("Holding back the reconciliation of type {} at {}, as some of its assets could not be reconciled.", assetType, next);
+                }
             }
+            if (running.get()) {
+                watermark.update(assetType, next);
+            }
+
         }
 
     }
 
+    /**
+     * Parse the provided event, if it is an event about a single asset.
+     *
+     * @param event inbound event
+     * @return InfosphereEventsAssetEvent, or null if the event is not about a single asset (or cannot be parsed)
+     */
+    private InfosphereEventsAssetEvent getAssetEvent(String event) {
+        try {
+            InfosphereEvents eventObj = this.mapper.readValue(event, InfosphereEvents.class);
+            if (eventObj instanceof InfosphereEventsAssetEvent) {
+                return (InfosphereEventsAssetEvent) eventObj;
+            }
+        } catch (IOException e) {
+            log.debug("Unable to translate event {} into object -- not compacting.", event, e);
+        }
+        return null;
+    }
+
 
     /**
      * Method to pass an event received on topic.
@@ -314,7 +1067,9 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
 
         // Then iterate through any deleted entities
         for (Map.Entry<String, String> entry : deletedRIDs.entrySet()) {
-            sendPurgedEntity(entry.getValue(), entry.getKey(), cache);
+            synchronized (getAssetLock(entry.getKey())) {
+                sendPurgedEntity(entry.getValue(), entry.getKey(), cache);
+            }
         }
 
     }
@@ -510,8 +1265,9 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
         Reference asset = null;
         if (stub != null) {
             try {
-                log.debug("Retrieving IGC Reference for stub payload: {}", stub.getPayload());
-                asset = igcomrsRepositoryConnector.getIGCRestClient().readJSONIntoPOJO(stub.getPayload());
+                String payload = stub.getPayloadAsJSON();
+                log.debug("Retrieving IGC Reference for stub payload: {}", payload);
+                asset = igcomrsRepositoryConnector.getIGCRestClient().readJSONIntoPOJO(payload);
                 asset.setFullyRetrieved();
             } catch (IGCException e) {
                 raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
@@ -553,12 +1309,29 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
      * Note that this will process events for all assets (generated and non-generated) based on the provided IGC asset
      * details.
      *
+     * Only one thread at a time processes any given asset (whether for an event, or for the initial load or
+     * reconciliation), so that the stub of the asset is never read, compared and written by two threads at once. (The
+     * related assets that are processed along with it are not locked in turn, as two threads doing so from opposite
+     * ends of a relationship could deadlock.)
+     *
      * @param cache a cache of information that may already have been retrieved about the provided object
      * @param rid the Repository ID (RID) of the asset in question
      * @param assetType the type of asset (ie. if provided in the event payload)
      */
-    private void processAsset(ObjectCache cache, String rid, String assetType) {
-        processAsset(cache, rid, assetType, null, null);
+    void processAsset(ObjectCache cache, String rid, String assetType) {
+        synchronized (getAssetLock(rid)) {
+            processAsset(cache, rid, assetType, null, null);
+        }
+    }
+
+    /**
+     * Retrieve the lock that serialises the processing of the asset with the provided RID.
+     *
+     * @param rid the Repository ID (RID) of the asset
+     * @return Object on which to synchronize
+     */
+    private Object getAssetLock(String rid) {
+        return assetLocks[rid == null ? 0 : Math.floorMod(rid.hashCode(), ASSET_LOCK_STRIPES)];
     }
 
     /**
@@ -631,11 +1404,11 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
                         log.debug(" ...... details for property '{}'", propertyName);
                         log.debug(" .......... {}", changeSet.getChangesForProperty(propertyName));
                     }
-                    log.debug(" ... before: {}", stub.getPayload());
                     try {
+                        log.debug(" ... before: {}", stub.getPayloadAsJSON());
                         log.debug(" ... now:    {}", igcRestClient.getValueAsJSON(latestVersion));
                     } catch (IGCParsingException e) {
-                        log.error(" ... unable to log the 'now' due to a parsing exception.", e);
+                        log.error(" ... unable to log the 'before' and 'now' due to a parsing exception.", e);
                     }
                 }
                 sendUpdatedEntity(latestVersion, stub, cache);
@@ -1271,6 +2044,29 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
                                         String igcPropertyName,
                                         Reference proxyOne,
                                         Reference proxyTwo) {
+        sendPurgedRelationship(relationshipMapping, relationshipDef, cache, relationshipGUID, igcPropertyName, proxyOne, proxyTwo, null);
+    }
+
+    /**
+     * Send an event out on OMRS topic for a purged relationship.
+     *
+     * @param relationshipMapping the relationship mapping to use to determine what to delete and purge
+     * @param relationshipDef the OMRS relationship definition
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @param relationshipGUID the IGC GUID of the relationship to be deleted and purged
+     * @param igcPropertyName the name of the IGC property holding the relationship
+     * @param proxyOne IGC asset for end one of the relationship
+     * @param proxyTwo IGC asset for end two of the relationship
+     * @param knownStubs OMRS stubs that have already been retrieved, keyed by RID (or null if none)
+     */
+    private void sendPurgedRelationship(RelationshipMapping relationshipMapping,
+                                        RelationshipDef relationshipDef,
+                                        ObjectCache cache,
+                                        IGCRelationshipGuid relationshipGUID,
+                                        String igcPropertyName,
+                                        Reference proxyOne,
+                                        Reference proxyTwo,
+                                        Map<String, OMRSStub> knownStubs) {
 
         final String methodName = "sendPurgedRelationship";
         // Determine if there is a relationship-level asset (RID)
@@ -1287,8 +2083,8 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
             try {
                 // Retrieve OMRS Stubs for the provided proxies, to ensure we will have sufficient details
                 // to include as actual EntityProxy instances on the relationship
-                OMRSStub stubOne = igcRepositoryHelper.getOMRSStubForAsset(proxyOne);
-                OMRSStub stubTwo = igcRepositoryHelper.getOMRSStubForAsset(proxyTwo);
+                OMRSStub stubOne = getOMRSStubForAsset(proxyOne, knownStubs);
+                OMRSStub stubTwo = getOMRSStubForAsset(proxyTwo, knownStubs);
                 Relationship relationship = RelationshipMapping.getMappedRelationship(
                         igcomrsRepositoryConnector,
                         relationshipMapping,
@@ -1318,6 +2114,22 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
 
     }
 
+    /**
+     * Retrieve the OMRS stub for the provided asset, from the stubs that have already been retrieved if it is amongst
+     * them, or otherwise directly from IGC.
+     *
+     * @param asset the asset for which to retrieve the OMRS stub
+     * @param knownStubs OMRS stubs that have already been retrieved, keyed by RID (or null if none)
+     * @return OMRSStub
+     * @throws IGCException if there is any issue retrieving the stub from IGC
+     */
+    private OMRSStub getOMRSStubForAsset(Reference asset, Map<String, OMRSStub> knownStubs) throws IGCException {
+        if (knownStubs != null && knownStubs.containsKey(asset.getId())) {
+            return knownStubs.get(asset.getId());
+        }
+        return igcRepositoryHelper.getOMRSStubForAsset(asset);
+    }
+
     /**
      * Send an event out on OMRS topic for a new entity.
      *
@@ -1539,221 +2351,319 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
         );
     }
 
+    /**
+     * Send events out on OMRS topic for a purged entity, and for every entity it contains (transitively).
+     * <br><br>
+     * The containment tree is first planned one level of containment at a time, retrieving the stubs for each level
+     * in bulk only to find the entities contained within it: only the RIDs (and types) of each level are kept. The
+     * entities are then purged children-first, from the deepest level of containment up to the provided entity, so
+     * that (as before) no entity is purged until every entity it contains has been purged. While a level is purged
+     * only its own stubs and those of its parent level are held: any relationship to a contained entity will already
+     * have been purged along with that entity, and so is skipped.
+     *
+     * @param igcAssetType the IGC asset type (ie. translated from the ASSET_TYPE from the event)
+     * @param rid the IGC Repository ID (RID) of the asset
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     */
     private void sendPurgedEntity(String igcAssetType, String rid, ObjectCache cache) {
-        sendPurgedEntity(igcAssetType, rid, new HashSet<>(), cache);
+
+        final String methodName = "sendPurgedEntity";
+
+        Set<String> plannedRids = new HashSet<>();
+        Set<String> purgedRids = new HashSet<>();
+        List<Map<String, String>> levels = new ArrayList<>();
+        Map<String, String> level = new LinkedHashMap<>();
+        level.put(rid, igcAssetType);
+        plannedRids.add(rid);
+
+        try {
+
+            // Work out each entire level of contained entities before the next, so that their stubs can be retrieved
+            // in bulk rather than one at a time
+            while (!level.isEmpty()) {
+                log.debug("Planning purge of {} entities at the next level of containment.", level.size());
+                levels.add(level);
+                Map<String, OMRSStub> stubs = igcRepositoryHelper.getOMRSStubsForAssets(level);
+                Map<String, String> nextLevel = new LinkedHashMap<>();
+                for (Map.Entry<String, String> entry : level.entrySet()) {
+                    Reference fromObject = getIgcAssetFromStubPayload(stubs.get(entry.getKey()));
+                    if (fromObject != null) {
+                        for (PurgeMarker purgeMarker : getPurgeMarkers(entry.getValue(), fromObject, cache)) {
+                            addContainedEntities(purgeMarker, plannedRids, nextLevel);
+                        }
+                    }
+                }
+                level = nextLevel;
+            }
+
+            // Then purge the deepest level first, so that contained entities are always purged before their parents
+            int depth = levels.size() - 1;
+            Map<String, OMRSStub> stubs = igcRepositoryHelper.getOMRSStubsForAssets(levels.get(depth));
+            while (depth >= 0) {
+                Map<String, OMRSStub> parentStubs = depth > 0 ? igcRepositoryHelper.getOMRSStubsForAssets(levels.get(depth - 1)) : Collections.emptyMap();
+                Map<String, OMRSStub> knownStubs = new HashMap<>(parentStubs);
+                knownStubs.putAll(stubs);
+                log.debug("Purging {} entities at containment depth {}.", levels.get(depth).size(), depth);
+                for (Map.Entry<String, String> entry : levels.get(depth).entrySet()) {
+                    sendPurgedEntity(entry.getValue(), entry.getKey(), stubs.get(entry.getKey()), purgedRids, knownStubs, cache);
+                }
+                stubs = parentStubs;
+                depth--;
+            }
+
+        } catch (IGCException e) {
+            raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        }
+
     }
 
     /**
-     * Send an event out on OMRS topic for a purged entity.
+     * Send an event out on OMRS topic for a purged entity (but not for any entities it contains).
      *
      * @param igcAssetType the IGC asset type (ie. translated from the ASSET_TYPE from the event)
      * @param rid the IGC Repository ID (RID) of the asset
-     * @param alreadyPurgedRids set of RIDs that have already been purged
+     * @param stub the OMRS stub of the asset (or null if there is none)
+     * @param purgedRids set of RIDs that have already been purged
+     * @param knownStubs OMRS stubs that have already been retrieved, keyed by RID
      * @param cache a cache of information that may already have been retrieved about the provided object
      */
-    private void sendPurgedEntity(String igcAssetType, String rid, Set<String> alreadyPurgedRids, ObjectCache cache) {
+    private void sendPurgedEntity(String igcAssetType,
+                                  String rid,
+                                  OMRSStub stub,
+                                  Set<String> purgedRids,
+                                  Map<String, OMRSStub> knownStubs,
+                                  ObjectCache cache) {
 
         final String methodName = "sendPurgedEntity";
 
-        if (alreadyPurgedRids.contains(rid)) {
+        if (purgedRids.contains(rid)) {
             log.debug("Received RID has already been purged -- skipping: {}", rid);
-        } else {
-            log.debug("Purging entity of type '{}' with RID: {}", igcAssetType, rid);
-
-            OMRSStub stub = null;
-            try {
-                stub = igcRepositoryHelper.getOMRSStubForAsset(rid, igcAssetType);
-            } catch (IGCException e) {
-                raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
-            }
+        } else if (stub != null) {
             // If there is no stub, there should not be any information that was sent previously in an event for us
             // to need to purge anything, so we should be able to skip the rest and continue on our way
-            if (stub != null) {
-
-                Reference fromObject = getIgcAssetFromStubPayload(stub);
-
-                // Purge entities by getting all mappers used for that entity (ie. *Type generated entities
-                // as well as non-generated entities)
-                List<EntityMapping> referenceableMappers = igcRepositoryHelper.getMappers(igcAssetType);
-                for (EntityMapping referenceableMapper : referenceableMappers) {
+            log.debug("Purging entity of type '{}' with RID: {}", igcAssetType, rid);
 
-                    log.debug("Checking via: {}", referenceableMapper.getClass().getName());
-                    boolean isOmrsType = false;
-                    try {
-                        isOmrsType = referenceableMapper.isOmrsType(igcRestClient, cache, fromObject);
-                    } catch (RepositoryErrorException e) {
-                        raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
-                    }
-                    if (isOmrsType) {
-
-                        List<PurgeMarker> purgeMarkers = new ArrayList<>();
-                        String ridPrefix = referenceableMapper.getIgcRidPrefix();
-                        IGCEntityGuid igcEntityGuid = igcRepositoryHelper.getEntityGuid(igcAssetType, ridPrefix, rid);
-                        // First purge any relationships that exist against this entity
-                        List<RelationshipMapping> relationshipMappers = referenceableMapper.getRelationshipMappers();
-                        for (RelationshipMapping relationshipMapping : relationshipMappers) {
-
-                            log.debug("Checking for relationships via: {}", relationshipMapping.getClass().getName());
-                            RelationshipMapping.ProxyMapping pmOne = relationshipMapping.getProxyOneMapping();
-                            RelationshipMapping.ProxyMapping pmTwo = relationshipMapping.getProxyTwoMapping();
-                            try {
-                                RelationshipDef relationshipDef = (RelationshipDef) igcomrsMetadataCollection.getTypeDefByName(
-                                        localServerUserId,
-                                        relationshipMapping.getOmrsRelationshipType()
-                                );
-                                RelationshipMapping.ContainedType childEnd = relationshipMapping.getContainedType();
-                                // TODO: not quite as simple as this just checking types, as the IGC type could match both ends...
-                                if ((childEnd.equals(RelationshipMapping.ContainedType.ONE) && pmTwo.matchesAssetType(igcAssetType))
-                                        || (childEnd.equals(RelationshipMapping.ContainedType.TWO) && pmOne.matchesAssetType(igcAssetType))) {
-                                    // If the child entities are at one end of the relationship, and we are starting from the
-                                    // other, then recursively purge
-                                    log.debug(" ... containment detected for type '{}' and relationship {}", igcAssetType, relationshipMapping.getClass().getName());
-                                    // Need to ensure all relationships are purged BEFORE recursing on entities, otherwise
-                                    // for recursed entities we will inevitably need to try to delete a parent-child relationship
-                                    // where one end (eg. the child) has already been purged and therefore a stub for it cannot be
-                                    // retrieved
-                                    purgeMarkers.add(new PurgeMarker(fromObject, relationshipDef, relationshipMapping));
-                                }
+            Reference fromObject = getIgcAssetFromStubPayload(stub);
+
+            // Purge entities by getting all mappers used for that entity (ie. *Type generated entities
+            // as well as non-generated entities)
+            List<EntityMapping> referenceableMappers = igcRepositoryHelper.getMappers(igcAssetType);
+            for (EntityMapping referenceableMapper : referenceableMappers) {
+
+                log.debug("Checking via: {}", referenceableMapper.getClass().getName());
+                if (isOmrsType(referenceableMapper, fromObject, cache)) {
+
+                    String ridPrefix = referenceableMapper.getIgcRidPrefix();
+                    IGCEntityGuid igcEntityGuid = igcRepositoryHelper.getEntityGuid(igcAssetType, ridPrefix, rid);
+                    // First purge any relationships that exist against this entity
+                    List<RelationshipMapping> relationshipMappers = referenceableMapper.getRelationshipMappers();
+                    for (RelationshipMapping relationshipMapping : relationshipMappers) {
+
+                        log.debug("Checking for relationships via: {}", relationshipMapping.getClass().getName());
+                        RelationshipMapping.ProxyMapping pmOne = relationshipMapping.getProxyOneMapping();
+                        RelationshipMapping.ProxyMapping pmTwo = relationshipMapping.getProxyTwoMapping();
+                        try {
+                            RelationshipDef relationshipDef = (RelationshipDef) igcomrsMetadataCollection.getTypeDefByName(
+                                    localServerUserId,
+                                    relationshipMapping.getOmrsRelationshipType()
+                            );
 
-                                // Irrespective of containment and the potential need to recurse, remove the relationship
-                                List<String> propertyNames = null;
-                                List<Reference> endOne = new ArrayList<>();
-                                List<Reference> endTwo = new ArrayList<>();
-                                boolean iterateOnOne = false;
-                                if (pmOne.matchesAssetType(igcAssetType)) {
-                                    log.debug(" ... setting 'from' to end1: {}", igcAssetType);
-                                    propertyNames = pmOne.getIgcRelationshipProperties();
-                                    endOne.addAll(relationshipMapping.getProxyOneAssetFromAsset(fromObject, igcRestClient, cache));
-                                    iterateOnOne = true;
-                                } else if (pmTwo.matchesAssetType(igcAssetType)) {
-                                    log.debug(" ... setting 'from' to end2: {}", igcAssetType);
-                                    propertyNames = pmTwo.getIgcRelationshipProperties();
-                                    endTwo.addAll(relationshipMapping.getProxyTwoAssetFromAsset(fromObject, igcRestClient, cache));
-                                    iterateOnOne = false;
-                                } else if (!relationshipMapping.isSelfReferencing()) {
-                                    log.warn("Unable to match the purged entity '{}' to either end of relationship: {}", igcAssetType, relationshipDef.getName());
-                                }
-                                if (propertyNames != null) {
-                                    for (String property : propertyNames) {
-                                        if (!property.equals(RelationshipMapping.SELF_REFERENCE_SENTINEL)) {
-                                            log.debug(" ... checking for relationship on property: {}", property);
-                                            try {
-                                                Object relatedResult = igcRestClient.getPropertyByName(fromObject, property);
-                                                if (relatedResult != null) {
-                                                    // TODO: we should also cache up all of the relationship ends that are NOT purged,
-                                                    //  as these entities should have their stubs updated (to no longer refer to a
-                                                    //  non-existent relationship) -- in fact, that might take care of sending the
-                                                    //  correct relationship purges for us?
-                                                    if (relatedResult instanceof Reference) {
-                                                        Reference relationship = (Reference) relatedResult;
-                                                        if (relationship.getType() != null) {
-                                                            // In cases of an exclusive relationship, there could be an empty
-                                                            // object rather than null, but this semantically still means there
-                                                            // is no relationship so treat it as a null relationship (skip it)
-                                                            cascadeRelationshipPurge(
-                                                                    relationshipMapping,
-                                                                    relationshipDef,
-                                                                    cache,
-                                                                    endOne,
-                                                                    endTwo,
-                                                                    relationship,
-                                                                    property,
-                                                                    iterateOnOne
-                                                            );
-                                                        }
-                                                    } else if (relatedResult instanceof ItemList) {
-                                                        ItemList<?> relationships = (ItemList<?>) relatedResult;
-                                                        for (Reference relationship : relationships.getItems()) {
-                                                            cascadeRelationshipPurge(
-                                                                    relationshipMapping,
-                                                                    relationshipDef,
-                                                                    cache,
-                                                                    endOne,
-                                                                    endTwo,
-                                                                    relationship,
-                                                                    property,
-                                                                    iterateOnOne
-                                                            );
-                                                        }
+                            // Irrespective of containment, remove the relationship
+                            List<String> propertyNames = null;
+                            List<Reference> endOne = new ArrayList<>();
+                            List<Reference> endTwo = new ArrayList<>();
+                            boolean iterateOnOne = false;
+                            if (pmOne.matchesAssetType(igcAssetType)) {
+                                log.debug(" ... setting 'from' to end1: {}", igcAssetType);
+                                propertyNames = pmOne.getIgcRelationshipProperties();
+                                endOne.addAll(relationshipMapping.getProxyOneAssetFromAsset(fromObject, igcRestClient, cache));
+                                iterateOnOne = true;
+                            } else if (pmTwo.matchesAssetType(igcAssetType)) {
+                                log.debug(" ... setting 'from' to end2: {}", igcAssetType);
+                                propertyNames = pmTwo.getIgcRelationshipProperties();
+                                endTwo.addAll(relationshipMapping.getProxyTwoAssetFromAsset(fromObject, igcRestClient, cache));
+                                iterateOnOne = false;
+                            } else if (!relationshipMapping.isSelfReferencing()) {
+                                log.warn("Unable to match the purged entity '{}' to either end of relationship: {}", igcAssetType, relationshipDef.getName());
+                            }
+                            if (propertyNames != null) {
+                                for (String property : propertyNames) {
+                                    if (!property.equals(RelationshipMapping.SELF_REFERENCE_SENTINEL)) {
+                                        log.debug(" ... checking for relationship on property: {}", property);
+                                        try {
+                                            Object relatedResult = igcRestClient.getPropertyByName(fromObject, property);
+                                            if (relatedResult != null) {
+                                                // TODO: we should also cache up all of the relationship ends that are NOT purged,
+                                                //  as these entities should have their stubs updated (to no longer refer to a
+                                                //  non-existent relationship) -- in fact, that might take care of sending the
+                                                //  correct relationship purges for us?
+                                                if (relatedResult instanceof Reference) {
+                                                    Reference relationship = (Reference) relatedResult;
+                                                    if (relationship.getType() != null) {
+                                                        // In cases of an exclusive relationship, there could be an empty
+                                                        // object rather than null, but this semantically still means there
+                                                        // is no relationship so treat it as a null relationship (skip it)
+                                                        cascadeRelationshipPurge(
+                                                                relationshipMapping,
+                                                                relationshipDef,
+                                                                cache,
+                                                                endOne,
+                                                                endTwo,
+                                                                relationship,
+                                                                property,
+                                                                iterateOnOne,
+                                                                purgedRids,
+                                                                knownStubs
+                                                        );
+                                                    }
+                                                } else if (relatedResult instanceof ItemList) {
+                                                    ItemList<?> relationships = (ItemList<?>) relatedResult;
+                                                    for (Reference relationship : relationships.getItems()) {
+                                                        cascadeRelationshipPurge(
+                                                                relationshipMapping,
+                                                                relationshipDef,
+                                                                cache,
+                                                                endOne,
+                                                                endTwo,
+                                                                relationship,
+                                                                property,
+                                                                iterateOnOne,
+                                                                purgedRids,
+                                                                knownStubs
+                                                        );
                                                     }
                                                 }
-                                            } catch (IGCException e) {
-                                                raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
                                             }
-                                        } else {
-                                            // TODO: probably also need to purge any generated entity and relationship?
-                                            log.warn(" ... should also be purging a generated relationship.");
+                                        } catch (IGCException e) {
+                                            raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
                                         }
+                                    } else {
+                                        // TODO: probably also need to purge any generated entity and relationship?
+                                        log.warn(" ... should also be purging a generated relationship.");
                                     }
                                 }
-                            } catch (RepositoryErrorException | TypeDefNotKnownException | InvalidParameterException e) {
-                                log.error("Unable to retrieve the relationship type definition for '{}' -- cannot purge relationship.", relationshipMapping.getOmrsRelationshipType(), e);
                             }
-
+                        } catch (RepositoryErrorException | TypeDefNotKnownException | InvalidParameterException e) {
+                            log.error("Unable to retrieve the relationship type definition for '{}' -- cannot purge relationship.", relationshipMapping.getOmrsRelationshipType(), e);
                         }
 
-                        // Recurse on any purges we've marked
-                        for (PurgeMarker purgeMarker : purgeMarkers) {
-                            recurseOnContainedEntities(purgeMarker, alreadyPurgedRids, cache);
-                        }
-
-                        // Then remove the entity itself
-                        EntityDetail detail = getEntityDetailForStubWithGUID(stub, igcEntityGuid, cache);
-                        if (detail != null) {
-                            log.debug(" ... purging entity: {}", igcEntityGuid);
-                            repositoryEventProcessor.processDeletePurgedEntityEvent(
-                                    sourceName,
-                                    metadataCollectionId,
-                                    originatorServerName,
-                                    originatorServerType,
-                                    null,
-                                    detail
-                            );
-                            // and mark it as purged, so that we don't attempt to purge again during the recursion
-                            alreadyPurgedRids.add(igcEntityGuid.getRid());
-                        } else {
-                            log.warn("No stub information exists for purged GUID {} -- cannot generated purgeEntity event.", igcEntityGuid);
-                        }
+                    }
 
+                    // Then remove the entity itself
+                    EntityDetail detail = getEntityDetailForStubWithGUID(stub, igcEntityGuid, cache);
+                    if (detail != null) {
+                        log.debug(" ... purging entity: {}", igcEntityGuid);
+                        repositoryEventProcessor.processDeletePurgedEntityEvent(
+                                sourceName,
+                                metadataCollectionId,
+                                originatorServerName,
+                                originatorServerType,
+                                null,
+                                detail
+                        );
                     } else {
-                        log.info("Type ({}) did not match mapper, skipped: {}", igcAssetType, referenceableMapper.getClass().getName());
+                        log.warn("No stub information exists for purged GUID {} -- cannot generated purgeEntity event.", igcEntityGuid);
                     }
+
+                } else {
+                    log.info("Type ({}) did not match mapper, skipped: {}", igcAssetType, referenceableMapper.getClass().getName());
                 }
+            }
 
-                // Finally, remove the stub (so that if such an asset is created in the future it is recognised as new
-                // rather than an update)
-                log.debug("Deleting stub: {}", rid);
-                try {
-                    igcRepositoryHelper.deleteOMRSStubForAsset(rid, igcAssetType);
-                } catch (IGCException e) {
-                    raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+            // Mark the entity as purged, so that we do not attempt to purge it (or any of its relationships) again
+            // from any other entity in the containment tree
+            purgedRids.add(rid);
+
+            // Finally, remove the stub (so that if such an asset is created in the future it is recognised as new
+            // rather than an update)
+            log.debug("Deleting stub: {}", rid);
+            try {
+                igcRepositoryHelper.deleteOMRSStubForAsset(rid, igcAssetType);
+            } catch (IGCException e) {
+                raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+            }
+        } else {
+            log.info("No stub information exists for RID {} of type {} -- cannot generated purgeEntity event.", rid, igcAssetType);
+        }
+
+    }
+
+    /**
+     * Indicates whether the provided mapper applies to the provided IGC object.
+     *
+     * @param mapper the entity mapping to check
+     * @param igcObject the IGC object to check
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @return boolean
+     */
+    private boolean isOmrsType(EntityMapping mapper, Reference igcObject, ObjectCache cache) {
+        final String methodName = "isOmrsType";
+        boolean isOmrsType = false;
+        try {
+            isOmrsType = mapper.isOmrsType(igcRestClient, cache, igcObject);
+        } catch (RepositoryErrorException e) {
+            raiseIGCRuntimeException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        }
+        return isOmrsType;
+    }
+
+    /**
+     * Retrieve markers for each of the containment relationships through which other entities may be contained
+     * within the provided (purged) IGC object.
+     *
+     * @param igcAssetType the IGC asset type of the purged object
+     * @param fromObject the purged IGC object (as retrieved from its stub)
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @return {@code List<PurgeMarker>}
+     */
+    private List<PurgeMarker> getPurgeMarkers(String igcAssetType, Reference fromObject, ObjectCache cache) {
+
+        List<PurgeMarker> purgeMarkers = new ArrayList<>();
+        for (EntityMapping referenceableMapper : igcRepositoryHelper.getMappers(igcAssetType)) {
+            if (isOmrsType(referenceableMapper, fromObject, cache)) {
+                for (RelationshipMapping relationshipMapping : referenceableMapper.getRelationshipMappers()) {
+                    RelationshipMapping.ContainedType childEnd = relationshipMapping.getContainedType();
+                    // TODO: not quite as simple as this just checking types, as the IGC type could match both ends...
+                    if ((childEnd.equals(RelationshipMapping.ContainedType.ONE) && relationshipMapping.getProxyTwoMapping().matchesAssetType(igcAssetType))
+                            || (childEnd.equals(RelationshipMapping.ContainedType.TWO) && relationshipMapping.getProxyOneMapping().matchesAssetType(igcAssetType))) {
+                        // If the child entities are at one end of the relationship, and we are starting from the
+                        // other, then they must also be purged
+                        log.debug(" ... containment detected for type '{}' and relationship {}", igcAssetType, relationshipMapping.getClass().getName());
+                        try {
+                            RelationshipDef relationshipDef = (RelationshipDef) igcomrsMetadataCollection.getTypeDefByName(
+                                    localServerUserId,
+                                    relationshipMapping.getOmrsRelationshipType()
+                            );
+                            purgeMarkers.add(new PurgeMarker(fromObject, relationshipDef, relationshipMapping));
+                        } catch (RepositoryErrorException | TypeDefNotKnownException | InvalidParameterException e) {
+                            log.error("Unable to retrieve the relationship type definition for '{}' -- cannot purge contained entities.", relationshipMapping.getOmrsRelationshipType(), e);
+                        }
+                    }
                 }
-            } else {
-                log.info("No stub information exists for RID {} of type {} -- cannot generated purgeEntity event.", rid, igcAssetType);
             }
         }
+        return purgeMarkers;
 
     }
 
     /**
-     * Recursively purge any entities that are contained within the marker pointing to what was purged.
+     * Add any entities that are contained within the marker pointing to what was purged to the next level of
+     * entities to be purged, unless they have already been planned for purging.
      *
      * @param marker the marker indicating what was purged
-     * @param alreadyPurgedRids a set of RIDs for entities that have already been purged
-     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @param plannedRids a set of RIDs for entities that have already been planned for purging
+     * @param nextLevel the IGC asset types of the next level of entities to purge, keyed by RID
      */
-    private void recurseOnContainedEntities(PurgeMarker marker, Set<String> alreadyPurgedRids, ObjectCache cache) {
+    private void addContainedEntities(PurgeMarker marker, Set<String> plannedRids, Map<String, String> nextLevel) {
 
-        final String methodName = "recurseOnContainedEntities";
+        final String methodName = "addContainedEntities";
 
         RelationshipMapping relationshipMapping = marker.getMapping();
         Reference parentObject = marker.getTriggerObject();
         RelationshipMapping.ContainedType childEnd = relationshipMapping.getContainedType();
         RelationshipMapping.ProxyMapping parent;
 
-        log.debug("Recursing on mapping: {}", relationshipMapping.getClass().getName());
-
-        String parentRid = parentObject.getId();
+        log.debug("Collecting contained entities via mapping: {}", relationshipMapping.getClass().getName());
 
         if (childEnd.equals(RelationshipMapping.ContainedType.TWO)) {
             log.debug(" ... setting parent as 1, child as 2");
@@ -1769,21 +2679,12 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
                 log.debug(" ... getting child entities from property: {}", property);
                 try {
                     Object relatedResult = igcRestClient.getPropertyByName(parentObject, property);
-                    if (relatedResult != null) {
-                        if (relatedResult instanceof Reference) {
-                            Reference relationship = (Reference) relatedResult;
-                            if (!relationship.getId().equals(parentRid)) {
-                                log.debug(" ... purging child entity: {}", relationship.getId());
-                                sendPurgedEntity(relationship.getType(), relationship.getId(), alreadyPurgedRids, cache);
-                            }
-                        } else if (relatedResult instanceof ItemList) {
-                            ItemList<?> relationships = (ItemList<?>) relatedResult;
-                            for (Reference relationship : relationships.getItems()) {
-                                if (!relationship.getId().equals(parentRid)) {
-                                    log.debug(" ... purging child entity: {}", relationship.getId());
-                                    sendPurgedEntity(relationship.getType(), relationship.getId(), alreadyPurgedRids, cache);
-                                }
-                            }
+                    if (relatedResult instanceof Reference) {
+                        addContainedEntity((Reference) relatedResult, plannedRids, nextLevel);
+                    } else if (relatedResult instanceof ItemList) {
+                        ItemList<?> relationships = (ItemList<?>) relatedResult;
+                        for (Reference relationship : relationships.getItems()) {
+                            addContainedEntity(relationship, plannedRids, nextLevel);
                         }
                     }
                 } catch (IGCException e) {
@@ -1794,6 +2695,22 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
 
     }
 
+    /**
+     * Add the provided contained entity to the next level of entities to be purged, unless it has already been
+     * planned for purging.
+     *
+     * @param child the contained entity
+     * @param plannedRids a set of RIDs for entities that have already been planned for purging
+     * @param nextLevel the IGC asset types of the next level of entities to purge, keyed by RID
+     */
+    private void addContainedEntity(Reference child, Set<String> plannedRids, Map<String, String> nextLevel) {
+        String childRid = child.getId();
+        if (childRid != null && child.getType() != null && plannedRids.add(childRid)) {
+            log.debug(" ... planning purge of child entity: {}", childRid);
+            nextLevel.put(childRid, child.getType());
+        }
+    }
+
     private void cascadeRelationshipPurge(RelationshipMapping relationshipMapping,
                                           RelationshipDef relationshipDef,
                                           ObjectCache cache,
@@ -1801,9 +2718,14 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
                                           List<Reference> endTwo,
                                           Reference relatedObject,
                                           String propertyName,
-                                          boolean iterateOnOne) {
-
-        if (iterateOnOne) {
+                                          boolean iterateOnOne,
+                                          Set<String> purgedRids,
+                                          Map<String, OMRSStub> knownStubs) {
+
+        if (purgedRids.contains(relatedObject.getId())) {
+            // The relationship will already have been purged along with the entity at its other end
+            log.debug(" ... skipping relationship to already-purged entity: {}", relatedObject.getId());
+        } else if (iterateOnOne) {
             for (Reference one : endOne) {
                 IGCRelationshipGuid relGuid = RelationshipMapping.getRelationshipGUID(
                         igcRepositoryHelper,
@@ -1823,7 +2745,8 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
                         relGuid,
                         propertyName,
                         one,
-                        relatedObject
+                        relatedObject,
+                        knownStubs
                 );
             }
         } else {
@@ -1846,7 +2769,8 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
                         relGuid,
                         propertyName,
                         relatedObject,
-                        two
+                        two,
+                        knownStubs
                 );
             }
         }
@@ -1873,8 +2797,23 @@ public class IGCOMRSRepositoryEventMapper extends OMRSRepositoryEventMapperBase
     public void disconnect() throws ConnectorCheckedException {
         super.disconnect();
         final String methodName = "disconnect";
-        if (igcKafkaConsumer != null) {
-            igcKafkaConsumer.stop();
+        if (igcKafkaConsumers != null) {
+            for (IGCKafkaConsumerThread igcKafkaConsumer : igcKafkaConsumers) {
+                igcKafkaConsumer.stop();
+            }
+        }
+        if (igcInitialLoad != null) {
+            igcInitialLoad.stop();
+        }
+        if (igcReconciler != null) {
+            igcReconciler.stop();
+        }
+        if (igcRepositoryHelper != null) {
+            try {
+                igcRepositoryHelper.closeOMRSStubs();
+            } catch (IGCException e) {
+                log.error("Unable to write buffered OMRS stubs to IGC.", e);
+            }
         }
         auditLog.logMessage(methodName, IGCOMRSAuditCode.EVENT_MAPPER_SHUTDOWN.getMessageDefinition(igcomrsRepositoryConnector.getServerName()));
     }
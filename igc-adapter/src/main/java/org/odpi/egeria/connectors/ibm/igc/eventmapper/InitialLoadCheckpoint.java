@@ -0,0 +1,138 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Records the progress of the initial load of assets from IGC: for each asset type, either the index of the next page
+ * of assets of that type to be loaded, or that all assets of that type have been loaded, and the RIDs of any assets of
+ * that type that could not be loaded (so that they can be retried).
+ */
+class InitialLoadCheckpoint extends LocalProgressFile {
+
+    private static final Logger log = LoggerFactory.getLogger(InitialLoadCheckpoint.class);
+
+    private static final String COMPLETE = "complete";
+    private static final String FAILED = ".failed";
+
+    /**
+     * Open the checkpoint recorded in the provided file, if any.
+     *
+     * @param file the file in which the checkpoint is recorded (or null to only record it in memory)
+     * @throws IOException if the file exists but cannot be read
+     */
+    InitialLoadCheckpoint(Path file) throws IOException {
+        super(file, "Progress of the initial load of assets from IGC");
+        if (!progress.isEmpty()) {
+            log.info("Resuming initial load from checkpoint {}: {}", file, progress);
+        }
+    }
+
+    /**
+     * Indicates whether all of the assets of the provided type have been loaded.
+     *
+     * @param assetType the IGC asset type
+     * @return boolean
+     */
+    synchronized boolean isComplete(String assetType) {
+        return COMPLETE.equals(progress.getProperty(assetType));
+    }
+
+    /**
+     * Retrieve the index of the next page of assets of the provided type to be loaded.
+     *
+     * @param assetType the IGC asset type
+     * @return int, 0 if none of the assets of the type have been loaded
+     */
+    synchronized int getNextIndex(String assetType) {
+        String index = progress.getProperty(assetType);
+        if (index == null || COMPLETE.equals(index)) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(index));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid initial load checkpoint for {}: {}", assetType, index);
+            return 0;
+        }
+    }
+
+    /**
+     * Retrieve the RIDs of the assets of the provided type that could not be loaded.
+     *
+     * @param assetType the IGC asset type
+     * @return {@code Set<String>} of RIDs, empty if there are none
+     */
+    synchronized Set<String> getFailed(String assetType) {
+        String rids = progress.getProperty(assetType + FAILED);
+        if (rids == null || rids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> failed = new TreeSet<>();
+        for (String rid : rids.split(",")) {
+            if (!rid.isEmpty()) {
+                failed.add(rid);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Record that all of the assets of the provided type have been loaded up to (but not including) the provided index,
+     * other than those with the provided RIDs (which are added to any that could not previously be loaded).
+     *
+     * @param assetType the IGC asset type
+     * @param nextIndex the index of the next page of assets of the type to be loaded
+     * @param failedRids the RIDs of the assets up to the index that could not be loaded
+     * @throws IOException if the checkpoint cannot be written
+     */
+    synchronized void update(String assetType, int nextIndex, Collection<String> failedRids) throws IOException {
+        progress.setProperty(assetType, String.valueOf(nextIndex));
+        Set<String> failed = new TreeSet<>(getFailed(assetType));
+        failed.addAll(failedRids);
+        setFailedProperty(assetType, failed);
+        save();
+    }
+
+    /**
+     * Replace the RIDs of the assets of the provided type that could not be loaded (for example once they have been
+     * retried).
+     *
+     * @param assetType the IGC asset type
+     * @param failedRids the RIDs of the assets that still could not be loaded
+     * @throws IOException if the checkpoint cannot be written
+     */
+    synchronized void setFailed(String assetType, Collection<String> failedRids) throws IOException {
+        setFailedProperty(assetType, new TreeSet<>(failedRids));
+        save();
+    }
+
+    /**
+     * Record that all of the assets of the provided type have been loaded.
+     *
+     * @param assetType the IGC asset type
+     * @throws IOException if the checkpoint cannot be written
+     */
+    synchronized void complete(String assetType) throws IOException {
+        progress.setProperty(assetType, COMPLETE);
+        save();
+    }
+
+    private void setFailedProperty(String assetType, Set<String> failedRids) {
+        if (failedRids.isEmpty()) {
+            progress.remove(assetType + FAILED);
+        } else {
+            progress.setProperty(assetType + FAILED, String.join(",", failedRids));
+        }
+    }
+
+}
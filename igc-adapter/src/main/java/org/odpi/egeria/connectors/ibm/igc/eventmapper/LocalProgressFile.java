@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Holds the progress of some background processing of assets from IGC (keyed by asset type), and (when given a file)
+ * writes the progress to a local file every time it changes, so that the processing can resume from where it left off
+ * if it is interrupted. The file is always replaced as a whole, so it is never left half-written. Without a file the
+ * progress is only held in memory, for the life of this object.
+ */
+abstract class LocalProgressFile {
+
+    private final Path file;
+    private final String description;
+
+    protected final Properties progress;
+
+    /**
+     * Open the progress recorded in the provided file, if any.
+     *
+     * @param file the file in which the progress is recorded (or null to only record it in memory)
+     * @param description a description of the progress, written as a comment at the top of the file
+     * @throws IOException if the file exists but cannot be read
+     */
+    LocalProgressFile(Path file, String description) throws IOException {
+        this.file = file;
+        this.description = description;
+        this.progress = new Properties();
+        if (file != null && Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                progress.load(in);
+            }
+        }
+    }
+
+    /**
+     * Write the progress to its file (if any).
+     *
+     * @throws IOException if the progress cannot be written
+     */
+    protected void save() throws IOException {
+        if (file != null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path next = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(next)) {
+                progress.store(out, description);
+            }
+            Files.move(next, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+}
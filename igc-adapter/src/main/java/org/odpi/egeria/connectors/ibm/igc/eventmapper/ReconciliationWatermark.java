@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Records the progress of the periodic reconciliation of assets from IGC: for each asset type, the time (as recorded by
+ * IGC's modified_on, in milliseconds) up to which all modified assets of that type have been reconciled.
+ */
+class ReconciliationWatermark extends LocalProgressFile {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationWatermark.class);
+
+    /**
+     * Open the watermarks recorded in the provided file, if any.
+     *
+     * @param file the file in which the watermarks are recorded (or null to only record them in memory)
+     * @throws IOException if the file exists but cannot be read
+     */
+    ReconciliationWatermark(Path file) throws IOException {
+        super(file, "Progress of the reconciliation of modified assets from IGC");
+        if (!progress.isEmpty()) {
+            log.info("Resuming reconciliation from watermarks {}: {}", file, progress);
+        }
+    }
+
+    /**
+     * Retrieve the watermark of the provided type: the time up to which its modified assets have been reconciled.
+     *
+     * @param assetType the IGC asset type
+     * @return Long, or null if the type has never been reconciled
+     */
+    synchronized Long get(String assetType) {
+        String watermark = progress.getProperty(assetType);
+        if (watermark == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(watermark);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid reconciliation watermark for {}: {}", assetType, watermark);
+            return null;
+        }
+    }
+
+    /**
+     * Record that all of the assets of the provided type modified up to the provided time have been reconciled.
+     *
+     * @param assetType the IGC asset type
+     * @param watermark the time (in milliseconds) up to which the modified assets have been reconciled
+     * @throws IOException if the watermark cannot be written
+     */
+    synchronized void update(String assetType, long watermark) throws IOException {
+        progress.setProperty(assetType, String.valueOf(watermark));
+        save();
+    }
+
+}
@@ -6,9 +6,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.flipkart.zjsonpatch.DiffFlags;
-import com.flipkart.zjsonpatch.JsonDiff;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
@@ -22,22 +19,20 @@ import java.io.IOException;
 import java.util.*;
 
 /**
- * A class to capture differences between IGC objects through the JSON Patch notation.
+ * A class to capture differences between IGC objects, expressed as operations and paths in the JSON Patch notation.
  * (https://tools.ietf.org/html/rfc6902)
  */
 public class ChangeSet {
 
     private static final Logger log = LoggerFactory.getLogger(ChangeSet.class);
 
-    private ObjectMapper objectMapper;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
     private IGCRestClient igcRestClient;
 
-    private JsonNode patch;
-
     private HashMap<String, List<Change>> changesByProperty;
 
     /**
-     * Create a new JSON Patch based on the provided asset details and stub.
+     * Create a new set of changes based on the provided asset details and stub.
      *
      * @param igcRestClient REST API connectivity to an IGC environment
      * @param asset the IGC asset (as a POJO) giving the most up-to-date definition of the asset
@@ -48,7 +43,6 @@ public class ChangeSet {
      */
     public ChangeSet(IGCRestClient igcRestClient, Reference asset, OMRSStub stub) throws IGCConnectivityException, IGCParsingException, IGCIOException {
 
-        this.objectMapper = new ObjectMapper();
         this.changesByProperty = new HashMap<>();
         this.igcRestClient = igcRestClient;
 
@@ -63,7 +57,7 @@ public class ChangeSet {
 
         // Calculate the delta between the latest version and the previous saved stub
         try {
-            JsonNode stubPayload = objectMapper.readTree(stub.getPayload());
+            JsonNode stubPayload = objectMapper.readTree(stub.getPayloadAsJSON());
             if (bNoStub) {
                 log.debug("No existing stub -- calculating differences.");
                 calculateDelta(asset, stubPayload);
@@ -106,61 +100,163 @@ public class ChangeSet {
     /**
      * Calculate the differences between the provided IGC entity and the payload of an OMRS stub representing a previous
      * version of the same entity
+     * <br><br>
+     * Each property is compared according to its kind: properties holding a list of relationships are compared as
+     * sets of Repository IDs (RIDs), properties holding a single relationship by the RID of the related asset,
+     * properties holding an array of values element by element (as a JSON Patch would), and any other property by its
+     * value. This takes time linear in the size of the entity, and results in a single change for each relationship
+     * that was added or removed (irrespective of its position in any list).
      *
      * @param asset the latest version of the IGC entity to compare
      * @param stubPayload the payload of a previous version of the IGC entity to compare
      * @throws IOException if there are any errors processing the information as JSON
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
      * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
-    private void calculateDelta(Reference asset, JsonNode stubPayload) throws IOException, IGCParsingException {
+    private void calculateDelta(Reference asset, JsonNode stubPayload) throws IOException, IGCConnectivityException, IGCParsingException, IGCIOException {
 
-        EnumSet<DiffFlags> flags = DiffFlags.dontNormalizeOpIntoMoveAndCopy().clone();
         JsonNode currentAsset = objectMapper.readTree(this.igcRestClient.getValueAsJSON(asset));
-        this.patch = JsonDiff.asJson(
-                stubPayload,
-                currentAsset,
-                flags
-        );
-        log.debug("Found the following changes: {}", this.patch);
-        ArrayNode changes = (ArrayNode) this.patch;
-        for (int i = 0; i < changes.size(); i++) {
-            JsonNode change = changes.get(i);
-            // Only add the change if it refers to a non-paging node (ie. it is /items/ or a basic property)
-            // (Otherwise we end up with many changes for the same set of relationships)
-            String changePath = change.path("path").asText();
-            Change theChange = null;
-            if (changePath.contains("/items/")) {
-                // If we already have an object, use it directly
-                if (change.path("value").getNodeType().equals(JsonNodeType.OBJECT)) {
-                    theChange = new Change(change, stubPayload);
-                    // Otherwise see if there is a set of individual changes we should consolidate (where _id will
-                    // always be different if the relationship itself has changed)
-                } else if (changePath.endsWith("_id")) {
-                    JsonNode consolidatedChange = consolidateChangedObject(change, changePath, currentAsset);
-                    theChange = new Change(consolidatedChange, stubPayload);
-                }
-            } else if (!changePath.contains("/paging/")) {
-                // Skip any paging information changes
-                if (changePath.endsWith("/_id") && !changePath.equals("/_id")) {
-                    // This is likely an exclusive relationship (eg. 'parent_category')
-                    log.debug("Found an exclusive relationship change: {}", change);
-                    JsonNode consolidatedChange = consolidateChangedObject(change, changePath, currentAsset);
-                    log.debug(" ... consolidated to: {}", consolidatedChange);
-                    theChange = new Change(consolidatedChange, stubPayload);
-                } else {
-                    // Otherwise add simple changes
-                    theChange = new Change(change, stubPayload);
-                }
+        List<String> pagedProperties = this.igcRestClient.getPagedRelationshipPropertiesForType(asset.getType());
+        Set<String> referenceListProperties = pagedProperties == null ? Collections.emptySet() : new HashSet<>(pagedProperties);
+
+        // Properties that have been added or changed since the previous version
+        Iterator<Map.Entry<String, JsonNode>> fields = currentAsset.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String property = field.getKey();
+            JsonNode current = field.getValue();
+            JsonNode previous = stubPayload.get(property);
+            if (previous == null) {
+                addChange(new Change("add", "/" + property, current, stubPayload));
+            } else if (referenceListProperties.contains(property)) {
+                calculateReferenceListDelta(property, previous, current, stubPayload);
+            } else if (isReference(previous) && isReference(current)) {
+                calculateReferenceDelta(property, previous, current, stubPayload);
+            } else if (previous.isArray() && current.isArray()) {
+                calculateArrayDelta(property, previous, current, stubPayload);
+            } else if (!previous.equals(current)) {
+                addChange(new Change("replace", "/" + property, current, stubPayload));
             }
-            if (theChange != null) {
-                String igcProperty = theChange.getIgcPropertyName();
-                if (!this.changesByProperty.containsKey(igcProperty)) {
-                    this.changesByProperty.put(igcProperty, new ArrayList<>());
-                }
-                this.changesByProperty.get(igcProperty).add(theChange);
+        }
+
+        // Properties that have been removed since the previous version
+        Iterator<Map.Entry<String, JsonNode>> previousFields = stubPayload.fields();
+        while (previousFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = previousFields.next();
+            if (!currentAsset.has(field.getKey())) {
+                addChange(new Change("remove", "/" + field.getKey(), field.getValue(), stubPayload));
+            }
+        }
+
+        log.debug("Found the following changes: {}", this.changesByProperty);
+
+    }
+
+    /**
+     * Calculate the relationships that have been added and removed between two versions of a property holding a
+     * list of relationships, by comparing the Repository IDs (RIDs) of the related assets.
+     *
+     * @param property the name of the IGC property
+     * @param previous the previous value of the property
+     * @param current the current value of the property
+     * @param stubPayload the payload of the previous version of the IGC entity
+     */
+    private void calculateReferenceListDelta(String property, JsonNode previous, JsonNode current, JsonNode stubPayload) {
+        JsonNode previousItems = previous.path("items");
+        JsonNode currentItems = current.path("items");
+        Set<String> previousRids = getRids(previousItems);
+        Set<String> currentRids = getRids(currentItems);
+        for (int i = 0; i < currentItems.size(); i++) {
+            JsonNode item = currentItems.get(i);
+            if (!previousRids.contains(item.path("_id").asText())) {
+                addChange(new Change("add", "/" + property + "/items/" + i, item, stubPayload));
+            }
+        }
+        for (int i = 0; i < previousItems.size(); i++) {
+            JsonNode item = previousItems.get(i);
+            if (!currentRids.contains(item.path("_id").asText())) {
+                addChange(new Change("remove", "/" + property + "/items/" + i, item, stubPayload));
+            }
+        }
+    }
+
+    /**
+     * Calculate any change between two versions of a property holding a single relationship, by comparing the
+     * Repository IDs (RIDs) of the related assets.
+     *
+     * @param property the name of the IGC property
+     * @param previous the previous value of the property
+     * @param current the current value of the property
+     * @param stubPayload the payload of the previous version of the IGC entity
+     */
+    private void calculateReferenceDelta(String property, JsonNode previous, JsonNode current, JsonNode stubPayload) {
+        String previousRid = previous.hasNonNull("_id") ? previous.get("_id").asText() : null;
+        String currentRid = current.hasNonNull("_id") ? current.get("_id").asText() : null;
+        if (previousRid == null && currentRid != null) {
+            addChange(new Change("add", "/" + property, current, stubPayload));
+        } else if (previousRid != null && currentRid == null) {
+            addChange(new Change("remove", "/" + property, previous, stubPayload));
+        } else if (previousRid != null && !previousRid.equals(currentRid)) {
+            addChange(new Change("replace", "/" + property, current, stubPayload));
+        }
+    }
+
+    /**
+     * Calculate the values that have been replaced, added and removed between two versions of a property holding an
+     * array of values (rather than of relationships), element by element.
+     *
+     * @param property the name of the IGC property
+     * @param previous the previous value of the property
+     * @param current the current value of the property
+     * @param stubPayload the payload of the previous version of the IGC entity
+     */
+    private void calculateArrayDelta(String property, JsonNode previous, JsonNode current, JsonNode stubPayload) {
+        int common = Math.min(previous.size(), current.size());
+        for (int i = 0; i < common; i++) {
+            if (!previous.get(i).equals(current.get(i))) {
+                addChange(new Change("replace", "/" + property + "/" + i, current.get(i), stubPayload));
             }
         }
+        for (int i = common; i < current.size(); i++) {
+            addChange(new Change("add", "/" + property + "/" + i, current.get(i), stubPayload));
+        }
+        for (int i = common; i < previous.size(); i++) {
+            addChange(new Change("remove", "/" + property + "/" + i, previous.get(i), stubPayload));
+        }
+    }
 
+    /**
+     * Indicates whether the provided JSON node represents a single relationship (or the absence of one).
+     *
+     * @param node the JSON node to check
+     * @return boolean
+     */
+    private static boolean isReference(JsonNode node) {
+        return node.isObject() && !node.has("items") && (node.size() == 0 || node.has("_id"));
+    }
+
+    /**
+     * Retrieve the set of Repository IDs (RIDs) of the related assets in the provided list of relationships.
+     *
+     * @param items the JSON array of related assets
+     * @return {@code Set<String>}
+     */
+    private static Set<String> getRids(JsonNode items) {
+        Set<String> rids = new HashSet<>(Math.max(16, items.size() * 2));
+        for (JsonNode item : items) {
+            rids.add(item.path("_id").asText());
+        }
+        return rids;
+    }
+
+    /**
+     * Add the provided change to those for its IGC property.
+     *
+     * @param change the change to add
+     */
+    private void addChange(Change change) {
+        this.changesByProperty.computeIfAbsent(change.getIgcPropertyName(), k -> new ArrayList<>()).add(change);
     }
 
     /**
@@ -208,26 +304,6 @@ public class ChangeSet {
         }
     }
 
-    /**
-     * Consolidate an individual '_id' into a full object change.
-     *
-     * @param change the change in which the '_id' piece is found
-     * @param changePath the path of the change (ending with /_id)
-     * @param currentAsset the JSON representation of the asset from which to retrieve the path
-     * @return JsonNode
-     */
-    private JsonNode consolidateChangedObject(JsonNode change, String changePath, JsonNode currentAsset) {
-        // Consolidate [/items/n]/_id entries into objects rather than separate changes
-        ObjectNode consolidatedChange = (ObjectNode) change;
-        String indexPath = changePath.substring(0, changePath.indexOf("/_id"));
-        consolidatedChange.put("path", indexPath);
-        // Add the complete Reference (_id, _name, _type, _url) as an object value
-        // Consolidate this new object from the current asset, not the stub
-        JsonNode relatedAsset = getObjectFromIndex(indexPath, currentAsset);
-        consolidatedChange.set("value", relatedAsset);
-        return consolidatedChange;
-    }
-
     /**
      * A sub-class to capture individual differences.
      */
@@ -238,11 +314,11 @@ public class ChangeSet {
         private String path;
         private JsonNode value;
 
-        public Change(JsonNode patch, JsonNode from) {
+        private Change(String op, String path, JsonNode value, JsonNode from) {
             this.from = from;
-            this.op = patch.get("op").asText();
-            this.path = patch.get("path").asText();
-            this.value = patch.get("value");
+            this.op = op;
+            this.path = path;
+            this.value = value;
         }
 
         /**
@@ -310,12 +386,11 @@ public class ChangeSet {
                 if (propertyPath.contains("/items/")) {
                     JsonNode obj = getObjectFromIndex(propertyPath, this.from);
                     oldValue = getValueFromJSON(obj, referenceListProperties, propertyPath);
+                } else if (propertyPath.startsWith("/")) {
+                    // The path is a JSON Pointer, either to the property itself or to an element of its array of values
+                    oldValue = getValueFromJSON(this.from.at(propertyPath), referenceListProperties, propertyPath);
                 } else {
-                    String candidatePath = propertyPath;
-                    if (candidatePath.startsWith("/")) {
-                        candidatePath = candidatePath.substring(1);
-                    }
-                    oldValue = getValueFromJSON(this.from.path(candidatePath), referenceListProperties, propertyPath);
+                    oldValue = getValueFromJSON(this.from.path(propertyPath), referenceListProperties, propertyPath);
                 }
             }
 
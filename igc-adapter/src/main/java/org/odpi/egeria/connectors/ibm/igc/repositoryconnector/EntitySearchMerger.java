@@ -0,0 +1,364 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSErrorCode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ProjectedRecord;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ProjectedRecordList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchSorting;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.Collator;
+import java.util.*;
+
+/**
+ * Merges the (individually sorted) results of searches against several entity mappings into a single, globally
+ * ordered page of results, by always taking the next result from whichever mapping's search has the lowest sort key.
+ * <br><br>
+ * As the OMRS paging interface only provides a numeric offset, the position reached in each mapping's search at the
+ * end of a page is retained as a cursor, keyed by the query and the offset at which the next page would begin. A
+ * request for that next page can then resume each search directly from its own position, rather than having to skip
+ * over every preceding result of every mapping again. Without a cursor, the preceding results are skipped by their
+ * sort keys alone, without translating them. (As when paging a single search, offsets count the results of the
+ * searches themselves, whether a page is resumed from a cursor or reached by skipping, so both give back the same page:
+ * any result that does not match once translated is left out of its page, rather than replaced by a later one.)
+ * <br><br>
+ * Each search is expected to be sorted by IGC itself (by RID, creation or update date, or the IGC property mapped to a
+ * sequencing property), so only a page of results per mapping need be held at any time. Those pages are held as
+ * projected records (see IGCRestClient.searchProjected), and only results that could still be on the page being
+ * returned are bound to their POJOs: never those that are skipped over, nor more than a page of results per mapping.
+ * Mappings that could not be sorted by a requested property fall back to sorting by RID, and their results follow those
+ * of the other mappings. Strings are compared as IGC sorts them: without regard to their case. Results with the same
+ * sort key are ordered by their RID, just as each search breaks such ties (see IGCRepositoryHelper.addSortingForMapping).
+ */
+class EntitySearchMerger {
+
+    private static final Logger log = LoggerFactory.getLogger(EntitySearchMerger.class);
+
+    private static final int MAX_CURSORS = 256;
+    private static final String RID_PROPERTY = "_id";
+
+    private static final Collator COLLATOR = getCollator();
+
+    private final IGCRepositoryHelper igcRepositoryHelper;
+    private final IGCRestClient igcRestClient;
+    private final Map<String, int[]> cursors;
+
+    /**
+     * Create a new merger of search results.
+     *
+     * @param igcRepositoryHelper the helper through which to translate each search result
+     * @param igcRestClient connectivity to the IGC environment
+     */
+    EntitySearchMerger(IGCRepositoryHelper igcRepositoryHelper, IGCRestClient igcRestClient) {
+        this.igcRepositoryHelper = igcRepositoryHelper;
+        this.igcRestClient = igcRestClient;
+        this.cursors = Collections.synchronizedMap(new LinkedHashMap<String, int[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > MAX_CURSORS;
+            }
+        });
+    }
+
+    /**
+     * Run the provided searches and merge their results into the provided list of EntityDetail objects, in the
+     * order given by their sorting.
+     *
+     * @param mappings the mappings that should be used to translate the results of each search
+     * @param searches the (un-paged) searches to run, one per mapping
+     * @param sortings the sorting applied to each search, one per mapping
+     * @param entityDetails the list of EntityDetails to append
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @param matchProperties the set of properties that should be matched (or null if none)
+     * @param fromEntityElement the starting element number of the entities to return
+     * @param pageSize the number of results to return (must be greater than zero)
+     * @param maxPageSize the largest page size to request from IGC when skipping over results
+     * @param userId the user making the request
+     * @throws RepositoryErrorException on any error running the searches or translating the results
+     */
+    void processMergedResults(List<EntityMapping> mappings,
+                              List<IGCSearch> searches,
+                              List<IGCSearchSorting> sortings,
+                              List<EntityDetail> entityDetails,
+                              ObjectCache cache,
+                              SearchProperties matchProperties,
+                              int fromEntityElement,
+                              int pageSize,
+                              int maxPageSize,
+                              String userId) throws RepositoryErrorException {
+
+        final String methodName = "processMergedResults";
+
+        String signature = getSignature(mappings, searches, pageSize, userId);
+        int[] positions = cursors.get(signature + fromEntityElement);
+        boolean resumed = positions != null && positions.length == searches.size();
+        int toSkip = resumed ? 0 : fromEntityElement;
+        // Only when there are results to skip over is it worth retrieving more than a page of results at a time
+        int fetchSize = toSkip > 0 ? Math.max(pageSize, maxPageSize) : pageSize;
+        if (resumed) {
+            log.debug("Resuming merged search at offset {} from cursor: {}", fromEntityElement, Arrays.toString(positions));
+        }
+
+        PriorityQueue<SearchStream> heads = new PriorityQueue<>();
+        List<SearchStream> streams = new ArrayList<>();
+        try {
+            for (int i = 0; i < searches.size(); i++) {
+                IGCSearch igcSearch = searches.get(i);
+                int beginAt = resumed ? positions[i] : 0;
+                igcSearch.setBeginAt(beginAt);
+                igcSearch.setPageSize(fetchSize);
+                SearchStream stream = new SearchStream(i, mappings.get(i), sortings.get(i), beginAt, igcRestClient.searchProjected(igcSearch));
+                streams.add(stream);
+                if (stream.hasNext()) {
+                    heads.add(stream);
+                }
+            }
+
+            // Skip over any preceding results by their sort keys alone: only the results on the page are translated
+            while (!heads.isEmpty() && toSkip > 0) {
+                SearchStream stream = heads.poll();
+                stream.skip();
+                toSkip--;
+                if (stream.hasNext()) {
+                    heads.add(stream);
+                }
+            }
+
+            int consumed = 0;
+            while (!heads.isEmpty() && consumed < pageSize) {
+                SearchStream stream = heads.poll();
+                stream.resolveClassifications(cache, pageSize - consumed);
+                Reference next = stream.next();
+                consumed++;
+                EntityDetail ed = igcRepositoryHelper.getMatchingEntityDetail(stream.mapping, next, cache, matchProperties, null, userId);
+                if (ed != null) {
+                    entityDetails.add(ed);
+                }
+                if (stream.hasNext()) {
+                    heads.add(stream);
+                }
+            }
+
+            if (!heads.isEmpty()) {
+                int[] reached = new int[streams.size()];
+                for (SearchStream stream : streams) {
+                    reached[stream.index] = stream.position;
+                }
+                cursors.put(signature + (fromEntityElement + consumed), reached);
+            }
+        } catch (IGCException e) {
+            throw new RepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR.getMessageDefinition(),
+                    this.getClass().getName(),
+                    methodName,
+                    e);
+        }
+
+    }
+
+    /**
+     * Build a signature that uniquely identifies the provided query (excluding its offset), for keying its cursors.
+     *
+     * @param mappings the mappings that are being searched
+     * @param searches the searches to run, one per mapping
+     * @param pageSize the number of results per page
+     * @param userId the user making the request
+     * @return String
+     */
+    private String getSignature(List<EntityMapping> mappings, List<IGCSearch> searches, int pageSize, String userId) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(userId).append("|").append(pageSize);
+        for (int i = 0; i < searches.size(); i++) {
+            sb.append("|").append(mappings.get(i).getClass().getName())
+                    .append(":").append(searches.get(i).toString());
+        }
+        return sb.append("@").toString();
+    }
+
+    /**
+     * Retrieve the value by which the provided search result is sorted.
+     *
+     * @param record the search result
+     * @param property the IGC property by which results are sorted
+     * @return Object, or null if the result has no value for the property
+     */
+    private static Object getSortKey(ProjectedRecord record, String property) {
+        if (RID_PROPERTY.equals(property)) {
+            return record.getId();
+        }
+        try {
+            return record.getValue(property);
+        } catch (IGCException e) {
+            log.debug("Unable to retrieve sort property '{}' from: {}", property, record.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Compare two sort keys, placing any result without a value for the sort key last. Strings (and any values that
+     * can only be compared as strings) are compared as IGC sorts them: without regard to their case.
+     *
+     * @param one the first sort key
+     * @param two the second sort key
+     * @return int
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareSortKeys(Object one, Object two) {
+        if (one == null || two == null) {
+            return one == null ? (two == null ? 0 : 1) : -1;
+        } else if (!(one instanceof String) && one instanceof Comparable && one.getClass().equals(two.getClass())) {
+            return ((Comparable<Object>) one).compareTo(two);
+        } else {
+            return COLLATOR.compare(one.toString(), two.toString());
+        }
+    }
+
+    /**
+     * Retrieve the collator by which to compare strings: by their letters and accents, but not their case.
+     *
+     * @return Collator
+     */
+    private static Collator getCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
+    /**
+     * The results of a single mapping's search, consumed one at a time and paged through as needed.
+     */
+    private class SearchStream implements Comparable<SearchStream> {
+
+        private final int index;
+        private final EntityMapping mapping;
+        private final String sortProperty;
+        private final boolean ascending;
+
+        private ProjectedRecordList page;
+        private int offsetInPage;
+        private int position;
+        private Object headKey;
+        private String headRid;
+        private int resolvedTo;
+
+        SearchStream(int index, EntityMapping mapping, IGCSearchSorting sorting, int position, ProjectedRecordList page) {
+            this.index = index;
+            this.mapping = mapping;
+            this.sortProperty = sorting.getProperty();
+            this.ascending = sorting.getAscending() == null || sorting.getAscending();
+            this.page = page;
+            this.offsetInPage = 0;
+            this.position = position;
+            this.headKey = null;
+            this.headRid = null;
+            this.resolvedTo = 0;
+        }
+
+        /**
+         * Indicates whether there are any further results, retrieving the next page of results if needed.
+         *
+         * @return boolean
+         * @throws IGCException if there is any issue retrieving the next page of results
+         */
+        boolean hasNext() throws IGCException {
+            if (page == null) {
+                return false;
+            }
+            if (offsetInPage >= page.getItems().size()) {
+                if (!page.hasMorePages()) {
+                    page = null;
+                    return false;
+                }
+                page = igcRestClient.getNextPage(page);
+                offsetInPage = 0;
+                resolvedTo = 0;
+                if (page.getItems().isEmpty()) {
+                    page = null;
+                    return false;
+                }
+            }
+            ProjectedRecord head = page.getItems().get(offsetInPage);
+            headKey = getSortKey(head, sortProperty);
+            headRid = head.getId();
+            return true;
+        }
+
+        /**
+         * Resolve the relationships needed for classifications for as many of the following results in the current
+         * page as could still be returned, if not already done (only valid after hasNext() has returned true). Only
+         * those results are bound to their POJOs.
+         *
+         * @param cache a cache of information that may already have been retrieved about the results
+         * @param remaining the number of results that could still be returned
+         * @throws RepositoryErrorException on any error resolving the relationships
+         * @throws IGCException on any error binding the results to their POJOs
+         */
+        void resolveClassifications(ObjectCache cache, int remaining) throws RepositoryErrorException, IGCException {
+            if (offsetInPage >= resolvedTo) {
+                List<ProjectedRecord> items = page.getItems();
+                int end = Math.min(items.size(), offsetInPage + remaining);
+                List<Reference> results = new ArrayList<>(end - offsetInPage);
+                for (ProjectedRecord record : items.subList(offsetInPage, end)) {
+                    results.add(record.getBean());
+                }
+                igcRepositoryHelper.resolveClassificationsForPage(mapping, results, cache);
+                resolvedTo = end;
+            }
+        }
+
+        /**
+         * Consume the next result, binding it to its POJO (only valid after hasNext() has returned true).
+         *
+         * @return Reference
+         * @throws IGCException on any error binding the result to its POJO
+         */
+        Reference next() throws IGCException {
+            position++;
+            return page.getItems().get(offsetInPage++).getBean();
+        }
+
+        /**
+         * Skip over the next result, without resolving anything for it or binding it to its POJO (only valid after
+         * hasNext() has returned true).
+         */
+        void skip() {
+            position++;
+            offsetInPage++;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(SearchStream other) {
+            int result;
+            boolean byRid = RID_PROPERTY.equals(sortProperty);
+            if (byRid != RID_PROPERTY.equals(other.sortProperty)) {
+                // A mapping that could not be sorted by the requested property (so fell back to sorting by RID)
+                // comes after all of those that could
+                result = byRid ? 1 : -1;
+            } else {
+                result = compareSortKeys(headKey, other.headKey);
+                if (result != 0 && !ascending && headKey != null && other.headKey != null) {
+                    result = -result;
+                } else if (result == 0) {
+                    // Ties are broken by RID (always ascending), as within each search
+                    result = compareSortKeys(headRid, other.headRid);
+                }
+            }
+            return result != 0 ? result : Integer.compare(index, other.index);
+        }
+
+    }
+
+}
@@ -13,11 +13,11 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Identity;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
-import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchSorting;
 import org.odpi.egeria.connectors.ibm.igc.eventmapper.IGCOMRSRepositoryEventMapper;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.EntityMappingInstance;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.InstanceMapping;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityProjectionPlan;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.IGCEntityGuid;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.IGCRelationshipGuid;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.stores.*;
@@ -36,6 +36,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides the OMRSMetadataCollection implementation for IBM InfoSphere Information Governance Catalog ("IGC").
@@ -51,6 +53,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
 
     private TypeDefStore typeDefStore;
     private AttributeMappingStore attributeMappingStore;
+    private Map<String, EntityProjectionPlan> projectionPlans;
 
     private String mappingPackage;
 
@@ -76,6 +79,7 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         this.igcRepositoryHelper = new IGCRepositoryHelper(igcomrsRepositoryConnector, repositoryHelper, igcRestClient);
         this.typeDefStore = new TypeDefStore();
         this.attributeMappingStore = new AttributeMappingStore(parentConnector);
+        this.projectionPlans = new ConcurrentHashMap<>();
         this.mappingPackage = IGCRepositoryHelper.MAPPING_PKG;
     }
 
@@ -420,6 +424,9 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                 raiseTypeDefNotSupportedException(IGCOMRSErrorCode.TYPEDEF_NOT_MAPPED, methodName, omrsTypeDefName, repositoryName);
             } else {
                 typeDefStore.addTypeDef(newTypeDef);
+                if (typeDefCategory == TypeDefCategory.ENTITY_DEF) {
+                    compileProjectionPlan(igcRepositoryHelper.getEntityMappingByGUID(newTypeDef.getGUID()));
+                }
             }
         }
 
@@ -676,6 +683,9 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
             } else {
                 log.info("Updating TypeDef '{}' based on patch.", omrsTypeDefName);
                 typeDefStore.addTypeDef(revised);
+                // A patch to any entity type may change the attributes inherited by its subtypes, so recompile the
+                // projection plans as they are next needed
+                projectionPlans.clear();
                 if (eventMapper != null) {
                     eventMapper.sendUpdatedTypeDefEvent(typeDefPatch);
                 }
@@ -796,6 +806,44 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
 
     }
 
+    /**
+     * Return the details of the entities with the provided GUIDs. Rather than retrieving each entity on its own, the
+     * GUIDs are grouped by their IGC asset type and prefix, the assets of each group are retrieved with searches by
+     * their list of RIDs, and the results are then mapped in parallel.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids the unique identifiers of the entities.
+     * @return {@code List<EntityDetail>} in the same order as the provided GUIDs, with a null entry for any entity
+     *         that is not known to the repository.
+     * @throws InvalidParameterException the userId or one of the GUIDs is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository, or (just as
+     *                                  for getEntityDetail) one of the GUIDs is for an IGC object of a type that its
+     *                                  REST API does not support ('main_object').
+     */
+    public List<EntityDetail> getEntityDetails(String userId, List<String> guids) throws
+            InvalidParameterException,
+            RepositoryErrorException {
+
+        final String methodName = "getEntityDetails";
+
+        List<IGCEntityGuid> igcGuids = new ArrayList<>();
+        if (guids != null) {
+            for (String guid : guids) {
+                super.getInstanceParameterValidation(userId, guid, methodName);
+                // Lookup the basic asset based on the RID (strip off prefix (indicating a generated type), if there)
+                IGCEntityGuid igcGuid = IGCEntityGuid.fromGuid(guid);
+                if (igcGuid == null || !igcGuid.getMetadataCollectionId().equals(metadataCollectionId)) {
+                    log.info("Entity {} not known to the repository.", guid);
+                    igcGuid = null;
+                }
+                igcGuids.add(igcGuid);
+            }
+        }
+
+        return igcRepositoryHelper.getEntityDetails(new ObjectCache(), userId, igcGuids);
+
+    }
+
     /**
      * Return the relationships for a specific entity. Note that currently this will only work for relationships known
      * to (originated within) IGC, and that not all parameters are (yet) implemented.
@@ -1198,27 +1246,46 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                     log.warn("Found no mappings to search for entityTypeGUID: {}", entityTypeGUID);
                 }
 
-                for (EntityMapping mapping : mappingsToSearch) {
+                if (pageSize > 0 && mappingsToSearch.size() > 1) {
+                    // For a page of results across several mappings, merge the (sorted) results of every mapping
+                    // rather than applying the same offset to each mapping and concatenating their results
+                    igcRepositoryHelper.processMergedResultsForMappings(
+                            mappingsToSearch,
+                            entityDetails,
+                            cache,
+                            userId,
+                            entityTypeGUID,
+                            entitySubtypeGUIDs,
+                            matchProperties,
+                            fromEntityElement,
+                            matchClassifications,
+                            sequencingProperty,
+                            sequencingOrder,
+                            pageSize
+                    );
+                } else {
+                    for (EntityMapping mapping : mappingsToSearch) {
 
-                    // Only continue to add results to the list if we are after all results (pageSize of 0) or we have
-                    // not yet filled up the page size in the list
-                    if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
-                        igcRepositoryHelper.processResultsForMapping(
-                                mapping,
-                                entityDetails,
-                                cache,
-                                userId,
-                                entityTypeGUID,
-                                entitySubtypeGUIDs,
-                                matchProperties,
-                                fromEntityElement,
-                                matchClassifications,
-                                sequencingProperty,
-                                sequencingOrder,
-                                pageSize
-                        );
-                    }
+                        // Only continue to add results to the list if we are after all results (pageSize of 0) or we
+                        // have not yet filled up the page size in the list
+                        if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
+                            igcRepositoryHelper.processResultsForMapping(
+                                    mapping,
+                                    entityDetails,
+                                    cache,
+                                    userId,
+                                    entityTypeGUID,
+                                    entitySubtypeGUIDs,
+                                    matchProperties,
+                                    fromEntityElement,
+                                    matchClassifications,
+                                    sequencingProperty,
+                                    sequencingOrder,
+                                    pageSize
+                            );
+                        }
 
+                    }
                 }
 
             }
@@ -1344,27 +1411,47 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                     log.warn("Found no mappings to search for entityTypeGUID: {}", entityTypeGUID);
                 }
 
-                for (EntityMapping mapping : mappingsToSearch) {
+                SearchProperties searchProperties = repositoryHelper.getSearchPropertiesFromInstanceProperties(repositoryName, matchProperties, matchCriteria);
+                if (pageSize > 0 && mappingsToSearch.size() > 1) {
+                    // For a page of results across several mappings, merge the (sorted) results of every mapping
+                    // rather than applying the same offset to each mapping and concatenating their results
+                    igcRepositoryHelper.processMergedResultsForMappings(
+                            mappingsToSearch,
+                            entityDetails,
+                            cache,
+                            userId,
+                            entityTypeGUID,
+                            null,
+                            searchProperties,
+                            fromEntityElement,
+                            matchClassifications,
+                            sequencingProperty,
+                            sequencingOrder,
+                            pageSize
+                    );
+                } else {
+                    for (EntityMapping mapping : mappingsToSearch) {
 
-                    // Only continue to add results to the list if we are after all results (pageSize of 0) or we have
-                    // not yet filled up the page size in the list
-                    if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
-                        igcRepositoryHelper.processResultsForMapping(
-                                mapping,
-                                entityDetails,
-                                cache,
-                                userId,
-                                entityTypeGUID,
-                                null,
-                                repositoryHelper.getSearchPropertiesFromInstanceProperties(repositoryName, matchProperties, matchCriteria),
-                                fromEntityElement,
-                                matchClassifications,
-                                sequencingProperty,
-                                sequencingOrder,
-                                pageSize
-                        );
-                    }
+                        // Only continue to add results to the list if we are after all results (pageSize of 0) or we
+                        // have not yet filled up the page size in the list
+                        if (pageSize == 0 || (pageSize > 0 && entityDetails.size() < pageSize)) {
+                            igcRepositoryHelper.processResultsForMapping(
+                                    mapping,
+                                    entityDetails,
+                                    cache,
+                                    userId,
+                                    entityTypeGUID,
+                                    null,
+                                    searchProperties,
+                                    fromEntityElement,
+                                    matchClassifications,
+                                    sequencingProperty,
+                                    sequencingOrder,
+                                    pageSize
+                            );
+                        }
 
+                    }
                 }
 
             }
@@ -1503,23 +1590,12 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                             repositoryHelper.getSearchPropertiesFromInstanceProperties(repositoryName, matchClassificationProperties, matchCriteria));
                     igcSearchConditionSet.addNestedConditionSet(baseCriteria);
 
-                    IGCSearchSorting igcSearchSorting = null;
-                    if (sequencingProperty == null && sequencingOrder != null) {
-                        igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
-                    }
-
                     IGCRepositoryHelper.setConditionsFromMatchCriteria(igcSearchConditionSet, matchCriteria);
                     igcSearch.addProperties(mapping.getAllPropertiesForEntityDetail(igcRestClient, mapping.getIgcAssetType()));
                     igcSearch.addConditions(igcSearchConditionSet);
 
                     igcRepositoryHelper.setPagingForSearch(igcSearch, fromEntityElement, pageSize);
-
-                    if (igcSearchSorting != null) {
-                        igcSearch.addSortingCriteria(igcSearchSorting);
-                    } else {
-                        // Add a default sorting (by RID) to ensure consistent paging
-                        igcSearch.addSortingCriteria(IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID));
-                    }
+                    igcRepositoryHelper.addSortingForMapping(igcSearch, mapping, sequencingProperty, sequencingOrder);
 
                     try {
                         igcRepositoryHelper.processResults(
@@ -1777,21 +1853,10 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
                                     outerConditions.setMatchAnyCondition(false);
                                 }
 
-                                IGCSearchSorting igcSearchSorting = null;
-                                if (sequencingProperty == null && sequencingOrder != null) {
-                                    igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
-                                }
-
                                 igcSearch.addConditions(outerConditions);
 
                                 igcRepositoryHelper.setPagingForSearch(igcSearch, fromEntityElement, pageSize);
-
-                                if (igcSearchSorting != null) {
-                                    igcSearch.addSortingCriteria(igcSearchSorting);
-                                } else {
-                                    // Add a default sorting (by RID) to ensure consistent paging
-                                    igcSearch.addSortingCriteria(IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID));
-                                }
+                                igcRepositoryHelper.addSortingForMapping(igcSearch, mapping, sequencingProperty, sequencingOrder);
 
                                 // Add properties for this IGC asset type to the search, since ultimately we will
                                 // be retrieving EntityDetails for each result
@@ -1861,9 +1926,63 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         final String methodName = "getRelationship";
         super.getInstanceParameterValidation(userId, guid, methodName);
 
-        log.debug("Looking up relationship: {}", guid);
+        return getRelationship(userId, guid, new ObjectCache());
 
-        ObjectCache cache = new ObjectCache();
+    }
+
+    /**
+     * Return the relationships with the provided GUIDs, retrieving them in parallel (sharing a single cache of the
+     * IGC objects retrieved) rather than one at a time.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids the unique identifiers of the relationships.
+     * @return {@code List<Relationship>} in the same order as the provided GUIDs, with a null entry for any
+     *         relationship that is not known to the repository.
+     * @throws InvalidParameterException the userId or one of the GUIDs is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     */
+    public List<Relationship> getRelationships(String userId, List<String> guids) throws
+            InvalidParameterException,
+            RepositoryErrorException {
+
+        final String methodName = "getRelationships";
+
+        List<Callable<Relationship>> retrievals = new ArrayList<>();
+        if (guids != null) {
+            ObjectCache cache = new ObjectCache();
+            for (String guid : guids) {
+                super.getInstanceParameterValidation(userId, guid, methodName);
+                retrievals.add(() -> {
+                    try {
+                        return getRelationship(userId, guid, cache);
+                    } catch (RelationshipNotKnownException e) {
+                        log.info("Could not find relationship {} in repository.", guid, e);
+                        return null;
+                    }
+                });
+            }
+        }
+        return igcomrsRepositoryConnector.runInParallel(retrievals, methodName);
+
+    }
+
+    /**
+     * Return the relationship with the provided GUID.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid the unique identifier of the relationship.
+     * @param cache a cache of information that may already have been retrieved about the related objects
+     * @return Relationship
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws RelationshipNotKnownException the relationship is not known to the repository.
+     */
+    private Relationship getRelationship(String userId, String guid, ObjectCache cache) throws
+            RepositoryErrorException,
+            RelationshipNotKnownException {
+
+        final String methodName = "getRelationship";
+
+        log.debug("Looking up relationship: {}", guid);
 
         // Translate the key properties of the GUID into IGC-retrievables
         IGCRelationshipGuid igcRelationshipGuid = IGCRelationshipGuid.fromGuid(guid);
@@ -2277,6 +2396,39 @@ public class IGCOMRSMetadataCollection extends OMRSMetadataCollectionBase {
         return typeDefStore.getAllTypeDefAttributesForName(omrsTypeName);
     }
 
+    /**
+     * Retrieves the projection plan for the simple and literal properties of the provided entity mapping, compiling
+     * it if it has not already been compiled (or has since been invalidated by a change to the TypeDefs).
+     *
+     * @param mapping the entity mapping for which to retrieve the projection plan
+     * @return EntityProjectionPlan
+     */
+    public EntityProjectionPlan getProjectionPlan(EntityMapping mapping) {
+        EntityProjectionPlan plan = projectionPlans.get(mapping.getOmrsTypeDefName());
+        if (plan == null) {
+            plan = compileProjectionPlan(mapping);
+        }
+        return plan;
+    }
+
+    /**
+     * Compiles (and retains) the projection plan for the simple and literal properties of the provided entity mapping,
+     * against the attributes currently known for its OMRS TypeDef.
+     *
+     * @param mapping the entity mapping for which to compile the projection plan
+     * @return EntityProjectionPlan
+     */
+    private EntityProjectionPlan compileProjectionPlan(EntityMapping mapping) {
+        EntityProjectionPlan plan = null;
+        if (mapping != null) {
+            String omrsTypeDefName = mapping.getOmrsTypeDefName();
+            log.debug("Compiling projection plan for: {}", omrsTypeDefName);
+            plan = new EntityProjectionPlan(mapping, getTypeDefAttributesForType(omrsTypeDefName));
+            projectionPlans.put(omrsTypeDefName, plan);
+        }
+        return plan;
+    }
+
     /**
      * Retrieve any TypeDef we have seen, whether we have an implemented mapping or not, based on its GUID.
      *
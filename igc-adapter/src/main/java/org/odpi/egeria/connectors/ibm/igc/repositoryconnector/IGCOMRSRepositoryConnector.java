@@ -8,6 +8,7 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCVersionEnum;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
@@ -18,14 +19,35 @@ import org.springframework.core.io.ClassPathResource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
 
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    // Marks the threads that are already running a parallel task, so that any work they in turn try to parallelize
+    // is run serially rather than waiting on (and potentially exhausting) the same bounded pool of threads
+    private static final ThreadLocal<Boolean> IN_PARALLEL_TASK = ThreadLocal.withInitial(() -> false);
+
     protected IGCRestClient igcRestClient;
     protected IGCVersionEnum igcVersion;
 
     protected List<String> defaultZones;
     protected boolean ignoreUnmappedInstances;
+    protected ExecutorService executor;
+    protected String stubJournal;
+    protected int consumerThreads;
+    protected int eventCompactionWindow;
+    protected boolean initialLoad;
+    protected int initialLoadRate;
+    protected String initialLoadCheckpoint;
+    protected int reconciliationInterval;
+    protected int reconciliationRate;
+    protected String reconciliationWatermark;
 
     /**
      * Default constructor used by the OCF Connector Provider.
@@ -33,6 +55,16 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
     public IGCOMRSRepositoryConnector() {
         defaultZones = new ArrayList<>();
         ignoreUnmappedInstances = false;
+        executor = null;
+        stubJournal = null;
+        consumerThreads = 1;
+        eventCompactionWindow = 0;
+        initialLoad = false;
+        initialLoadRate = 0;
+        initialLoadCheckpoint = null;
+        reconciliationInterval = 0;
+        reconciliationRate = 0;
+        reconciliationWatermark = null;
     }
 
     /**
@@ -89,6 +121,11 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
 
         final String methodName = "disconnect";
 
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+
         // Close the session on the IGC REST client
         try {
             this.igcRestClient.disconnect();
@@ -110,6 +147,13 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
      */
     public IGCRestClient getIGCRestClient() { return this.igcRestClient; }
 
+    /**
+     * Retrieve the audit log of the connector, through which the components it creates can report any issues.
+     *
+     * @return AuditLog
+     */
+    public AuditLog getAuditLog() { return this.auditLog; }
+
     /**
      * Retrieve the list of default zones to apply to assets.
      *
@@ -125,6 +169,137 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
      */
     public boolean ignoreUnmappedInstances() { return this.ignoreUnmappedInstances; }
 
+    /**
+     * Retrieve the executor through which to run work that can be done in parallel (or null if everything should be
+     * run serially).
+     *
+     * @return ExecutorService
+     */
+    public ExecutorService getExecutor() { return this.executor; }
+
+    /**
+     * Retrieve the local directory in which to journal the updates to OMRS stubs (or null if they should not be
+     * journalled).
+     *
+     * @return String
+     */
+    public String getStubJournal() { return this.stubJournal; }
+
+    /**
+     * Retrieve the number of threads with which to consume events from IGC.
+     *
+     * @return int
+     */
+    public int getConsumerThreads() { return this.consumerThreads; }
+
+    /**
+     * Retrieve the time (in milliseconds) for which to hold back the creation and modification events for an asset,
+     * to compact them (or 0 if every event should be processed straight away).
+     *
+     * @return int
+     */
+    public int getEventCompactionWindow() { return this.eventCompactionWindow; }
+
+    /**
+     * Indicates whether the event mapper should load every asset already in IGC (of a mapped type) when it starts.
+     *
+     * @return boolean
+     */
+    public boolean isInitialLoadEnabled() { return this.initialLoad; }
+
+    /**
+     * Retrieve the maximum number of assets per second to process during the initial load (or 0 if the rate should
+     * not be limited).
+     *
+     * @return int
+     */
+    public int getInitialLoadRate() { return this.initialLoadRate; }
+
+    /**
+     * Retrieve the local file in which to record the progress of the initial load (or null if it should not be
+     * recorded).
+     *
+     * @return String
+     */
+    public String getInitialLoadCheckpoint() { return this.initialLoadCheckpoint; }
+
+    /**
+     * Retrieve the time (in seconds) between each cycle of reconciling the assets modified in IGC (or 0 if they should
+     * not be reconciled).
+     *
+     * @return int
+     */
+    public int getReconciliationInterval() { return this.reconciliationInterval; }
+
+    /**
+     * Retrieve the maximum number of assets per second to process during each cycle of reconciliation (or 0 if the
+     * rate should not be limited).
+     *
+     * @return int
+     */
+    public int getReconciliationRate() { return this.reconciliationRate; }
+
+    /**
+     * Retrieve the local file in which to record the time up to which the modified assets of each type have been
+     * reconciled (or null if it should not be recorded).
+     *
+     * @return String
+     */
+    public String getReconciliationWatermark() { return this.reconciliationWatermark; }
+
+    /**
+     * Run all of the provided tasks, in parallel if there is an executor available, returning their results in the
+     * same order as the tasks.
+     *
+     * @param tasks the tasks to run
+     * @param methodName the name of the calling method (for any error)
+     * @param <T> the type of result of each task
+     * @return {@code List<T>} of results
+     * @throws RepositoryErrorException on any error running the tasks
+     */
+    public <T> List<T> runInParallel(List<Callable<T>> tasks, String methodName) throws RepositoryErrorException {
+        List<T> results = new ArrayList<>();
+        ExecutorService pool = executor;
+        try {
+            if (pool == null || tasks.size() < 2 || IN_PARALLEL_TASK.get()) {
+                for (Callable<T> task : tasks) {
+                    results.add(task.call());
+                }
+            } else {
+                List<Callable<T>> marked = new ArrayList<>();
+                for (Callable<T> task : tasks) {
+                    marked.add(() -> {
+                        IN_PARALLEL_TASK.set(true);
+                        try {
+                            return task.call();
+                        } finally {
+                            IN_PARALLEL_TASK.set(false);
+                        }
+                    });
+                }
+                for (Future<T> future : pool.invokeAll(marked)) {
+                    results.add(future.get());
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RepositoryErrorException) {
+                throw (RepositoryErrorException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        } catch (RepositoryErrorException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        }
+        return results;
+    }
+
     /**
      * Connect to the IBM Information Governance Catalog host.
      *
@@ -145,6 +320,7 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
 
             // Retrieve connection details
             Map<String, Object> proxyProperties = this.connectionBean.getConfigurationProperties();
+            Integer parallelism = null;
             if (proxyProperties != null) {
                 Object zones = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.DEFAULT_ZONES);
                 if (zones instanceof List) {
@@ -158,6 +334,52 @@ public class IGCOMRSRepositoryConnector extends OMRSRepositoryConnector {
                 if (ignore instanceof Boolean) {
                     this.ignoreUnmappedInstances = (Boolean) ignore;
                 }
+                Object threads = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.PARALLELISM);
+                if (threads instanceof Integer) {
+                    parallelism = (Integer) threads;
+                }
+                Object journal = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.STUB_JOURNAL);
+                if (journal instanceof String && !((String) journal).isEmpty()) {
+                    this.stubJournal = (String) journal;
+                }
+                Object consumers = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.CONSUMER_THREADS);
+                if (consumers instanceof Integer && (Integer) consumers > 0) {
+                    this.consumerThreads = (Integer) consumers;
+                }
+                Object compaction = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.EVENT_COMPACTION_WINDOW);
+                if (compaction instanceof Integer && (Integer) compaction > 0) {
+                    this.eventCompactionWindow = (Integer) compaction;
+                }
+                Object load = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.INITIAL_LOAD);
+                if (load instanceof Boolean) {
+                    this.initialLoad = (Boolean) load;
+                }
+                Object loadRate = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.INITIAL_LOAD_RATE);
+                if (loadRate instanceof Integer && (Integer) loadRate > 0) {
+                    this.initialLoadRate = (Integer) loadRate;
+                }
+                Object checkpoint = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.INITIAL_LOAD_CHECKPOINT);
+                if (checkpoint instanceof String && !((String) checkpoint).isEmpty()) {
+                    this.initialLoadCheckpoint = (String) checkpoint;
+                }
+                Object interval = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.RECONCILIATION_INTERVAL);
+                if (interval instanceof Integer && (Integer) interval > 0) {
+                    this.reconciliationInterval = (Integer) interval;
+                }
+                Object reconciliationLimit = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.RECONCILIATION_RATE);
+                if (reconciliationLimit instanceof Integer && (Integer) reconciliationLimit > 0) {
+                    this.reconciliationRate = (Integer) reconciliationLimit;
+                }
+                Object watermark = proxyProperties.get(IGCOMRSRepositoryConnectorProvider.RECONCILIATION_WATERMARK);
+                if (watermark instanceof String && !((String) watermark).isEmpty()) {
+                    this.reconciliationWatermark = (String) watermark;
+                }
+            }
+            if (parallelism == null) {
+                parallelism = DEFAULT_PARALLELISM;
+            }
+            if (parallelism > 1 && executor == null) {
+                executor = Executors.newFixedThreadPool(parallelism);
             }
 
             boolean successfulInit = false;
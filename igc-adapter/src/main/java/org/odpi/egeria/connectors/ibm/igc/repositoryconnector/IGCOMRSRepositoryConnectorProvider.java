@@ -25,6 +25,38 @@ import java.util.List;
  *     <li>ignoreUnmappedInstances - a boolean indicating whether to ignore instances that are not mapped (will log
  *          a warning, but not throw any exception when set to 'true') or to throw an exception if an unmapped instance
  *          is retrieved (when set to 'false').</li>
+ *     <li>parallelism - an integer giving the maximum number of threads to use for work that can be done in parallel,
+ *          such as translating each result on a page of search results (defaults to 4, and 1 will do everything
+ *          serially).</li>
+ *     <li>stubJournal - the path to a local directory in which to journal the updates to OMRS stubs made by the event
+ *          mapper, so that they can be written to IGC in the background without being lost if the connector stops
+ *          before they are written (when not set, the updates are written to IGC before each event is committed).</li>
+ *     <li>consumerThreads - an integer giving the number of threads with which the event mapper consumes events from
+ *          IGC (defaults to 1). Every thread (of every instance of the proxy for the same metadata collection) joins
+ *          the same consumer group, so the events are shared out by partition: any threads beyond the number of
+ *          partitions of the topic will be left idle, and events are only processed in order within a partition.</li>
+ *     <li>eventCompactionWindow - an integer giving the time (in milliseconds) for which the event mapper holds back
+ *          the creation and modification events for an asset, so that a burst of such events for the same asset is
+ *          processed only once, as its latest event (defaults to 0, which processes every event straight away).</li>
+ *     <li>initialLoad - a boolean indicating whether the event mapper should (when set to 'true') also load every
+ *          asset already in IGC of a mapped type when it starts, sending out events for each as though it had just
+ *          been created (or updated, if it has changed since it was last sent out), rather than only reacting to new
+ *          events from IGC (defaults to 'false').</li>
+ *     <li>initialLoadRate - an integer giving the maximum number of assets per second to process during the initial
+ *          load, to limit its impact on IGC (defaults to 0, which does not limit the rate).</li>
+ *     <li>initialLoadCheckpoint - the path to a local file in which to record the progress of the initial load, so that
+ *          it can resume from where it left off if the connector stops before it completes (and is not repeated once
+ *          it has completed). When not set, the initial load is started again from the beginning every time the
+ *          event mapper starts.</li>
+ *     <li>reconciliationInterval - an integer giving the time (in seconds) between each cycle of the event mapper's
+ *          reconciliation of the assets modified in IGC since the previous cycle, to send out any changes whose events
+ *          were missed, for example while the event mapper was not running (defaults to 0, which does not reconcile).</li>
+ *     <li>reconciliationRate - an integer giving the maximum number of assets per second to process during each cycle
+ *          of reconciliation, to limit its impact on IGC (defaults to 0, which does not limit the rate).</li>
+ *     <li>reconciliationWatermark - the path to a local file in which to record the time up to which the modified
+ *          assets of each type have been reconciled, so that reconciliation can catch up on the changes made while the
+ *          event mapper was not running. When not set, reconciliation only starts from the time the event mapper
+ *          starts.</li>
  * </ul>
  */
 public class IGCOMRSRepositoryConnectorProvider extends OMRSRepositoryConnectorProviderBase {
@@ -35,6 +67,16 @@ public class IGCOMRSRepositoryConnectorProvider extends OMRSRepositoryConnectorP
 
     public static final String DEFAULT_ZONES = "defaultZones";
     public static final String IGNORE_UNMAPPED_INSTANCES = "ignoreUnmappedInstances";
+    public static final String PARALLELISM = "parallelism";
+    public static final String STUB_JOURNAL = "stubJournal";
+    public static final String CONSUMER_THREADS = "consumerThreads";
+    public static final String EVENT_COMPACTION_WINDOW = "eventCompactionWindow";
+    public static final String INITIAL_LOAD = "initialLoad";
+    public static final String INITIAL_LOAD_RATE = "initialLoadRate";
+    public static final String INITIAL_LOAD_CHECKPOINT = "initialLoadCheckpoint";
+    public static final String RECONCILIATION_INTERVAL = "reconciliationInterval";
+    public static final String RECONCILIATION_RATE = "reconciliationRate";
+    public static final String RECONCILIATION_WATERMARK = "reconciliationWatermark";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -56,6 +98,16 @@ public class IGCOMRSRepositoryConnectorProvider extends OMRSRepositoryConnectorP
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(DEFAULT_ZONES);
         recognizedConfigurationProperties.add(IGNORE_UNMAPPED_INSTANCES);
+        recognizedConfigurationProperties.add(PARALLELISM);
+        recognizedConfigurationProperties.add(STUB_JOURNAL);
+        recognizedConfigurationProperties.add(CONSUMER_THREADS);
+        recognizedConfigurationProperties.add(EVENT_COMPACTION_WINDOW);
+        recognizedConfigurationProperties.add(INITIAL_LOAD);
+        recognizedConfigurationProperties.add(INITIAL_LOAD_RATE);
+        recognizedConfigurationProperties.add(INITIAL_LOAD_CHECKPOINT);
+        recognizedConfigurationProperties.add(RECONCILIATION_INTERVAL);
+        recognizedConfigurationProperties.add(RECONCILIATION_RATE);
+        recognizedConfigurationProperties.add(RECONCILIATION_WATERMARK);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
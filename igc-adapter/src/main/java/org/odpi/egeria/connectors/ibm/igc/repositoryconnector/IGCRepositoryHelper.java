@@ -20,6 +20,7 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchSorting;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.EntityMappingInstance;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.InstanceMapping;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.classifications.ClassificationMapping;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.classifications.ClassificationResolver;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.relationships.RelationshipMapping;
 import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.IGCEntityGuid;
@@ -40,12 +41,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.xml.stream.XMLOutputFactory;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
-import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -60,6 +60,8 @@ public class IGCRepositoryHelper {
     private static final String GENERATED_ENTITY_QNAME_PREFIX = "gen!";
     private static final String GENERATED_ENTITY_QNAME_POSTFIX = "@";
 
+    private static final int BULK_BATCH_SIZE = 100;
+
     private IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
     private OMRSRepositoryHelper repositoryHelper;
     private IGCRestClient igcRestClient;
@@ -71,7 +73,10 @@ public class IGCRepositoryHelper {
     private String repositoryName;
     private String metadataCollectionId;
 
-    private XMLOutputFactory xmlOutputFactory;
+    private OMRSStubBuffer stubBuffer;
+
+    private EntitySearchMerger entitySearchMerger;
+    private ClassificationResolver classificationResolver;
 
     IGCRepositoryHelper(IGCOMRSRepositoryConnector igcomrsRepositoryConnector,
                         OMRSRepositoryHelper repositoryHelper,
@@ -79,12 +84,15 @@ public class IGCRepositoryHelper {
         this.igcomrsRepositoryConnector = igcomrsRepositoryConnector;
         this.repositoryHelper = repositoryHelper;
         this.igcRestClient = igcRestClient;
-        this.xmlOutputFactory = XMLOutputFactory.newInstance();
+        this.stubBuffer = new OMRSStubBuffer(igcRestClient, XMLOutputFactory.newInstance());
+        this.stubBuffer.setAuditLog(igcomrsRepositoryConnector.getAuditLog());
         this.repositoryName = igcomrsRepositoryConnector.getRepositoryName();
         this.metadataCollectionId = igcomrsRepositoryConnector.getMetadataCollectionId();
         this.entityMappingStore = new EntityMappingStore(igcomrsRepositoryConnector);
         this.relationshipMappingStore = new RelationshipMappingStore(igcomrsRepositoryConnector);
         this.classificationMappingStore = new ClassificationMappingStore(igcomrsRepositoryConnector);
+        this.entitySearchMerger = new EntitySearchMerger(this, igcRestClient);
+        this.classificationResolver = new ClassificationResolver(igcomrsRepositoryConnector);
     }
 
     /**
@@ -400,6 +408,139 @@ public class IGCRepositoryHelper {
 
         final String methodName = "processResultsForMapping";
 
+        IGCSearch igcSearch = getSearchForMapping(
+                mapping,
+                entityTypeGUID,
+                entitySubtypeGUIDs,
+                matchProperties,
+                matchClassifications,
+                sequencingProperty,
+                sequencingOrder
+        );
+
+        if (igcSearch != null) {
+            setPagingForSearch(igcSearch, fromEntityElement, pageSize);
+            try {
+                processResults(
+                        mapping,
+                        this.igcRestClient.search(igcSearch),
+                        entityDetails,
+                        cache,
+                        matchProperties,
+                        null,
+                        pageSize,
+                        userId
+                );
+            } catch (IGCException e) {
+                raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+            }
+        }
+    }
+
+    /**
+     * Run a search against IGC for each of the provided mappings, and merge the results of those searches into a
+     * single page of results that is ordered across all of the mappings (rather than concatenating the results of
+     * each mapping in turn).
+     *
+     * @param mappings the mappings to use for running the searches
+     * @param entityDetails the list of results to append into
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @param userId unique identifier for requesting user
+     * @param entityTypeGUID the GUID of the entity type that was requested as part of the search (or null for all)
+     * @param entitySubtypeGUIDs optional list of GUIDs of subtypes by which to further limit results
+     * @param matchProperties Optional list of property-based conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param matchClassifications optional list of classification-based conditions to match.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request (must be greater
+     *                 than zero)
+     * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
+     * @throws RepositoryErrorException on any other error
+     */
+    void processMergedResultsForMappings(List<EntityMapping> mappings,
+                                         List<EntityDetail> entityDetails,
+                                         ObjectCache cache,
+                                         String userId,
+                                         String entityTypeGUID,
+                                         List<String> entitySubtypeGUIDs,
+                                         SearchProperties matchProperties,
+                                         int fromEntityElement,
+                                         SearchClassifications matchClassifications,
+                                         String sequencingProperty,
+                                         SequencingOrder sequencingOrder,
+                                         int pageSize) throws
+            FunctionNotSupportedException,
+            RepositoryErrorException {
+
+        List<EntityMapping> mappingsToMerge = new ArrayList<>();
+        List<IGCSearch> searchesToMerge = new ArrayList<>();
+        List<IGCSearchSorting> sortingsToMerge = new ArrayList<>();
+        for (EntityMapping mapping : mappings) {
+            IGCSearch igcSearch = getSearchForMapping(
+                    mapping,
+                    entityTypeGUID,
+                    entitySubtypeGUIDs,
+                    matchProperties,
+                    matchClassifications,
+                    sequencingProperty,
+                    sequencingOrder
+            );
+            if (igcSearch != null) {
+                mappingsToMerge.add(mapping);
+                searchesToMerge.add(igcSearch);
+                sortingsToMerge.add(getSortingForMapping(mapping, sequencingProperty, sequencingOrder));
+            }
+        }
+
+        if (!mappingsToMerge.isEmpty()) {
+            entitySearchMerger.processMergedResults(
+                    mappingsToMerge,
+                    searchesToMerge,
+                    sortingsToMerge,
+                    entityDetails,
+                    cache,
+                    matchProperties,
+                    fromEntityElement,
+                    pageSize,
+                    igcomrsRepositoryConnector.getMaxPageSize(),
+                    userId
+            );
+        }
+
+    }
+
+    /**
+     * Build the search to run against IGC for the provided mapping, based on the provided parameters. The search
+     * that is returned has no paging set, so that it can be paged as needed by the caller.
+     *
+     * @param mapping the mapping to use for running the search
+     * @param entityTypeGUID the GUID of the entity type that was requested as part of the search (or null for all)
+     * @param entitySubtypeGUIDs optional list of GUIDs of subtypes by which to further limit results
+     * @param matchProperties Optional list of property-based conditions to match.
+     * @param matchClassifications optional list of classification-based conditions to match.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @return IGCSearch, or null if there is no need to run any search for the mapping (it could not return results)
+     * @throws FunctionNotSupportedException when a regular expression is used for the search that is not supported
+     * @throws RepositoryErrorException on any other error
+     */
+    private IGCSearch getSearchForMapping(EntityMapping mapping,
+                                          String entityTypeGUID,
+                                          List<String> entitySubtypeGUIDs,
+                                          SearchProperties matchProperties,
+                                          SearchClassifications matchClassifications,
+                                          String sequencingProperty,
+                                          SequencingOrder sequencingOrder) throws
+            FunctionNotSupportedException,
+            RepositoryErrorException {
+
+        final String methodName = "getSearchForMapping";
+
         IGCOMRSMetadataCollection igcomrsMetadataCollection = (IGCOMRSMetadataCollection)igcomrsRepositoryConnector.getMetadataCollection();
 
         String igcAssetType = mapping.getIgcAssetType();
@@ -447,22 +588,9 @@ public class IGCRepositoryHelper {
                     igcSearchConditionSet.addNestedConditionSet(classificationLimiters);
                 }
 
-                IGCSearchSorting igcSearchSorting = null;
-                if (sequencingProperty == null && sequencingOrder != null) {
-                    igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
-                }
-
                 igcSearch.addProperties(mapping.getAllPropertiesForEntityDetail(igcRestClient, igcAssetType));
                 igcSearch.addConditions(igcSearchConditionSet);
-
-                setPagingForSearch(igcSearch, fromEntityElement, pageSize);
-
-                if (igcSearchSorting != null) {
-                    igcSearch.addSortingCriteria(igcSearchSorting);
-                } else {
-                    // Add a default sorting (by RID) to ensure consistent paging
-                    igcSearch.addSortingCriteria(IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID));
-                }
+                addSortingForMapping(igcSearch, mapping, sequencingProperty, sequencingOrder);
 
                 // If searching by qualifiedName, exact match (or starts with) we need to check results
                 // to remove any (non-)generated type based on the qualifiedName (because the search results
@@ -509,20 +637,7 @@ public class IGCRepositoryHelper {
                 }
 
                 if (includeResult) {
-                    try {
-                        processResults(
-                                mapping,
-                                this.igcRestClient.search(igcSearch),
-                                entityDetails,
-                                cache,
-                                matchProperties,
-                                null,
-                                pageSize,
-                                userId
-                        );
-                    } catch (IGCException e) {
-                        raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
-                    }
+                    return igcSearch;
                 } else {
                     log.debug("Skipping search for type '{}' as entitySubtypeGUIDs would filter it out anyway: {}.", igcAssetType, entitySubtypeGUIDs);
                 }
@@ -530,6 +645,91 @@ public class IGCRepositoryHelper {
                 log.debug("Skipping search for type '{}' as filter determined there would be no results anyway.", igcAssetType);
             }
         }
+        return null;
+    }
+
+    /**
+     * Add the sorting to use for searches against the provided mapping to the provided search: by the IGC property
+     * mapped to the sequencing property where IGC is able to sort by it (with ties broken by RID), otherwise by the
+     * sequencing order, otherwise by RID. (The EntitySearchMerger relies on this same order, including the ascending
+     * RID that breaks any ties, when merging the searches of several mappings.)
+     *
+     * @param igcSearch the IGC search object to which to add the sorting
+     * @param mapping the mapping to use for running the search
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     */
+    void addSortingForMapping(IGCSearch igcSearch,
+                              EntityMapping mapping,
+                              String sequencingProperty,
+                              SequencingOrder sequencingOrder) {
+        IGCSearchSorting igcSearchSorting = getSortingForMapping(mapping, sequencingProperty, sequencingOrder);
+        igcSearch.addSortingCriteria(igcSearchSorting);
+        if (!igcSearchSorting.getProperty().equals("_id")
+                && (SequencingOrder.PROPERTY_ASCENDING.equals(sequencingOrder) || SequencingOrder.PROPERTY_DESCENDING.equals(sequencingOrder))) {
+            // Break any ties in the property's values by RID, to ensure consistent paging
+            igcSearch.addSortingCriteria(IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID));
+        }
+    }
+
+    /**
+     * Retrieve the sorting to use for searches against the provided mapping, defaulting to sorting by RID to ensure
+     * consistent paging when no other sorting is requested (or possible).
+     *
+     * @param mapping the mapping to use for running the search
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @return IGCSearchSorting
+     */
+    private IGCSearchSorting getSortingForMapping(EntityMapping mapping,
+                                                  String sequencingProperty,
+                                                  SequencingOrder sequencingOrder) {
+        IGCSearchSorting igcSearchSorting = null;
+        if (sequencingProperty != null) {
+            igcSearchSorting = getSortingForProperty(mapping, sequencingProperty, sequencingOrder);
+        } else if (sequencingOrder != null) {
+            igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
+        }
+        if (igcSearchSorting == null) {
+            // Add a default sorting (by RID) to ensure consistent paging
+            igcSearchSorting = IGCRepositoryHelper.sortFromNonPropertySequencingOrder(SequencingOrder.GUID);
+        }
+        return igcSearchSorting;
+    }
+
+    /**
+     * Retrieve an IGC sorting equivalent to sequencing by the provided OMRS property, so long as the property is
+     * directly mapped to a (non-relationship) IGC property for the provided mapping, which IGC itself can then sort.
+     *
+     * @param mapping the mapping to use for running the search
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results
+     * @param sequencingOrder Enum defining how the results should be ordered (PROPERTY_ASCENDING or
+     *                        PROPERTY_DESCENDING)
+     * @return IGCSearchSorting, or null if the property cannot be sorted by IGC for this mapping
+     */
+    private IGCSearchSorting getSortingForProperty(EntityMapping mapping,
+                                                   String sequencingProperty,
+                                                   SequencingOrder sequencingOrder) {
+        if (sequencingOrder != null
+                && !sequencingOrder.equals(SequencingOrder.PROPERTY_ASCENDING)
+                && !sequencingOrder.equals(SequencingOrder.PROPERTY_DESCENDING)) {
+            return IGCRepositoryHelper.sortFromNonPropertySequencingOrder(sequencingOrder);
+        }
+        String igcPropertyName = mapping.getIgcPropertyName(sequencingProperty);
+        if (igcPropertyName != null) {
+            try {
+                List<String> sortableProperties = igcRestClient.getNonRelationshipPropertiesForType(mapping.getIgcAssetType());
+                if (sortableProperties.contains(igcPropertyName)) {
+                    return new IGCSearchSorting(igcPropertyName, !SequencingOrder.PROPERTY_DESCENDING.equals(sequencingOrder));
+                }
+            } catch (IGCException e) {
+                log.warn("Unable to retrieve properties of type '{}' -- not sorting by: {}", mapping.getIgcAssetType(), igcPropertyName, e);
+            }
+        }
+        log.debug("Property '{}' is not directly mapped for type '{}', so cannot be sorted by IGC.", sequencingProperty, mapping.getIgcAssetType());
+        return null;
     }
 
     private String addAllConditions(IGCSearchConditionSet igcSearchConditionSet,
@@ -641,35 +841,23 @@ public class IGCRepositoryHelper {
                 raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
             }
         }
-        for (Reference reference : results.getItems()) {
-            /* Only proceed with retrieving the EntityDetail if the type from IGC is not explicitly
-             * a 'main_object' (as these are non-API-accessible asset types in IGC like column analysis master,
-             * etc and will simply result in 400-code Bad Request messages from the API) */
-            if (!reference.getType().equals(DEFAULT_IGC_TYPE)) {
-                EntityDetail ed = null;
-
-                log.debug("processResults with mapper: {}", mapper.getClass().getCanonicalName());
-                IGCEntityGuid idToLookup;
-                if (mapper.igcRidNeedsPrefix()) {
-                    log.debug(" ... prefix required, getEntityDetail with: {}", mapper.getIgcRidPrefix() + "!" + reference.getId());
-                    idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), mapper.getIgcRidPrefix(), reference.getId());
-                } else {
-                    log.debug(" ... no prefix required, getEntityDetail with: {}", reference.getId());
-                    idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), reference.getId());
-                }
-                try {
-                    ed = getEntityDetailFromFullAsset(cache, userId, idToLookup, reference);
-                } catch (EntityNotKnownException e) {
-                    log.error("Unable to find entity: {}", idToLookup, e);
-                }
-                if (ed != null && includeResult(ed, matchProperties, searchCriteria)) {
+        List<Reference> items = results.getItems();
+        resolveClassificationsForPage(mapper, items, cache);
+        // Translate the results in parallel, only as many at a time as could still be needed to fill the page (as
+        // some may be excluded), adding those that match in the same order as the results themselves
+        int next = 0;
+        while (next < items.size() && (pageSize == 0 || entityDetails.size() < pageSize)) {
+            int end = pageSize == 0 ? items.size() : Math.min(items.size(), next + pageSize - entityDetails.size());
+            List<Callable<EntityDetail>> translations = new ArrayList<>();
+            for (Reference reference : items.subList(next, end)) {
+                translations.add(() -> getMatchingEntityDetail(mapper, reference, cache, matchProperties, searchCriteria, userId));
+            }
+            for (EntityDetail ed : igcomrsRepositoryConnector.runInParallel(translations, methodName)) {
+                if (ed != null) {
                     entityDetails.add(ed);
-                    // Stop adding details if we have hit the page size
-                    if (pageSize > 0 && entityDetails.size() == pageSize) {
-                        break;
-                    }
                 }
             }
+            next = end;
         }
 
         // If we haven't filled a page of results (because we needed to skip some above), recurse...
@@ -684,6 +872,66 @@ public class IGCRepositoryHelper {
 
     }
 
+    /**
+     * Resolve up-front, for a whole page of search results, the IGC relationships needed by the classifications of
+     * the provided mapping (so that they are not retrieved one result at a time as each result is translated).
+     *
+     * @param mapper the EntityMapping that will be used to translate the results
+     * @param results the page of IGC search results
+     * @param cache a cache of information that may already have been retrieved about the provided objects
+     * @throws RepositoryErrorException on any error resolving the relationships
+     */
+    void resolveClassificationsForPage(EntityMapping mapper,
+                                       List<Reference> results,
+                                       ObjectCache cache) throws RepositoryErrorException {
+        classificationResolver.resolveForPage(mapper, results, cache);
+    }
+
+    /**
+     * Translate a single search result into an EntityDetail, if it matches the provided criteria.
+     *
+     * @param mapper the EntityMapping that should be used to translate the result
+     * @param reference the IGC search result
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @param matchProperties the set of properties that should be matched (or null if none)
+     * @param searchCriteria the string search criteria that should be matched (or null if none)
+     * @param userId the user making the request
+     * @return EntityDetail, or null if the result could not be translated or does not match the criteria
+     * @throws RepositoryErrorException on any error translating the result
+     */
+    EntityDetail getMatchingEntityDetail(EntityMapping mapper,
+                                         Reference reference,
+                                         ObjectCache cache,
+                                         SearchProperties matchProperties,
+                                         String searchCriteria,
+                                         String userId) throws RepositoryErrorException {
+        /* Only proceed with retrieving the EntityDetail if the type from IGC is not explicitly
+         * a 'main_object' (as these are non-API-accessible asset types in IGC like column analysis master,
+         * etc and will simply result in 400-code Bad Request messages from the API) */
+        if (!reference.getType().equals(DEFAULT_IGC_TYPE)) {
+            EntityDetail ed = null;
+
+            log.debug("processResults with mapper: {}", mapper.getClass().getCanonicalName());
+            IGCEntityGuid idToLookup;
+            if (mapper.igcRidNeedsPrefix()) {
+                log.debug(" ... prefix required, getEntityDetail with: {}", mapper.getIgcRidPrefix() + "!" + reference.getId());
+                idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), mapper.getIgcRidPrefix(), reference.getId());
+            } else {
+                log.debug(" ... no prefix required, getEntityDetail with: {}", reference.getId());
+                idToLookup = new IGCEntityGuid(metadataCollectionId, reference.getType(), reference.getId());
+            }
+            try {
+                ed = getEntityDetailFromFullAsset(cache, userId, idToLookup, reference);
+            } catch (EntityNotKnownException e) {
+                log.error("Unable to find entity: {}", idToLookup, e);
+            }
+            if (ed != null && includeResult(ed, matchProperties, searchCriteria)) {
+                return ed;
+            }
+        }
+        return null;
+    }
+
     /**
      * Process the search results into the provided list of Relationship objects.
      *
@@ -1320,6 +1568,111 @@ public class IGCRepositoryHelper {
 
     }
 
+    /**
+     * Return the header, classifications and properties of each of the provided entities. The entities are grouped
+     * by their IGC asset type and prefix, and each group is retrieved with searches by its list of RIDs (using the
+     * properties needed by the group's mapping), rather than one entity at a time. The retrieved assets are then
+     * mapped in parallel.
+     *
+     * @param cache a cache of information that may already have been retrieved about the provided objects
+     * @param userId unique identifier for requesting user.
+     * @param guids unique IGC identifiers for the entities (any of which may be null).
+     * @return {@code List<EntityDetail>} in the same order as the provided GUIDs, with a null entry for any entity
+     *         that could not be found or mapped.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored, or any of the GUIDs is for an IGC object
+     *                                  of a type the REST API does not support (as for getEntityDetail).
+     */
+    public List<EntityDetail> getEntityDetails(ObjectCache cache, String userId, List<IGCEntityGuid> guids)
+            throws RepositoryErrorException {
+
+        final String methodName = "getEntityDetails";
+
+        // Group the positions of the GUIDs by the asset type and prefix through which they will be mapped
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        List<Integer> unsearchable = new ArrayList<>();
+        for (int i = 0; i < guids.size(); i++) {
+            IGCEntityGuid guid = guids.get(i);
+            if (guid != null && DEFAULT_IGC_TYPE.equals(guid.getAssetType())) {
+                // As when retrieved one at a time, an object of a type that the REST API does not support is an error
+                // (before anything is retrieved) rather than an entity that is not known
+                raiseRepositoryErrorException(IGCOMRSErrorCode.UNSUPPORTED_OBJECT_TYPE, methodName, guid.toString(), DEFAULT_IGC_TYPE, repositoryName);
+            } else if (guid != null && guid.getAssetType() != null) {
+                if (IGCRestConstants.getTypesThatCannotBeSearched().contains(guid.getAssetType())) {
+                    unsearchable.add(i);
+                } else {
+                    groups.computeIfAbsent(guid.getAssetType() + "!" + guid.getGeneratedPrefix(), k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        List<Integer> positions = new ArrayList<>();
+        List<Callable<EntityDetail>> translations = new ArrayList<>();
+        try {
+            for (List<Integer> group : groups.values()) {
+                IGCEntityGuid first = guids.get(group.get(0));
+                String igcType = first.getAssetType();
+                EntityMapping mapping = getEntityMappingByIgcType(igcType, first.getGeneratedPrefix());
+                if (mapping == null) {
+                    log.debug("No mapping found for type {} with prefix {}, skipping {} entities.", igcType, first.getGeneratedPrefix(), group.size());
+                    continue;
+                }
+                Set<String> rids = new LinkedHashSet<>();
+                for (int position : group) {
+                    rids.add(guids.get(position).getRid());
+                }
+                List<String> properties = mapping.getAllPropertiesForEntityDetail(igcRestClient, igcType);
+                Map<String, Reference> ridToAsset = new HashMap<>();
+                List<String> allRids = new ArrayList<>(rids);
+                for (int i = 0; i < allRids.size(); i += BULK_BATCH_SIZE) {
+                    List<String> batch = allRids.subList(i, Math.min(i + BULK_BATCH_SIZE, allRids.size()));
+                    IGCSearch igcSearch = new IGCSearch(IGCRestConstants.getAssetTypeForSearch(igcType),
+                            properties,
+                            new IGCSearchConditionSet(new IGCSearchCondition("_id", batch)));
+                    igcSearch.setPageSize(batch.size());
+                    ItemList<Reference> found = igcRestClient.search(igcSearch);
+                    for (Reference asset : igcRestClient.getAllPages(null, found)) {
+                        ridToAsset.put(asset.getId(), asset);
+                    }
+                }
+                resolveClassificationsForPage(mapping, new ArrayList<>(ridToAsset.values()), cache);
+                for (int position : group) {
+                    Reference asset = ridToAsset.get(guids.get(position).getRid());
+                    if (asset != null) {
+                        positions.add(position);
+                        translations.add(() -> getMatchingEntityDetail(mapping, asset, cache, null, null, userId));
+                    } else {
+                        log.debug("Unable to find entity: {}", guids.get(position));
+                    }
+                }
+            }
+        } catch (IGCException e) {
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
+        }
+
+        // Any types that cannot be searched must still be retrieved one at a time
+        for (int position : unsearchable) {
+            IGCEntityGuid guid = guids.get(position);
+            positions.add(position);
+            translations.add(() -> {
+                try {
+                    return getEntityDetail(cache, userId, guid);
+                } catch (EntityNotKnownException e) {
+                    log.debug("Unable to find entity: {}", guid, e);
+                    return null;
+                }
+            });
+        }
+
+        EntityDetail[] details = new EntityDetail[guids.size()];
+        List<EntityDetail> translated = igcomrsRepositoryConnector.runInParallel(translations, methodName);
+        for (int i = 0; i < translated.size(); i++) {
+            details[positions.get(i)] = translated.get(i);
+        }
+        return Arrays.asList(details);
+
+    }
+
     /**
      * Retrieves an instance of a mapping that can be used for the provided parameters (or null if none exists).
      *
@@ -1416,6 +1769,23 @@ public class IGCRepositoryHelper {
 
     }
 
+    /**
+     * Retrieves the names of all of the IGC asset types that are mapped to an OMRS entity type (other than by the
+     * default mapping that can be applied to any asset), in a consistent order.
+     *
+     * @return {@code List<String>}
+     */
+    public List<String> getMappedIgcAssetTypes() {
+        Set<String> assetTypes = new TreeSet<>();
+        for (EntityMapping mapping : entityMappingStore.getAllMappings()) {
+            String assetType = mapping.getIgcAssetType();
+            if (assetType != null && !assetType.equals(DEFAULT_IGC_TYPE)) {
+                assetTypes.add(assetType);
+            }
+        }
+        return new ArrayList<>(assetTypes);
+    }
+
     /**
      * Retrieves the IGC asset type from the provided IGC asset display name (only for those assets that have
      * a mapping implemented). If none is found, will return null.
@@ -2280,6 +2650,14 @@ public class IGCRepositoryHelper {
 
         // We need to translate the provided asset into a unique name for the stub
         String stubName = getStubNameForAsset(rid, type);
+
+        // Any write to the stub that has not yet reached IGC is the latest version of the stub
+        OMRSStubBuffer.PendingStub buffered = stubBuffer.get(stubName);
+        if (buffered != null) {
+            log.debug("Using buffered stub for asset: {}", stubName);
+            return buffered.isDeletion() ? null : buffered.toStub();
+        }
+
         IGCSearchCondition condition = new IGCSearchCondition(
                 "name",
                 "=",
@@ -2317,141 +2695,140 @@ public class IGCRepositoryHelper {
     }
 
     /**
-     * Update (or create if it does not already exist) the OMRS asset stub for the provided asset.
-     * (Note that this method assumes you have already retrieved the full asset being provided.)
+     * Retrieve the OMRS asset stubs (shadow copies of last versions of assets) for all of the provided asset details,
+     * in as few searches as possible (rather than one search per asset).
      *
-     * @param asset the asset for which to upsert the OMRS stub
-     * @return String the Repository ID (RID) of the OMRS stub
+     * @param ridToType the IGC asset types of the assets for which to retrieve the OMRS stubs, keyed by Repository ID (RID)
+     * @return {@code Map<String, OMRSStub>} keyed by RID, with a null value for any asset that has no existing stub
      * @throws IGCConnectivityException if there is any issue connecting to IGC
      * @throws IGCParsingException if there is any issue parsing responses from IGC
      */
-    public String upsertOMRSStubForAsset(Reference asset) throws IGCConnectivityException, IGCParsingException {
-
-        String stubName = getStubNameFromAsset(asset);
-
-        // Get the full asset details as a singular JSON payload
-        String payload = igcRestClient.getValueAsJSON(asset);
-
-        // Construct the asset XML document, including the full asset payload
-        StringWriter stringWriter = new StringWriter();
-        try {
-
-            XMLStreamWriter xmlStreamWriter = xmlOutputFactory.createXMLStreamWriter(stringWriter);
-            xmlStreamWriter.writeStartDocument("UTF-8", "1.0");
-
-            xmlStreamWriter.writeStartElement("doc");
-            xmlStreamWriter.writeNamespace("xmlns", "http://www.ibm.com/iis/flow-doc");
-
-            xmlStreamWriter.writeStartElement("assets");
-            xmlStreamWriter.writeStartElement("asset");
-
-            xmlStreamWriter.writeAttribute("class", "$OMRS-Stub");
-            xmlStreamWriter.writeAttribute("repr", stubName);
-            xmlStreamWriter.writeAttribute("ID", "stub1");
-
-            addAttributeToAssetXML(xmlStreamWriter, "name", stubName);
-            addAttributeToAssetXML(xmlStreamWriter, "$sourceType", asset.getType());
-            addAttributeToAssetXML(xmlStreamWriter, "$sourceRID", asset.getId());
-            addAttributeToAssetXML(xmlStreamWriter, "$payload", payload);
-
-            xmlStreamWriter.writeEndElement(); // </asset>
-            xmlStreamWriter.writeEndElement(); // </assets>
-
-            xmlStreamWriter.writeStartElement("importAction");
-            xmlStreamWriter.writeAttribute("completeAssetIDs", "stub1");
-            xmlStreamWriter.writeEndElement(); // </importAction>
-
-            xmlStreamWriter.writeEndElement(); // </doc>
-
-            xmlStreamWriter.writeEndDocument();
-            xmlStreamWriter.flush();
-            xmlStreamWriter.close();
-
-        } catch (XMLStreamException e) {
-            log.error("Unable to write XML stream: {}", asset, e);
+    public Map<String, OMRSStub> getOMRSStubsForAssets(Map<String, String> ridToType) throws IGCConnectivityException, IGCParsingException {
+
+        Map<String, OMRSStub> stubs = new HashMap<>();
+        Map<String, String> nameToRid = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : ridToType.entrySet()) {
+            String rid = entry.getKey();
+            String stubName = getStubNameForAsset(rid, entry.getValue());
+            // Any write to the stub that has not yet reached IGC is the latest version of the stub
+            OMRSStubBuffer.PendingStub buffered = stubBuffer.get(stubName);
+            if (buffered != null) {
+                stubs.put(rid, buffered.isDeletion() ? null : buffered.toStub());
+            } else {
+                stubs.put(rid, null);
+                nameToRid.put(stubName, rid);
+            }
         }
 
-        String stubXML = stringWriter.getBuffer().toString();
-        log.debug("Constructed XML for stub: {}", stubName);
-
-        // Upsert using the constructed asset XML
-        String results = igcRestClient.upsertOpenIgcAsset(stubXML);
-
-        return results.substring("stub1".length() + 5, results.length() - 2);
+        String[] properties = new String[]{ "name", "$sourceRID", "$sourceType", "$payload" };
+        List<String> allNames = new ArrayList<>(nameToRid.keySet());
+        for (int i = 0; i < allNames.size(); i += BULK_BATCH_SIZE) {
+            List<String> batch = allNames.subList(i, Math.min(i + BULK_BATCH_SIZE, allNames.size()));
+            // A batch of a single stub is searched for exactly as it would be on its own
+            IGCSearchCondition condition = batch.size() == 1 ? new IGCSearchCondition("name", "=", batch.get(0)) : new IGCSearchCondition("name", batch);
+            IGCSearch igcSearch = new IGCSearch("$OMRS-Stub", properties, new IGCSearchConditionSet(condition));
+            igcSearch.setPageSize(batch.size());
+            ItemList<OMRSStub> results = igcRestClient.search(igcSearch);
+            for (OMRSStub stub : igcRestClient.getAllPages(null, results)) {
+                String rid = nameToRid.get(stub.getName());
+                if (rid != null && stubs.get(rid) == null) {
+                    stubs.put(rid, stub);
+                } else if (rid != null) {
+                    log.warn("Found multiple stubs for asset, taking only the first: {}", stub.getName());
+                }
+            }
+        }
+        log.debug("Retrieved {} stubs in bulk for {} assets.", stubs.size(), ridToType.size());
+        return stubs;
 
     }
 
     /**
-     * Adds the provided attribute to the asset XML being constructed.
+     * Update (or create if it does not already exist) the OMRS asset stub for the provided asset.
+     * (Note that this method assumes you have already retrieved the full asset being provided.)
+     * <br><br>
+     * The update is buffered, and written to IGC together with the other buffered stubs (see flushOMRSStubs), though
+     * any subsequent retrieval of the stub will already reflect the update.
      *
-     * @param xmlStreamWriter the asset XML being constructed
-     * @param attrName the name of the attribute to add
-     * @param attrValue the value of the attribute
-     * @throws XMLStreamException for any error during the XML processing
+     * @param asset the asset for which to upsert the OMRS stub
+     * @throws IGCConnectivityException if there is any issue connecting to IGC
+     * @throws IGCParsingException if there is any issue parsing responses from IGC
+     * @throws IGCIOException if there is any issue journalling the update
      */
-    private void addAttributeToAssetXML(XMLStreamWriter xmlStreamWriter, String attrName, String attrValue) throws
-            XMLStreamException {
-        xmlStreamWriter.writeStartElement("attribute");
-        xmlStreamWriter.writeAttribute("name", attrName);
-        xmlStreamWriter.writeAttribute("value", attrValue);
-        xmlStreamWriter.writeEndElement(); // </attribute>
+    public void upsertOMRSStubForAsset(Reference asset) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+
+        String stubName = getStubNameFromAsset(asset);
+
+        // Get the full asset details as a singular JSON payload, in the compact encoding in which it is stored
+        String payload = OMRSStub.encodePayload(igcRestClient.getValueAsJSON(asset));
+
+        log.debug("Buffering upsert of stub: {}", stubName);
+        stubBuffer.upsert(stubName, asset.getType(), asset.getId(), payload);
+
     }
 
     /**
      * Delete the OMRS asset stub for the provided asset details (cannot require the asset itself since it has
      * already been removed).
+     * <br><br>
+     * The deletion is buffered, and written to IGC together with the other buffered stubs (see flushOMRSStubs),
+     * though any subsequent retrieval of the stub will already reflect the deletion.
      *
      * @param rid the Repository ID (RID) of the asset for which to delete the OMRS stub
      * @param assetType the IGC asset type of the asset for which to delete the OMRS stub
-     * @return boolean - true on successful deletion, false otherwise
      * @throws IGCConnectivityException if any issue interacting with IGC
+     * @throws IGCIOException if there is any issue journalling the deletion
      */
-    public boolean deleteOMRSStubForAsset(String rid, String assetType) throws IGCConnectivityException {
+    public void deleteOMRSStubForAsset(String rid, String assetType) throws IGCConnectivityException, IGCIOException {
 
         String stubName = getStubNameForAsset(rid, assetType);
 
-        // Construct the asset XML document, including the full asset payload
-        StringWriter stringWriter = new StringWriter();
-        try {
-
-            XMLStreamWriter xmlStreamWriter = xmlOutputFactory.createXMLStreamWriter(stringWriter);
-            xmlStreamWriter.writeStartDocument("UTF-8", "1.0");
-
-            xmlStreamWriter.writeStartElement("doc");
-            xmlStreamWriter.writeNamespace("xmlns", "http://www.ibm.com/iis/flow-doc");
-
-            xmlStreamWriter.writeStartElement("assets");
-            xmlStreamWriter.writeStartElement("asset");
-
-            xmlStreamWriter.writeAttribute("class", "$OMRS-Stub");
-            xmlStreamWriter.writeAttribute("repr", stubName);
-            xmlStreamWriter.writeAttribute("ID", "stub1");
-
-            addAttributeToAssetXML(xmlStreamWriter, "name", stubName);
-
-            xmlStreamWriter.writeEndElement(); // </asset>
-            xmlStreamWriter.writeEndElement(); // </assets>
-
-            xmlStreamWriter.writeStartElement("assetsToDelete");
-            xmlStreamWriter.writeCharacters("stub1");
-            xmlStreamWriter.writeEndElement(); // </assetsToDelete>
+        log.debug("Buffering deletion of stub: {}", stubName);
+        stubBuffer.delete(stubName);
 
-            xmlStreamWriter.writeEndElement(); // </doc>
-
-            xmlStreamWriter.writeEndDocument();
-            xmlStreamWriter.flush();
-            xmlStreamWriter.close();
+    }
 
-        } catch (XMLStreamException e) {
-            log.error("Unable to write XML stream.", e);
-        }
+    /**
+     * Start journalling the buffered upserts and deletions of OMRS asset stubs to local disk, so that they can be
+     * written to IGC in the background without being lost if the connector stops before they are written. Any
+     * upserts and deletions left in the journal from a previous run are recovered, and written to IGC.
+     *
+     * @param directory the directory in which to keep the journal
+     * @throws IGCIOException if the journal cannot be opened
+     */
+    public void openOMRSStubJournal(String directory) throws IGCIOException {
+        stubBuffer.openJournal(Paths.get(directory));
+    }
 
-        String stubXML = stringWriter.getBuffer().toString();
-        log.debug("Constructed XML for stub deletion: {}", stubName);
+    /**
+     * Make any buffered upserts and deletions of OMRS asset stubs durable: by syncing them to the journal if one has
+     * been opened (from which they are written to IGC in the background), or otherwise by writing them to IGC.
+     *
+     * @throws IGCConnectivityException if any issue interacting with IGC
+     * @throws IGCIOException if any issue syncing the journal
+     */
+    public void persistOMRSStubs() throws IGCConnectivityException, IGCIOException {
+        stubBuffer.sync();
+    }
 
-        // Delete using the constructed asset XML
-        return igcRestClient.deleteOpenIgcAsset(stubXML);
+    /**
+     * Write any buffered upserts and deletions of OMRS asset stubs to IGC, as multi-asset OpenIGC documents.
+     *
+     * @throws IGCConnectivityException if any issue interacting with IGC
+     * @throws IGCIOException if any issue with the journal
+     */
+    public void flushOMRSStubs() throws IGCConnectivityException, IGCIOException {
+        stubBuffer.flush();
+    }
 
+    /**
+     * Write any buffered upserts and deletions of OMRS asset stubs to IGC, and stop buffering them in the background.
+     *
+     * @throws IGCConnectivityException if any issue interacting with IGC
+     * @throws IGCIOException if any issue with the journal
+     */
+    public void closeOMRSStubs() throws IGCConnectivityException, IGCIOException {
+        stubBuffer.close();
     }
 
     /**
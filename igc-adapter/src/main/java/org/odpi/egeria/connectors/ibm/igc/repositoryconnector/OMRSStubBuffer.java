@@ -0,0 +1,803 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSAuditCode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.OMRSStub;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates the upserts and deletions of OMRS stubs, and writes them to IGC as multi-asset OpenIGC documents
+ * (one for all of the upserts and one for all of the deletions) rather than one document per stub.
+ * <br><br>
+ * The buffered writes are flushed once a number of stubs or a total size of stub payloads is reached, once the
+ * oldest buffered write reaches a maximum age, or whenever explicitly requested. Only the latest write for any given
+ * stub is retained, and any stub that is buffered (or being written) is retrieved from the buffer rather than from
+ * IGC, so that reading a stub always gives back what was last written to it.
+ * <br><br>
+ * When a journal is opened, every write is also appended to that journal on local disk, and the buffer becomes a
+ * write-behind: a write is durable as soon as the journal is synced, and a full buffer is handed off to be written to
+ * IGC in the background rather than by the caller (unless the background writes fall so far behind that the buffer
+ * reaches twice its limits). Any writes that have not been confirmed in IGC when the connector stops (or crashes) are
+ * recovered from the journal when it is next opened, and any writes in a batch that IGC does not confirm are retained
+ * to be retried.
+ * <br><br>
+ * When IGC rejects a whole document (rather than being unavailable), the document is split in half and each half
+ * written separately, until the stubs it rejects are isolated and the rest of the batch is written. Each write of a
+ * stub is retried up to a maximum number of times that IGC rejects it, after which it is dropped (and reported to the
+ * audit log) so that a single bad stub cannot be retried forever.
+ */
+class OMRSStubBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(OMRSStubBuffer.class);
+
+    static final int DEFAULT_MAX_STUBS = 100;
+    static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+    static final long DEFAULT_MAX_DELAY_MS = 5000;
+    static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private static final String STUB_TYPE = "$OMRS-Stub";
+    private static final String STUB_ID_PREFIX = "stub";
+
+    private final IGCRestClient igcRestClient;
+    private final XMLOutputFactory xmlOutputFactory;
+    private final ObjectMapper mapper;
+
+    private final int maxStubs;
+    private final long maxBytes;
+    private final long maxDelay;
+
+    // Guards the buffered writes (and the writes in-flight), which are keyed by stub name
+    private final Object lock = new Object();
+    // Held for the whole of a flush, so that successive writes to the same stub reach IGC in the order they were made
+    private final Object flushLock = new Object();
+
+    private Map<String, PendingStub> pending;
+    private Map<String, PendingStub> inFlight;
+    private long pendingBytes;
+    private boolean flushScheduled;
+    private boolean drainScheduled;
+    private boolean closed;
+
+    private OMRSStubJournal journal;
+    // The closed segments of the journal whose writes are not yet confirmed in IGC
+    private List<Path> unconfirmedSegments;
+
+    private ScheduledExecutorService timer;
+    private AuditLog auditLog;
+
+    /**
+     * Create a new buffer of stub writes, using the default limits.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param xmlOutputFactory the factory through which to construct the OpenIGC documents
+     */
+    OMRSStubBuffer(IGCRestClient igcRestClient, XMLOutputFactory xmlOutputFactory) {
+        this(igcRestClient, xmlOutputFactory, DEFAULT_MAX_STUBS, DEFAULT_MAX_BYTES, DEFAULT_MAX_DELAY_MS);
+    }
+
+    /**
+     * Create a new buffer of stub writes.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param xmlOutputFactory the factory through which to construct the OpenIGC documents
+     * @param maxStubs the number of buffered stubs at which to flush
+     * @param maxBytes the total size of buffered stub payloads at which to flush
+     * @param maxDelay the maximum time (in milliseconds) for which to buffer any write before flushing
+     */
+    OMRSStubBuffer(IGCRestClient igcRestClient, XMLOutputFactory xmlOutputFactory, int maxStubs, long maxBytes, long maxDelay) {
+        this.igcRestClient = igcRestClient;
+        this.xmlOutputFactory = xmlOutputFactory;
+        this.mapper = new ObjectMapper();
+        this.maxStubs = maxStubs;
+        this.maxBytes = maxBytes;
+        this.maxDelay = maxDelay;
+        this.pending = new LinkedHashMap<>();
+        this.inFlight = Collections.emptyMap();
+        this.pendingBytes = 0;
+        this.flushScheduled = false;
+        this.drainScheduled = false;
+        this.closed = false;
+        this.journal = null;
+        this.unconfirmedSegments = new ArrayList<>();
+        this.timer = null;
+        this.auditLog = null;
+    }
+
+    /**
+     * Set the audit log to which to report any stubs that are dropped.
+     *
+     * @param auditLog the audit log (or null to only log them)
+     */
+    void setAuditLog(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * Start journalling the writes to the buffer in the provided directory, first recovering any writes left in the
+     * journal (in that directory) that were never confirmed in IGC.
+     *
+     * @param directory the directory in which to keep the journal
+     * @throws IGCIOException if the journal cannot be opened or replayed
+     */
+    void openJournal(Path directory) throws IGCIOException {
+        synchronized (lock) {
+            if (journal != null) {
+                return;
+            }
+            try {
+                OMRSStubJournal opened = new OMRSStubJournal(directory);
+                List<Path> segments = new ArrayList<>();
+                Map<String, PendingStub> recovered = opened.replay(segments);
+                // Any writes already buffered are more recent than those recovered, so must also be journalled
+                for (PendingStub stub : pending.values()) {
+                    opened.append(stub);
+                }
+                if (!recovered.isEmpty()) {
+                    log.info("Recovered {} OMRS stub writes from journal: {}", recovered.size(), directory);
+                    requeue(recovered);
+                }
+                unconfirmedSegments.addAll(segments);
+                journal = opened;
+            } catch (IOException e) {
+                throw new IGCIOException("Unable to open the OMRS stub journal.", directory.toString(), e);
+            }
+            if (!pending.isEmpty() && !flushScheduled) {
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Buffer the upsert of a stub, flushing the buffer if this fills it.
+     *
+     * @param stubName the unique name of the stub
+     * @param sourceType the IGC asset type of the asset the stub represents
+     * @param sourceRID the Repository ID (RID) of the asset the stub represents
+     * @param payload the JSON payload of the asset the stub represents
+     * @throws IGCConnectivityException if the buffer is flushed and there is any issue writing to IGC
+     * @throws IGCIOException if there is any issue writing to the journal
+     */
+    void upsert(String stubName, String sourceType, String sourceRID, String payload) throws IGCConnectivityException, IGCIOException {
+        add(new PendingStub(stubName, sourceType, sourceRID, payload, false));
+    }
+
+    /**
+     * Buffer the deletion of a stub, flushing the buffer if this fills it.
+     *
+     * @param stubName the unique name of the stub
+     * @throws IGCConnectivityException if the buffer is flushed and there is any issue writing to IGC
+     * @throws IGCIOException if there is any issue writing to the journal
+     */
+    void delete(String stubName) throws IGCConnectivityException, IGCIOException {
+        add(new PendingStub(stubName, null, null, null, true));
+    }
+
+    /**
+     * Retrieve the stub with the provided name from the buffer, if there is a write buffered (or being written) for
+     * it.
+     *
+     * @param stubName the unique name of the stub
+     * @return PendingStub, or null if there is no write buffered for the stub (so it must be retrieved from IGC)
+     */
+    PendingStub get(String stubName) {
+        synchronized (lock) {
+            PendingStub buffered = pending.get(stubName);
+            return buffered != null ? buffered : inFlight.get(stubName);
+        }
+    }
+
+    /**
+     * Make all of the buffered stubs durable: by syncing them to the journal (from which they will be written to IGC
+     * in the background) if there is one, or otherwise by writing them to IGC.
+     *
+     * @throws IGCConnectivityException if there is no journal and there is any issue writing to IGC
+     * @throws IGCIOException if there is any issue syncing the journal
+     */
+    void sync() throws IGCConnectivityException, IGCIOException {
+        OMRSStubJournal toSync;
+        synchronized (lock) {
+            toSync = journal;
+        }
+        if (toSync == null) {
+            flush();
+        } else {
+            try {
+                toSync.sync();
+            } catch (IOException e) {
+                throw new IGCIOException("Unable to sync the OMRS stub journal.", toSync.getDirectory().toString(), e);
+            }
+        }
+    }
+
+    /**
+     * Write all of the buffered stubs to IGC. Any stubs that are not written (whether the whole write fails, IGC does
+     * not confirm the upsert of a stub, or it cannot delete the stubs) are retained in the buffer to be retried, other
+     * than any that IGC has now rejected the maximum number of times, which are dropped.
+     *
+     * @throws IGCConnectivityException if there is any issue writing to IGC, or any of the stubs were not written
+     * @throws IGCIOException if there is any issue rolling the journal, or removing the writes it holds once confirmed
+     */
+    void flush() throws IGCConnectivityException, IGCIOException {
+        synchronized (flushLock) {
+            Map<String, PendingStub> batch;
+            List<Path> segments;
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                segments = rollJournal();
+                batch = pending;
+                inFlight = batch;
+                pending = new LinkedHashMap<>();
+                pendingBytes = 0;
+            }
+            Map<String, PendingStub> unwritten = batch;
+            try {
+                List<PendingStub> upserts = new ArrayList<>();
+                List<PendingStub> deletions = new ArrayList<>();
+                for (PendingStub stub : batch.values()) {
+                    if (stub.isDeletion()) {
+                        deletions.add(stub);
+                    } else {
+                        upserts.add(stub);
+                    }
+                }
+                Map<String, PendingStub> failed = new LinkedHashMap<>();
+                List<PendingStub> dropped = new ArrayList<>();
+                if (!deletions.isEmpty()) {
+                    log.debug("Deleting {} OMRS stubs.", deletions.size());
+                    writeDeletions(deletions, failed, dropped);
+                }
+                if (!upserts.isEmpty()) {
+                    log.debug("Upserting {} OMRS stubs.", upserts.size());
+                    writeUpserts(upserts, failed, dropped);
+                }
+                unwritten = failed;
+                reportDropped(dropped);
+            } finally {
+                synchronized (lock) {
+                    inFlight = Collections.emptyMap();
+                    if (!unwritten.isEmpty()) {
+                        requeue(unwritten);
+                        if (!flushScheduled) {
+                            scheduleFlush();
+                        }
+                    }
+                }
+            }
+            if (!unwritten.isEmpty()) {
+                // The segments still hold the writes that were returned to the buffer, so are kept until they are
+                // confirmed by a later flush
+                throw new IGCConnectivityException("Unable to write " + unwritten.size() + " of " + batch.size() + " OMRS stubs to IGC.", String.join(", ", unwritten.keySet()));
+            }
+            confirmSegments(segments);
+        }
+    }
+
+    /**
+     * Delete the provided stubs from IGC through a single document, splitting the document to isolate any stubs that
+     * cause IGC to reject it.
+     *
+     * @param deletions the stubs to delete
+     * @param failed the stubs that were not deleted, to be retried, to which to add
+     * @param dropped the stubs that were not deleted and have been rejected too many times, to which to add
+     * @throws IGCConnectivityException if IGC is unavailable (rather than rejecting the deletion)
+     */
+    private void writeDeletions(List<PendingStub> deletions,
+                                Map<String, PendingStub> failed,
+                                List<PendingStub> dropped) throws IGCConnectivityException {
+        boolean deleted;
+        try {
+            deleted = igcRestClient.deleteOpenIgcAsset(getXML(deletions, true));
+        } catch (IGCConnectivityException e) {
+            if (!isRejection(e)) {
+                throw e;
+            }
+            log.debug("IGC rejected the deletion of {} OMRS stubs.", deletions.size(), e);
+            deleted = false;
+        }
+        if (!deleted) {
+            if (deletions.size() > 1) {
+                log.debug("Splitting the deletion of {} OMRS stubs to isolate those that cannot be deleted.", deletions.size());
+                int half = deletions.size() / 2;
+                writeDeletions(deletions.subList(0, half), failed, dropped);
+                writeDeletions(deletions.subList(half, deletions.size()), failed, dropped);
+            } else {
+                log.warn("Unable to delete OMRS stub: {}", deletions.get(0).getStubName());
+                reject(deletions.get(0), failed, dropped);
+            }
+        }
+    }
+
+    /**
+     * Upsert the provided stubs to IGC through a single document, splitting the document to isolate any stubs that
+     * cause IGC to reject it.
+     *
+     * @param upserts the stubs to upsert
+     * @param failed the stubs that were not upserted, to be retried, to which to add
+     * @param dropped the stubs that were not upserted and have been rejected too many times, to which to add
+     * @throws IGCConnectivityException if IGC is unavailable (rather than rejecting the upsert)
+     */
+    private void writeUpserts(List<PendingStub> upserts,
+                              Map<String, PendingStub> failed,
+                              List<PendingStub> dropped) throws IGCConnectivityException {
+        String results;
+        try {
+            results = igcRestClient.upsertOpenIgcAsset(getXML(upserts, false));
+        } catch (IGCConnectivityException e) {
+            if (!isRejection(e)) {
+                throw e;
+            }
+            log.debug("IGC rejected the upsert of {} OMRS stubs.", upserts.size(), e);
+            results = null;
+        }
+        List<PendingStub> unwritten = getUnwrittenUpserts(results, upserts);
+        if (upserts.size() > 1 && unwritten.size() == upserts.size()) {
+            log.debug("Splitting the upsert of {} OMRS stubs to isolate those that cannot be upserted.", upserts.size());
+            int half = upserts.size() / 2;
+            writeUpserts(upserts.subList(0, half), failed, dropped);
+            writeUpserts(upserts.subList(half, upserts.size()), failed, dropped);
+        } else {
+            for (PendingStub stub : unwritten) {
+                reject(stub, failed, dropped);
+            }
+        }
+    }
+
+    /**
+     * Indicates whether the provided failure is IGC rejecting a request (a client error other than for the session),
+     * as opposed to IGC being unavailable.
+     *
+     * @param e the failure
+     * @return boolean
+     */
+    private static boolean isRejection(IGCConnectivityException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof HttpClientErrorException
+                && !(cause instanceof HttpClientErrorException.Forbidden)
+                && !(cause instanceof HttpClientErrorException.Unauthorized);
+    }
+
+    /**
+     * Record that IGC did not write the provided stub: retaining it to retry, unless it has now been rejected the
+     * maximum number of times.
+     *
+     * @param stub the stub that was not written
+     * @param failed the stubs to be retried, to which to add
+     * @param dropped the stubs to be dropped, to which to add
+     */
+    private void reject(PendingStub stub, Map<String, PendingStub> failed, List<PendingStub> dropped) {
+        if (stub.addFailedAttempt() >= MAX_WRITE_ATTEMPTS) {
+            dropped.add(stub);
+        } else {
+            failed.put(stub.getStubName(), stub);
+        }
+    }
+
+    /**
+     * Report each of the provided stubs, which are being dropped rather than retried.
+     *
+     * @param dropped the stubs being dropped
+     */
+    private void reportDropped(List<PendingStub> dropped) {
+        final String methodName = "reportDropped";
+        for (PendingStub stub : dropped) {
+            String attempts = String.valueOf(stub.getFailedAttempts());
+            log.error("Dropping the {} of OMRS stub {} after IGC rejected it {} times.", stub.isDeletion() ? "deletion" : "upsert", stub.getStubName(), attempts);
+            if (auditLog != null) {
+                auditLog.logMessage(methodName, IGCOMRSAuditCode.OMRS_STUB_DROPPED.getMessageDefinition(stub.getStubName(), attempts));
+            }
+        }
+    }
+
+    /**
+     * Write all of the buffered stubs to IGC, and stop any timed flushing of the buffer (and any journalling of it).
+     *
+     * @throws IGCConnectivityException if there is any issue writing to IGC
+     * @throws IGCIOException if there is any issue with the journal
+     */
+    void close() throws IGCConnectivityException, IGCIOException {
+        synchronized (lock) {
+            if (timer != null) {
+                timer.shutdownNow();
+                timer = null;
+            }
+            flushScheduled = false;
+            drainScheduled = false;
+            closed = true;
+        }
+        try {
+            flush();
+        } finally {
+            OMRSStubJournal toClose;
+            synchronized (lock) {
+                toClose = journal;
+                journal = null;
+            }
+            if (toClose != null) {
+                try {
+                    // Any writes not confirmed in IGC remain in the journal, to be recovered when it is next opened
+                    toClose.close();
+                } catch (IOException e) {
+                    log.error("Unable to close the OMRS stub journal: {}", toClose.getDirectory(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the provided write to the buffer (replacing any earlier write for the same stub), flushing the buffer if
+     * this fills it, or otherwise ensuring that the buffer will be flushed in time. When journalling, a full buffer is
+     * instead flushed in the background, unless it has reached twice its limits.
+     *
+     * @param stub the write to buffer
+     * @throws IGCConnectivityException if the buffer is flushed and there is any issue writing to IGC
+     * @throws IGCIOException if there is any issue writing to the journal
+     */
+    private void add(PendingStub stub) throws IGCConnectivityException, IGCIOException {
+        boolean full;
+        synchronized (lock) {
+            if (journal != null) {
+                try {
+                    journal.append(stub);
+                } catch (IOException e) {
+                    throw new IGCIOException("Unable to write to the OMRS stub journal.", journal.getDirectory().toString(), e);
+                }
+            }
+            PendingStub replaced = pending.put(stub.getStubName(), stub);
+            if (replaced != null) {
+                pendingBytes -= replaced.getSize();
+            }
+            pendingBytes += stub.getSize();
+            full = pending.size() >= maxStubs || pendingBytes >= maxBytes;
+            if (full && journal != null && pending.size() < 2 * maxStubs && pendingBytes < 2 * maxBytes) {
+                if (!drainScheduled) {
+                    scheduleDrain();
+                }
+                full = false;
+            }
+            if (!full && !flushScheduled) {
+                scheduleFlush();
+            }
+        }
+        if (full) {
+            flush();
+        }
+    }
+
+    /**
+     * Return the provided writes to the buffer, ahead of (and without replacing) any writes that have since been
+     * buffered for the same stubs (must be called while holding the lock).
+     *
+     * @param writes the writes to return to the buffer
+     */
+    private void requeue(Map<String, PendingStub> writes) {
+        Map<String, PendingStub> requeued = new LinkedHashMap<>();
+        for (PendingStub stub : writes.values()) {
+            if (!pending.containsKey(stub.getStubName())) {
+                requeued.put(stub.getStubName(), stub);
+            }
+        }
+        requeued.putAll(pending);
+        pending = requeued;
+        pendingBytes = 0;
+        for (PendingStub stub : pending.values()) {
+            pendingBytes += stub.getSize();
+        }
+    }
+
+    /**
+     * Roll the journal (if there is one), so that the writes about to be flushed are all held by closed segments (must
+     * be called while holding the lock).
+     *
+     * @return {@code List<Path>} of all of the closed segments not yet confirmed in IGC
+     * @throws IGCIOException if the journal cannot be rolled
+     */
+    private List<Path> rollJournal() throws IGCIOException {
+        if (journal == null) {
+            return Collections.emptyList();
+        }
+        try {
+            Path rolled = journal.roll();
+            if (rolled != null) {
+                unconfirmedSegments.add(rolled);
+            }
+        } catch (IOException e) {
+            throw new IGCIOException("Unable to roll the OMRS stub journal.", journal.getDirectory().toString(), e);
+        }
+        return new ArrayList<>(unconfirmedSegments);
+    }
+
+    /**
+     * Remove the provided segments from the journal, now that all of the writes they hold are confirmed in IGC.
+     *
+     * @param segments the segments to remove
+     * @throws IGCIOException if any of the segments cannot be removed
+     */
+    private void confirmSegments(List<Path> segments) throws IGCIOException {
+        if (segments.isEmpty()) {
+            return;
+        }
+        OMRSStubJournal confirmed;
+        synchronized (lock) {
+            confirmed = journal;
+        }
+        if (confirmed != null) {
+            try {
+                confirmed.delete(segments);
+            } catch (IOException e) {
+                throw new IGCIOException("Unable to remove confirmed writes from the OMRS stub journal.", confirmed.getDirectory().toString(), e);
+            }
+        }
+        synchronized (lock) {
+            unconfirmedSegments.removeAll(segments);
+        }
+    }
+
+    /**
+     * Schedule a flush of the buffer for when its oldest write reaches the maximum age (must be called while holding
+     * the lock).
+     */
+    private void scheduleFlush() {
+        if (closed) {
+            return;
+        }
+        flushScheduled = true;
+        getTimer().schedule(() -> {
+            synchronized (lock) {
+                flushScheduled = false;
+            }
+            flushInBackground();
+        }, maxDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedule an immediate flush of the buffer in the background, for a buffer that is already full (must be called
+     * while holding the lock).
+     */
+    private void scheduleDrain() {
+        if (closed) {
+            return;
+        }
+        drainScheduled = true;
+        getTimer().execute(() -> {
+            synchronized (lock) {
+                drainScheduled = false;
+            }
+            flushInBackground();
+        });
+    }
+
+    /**
+     * Flush the buffer from the background thread, where there is no caller to report any failure to.
+     */
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (IGCException e) {
+            log.error("Unable to write buffered OMRS stubs to IGC.", e);
+        }
+    }
+
+    /**
+     * Retrieve the background thread through which the buffer is flushed, starting it if needed (must be called
+     * while holding the lock).
+     *
+     * @return ScheduledExecutorService
+     */
+    private ScheduledExecutorService getTimer() {
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "IGC-OMRS-stub-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return timer;
+    }
+
+    /**
+     * Construct a single OpenIGC document that either upserts or deletes all of the provided stubs.
+     *
+     * @param stubs the stubs to include in the document
+     * @param delete true to delete the stubs, false to upsert them
+     * @return String of XML
+     */
+    private String getXML(List<PendingStub> stubs, boolean delete) {
+
+        StringWriter stringWriter = new StringWriter();
+        try {
+
+            XMLStreamWriter xmlStreamWriter = xmlOutputFactory.createXMLStreamWriter(stringWriter);
+            xmlStreamWriter.writeStartDocument("UTF-8", "1.0");
+
+            xmlStreamWriter.writeStartElement("doc");
+            xmlStreamWriter.writeNamespace("xmlns", "http://www.ibm.com/iis/flow-doc");
+
+            xmlStreamWriter.writeStartElement("assets");
+            StringJoiner ids = new StringJoiner(",");
+            for (int i = 0; i < stubs.size(); i++) {
+                PendingStub stub = stubs.get(i);
+                String id = STUB_ID_PREFIX + (i + 1);
+                ids.add(id);
+                xmlStreamWriter.writeStartElement("asset");
+                xmlStreamWriter.writeAttribute("class", STUB_TYPE);
+                xmlStreamWriter.writeAttribute("repr", stub.getStubName());
+                xmlStreamWriter.writeAttribute("ID", id);
+                addAttributeToAssetXML(xmlStreamWriter, "name", stub.getStubName());
+                if (!delete) {
+                    addAttributeToAssetXML(xmlStreamWriter, "$sourceType", stub.getSourceType());
+                    addAttributeToAssetXML(xmlStreamWriter, "$sourceRID", stub.getSourceRID());
+                    addAttributeToAssetXML(xmlStreamWriter, "$payload", stub.getPayload());
+                }
+                xmlStreamWriter.writeEndElement(); // </asset>
+            }
+            xmlStreamWriter.writeEndElement(); // </assets>
+
+            if (delete) {
+                xmlStreamWriter.writeStartElement("assetsToDelete");
+                xmlStreamWriter.writeCharacters(ids.toString());
+                xmlStreamWriter.writeEndElement(); // </assetsToDelete>
+            } else {
+                xmlStreamWriter.writeStartElement("importAction");
+                xmlStreamWriter.writeAttribute("completeAssetIDs", ids.toString());
+                xmlStreamWriter.writeEndElement(); // </importAction>
+            }
+
+            xmlStreamWriter.writeEndElement(); // </doc>
+
+            xmlStreamWriter.writeEndDocument();
+            xmlStreamWriter.flush();
+            xmlStreamWriter.close();
+
+        } catch (XMLStreamException e) {
+            log.error("Unable to write XML stream for {} stubs.", stubs.size(), e);
+        }
+
+        return stringWriter.getBuffer().toString();
+
+    }
+
+    /**
+     * Adds the provided attribute to the asset XML being constructed.
+     *
+     * @param xmlStreamWriter the asset XML being constructed
+     * @param attrName the name of the attribute to add
+     * @param attrValue the value of the attribute
+     * @throws XMLStreamException for any error during the XML processing
+     */
+    private void addAttributeToAssetXML(XMLStreamWriter xmlStreamWriter, String attrName, String attrValue) throws
+            XMLStreamException {
+        xmlStreamWriter.writeStartElement("attribute");
+        xmlStreamWriter.writeAttribute("name", attrName);
+        xmlStreamWriter.writeAttribute("value", attrValue);
+        xmlStreamWriter.writeEndElement(); // </attribute>
+    }
+
+    /**
+     * Parse the mapping of document IDs to RIDs returned by an upsert, for all of the stubs at once, to determine
+     * which of the stubs IGC did not confirm were upserted.
+     *
+     * @param results the response to the upsert
+     * @param upserts the stubs that were upserted, in the order they were included in the document
+     * @return {@code List<PendingStub>} of the stubs that were not upserted (all of them if the response is unusable)
+     */
+    private List<PendingStub> getUnwrittenUpserts(String results, List<PendingStub> upserts) {
+        if (results == null) {
+            log.warn("No response received for the upsert of {} OMRS stubs.", upserts.size());
+            return upserts;
+        }
+        Map<String, String> idToRid;
+        try {
+            idToRid = mapper.readValue(results, new TypeReference<Map<String, String>>() {});
+        } catch (IOException e) {
+            log.warn("Unable to parse the response to the upsert of {} OMRS stubs: {}", upserts.size(), results, e);
+            return upserts;
+        }
+        List<PendingStub> unwritten = new ArrayList<>();
+        for (int i = 0; i < upserts.size(); i++) {
+            if (idToRid == null || idToRid.get(STUB_ID_PREFIX + (i + 1)) == null) {
+                unwritten.add(upserts.get(i));
+            }
+        }
+        if (unwritten.isEmpty()) {
+            log.debug("Upserted {} OMRS stubs.", upserts.size());
+        } else {
+            log.warn("Only {} of {} OMRS stubs were upserted -- retaining the rest to retry: {}", upserts.size() - unwritten.size(), upserts.size(), results);
+        }
+        return unwritten;
+    }
+
+    /**
+     * A single buffered write of a stub: either its latest payload, or its deletion.
+     */
+    static class PendingStub {
+
+        private final String stubName;
+        private final String sourceType;
+        private final String sourceRID;
+        private final String payload;
+        private final boolean deletion;
+        private int failedAttempts;
+
+        PendingStub(String stubName, String sourceType, String sourceRID, String payload, boolean deletion) {
+            this.stubName = stubName;
+            this.sourceType = sourceType;
+            this.sourceRID = sourceRID;
+            this.payload = payload;
+            this.deletion = deletion;
+            this.failedAttempts = 0;
+        }
+
+        String getStubName() { return stubName; }
+        String getSourceType() { return sourceType; }
+        String getSourceRID() { return sourceRID; }
+        String getPayload() { return payload; }
+
+        /**
+         * Indicates whether this write is the deletion of the stub (true) or an upsert (false).
+         *
+         * @return boolean
+         */
+        boolean isDeletion() { return deletion; }
+
+        /**
+         * Record that IGC has rejected this write once more.
+         *
+         * @return int the number of times IGC has now rejected this write
+         */
+        int addFailedAttempt() { return ++failedAttempts; }
+
+        /**
+         * Retrieve the number of times IGC has rejected this write.
+         *
+         * @return int
+         */
+        int getFailedAttempts() { return failedAttempts; }
+
+        /**
+         * Retrieve the (approximate) number of bytes this write adds to an OpenIGC document.
+         *
+         * @return long
+         */
+        long getSize() { return stubName.length() + (payload == null ? 0 : payload.length()); }
+
+        /**
+         * Retrieve the stub as it will be once this write is made (only valid for an upsert).
+         *
+         * @return OMRSStub
+         */
+        OMRSStub toStub() {
+            OMRSStub stub = new OMRSStub();
+            stub.setType(STUB_TYPE);
+            stub.setName(stubName);
+            stub.setSourceType(sourceType);
+            stub.setSourceRID(sourceRID);
+            stub.setPayload(payload);
+            return stub;
+        }
+
+    }
+
+}
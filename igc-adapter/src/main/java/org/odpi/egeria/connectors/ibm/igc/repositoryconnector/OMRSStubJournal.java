@@ -0,0 +1,281 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An append-only journal of the writes made to OMRS stubs, kept on local disk so that writes that have been accepted
+ * (but not yet written to IGC) survive a crash of the connector.
+ * <br><br>
+ * The journal is made up of numbered segment files within a single directory, each holding one JSON line per write.
+ * Writes are always appended to the current segment, which is rolled (closed, and a new one started) whenever the
+ * writes it holds are taken to be written to IGC: a closed segment can then be deleted once those writes are confirmed
+ * in IGC, and any segments that remain when the journal is next opened are replayed (in order) to recover the writes
+ * that were never confirmed.
+ */
+class OMRSStubJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(OMRSStubJournal.class);
+
+    private static final String SEGMENT_PREFIX = "omrs-stubs-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final Pattern SEGMENT_NAME = Pattern.compile(Pattern.quote(SEGMENT_PREFIX) + "(\\d+)" + Pattern.quote(SEGMENT_SUFFIX));
+
+    private static final String NAME = "name";
+    private static final String SOURCE_TYPE = "type";
+    private static final String SOURCE_RID = "rid";
+    private static final String PAYLOAD = "payload";
+    private static final String DELETE = "delete";
+
+    private final Path directory;
+    private final ObjectMapper mapper;
+
+    private long nextSequence;
+    private Path currentSegment;
+    private FileChannel currentChannel;
+
+    /**
+     * Open the journal in the provided directory (creating the directory if it does not already exist). Any segments
+     * already in the directory are left untouched, to be replayed; new writes are only ever appended to a new segment.
+     *
+     * @param directory the directory in which to keep the journal
+     * @throws IOException if the directory cannot be created or read
+     */
+    OMRSStubJournal(Path directory) throws IOException {
+        this.directory = directory;
+        this.mapper = new ObjectMapper();
+        Files.createDirectories(directory);
+        long highest = 0;
+        for (Path segment : getSegments()) {
+            highest = Math.max(highest, getSequence(segment));
+        }
+        this.nextSequence = highest + 1;
+        this.currentSegment = null;
+        this.currentChannel = null;
+    }
+
+    /**
+     * Retrieve the directory in which the journal is kept.
+     *
+     * @return Path
+     */
+    Path getDirectory() { return directory; }
+
+    /**
+     * Append the provided write to the current segment of the journal. (Note that the write is only durable once the
+     * journal has subsequently been synced.)
+     *
+     * @param stub the write to append
+     * @throws IOException if the write cannot be appended
+     */
+    synchronized void append(OMRSStubBuffer.PendingStub stub) throws IOException {
+        if (currentChannel == null) {
+            openSegment();
+        }
+        ObjectNode entry = mapper.createObjectNode();
+        entry.put(NAME, stub.getStubName());
+        if (stub.isDeletion()) {
+            entry.put(DELETE, true);
+        } else {
+            entry.put(SOURCE_TYPE, stub.getSourceType());
+            entry.put(SOURCE_RID, stub.getSourceRID());
+            entry.put(PAYLOAD, stub.getPayload());
+        }
+        ByteBuffer line = ByteBuffer.wrap((mapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            currentChannel.write(line);
+        }
+    }
+
+    /**
+     * Force all of the writes appended to the current segment of the journal out to disk.
+     *
+     * @throws IOException if the segment cannot be synced
+     */
+    synchronized void sync() throws IOException {
+        if (currentChannel != null) {
+            currentChannel.force(false);
+        }
+    }
+
+    /**
+     * Close the current segment of the journal (after syncing it), so that subsequent writes are appended to a new
+     * segment.
+     *
+     * @return Path of the segment that was closed, or null if no writes have been appended since it was last rolled
+     * @throws IOException if the segment cannot be synced or closed
+     */
+    synchronized Path roll() throws IOException {
+        Path rolled = currentSegment;
+        if (currentChannel != null) {
+            try {
+                currentChannel.force(false);
+            } finally {
+                currentChannel.close();
+                currentChannel = null;
+                currentSegment = null;
+            }
+        }
+        return rolled;
+    }
+
+    /**
+     * Read back all of the writes held by the segments already in the journal's directory, in the order they were
+     * made (only the latest write for any given stub is retained). Any partially-written line at the end of a segment
+     * (ie. a write that was never synced before a crash) is ignored.
+     *
+     * @param segments to which the segments that were read are added, in order
+     * @return {@code Map<String, OMRSStubBuffer.PendingStub>} of the writes, keyed by stub name
+     * @throws IOException if the segments cannot be read
+     */
+    synchronized Map<String, OMRSStubBuffer.PendingStub> replay(List<Path> segments) throws IOException {
+        Map<String, OMRSStubBuffer.PendingStub> writes = new LinkedHashMap<>();
+        for (Path segment : getSegments()) {
+            if (segment.equals(currentSegment)) {
+                continue;
+            }
+            segments.add(segment);
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    OMRSStubBuffer.PendingStub stub = parse(segment, line);
+                    if (stub != null) {
+                        // Remove first, so that the order of the writes reflects the latest write to each stub
+                        writes.remove(stub.getStubName());
+                        writes.put(stub.getStubName(), stub);
+                    }
+                }
+            }
+        }
+        return writes;
+    }
+
+    /**
+     * Delete the provided (closed) segments of the journal, once all of the writes they hold are confirmed in IGC.
+     *
+     * @param segments the segments to delete
+     * @throws IOException if any segment cannot be deleted
+     */
+    synchronized void delete(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            log.debug("Removing OMRS stub journal segment: {}", segment);
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    /**
+     * Close the journal, syncing any writes appended to its current segment (which will be replayed when the journal
+     * is next opened).
+     *
+     * @throws IOException if the current segment cannot be synced or closed
+     */
+    synchronized void close() throws IOException {
+        roll();
+    }
+
+    /**
+     * Start a new segment of the journal, as the current segment.
+     *
+     * @throws IOException if the segment cannot be created
+     */
+    private void openSegment() throws IOException {
+        Path segment = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+        log.debug("Starting OMRS stub journal segment: {}", segment);
+        currentChannel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        currentSegment = segment;
+        syncDirectory();
+    }
+
+    /**
+     * Sync the journal's directory itself, so that a newly-created segment is not lost along with its directory entry.
+     * (Not every platform allows a directory to be synced, so this is only ever done on a best-effort basis.)
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Unable to sync OMRS stub journal directory: {}", directory, e);
+        }
+    }
+
+    /**
+     * Retrieve all of the segments in the journal's directory, in the order in which they were created.
+     *
+     * @return {@code List<Path>}
+     * @throws IOException if the directory cannot be read
+     */
+    private List<Path> getSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : stream) {
+                if (getSequence(segment) > 0) {
+                    segments.add(segment);
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong(OMRSStubJournal::getSequence));
+        return segments;
+    }
+
+    /**
+     * Parse a single line of a segment back into the write it records.
+     *
+     * @param segment the segment from which the line was read
+     * @param line the line to parse
+     * @return OMRSStubBuffer.PendingStub, or null if the line is not a complete write
+     */
+    private OMRSStubBuffer.PendingStub parse(Path segment, String line) {
+        try {
+            JsonNode entry = mapper.readTree(line);
+            if (entry == null || !entry.hasNonNull(NAME)) {
+                log.warn("Skipping incomplete entry in OMRS stub journal segment {}: {}", segment, line);
+                return null;
+            }
+            String stubName = entry.get(NAME).asText();
+            if (entry.path(DELETE).asBoolean(false)) {
+                return new OMRSStubBuffer.PendingStub(stubName, null, null, null, true);
+            }
+            return new OMRSStubBuffer.PendingStub(stubName,
+                    entry.path(SOURCE_TYPE).asText(null),
+                    entry.path(SOURCE_RID).asText(null),
+                    entry.path(PAYLOAD).asText(null),
+                    false);
+        } catch (IOException e) {
+            log.warn("Skipping unreadable entry in OMRS stub journal segment {}: {}", segment, line, e);
+            return null;
+        }
+    }
+
+    /**
+     * Retrieve the sequence number of the provided segment.
+     *
+     * @param segment the segment
+     * @return long, or 0 if the file is not a segment of the journal
+     */
+    private static long getSequence(Path segment) {
+        Matcher matcher = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+}
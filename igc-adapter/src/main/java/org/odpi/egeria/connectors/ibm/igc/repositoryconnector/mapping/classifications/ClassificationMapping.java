@@ -49,6 +49,8 @@ public abstract class ClassificationMapping extends InstanceMapping {
 
     private List<ClassificationMapping> subtypes;
 
+    private boolean relatedIdentitiesRequired;
+
     public ClassificationMapping(String igcAssetType,
                                  String igcRelationshipProperty,
                                  String omrsEntityType,
@@ -66,6 +68,7 @@ public abstract class ClassificationMapping extends InstanceMapping {
         this.mappingByIgcProperty = new HashMap<>();
         this.mappingByOmrsProperty = new HashMap<>();
         this.subtypes = new ArrayList<>();
+        this.relatedIdentitiesRequired = false;
         addSupportedStatus(InstanceStatus.ACTIVE);
         addSupportedStatus(InstanceStatus.DELETED);
     }
@@ -196,6 +199,27 @@ public abstract class ClassificationMapping extends InstanceMapping {
      */
     public void addIgcRelationshipProperty(String property) { this.igcRelationshipProperties.add(property); }
 
+    /**
+     * Retrieve the IGC relationship properties needed to setup this classification.
+     *
+     * @return {@code List<String>}
+     */
+    public List<String> getIgcRelationshipProperties() { return this.igcRelationshipProperties; }
+
+    /**
+     * Indicate that setting up this classification requires the identity (context) of the objects related through
+     * its IGC relationship properties, and not only the relationships themselves.
+     */
+    protected void requireRelatedIdentities() { this.relatedIdentitiesRequired = true; }
+
+    /**
+     * Indicates whether setting up this classification requires the identity (context) of the objects related
+     * through its IGC relationship properties (true) or only the relationships themselves (false).
+     *
+     * @return boolean
+     */
+    public boolean areRelatedIdentitiesRequired() { return this.relatedIdentitiesRequired; }
+
     /**
      * Add a simple one-to-one property mapping between an IGC property and an OMRS property.
      *
@@ -0,0 +1,238 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.classifications;
+
+import org.odpi.egeria.connectors.ibm.igc.auditlog.IGCOMRSErrorCode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestConstants;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchCondition;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchConditionSet;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSRepositoryConnector;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Resolves, for a whole page of search results at once, the IGC relationships on which the classifications of those
+ * results depend. Rather than each classification mapping paging through the relationships of each result in turn
+ * (and retrieving the identity of each related object one at a time), the relationships are completed with a search
+ * by the list of RIDs on the page, and any identities needed are retrieved with a search by the list of related RIDs.
+ * The completed relationships are set back onto the results themselves, and the identities into the cache, so that
+ * the classification mappings find everything they need already resolved.
+ */
+public class ClassificationResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(ClassificationResolver.class);
+
+    private static final int BATCH_SIZE = 100;
+
+    private final IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
+
+    /**
+     * Create a new classification resolver.
+     *
+     * @param igcomrsRepositoryConnector connectivity to the IGC environment
+     */
+    public ClassificationResolver(IGCOMRSRepositoryConnector igcomrsRepositoryConnector) {
+        this.igcomrsRepositoryConnector = igcomrsRepositoryConnector;
+    }
+
+    /**
+     * Resolve the relationships (and, where needed, related identities) used by the classifications of the provided
+     * mapping, for all of the provided results.
+     *
+     * @param mapping the entity mapping through which the results will be translated
+     * @param results the page of IGC search results
+     * @param cache a cache of information that may already have been retrieved about the provided objects
+     * @throws RepositoryErrorException if any issue interacting with IGC
+     */
+    public void resolveForPage(EntityMapping mapping,
+                               List<Reference> results,
+                               ObjectCache cache) throws RepositoryErrorException {
+
+        final String methodName = "resolveForPage";
+
+        if (results == null || results.isEmpty() || mapping.getClassificationMappers().isEmpty()) {
+            return;
+        }
+
+        IGCRestClient igcRestClient = igcomrsRepositoryConnector.getIGCRestClient();
+
+        try {
+            Set<String> identityProperties = new HashSet<>();
+            // For each relationship property, the results (by type) whose relationships have further pages
+            Map<String, Map<String, Map<String, Reference>>> incomplete = new HashMap<>();
+            for (Reference result : results) {
+                String type = result.getType();
+                if (result.getId() == null || type == null || IGCRestConstants.getTypesThatCannotBeSearched().contains(type)) {
+                    continue;
+                }
+                for (ClassificationMapping classificationMapping : mapping.getClassificationMappers()) {
+                    if (classificationMapping.matchesAssetType(type)) {
+                        for (String property : classificationMapping.getIgcRelationshipProperties()) {
+                            if (classificationMapping.areRelatedIdentitiesRequired()) {
+                                identityProperties.add(property);
+                            }
+                            ItemList<Reference> related = getRelationships(igcRestClient, result, property);
+                            if (related != null && related.hasMorePages()) {
+                                incomplete.computeIfAbsent(property, k -> new HashMap<>())
+                                        .computeIfAbsent(type, k -> new LinkedHashMap<>())
+                                        .put(result.getId(), result);
+                            }
+                        }
+                    }
+                }
+            }
+
+            for (Map.Entry<String, Map<String, Map<String, Reference>>> byProperty : incomplete.entrySet()) {
+                String property = byProperty.getKey();
+                for (Map.Entry<String, Map<String, Reference>> byType : byProperty.getValue().entrySet()) {
+                    completeRelationships(igcRestClient, byType.getKey(), property, byType.getValue());
+                }
+            }
+
+            if (!identityProperties.isEmpty()) {
+                cacheRelatedIdentities(igcRestClient, results, identityProperties, cache);
+            }
+        } catch (IGCException e) {
+            throw new RepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR.getMessageDefinition(),
+                    this.getClass().getName(),
+                    methodName,
+                    e);
+        }
+
+    }
+
+    /**
+     * Complete the relationships of the provided results, for the provided property, using a search by the RIDs of
+     * the results that retrieves each relationship up to the maximum page size.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param type the IGC asset type of the results
+     * @param property the relationship property to complete
+     * @param ridToResult the results to complete, keyed by RID
+     * @throws IGCException if any issue interacting with IGC
+     */
+    private void completeRelationships(IGCRestClient igcRestClient,
+                                       String type,
+                                       String property,
+                                       Map<String, Reference> ridToResult) throws IGCException {
+        log.debug("Completing '{}' relationships for {} results of type: {}", property, ridToResult.size(), type);
+        int relationshipPageSize = Math.max(igcomrsRepositoryConnector.getMaxPageSize(), BATCH_SIZE);
+        List<String> rids = new ArrayList<>(ridToResult.keySet());
+        for (int i = 0; i < rids.size(); i += BATCH_SIZE) {
+            List<String> batch = rids.subList(i, Math.min(i + BATCH_SIZE, rids.size()));
+            IGCSearch igcSearch = new IGCSearch(IGCRestConstants.getAssetTypeForSearch(type),
+                    Collections.singletonList(property),
+                    new IGCSearchConditionSet(new IGCSearchCondition("_id", batch)));
+            // The page size also limits the number of relationships returned for each result
+            igcSearch.setPageSize(relationshipPageSize);
+            ItemList<Reference> withRelationships = igcRestClient.search(igcSearch);
+            for (Reference found : igcRestClient.getAllPages(null, withRelationships)) {
+                Reference result = ridToResult.get(found.getId());
+                ItemList<Reference> original = result == null ? null : getRelationships(igcRestClient, result, property);
+                ItemList<Reference> complete = getRelationships(igcRestClient, found, property);
+                if (original != null && complete != null) {
+                    original.setAllPages(igcRestClient.getAllPages(property, complete));
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieve (into the cache) the identities of all objects related to the provided results through the provided
+     * properties, using searches by the RIDs of the related objects.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param results the page of IGC search results
+     * @param properties the relationship properties through which to find related objects
+     * @param cache the cache into which to retrieve the related objects
+     * @throws IGCException if any issue interacting with IGC
+     */
+    private void cacheRelatedIdentities(IGCRestClient igcRestClient,
+                                        List<Reference> results,
+                                        Set<String> properties,
+                                        ObjectCache cache) throws IGCException {
+        Map<String, Set<String>> typeToRids = new HashMap<>();
+        for (Reference result : results) {
+            for (String property : properties) {
+                ItemList<Reference> related = getRelationships(igcRestClient, result, property);
+                if (related != null && related.getItems() != null) {
+                    for (Reference candidate : related.getItems()) {
+                        if (needsIdentity(candidate, cache)) {
+                            typeToRids.computeIfAbsent(candidate.getType(), k -> new LinkedHashSet<>()).add(candidate.getId());
+                        }
+                    }
+                }
+            }
+        }
+        for (Map.Entry<String, Set<String>> entry : typeToRids.entrySet()) {
+            String type = entry.getKey();
+            log.debug("Retrieving identities of {} related objects of type: {}", entry.getValue().size(), type);
+            List<String> modificationProperties = igcRestClient.hasModificationDetails(type)
+                    ? IGCRestConstants.getModificationProperties()
+                    : Collections.emptyList();
+            List<String> rids = new ArrayList<>(entry.getValue());
+            for (int i = 0; i < rids.size(); i += BATCH_SIZE) {
+                List<String> batch = rids.subList(i, Math.min(i + BATCH_SIZE, rids.size()));
+                IGCSearch igcSearch = new IGCSearch(IGCRestConstants.getAssetTypeForSearch(type),
+                        modificationProperties,
+                        new IGCSearchConditionSet(new IGCSearchCondition("_id", batch)));
+                igcSearch.setPageSize(batch.size());
+                ItemList<Reference> found = igcRestClient.search(igcSearch);
+                for (Reference withContext : igcRestClient.getAllPages(null, found)) {
+                    cache.add(withContext);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indicates whether the identity of the provided related object still needs to be retrieved.
+     *
+     * @param candidate the related object
+     * @param cache the cache of objects already retrieved
+     * @return boolean
+     */
+    private boolean needsIdentity(Reference candidate, ObjectCache cache) {
+        return candidate != null
+                && candidate.getId() != null
+                && candidate.getType() != null
+                && !candidate.isIdentityPopulated()
+                && (candidate.getContext() == null || candidate.getContext().isEmpty())
+                && !candidate.isVirtualAsset()
+                && !candidate.isEmbeddedAsset()
+                && !IGCRestConstants.getTypesThatCannotBeSearched().contains(candidate.getType())
+                && cache.get(candidate.getId()) == null;
+    }
+
+    /**
+     * Retrieve the relationships of the provided object for the provided property, if it is a relationship property.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param object the object from which to retrieve the relationships
+     * @param property the relationship property
+     * @return {@code ItemList<Reference>}, or null if the object has no such relationships
+     */
+    @SuppressWarnings("unchecked")
+    private ItemList<Reference> getRelationships(IGCRestClient igcRestClient, Reference object, String property) {
+        try {
+            Object value = igcRestClient.getPropertyByName(object, property);
+            if (value instanceof ItemList) {
+                return (ItemList<Reference>) value;
+            }
+        } catch (IGCException e) {
+            log.debug("Unable to retrieve property '{}' from: {}", property, object.getId(), e);
+        }
+        return null;
+    }
+
+}
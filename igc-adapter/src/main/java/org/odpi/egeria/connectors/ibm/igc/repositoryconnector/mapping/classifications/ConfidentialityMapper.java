@@ -65,6 +65,9 @@ public class ConfidentialityMapper extends ClassificationMapping {
 
         addMappedOmrsProperty("levelIdentifier");
 
+        // The parent category of each assigned term determines whether it represents a Confidentiality level
+        requireRelatedIdentities();
+
         // Exclude IGC types that do not have 'assigned_to_terms'
         addExcludedIgcAssetType("connector");
         addExcludedIgcAssetType("data_connection");
@@ -21,8 +21,6 @@ import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.IGCEntityGui
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
@@ -31,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides the base class for all entity mappings.
@@ -53,7 +52,7 @@ public abstract class EntityMapping extends InstanceMapping {
     private Map<String, PropertyMapping> mappingByIgcProperty;
     private Map<String, PropertyMapping> mappingByOmrsProperty;
 
-    private HashSet<String> complexIgcProperties;
+    private Set<String> complexIgcProperties;
     private HashSet<String> complexOmrsProperties;
 
     private ArrayList<RelationshipMapping> relationshipMappers;
@@ -88,7 +87,9 @@ public abstract class EntityMapping extends InstanceMapping {
         this.igcRidPrefix = igcRidPrefix;
         this.mappingByIgcProperty = new HashMap<>();
         this.mappingByOmrsProperty = new HashMap<>();
-        this.complexIgcProperties = new HashSet<>();
+        // Mappings are singletons shared by every thread translating entities (eg. the parallel translation of a page
+        // of search results), and each translation may add the modification details to them while others are reading
+        this.complexIgcProperties = ConcurrentHashMap.newKeySet();
         this.complexOmrsProperties = new HashSet<>();
         this.relationshipMappers = new ArrayList<>();
         this.classificationMappers = new ArrayList<>();
@@ -245,6 +246,7 @@ public abstract class EntityMapping extends InstanceMapping {
 
     /**
      * Note the provided IGC property name as requiring more than a simple one-to-one mapping to an OMRS property.
+     * (This can safely be called while the mapping is in use by other threads.)
      *
      * @param igcPropertyName the IGC property name
      */
@@ -767,55 +769,15 @@ public abstract class EntityMapping extends InstanceMapping {
         Reference igcEntity = entityMap.getIgcEntity();
         String repositoryName = igcomrsRepositoryConnector.getRepositoryName();
         EntityMapping mapping = entityMap.getMapping();
-        String omrsTypeDefName = mapping.getOmrsTypeDefName();
-
-        Map<String, TypeDefAttribute> omrsAttributeMap = igcomrsMetadataCollection.getTypeDefAttributesForType(omrsTypeDefName);
-
-        InstanceProperties instanceProperties = new InstanceProperties();
-
-        // Then we'll iterate through the provided mappings to set an OMRS instance property for each one
-        for (String igcPropertyName : mapping.getSimpleMappedIgcProperties()) {
-            String omrsAttribute = mapping.getOmrsPropertyName(igcPropertyName);
-            if (omrsAttributeMap.containsKey(omrsAttribute)) {
-                TypeDefAttribute typeDefAttribute = omrsAttributeMap.get(omrsAttribute);
-                try {
-                    instanceProperties = AttributeMapping.addPrimitivePropertyToInstance(
-                            omrsRepositoryHelper,
-                            repositoryName,
-                            instanceProperties,
-                            typeDefAttribute,
-                            igcRestClient.getPropertyByName(igcEntity, igcPropertyName),
-                            methodName
-                    );
-                } catch (IGCException e) {
-                    raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
-                }
-            } else {
-                log.warn("No OMRS attribute {} defined for asset type {} -- skipping mapping.", omrsAttribute, omrsTypeDefName);
-            }
-        }
 
-        // Then any fixed (literal) property mappings
-        for (String omrsPropertyName : mapping.getLiteralPropertyMappings()) {
-            if (omrsAttributeMap.containsKey(omrsPropertyName)) {
-                Object value = mapping.getOmrsPropertyLiteralValue(omrsPropertyName);
-                if (value != null) {
-                    TypeDefAttribute typeDefAttribute = omrsAttributeMap.get(omrsPropertyName);
-                    AttributeTypeDefCategory attributeTypeDefCategory = typeDefAttribute.getAttributeType().getCategory();
-                    if (attributeTypeDefCategory == AttributeTypeDefCategory.PRIMITIVE) {
-                        instanceProperties = AttributeMapping.addPrimitivePropertyToInstance(
-                                omrsRepositoryHelper,
-                                repositoryName,
-                                instanceProperties,
-                                typeDefAttribute,
-                                value,
-                                methodName
-                        );
-                    } else {
-                        instanceProperties.setProperty(omrsPropertyName, (InstancePropertyValue)value);
-                    }
-                }
-            }
+        InstanceProperties instanceProperties = null;
+
+        // Project the simple and fixed (literal) property mappings through the compiled plan for the mapping
+        EntityProjectionPlan plan = igcomrsMetadataCollection.getProjectionPlan(mapping);
+        try {
+            instanceProperties = plan.project(igcRestClient, omrsRepositoryHelper, repositoryName, igcEntity, methodName);
+        } catch (IGCException e) {
+            raiseRepositoryErrorException(IGCOMRSErrorCode.UNKNOWN_RUNTIME_ERROR, methodName, e);
         }
 
         // Finally we'll apply any complex property mappings
@@ -0,0 +1,172 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.DynamicPropertyReader;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.attributes.AttributeMapping;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The simple and literal property mappings of an entity mapping, resolved once against the attributes of its OMRS
+ * TypeDef. Projecting an IGC object through the plan then only needs to read each mapped IGC property and convert it
+ * to its OMRS attribute, rather than re-resolving the TypeDef's attributes and each mapping's names for every object.
+ * The readers for the IGC properties are likewise only resolved once for each IGC asset type that is projected.
+ */
+public class EntityProjectionPlan {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityProjectionPlan.class);
+
+    private final String omrsTypeDefName;
+
+    private final String[] igcPropertyNames;
+    private final TypeDefAttribute[] simpleAttributes;
+
+    private final TypeDefAttribute[] literalAttributes;
+    private final Object[] literalValues;
+
+    private final Map<String, DynamicPropertyReader[]> igcTypeToReaders;
+
+    /**
+     * Compile a new projection plan for the provided mapping.
+     *
+     * @param mapping the entity mapping for which to compile the plan
+     * @param omrsAttributeMap the attributes of the OMRS TypeDef to which the mapping applies, keyed by name
+     */
+    public EntityProjectionPlan(EntityMapping mapping, Map<String, TypeDefAttribute> omrsAttributeMap) {
+
+        this.omrsTypeDefName = mapping.getOmrsTypeDefName();
+
+        List<String> igcProperties = new ArrayList<>();
+        List<TypeDefAttribute> simple = new ArrayList<>();
+        for (String igcPropertyName : mapping.getSimpleMappedIgcProperties()) {
+            String omrsAttribute = mapping.getOmrsPropertyName(igcPropertyName);
+            TypeDefAttribute typeDefAttribute = omrsAttributeMap == null ? null : omrsAttributeMap.get(omrsAttribute);
+            if (typeDefAttribute != null) {
+                igcProperties.add(igcPropertyName);
+                simple.add(typeDefAttribute);
+            } else {
+                log.warn("No OMRS attribute {} defined for asset type {} -- skipping mapping.", omrsAttribute, omrsTypeDefName);
+            }
+        }
+        this.igcPropertyNames = igcProperties.toArray(new String[0]);
+        this.simpleAttributes = simple.toArray(new TypeDefAttribute[0]);
+
+        List<TypeDefAttribute> literal = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (String omrsPropertyName : mapping.getLiteralPropertyMappings()) {
+            TypeDefAttribute typeDefAttribute = omrsAttributeMap == null ? null : omrsAttributeMap.get(omrsPropertyName);
+            Object value = mapping.getOmrsPropertyLiteralValue(omrsPropertyName);
+            if (typeDefAttribute != null && value != null) {
+                literal.add(typeDefAttribute);
+                values.add(value);
+            }
+        }
+        this.literalAttributes = literal.toArray(new TypeDefAttribute[0]);
+        this.literalValues = values.toArray();
+
+        this.igcTypeToReaders = new ConcurrentHashMap<>();
+
+    }
+
+    /**
+     * Project the provided IGC object into OMRS instance properties, through the simple and literal mappings of the
+     * plan.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param omrsRepositoryHelper the OMRS repository helper
+     * @param repositoryName the name of the repository
+     * @param igcEntity the IGC object to project
+     * @param methodName the name of the method requesting the projection
+     * @return InstanceProperties
+     * @throws IGCException if any of the mapped properties cannot be read from the IGC object
+     */
+    public InstanceProperties project(IGCRestClient igcRestClient,
+                                      OMRSRepositoryHelper omrsRepositoryHelper,
+                                      String repositoryName,
+                                      Reference igcEntity,
+                                      String methodName) throws IGCException {
+
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        if (igcEntity != null && igcPropertyNames.length > 0) {
+            DynamicPropertyReader[] readers = getReaders(igcRestClient, igcEntity.getType());
+            for (int i = 0; i < igcPropertyNames.length; i++) {
+                Object value;
+                if (readers[i] != null) {
+                    value = readers[i].getProperty(igcEntity);
+                } else {
+                    // Raises the same error as reading the property by its name would
+                    value = igcRestClient.getPropertyByName(igcEntity, igcPropertyNames[i]);
+                }
+                instanceProperties = AttributeMapping.addPrimitivePropertyToInstance(
+                        omrsRepositoryHelper,
+                        repositoryName,
+                        instanceProperties,
+                        simpleAttributes[i],
+                        value,
+                        methodName
+                );
+            }
+        }
+
+        for (int i = 0; i < literalAttributes.length; i++) {
+            TypeDefAttribute typeDefAttribute = literalAttributes[i];
+            if (typeDefAttribute.getAttributeType().getCategory() == AttributeTypeDefCategory.PRIMITIVE) {
+                instanceProperties = AttributeMapping.addPrimitivePropertyToInstance(
+                        omrsRepositoryHelper,
+                        repositoryName,
+                        instanceProperties,
+                        typeDefAttribute,
+                        literalValues[i],
+                        methodName
+                );
+            } else {
+                instanceProperties.setProperty(typeDefAttribute.getAttributeName(), (InstancePropertyValue) literalValues[i]);
+            }
+        }
+
+        return instanceProperties;
+
+    }
+
+    /**
+     * Retrieve the readers for the mapped IGC properties of the provided IGC asset type, resolving them the first
+     * time the type is projected.
+     *
+     * @param igcRestClient connectivity to the IGC environment
+     * @param igcType the IGC asset type being projected
+     * @return DynamicPropertyReader[], with a null entry for any property that cannot be read from the type
+     * @throws IGCIOException if there is any issue introspecting the class that defines the type and its properties
+     */
+    private DynamicPropertyReader[] getReaders(IGCRestClient igcRestClient, String igcType) throws IGCIOException {
+        if (igcType == null) {
+            return new DynamicPropertyReader[igcPropertyNames.length];
+        }
+        DynamicPropertyReader[] readers = igcTypeToReaders.get(igcType);
+        if (readers == null) {
+            log.debug("Resolving {} property readers of {} for IGC type: {}", igcPropertyNames.length, omrsTypeDefName, igcType);
+            readers = new DynamicPropertyReader[igcPropertyNames.length];
+            for (int i = 0; i < igcPropertyNames.length; i++) {
+                readers[i] = igcRestClient.getPropertyReader(igcType, igcPropertyNames[i]);
+            }
+            igcTypeToReaders.put(igcType, readers);
+        }
+        return readers;
+    }
+
+}
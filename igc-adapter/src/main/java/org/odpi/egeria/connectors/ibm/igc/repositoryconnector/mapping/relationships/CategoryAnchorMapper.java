@@ -172,12 +172,9 @@ public class CategoryAnchorMapper extends RelationshipMapping {
                 try {
                     ItemList<Category> children = igcRestClient.search(igcSearch);
                     if (children != null) {
-                        if (pageSize == 0) {
-                            List<Category> allPages = igcRestClient.getAllPages(null, children);
-                            children.setAllPages(allPages);
-                        }
-                        log.debug(" ... found a total of {} offspring categories.", children.getItems().size());
-                        for (Category child : children.getItems()) {
+                        List<Category> offspring = pageSize == 0 ? igcRestClient.getAllPages(null, children) : children.getItems();
+                        log.debug(" ... found a total of {} offspring categories.", offspring.size());
+                        for (Category child : offspring) {
                             Relationship relationship = getMappedRelationship(
                                     igcomrsRepositoryConnector,
                                     CategoryAnchorMapper.getInstance(null),
@@ -243,12 +243,9 @@ public class ConnectionEndpointMapper extends RelationshipMapping {
 
         try {
             ItemList<DataConnection> dataConnections = igcomrsRepositoryConnector.getIGCRestClient().search(igcSearch);
-            if (pageSize == 0) {
-                List<DataConnection> allPages = igcomrsRepositoryConnector.getIGCRestClient().getAllPages(null, dataConnections);
-                dataConnections.setAllPages(allPages);
-            }
+            List<DataConnection> connections = pageSize == 0 ? igcomrsRepositoryConnector.getIGCRestClient().getAllPages(null, dataConnections) : dataConnections.getItems();
 
-            for (Reference dataConnection : dataConnections.getItems()) {
+            for (Reference dataConnection : connections) {
 
                 /* Only proceed with the connection object if it is not a 'main_object' asset
                  * (in this scenario, 'main_object' represents ColumnAnalysisMaster objects that are not accessible
@@ -322,12 +319,9 @@ public class ConnectionEndpointMapper extends RelationshipMapping {
 
         try {
             ItemList<Connector> dataConnectors = igcomrsRepositoryConnector.getIGCRestClient().search(igcSearch);
-            if (pageSize == 0) {
-                List<Connector> allPages = igcomrsRepositoryConnector.getIGCRestClient().getAllPages(null, dataConnectors);
-                dataConnectors.setAllPages(allPages);
-            }
+            List<Connector> connectors = pageSize == 0 ? igcomrsRepositoryConnector.getIGCRestClient().getAllPages(null, dataConnectors) : dataConnectors.getItems();
 
-            for (Reference dataConnector : dataConnectors.getItems()) {
+            for (Reference dataConnector : connectors) {
 
                 /* Only proceed with the connector object if it is not a 'main_object' asset
                  * (in this scenario, 'main_object' represents ColumnAnalysisMaster objects that are not accessible
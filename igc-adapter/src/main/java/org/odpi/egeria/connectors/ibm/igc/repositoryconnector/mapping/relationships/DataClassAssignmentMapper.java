@@ -877,7 +877,9 @@ public class DataClassAssignmentMapper extends RelationshipMapping {
             detectedClassifications = igcRestClient.search(igcSearch);
             // Unfortunately there is no way to avoid the inclusion of column analysis master objects in the results, so
             // the only way we can ensure we are sorting across all valid results is to retrieve all of them
+            // (into a new list, rather than changing the one returned by the search)
             List<Classification> allPages = igcRestClient.getAllPages(null, detectedClassifications);
+            detectedClassifications = new ItemList<>();
             detectedClassifications.setAllPages(allPages);
         } else {
             igcSearchConditionSet.addCondition(IGCRestConstants.getConditionToForceNoSearchResults());
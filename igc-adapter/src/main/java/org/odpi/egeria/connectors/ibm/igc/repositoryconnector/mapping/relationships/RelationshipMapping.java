@@ -35,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 
 /**
  * Provides the base class for all relationship mappings, as well as base methods for calculating the transformed
@@ -1275,7 +1276,12 @@ public abstract class RelationshipMapping extends InstanceMapping {
                                               int pageSize,
                                               String userId) throws RepositoryErrorException {
 
-        // Iterate through the provided mappings to create a number of OMRS relationships
+        final String methodName = "getMappedRelationships";
+
+        // Each of the provided mappings creates its own OMRS relationships independently of the others (often
+        // through its own searches against IGC), so expand them in parallel and then append each one's relationships
+        // in the same order as the mappings themselves
+        List<Callable<List<Relationship>>> expansions = new ArrayList<>();
         for (RelationshipMapping mapping : mappings) {
 
             RelationshipDef omrsRelationshipDef = (RelationshipDef) igcomrsRepositoryConnector.getRepositoryHelper().getTypeDefByName(
@@ -1286,51 +1292,77 @@ public abstract class RelationshipMapping extends InstanceMapping {
             // Only continue with a given relationship if we are mapping all relationships or it matches the
             // GUID of the relationship type we are mapping
             if (relationshipTypeGUID == null || relationshipTypeGUID.equals(omrsRelationshipDef.getGUID())) {
+                expansions.add(() -> {
+                    List<Relationship> expanded = new ArrayList<>();
+                    addMappedRelationships(igcomrsRepositoryConnector,
+                            mapping,
+                            omrsRelationshipDef,
+                            expanded,
+                            cache,
+                            fromIgcObject,
+                            toIgcObject,
+                            fromRelationshipElement,
+                            sequencingOrder,
+                            pageSize,
+                            userId);
+                    return expanded;
+                });
+            }
 
-                RelationshipMapping.OptimalStart optimalStart = mapping.getOptimalStart();
-                String fromAssetType = fromIgcObject.getType();
-                ProxyMapping pmOne = mapping.getProxyOneMapping();
-                ProxyMapping pmTwo = mapping.getProxyTwoMapping();
+        }
 
-                if (mapping.isSelfReferencing()) {
-                    if (mapping.includeRelationshipForIgcObjects(igcomrsRepositoryConnector, cache, fromIgcObject, fromIgcObject)) {
-                        addSelfReferencingRelationship(igcomrsRepositoryConnector, mapping, relationships, cache, fromIgcObject, userId);
-                    }
-                } else if (!optimalStart.equals(RelationshipMapping.OptimalStart.CUSTOM)) {
-                    if (fromIgcObject.isFullyRetrieved()
-                            || (optimalStart.equals(OptimalStart.ONE) && pmOne.matchesAssetType(fromAssetType) )
-                            || (optimalStart.equals(OptimalStart.TWO) && pmTwo.matchesAssetType(fromAssetType)) ) {
-                        addDirectRelationship(igcomrsRepositoryConnector,
-                                mapping,
-                                relationships,
-                                cache,
-                                fromIgcObject,
-                                toIgcObject,
-                                fromRelationshipElement,
-                                sequencingOrder,
-                                pageSize,
-                                userId);
-                    } else if (optimalStart.equals(OptimalStart.OPPOSITE)
-                            || (optimalStart.equals(OptimalStart.TWO) && pmOne.matchesAssetType(fromAssetType))
-                            || (optimalStart.equals(OptimalStart.ONE) && pmTwo.matchesAssetType(fromAssetType)) ) {
-                        addInvertedRelationship(igcomrsRepositoryConnector,
-                                mapping,
-                                relationships,
-                                cache,
-                                fromIgcObject,
-                                toIgcObject,
-                                fromRelationshipElement,
-                                sequencingOrder,
-                                pageSize,
-                                userId);
-                    } else {
-                        log.warn("Ran out of options for finding the relationship: {}", omrsRelationshipDef.getName());
-                    }
-                }
+        for (List<Relationship> expanded : igcomrsRepositoryConnector.runInParallel(expansions, methodName)) {
+            relationships.addAll(expanded);
+        }
 
-                // Then call any complex / custom relationship mappings defined
-                mapping.addMappedOMRSRelationships(
-                        igcomrsRepositoryConnector,
+    }
+
+    /**
+     * Adds all of the relationships defined by a single mapping for the provided IGC object.
+     *
+     * @param igcomrsRepositoryConnector connectivity to an IGC environment
+     * @param mapping the mapping to use for retrieving the relationships
+     * @param omrsRelationshipDef the OMRS relationship type of the mapping
+     * @param relationships the list of relationships to append to
+     * @param cache a cache of information that may already have been retrieved about the provided object
+     * @param fromIgcObject the IGC object that is the source of the relationships
+     * @param toIgcObject the IGC object that is the target of the relationship (or null if not known).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result classifications that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param userId the user retrieving the mapped relationships
+     * @throws RepositoryErrorException if any issues interacting with IGC
+     */
+    private static void addMappedRelationships(IGCOMRSRepositoryConnector igcomrsRepositoryConnector,
+                                               RelationshipMapping mapping,
+                                               RelationshipDef omrsRelationshipDef,
+                                               List<Relationship> relationships,
+                                               ObjectCache cache,
+                                               Reference fromIgcObject,
+                                               Reference toIgcObject,
+                                               int fromRelationshipElement,
+                                               SequencingOrder sequencingOrder,
+                                               int pageSize,
+                                               String userId) throws RepositoryErrorException {
+
+        RelationshipMapping.OptimalStart optimalStart = mapping.getOptimalStart();
+        String fromAssetType = fromIgcObject.getType();
+        ProxyMapping pmOne = mapping.getProxyOneMapping();
+        ProxyMapping pmTwo = mapping.getProxyTwoMapping();
+
+        if (mapping.isSelfReferencing()) {
+            if (mapping.includeRelationshipForIgcObjects(igcomrsRepositoryConnector, cache, fromIgcObject, fromIgcObject)) {
+                addSelfReferencingRelationship(igcomrsRepositoryConnector, mapping, relationships, cache, fromIgcObject, userId);
+            }
+        } else if (!optimalStart.equals(RelationshipMapping.OptimalStart.CUSTOM)) {
+            if (fromIgcObject.isFullyRetrieved()
+                    || (optimalStart.equals(OptimalStart.ONE) && pmOne.matchesAssetType(fromAssetType) )
+                    || (optimalStart.equals(OptimalStart.TWO) && pmTwo.matchesAssetType(fromAssetType)) ) {
+                addDirectRelationship(igcomrsRepositoryConnector,
+                        mapping,
                         relationships,
                         cache,
                         fromIgcObject,
@@ -1338,13 +1370,38 @@ public abstract class RelationshipMapping extends InstanceMapping {
                         fromRelationshipElement,
                         sequencingOrder,
                         pageSize,
-                        userId
-                );
-
+                        userId);
+            } else if (optimalStart.equals(OptimalStart.OPPOSITE)
+                    || (optimalStart.equals(OptimalStart.TWO) && pmOne.matchesAssetType(fromAssetType))
+                    || (optimalStart.equals(OptimalStart.ONE) && pmTwo.matchesAssetType(fromAssetType)) ) {
+                addInvertedRelationship(igcomrsRepositoryConnector,
+                        mapping,
+                        relationships,
+                        cache,
+                        fromIgcObject,
+                        toIgcObject,
+                        fromRelationshipElement,
+                        sequencingOrder,
+                        pageSize,
+                        userId);
+            } else {
+                log.warn("Ran out of options for finding the relationship: {}", omrsRelationshipDef.getName());
             }
-
         }
 
+        // Then call any complex / custom relationship mappings defined
+        mapping.addMappedOMRSRelationships(
+                igcomrsRepositoryConnector,
+                relationships,
+                cache,
+                fromIgcObject,
+                toIgcObject,
+                fromRelationshipElement,
+                sequencingOrder,
+                pageSize,
+                userId
+        );
+
     }
 
     /**
@@ -1451,9 +1508,12 @@ public abstract class RelationshipMapping extends InstanceMapping {
                     } else if (directRelationships instanceof ItemList) { // and list of relationships another
 
                         // In this scenario we must retrieve all pages, as we cannot sort the results any other way
-                        ItemList<Reference> allRelationships = (ItemList<Reference>) directRelationships;
-                        List<Reference> allPages = igcomrsRepositoryConnector.getIGCRestClient().getAllPages(igcRelationshipName, allRelationships);
-                        allRelationships.setAllPages(allPages);
+                        ItemList<Reference> pagedRelationships = (ItemList<Reference>) directRelationships;
+                        List<Reference> allPages = igcomrsRepositoryConnector.getIGCRestClient().getAllPages(igcRelationshipName, pagedRelationships);
+                        // Page and sort a copy of the relationships, as the object's own may be in use by other mappings
+                        // (including on other threads, as the object may be shared through the cache)
+                        ItemList<Reference> allRelationships = new ItemList<>();
+                        allRelationships.setAllPages(new ArrayList<>(allPages));
                         if (sequencingOrder != null) {
                             // Sort the results before passing along to the next operation
                             switch (sequencingOrder) {
@@ -179,12 +179,9 @@ public class TermAnchorMapper extends RelationshipMapping {
             try {
                 ItemList<Term> terms = igcRestClient.search(igcSearch);
                 if (terms != null) {
-                    if (pageSize == 0) {
-                        List<Term> allPages = igcRestClient.getAllPages(null, terms);
-                        terms.setAllPages(allPages);
-                    }
-                    log.debug(" ... found a total of {} offspring terms.", terms.getItems().size());
-                    for (Term term : terms.getItems()) {
+                    List<Term> offspring = pageSize == 0 ? igcRestClient.getAllPages(null, terms) : terms.getItems();
+                    log.debug(" ... found a total of {} offspring terms.", offspring.size());
+                    for (Term term : offspring) {
                         Relationship relationship = getMappedRelationship(
                                 igcomrsRepositoryConnector,
                                 TermAnchorMapper.getInstance(null),
@@ -3,21 +3,41 @@
 package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model;
 
 import com.fasterxml.jackson.annotation.*;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.InformationAsset;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
  * POJO for a simple object in IGC to track previous versions of each instance of an entity, primarily for use in
  * detecting changes to an object to determine which events to send.
+ * <br><br>
+ * The payload of the stub is stored in a compact encoding: the JSON of the last version of the asset, deflated and
+ * then Base64-encoded, behind a header giving the version of the encoding. Payloads stored as plain JSON (by earlier
+ * versions of the connector) can still be read, and will be re-written in the compact encoding the next time their
+ * asset changes.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown=true)
 @JsonTypeName("$OMRS-Stub")
 public class OMRSStub extends InformationAsset {
-    
+
+    /**
+     * The header that precedes a payload stored in the compact encoding, including the version of that encoding.
+     */
+    public static final String COMPACT_PAYLOAD_HEADER = "omrs-stub:2:";
+
+    private static final String PAYLOAD_HEADER_PREFIX = "omrs-stub:";
+
     /**
      * The 'sourceType' property, displayed as 'IGC Type' in the IGC UI.
      * <br><br>
@@ -35,7 +55,8 @@ public class OMRSStub extends InformationAsset {
     /**
      * The 'payload' property, displayed as 'Last Version' in the IGC UI.
      * <br><br>
-     * Provides the JSON payload of the last version of the asset for which this stub represents a shadow copy.
+     * Provides the payload of the last version of the asset for which this stub represents a shadow copy, either
+     * as JSON or in the compact encoding (see {@link #COMPACT_PAYLOAD_HEADER}).
      */
     protected String $payload;
 
@@ -78,7 +99,9 @@ public class OMRSStub extends InformationAsset {
     public void setSourceRID(String sourceRID) { this.$sourceRID = sourceRID; }
 
     /**
-     * Retrieve the JSON payload of the last version of the asset for which this stub represents a shadow copy.
+     * Retrieve the payload of the last version of the asset for which this stub represents a shadow copy, as it is
+     * stored (ie. possibly in the compact encoding). In general you probably want the JSON itself, accessible through
+     * the getPayloadAsJSON method.
      *
      * @return String
      * @see #$payload
@@ -87,7 +110,8 @@ public class OMRSStub extends InformationAsset {
     public String getPayload() { return this.$payload; }
 
     /**
-     * Set the JSON payload of the last version of the asset for which this stub represents a shadow copy.
+     * Set the payload of the last version of the asset for which this stub represents a shadow copy, as it is to be
+     * stored (ie. either as JSON or already in the compact encoding).
      *
      * @param payload of the last version of the asset for which this stub represents a shadow copy
      * @see #$payload
@@ -95,4 +119,75 @@ public class OMRSStub extends InformationAsset {
     @JsonProperty("$payload")
     public void setPayload(String payload) { this.$payload = payload; }
 
+    /**
+     * Retrieve the JSON payload of the last version of the asset for which this stub represents a shadow copy.
+     *
+     * @return String
+     * @throws IGCParsingException if the payload cannot be decoded
+     */
+    @JsonIgnore
+    public String getPayloadAsJSON() throws IGCParsingException { return decodePayload(this.$payload); }
+
+    /**
+     * Encode the provided JSON payload of an asset into the compact encoding in which it is stored.
+     *
+     * @param json the JSON payload of the asset
+     * @return String
+     */
+    public static String encodePayload(String json) {
+        if (json == null) {
+            return null;
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(json.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length() / 4));
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return COMPACT_PAYLOAD_HEADER + Base64.getEncoder().encodeToString(out.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decode the provided stored payload of an asset into its JSON, whether it is stored in the compact encoding
+     * or as JSON.
+     *
+     * @param payload the payload of the asset, as it is stored
+     * @return String
+     * @throws IGCParsingException if the payload is in an unknown version of the encoding, or cannot be decoded
+     */
+    public static String decodePayload(String payload) throws IGCParsingException {
+        if (payload == null || !payload.startsWith(PAYLOAD_HEADER_PREFIX)) {
+            // A payload stored as JSON, which needs no decoding
+            return payload;
+        } else if (!payload.startsWith(COMPACT_PAYLOAD_HEADER)) {
+            throw new IGCParsingException("Unsupported version of the stub payload encoding.", payload.substring(0, Math.min(payload.length(), 32)));
+        }
+        Inflater inflater = new Inflater();
+        try {
+            byte[] compressed = Base64.getDecoder().decode(payload.substring(COMPACT_PAYLOAD_HEADER.length()));
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated stub payload.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException | DataFormatException e) {
+            throw new IGCParsingException("Unable to decode the stub payload.", payload.substring(0, Math.min(payload.length(), 32)), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
 }
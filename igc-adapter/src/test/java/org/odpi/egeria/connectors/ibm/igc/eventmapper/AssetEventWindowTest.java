@@ -0,0 +1,151 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import org.apache.kafka.common.TopicPartition;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the holding back, compaction, release and retrying of asset events by the AssetEventWindow, and the offsets it
+ * allows to be committed.
+ */
+public class AssetEventWindowTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("InfosphereEvents", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("InfosphereEvents", 1);
+
+    public AssetEventWindowTest() {
+        // Do nothing...
+    }
+
+    @Test
+    public void testCompaction() {
+
+        AssetEventWindow window = new AssetEventWindow(100, 10);
+        assertTrue(window.hold("rid1", "create1", PARTITION_0, 5, 0).isEmpty());
+        assertTrue(window.hold("rid1", "modify1", PARTITION_0, 6, 10).isEmpty());
+        assertTrue(window.hold("rid2", "create2", PARTITION_0, 7, 20).isEmpty());
+        assertTrue(window.hold("rid1", "modify1b", PARTITION_0, 8, 90).isEmpty());
+
+        // Only the latest event for each asset is released, once the window from its first event has passed (so a
+        // continuous stream of events cannot hold back an asset indefinitely)
+        assertTrue(window.releaseDue(99).isEmpty());
+        assertEquals(getEvents(window.releaseDue(100)), Collections.singletonList("modify1b"));
+        assertEquals(getEvents(window.releaseDue(200)), Collections.singletonList("create2"));
+        assertTrue(window.releaseDue(1000).isEmpty());
+
+    }
+
+    @Test
+    public void testMaximumAssets() {
+
+        AssetEventWindow window = new AssetEventWindow(100, 2);
+        window.hold("rid1", "event1", PARTITION_0, 1, 0);
+        window.hold("rid2", "event2", PARTITION_0, 2, 10);
+        // Beyond the maximum, the asset held for the longest is released early
+        assertEquals(getEvents(window.hold("rid3", "event3", PARTITION_0, 3, 20)), Collections.singletonList("event1"));
+        // ... but a further event for an asset already held does not count against the maximum
+        assertTrue(window.hold("rid2", "event2b", PARTITION_0, 4, 30).isEmpty());
+        assertEquals(getEvents(window.releaseDue(1000)), Arrays.asList("event2b", "event3"));
+
+    }
+
+    @Test
+    public void testAcrossPartitions() {
+
+        AssetEventWindow window = new AssetEventWindow(100, 10);
+        window.hold("rid1", "event1", PARTITION_0, 1, 0);
+        // An event for the same asset from another partition releases the event held from the first partition
+        assertEquals(getEvents(window.hold("rid1", "event1b", PARTITION_1, 1, 10)), Collections.singletonList("event1"));
+        window.hold("rid2", "event2", PARTITION_0, 2, 20);
+
+        // Releasing a partition (eg. when it is revoked) only releases the events held from that partition
+        assertEquals(getEvents(window.release(Collections.singletonList(PARTITION_0))), Collections.singletonList("event2"));
+        assertEquals(getEvents(window.release(Arrays.asList(PARTITION_0, PARTITION_1))), Collections.singletonList("event1b"));
+        assertTrue(window.releaseDue(1000).isEmpty());
+
+    }
+
+    @Test
+    public void testDiscard() {
+
+        AssetEventWindow window = new AssetEventWindow(100, 10);
+        window.hold("rid1", "event1", PARTITION_0, 1, 0);
+        assertTrue(window.discard("rid1"));
+        assertFalse(window.discard("rid1"));
+        assertTrue(window.releaseDue(1000).isEmpty());
+        assertEquals(window.getCommittableOffset(PARTITION_0, 2), 2);
+
+    }
+
+    @Test
+    public void testCommittableOffset() {
+
+        AssetEventWindow window = new AssetEventWindow(100, 10);
+        assertEquals(window.getCommittableOffset(PARTITION_0, 5), 5);
+        window.hold("rid1", "event1", PARTITION_0, 5, 0);
+        window.hold("rid2", "event2", PARTITION_0, 6, 50);
+        window.hold("rid3", "event3", PARTITION_1, 3, 60);
+
+        // Never past the earliest event still held from the partition, even once it has been replaced by later ones
+        window.hold("rid1", "event1b", PARTITION_0, 7, 70);
+        assertEquals(window.getCommittableOffset(PARTITION_0, 8), 5);
+        assertEquals(window.getCommittableOffset(PARTITION_1, 4), 3);
+
+        window.releaseDue(100);
+        assertEquals(window.getCommittableOffset(PARTITION_0, 8), 6);
+        window.releaseDue(160);
+        assertEquals(window.getCommittableOffset(PARTITION_0, 8), 8);
+        assertEquals(window.getCommittableOffset(PARTITION_1, 4), 4);
+
+    }
+
+    @Test
+    public void testRetry() {
+
+        AssetEventWindow window = new AssetEventWindow(100, 10);
+        window.hold("rid1", "event1", PARTITION_0, 5, 0);
+        window.hold("rid2", "event2", PARTITION_0, 6, 10);
+        List<AssetEventWindow.HeldEvent> released = window.releaseDue(100);
+        assertEquals(released.size(), 1);
+        AssetEventWindow.HeldEvent failed = released.get(0);
+        assertEquals(failed.getAttempts(), 0);
+
+        // A released event that fails is held again until its backoff has passed, and the offset committed for its
+        // partition does not move past it in the meantime (even once every other event has been processed)
+        window.retry(failed, 1100);
+        assertEquals(failed.getAttempts(), 1);
+        assertEquals(getEvents(window.releaseDue(1000)), Collections.singletonList("event2"));
+        assertEquals(window.getCommittableOffset(PARTITION_0, 8), 5);
+        assertEquals(getEvents(window.releaseDue(1100)), Collections.singletonList("event1"));
+        assertEquals(window.getCommittableOffset(PARTITION_0, 8), 8);
+
+        // ... nor does it while the partition is released or before a subsequent deletion supersedes it
+        window.retry(failed, 2100);
+        assertEquals(failed.getAttempts(), 2);
+        assertTrue(window.release(Collections.singletonList(PARTITION_1)).isEmpty());
+        assertEquals(window.getCommittableOffset(PARTITION_0, 8), 5);
+        assertEquals(getEvents(window.release(Collections.singletonList(PARTITION_0))), Collections.singletonList("event1"));
+        window.retry(failed, 3100);
+        assertTrue(window.discard("rid1"));
+        assertEquals(window.getCommittableOffset(PARTITION_0, 8), 8);
+        assertTrue(window.releaseDue(10000).isEmpty());
+
+    }
+
+    private static List<String> getEvents(List<AssetEventWindow.HeldEvent> released) {
+        List<String> events = new ArrayList<>();
+        for (AssetEventWindow.HeldEvent event : released) {
+            events.add(event.getEvent());
+        }
+        return events;
+    }
+
+}
@@ -0,0 +1,460 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.model.HttpRequest;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSMetadataCollection;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSRepositoryConnector;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mocks.MockConnection;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.odpi.openmetadata.adapters.eventbus.topic.inmemory.InMemoryOpenMetadataTopicConnector;
+import org.odpi.openmetadata.adapters.repositoryservices.ConnectorConfigurationFactory;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventPublisher;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.testng.Assert.*;
+
+/**
+ * Replays recorded IGC events through the event mapper, against the mocked server resources, to measure its
+ * throughput without needing a live IGC environment or Kafka. The events are offered at a configurable rate on a
+ * stand-in for the IGC Kafka topic, from which the event mapper's own consumer thread consumes (and commits) them
+ * exactly as it would from Kafka, and the benchmark then reports:
+ * <ul>
+ *     <li>the throughput, in events per second</li>
+ *     <li>the p50 and p99 latency from an event being offered until it is committed</li>
+ *     <li>the number of REST calls made to the (mocked) IGC environment per event, both for the assets themselves
+ *          and (separately) for the OMRS stubs: the searches for the stubs and the OpenIGC writes of them</li>
+ * </ul>
+ * Only run as part of the 'benchmark' profile, and configured through the following system properties:
+ * <ul>
+ *     <li>replay.file - a file of recorded events (one JSON event per line) to replay in place of the samples</li>
+ *     <li>replay.events - the number of events to replay (cycling through those recorded), defaults to 200</li>
+ *     <li>replay.rate - the rate (events per second) at which to offer events, defaults to 0 (as fast as possible)</li>
+ *     <li>replay.warmup - the number of events to process before measuring, defaults to 20</li>
+ *     <li>mockserver.latency - the latency (in milliseconds) to add to each response from the mocked IGC
+ *          environment, defaults to 0 (note that this is applied as the mock server starts)</li>
+ * </ul>
+ */
+public class EventMapperBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(EventMapperBenchmark.class);
+
+    private static final String SAMPLE_EVENTS = "replay/InfosphereEvents.json";
+    private static final String TOPIC = "InfosphereEvents";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+    private static final String STUB_TYPE = "$OMRS-Stub";
+    private static final String STUB_WRITES = "bundles/assets";
+    private static final long COMMIT_TIMEOUT_MS = 60000;
+
+    private static final int WARMUP_EVENTS = Math.max(0, Integer.getInteger("replay.warmup", 20));
+    private static final int REPLAY_EVENTS = Math.max(0, Integer.getInteger("replay.events", 200));
+    private static final double REPLAY_RATE = Double.parseDouble(System.getProperty("replay.rate", "0"));
+
+    private IGCOMRSRepositoryConnector igcomrsRepositoryConnector;
+    private IGCOMRSRepositoryEventMapper igcomrsRepositoryEventMapper;
+    private ReplayConsumer consumer;
+
+    public EventMapperBenchmark() {
+        // Do nothing...
+    }
+
+    /**
+     * Start the connector and event mapper against the mocked server resources, and register all of the open
+     * metadata types the connector supports (so that the mappings needed by the events are in place). The event
+     * mapper's consumer thread then polls the stand-in for the topic until the event mapper is disconnected.
+     */
+    @BeforeClass
+    public void startConnector() {
+
+        Connection mockConnection = new MockConnection();
+        ConnectorConfigurationFactory connectorConfigurationFactory = new ConnectorConfigurationFactory();
+        ConnectorBroker connectorBroker = new ConnectorBroker();
+
+        try {
+
+            Connector auditLogConnector = connectorBroker.getConnector(connectorConfigurationFactory.getDefaultAuditLogConnection());
+            auditLogConnector.start();
+            List<OMRSAuditLogStore> auditLogDestinations = new ArrayList<>();
+            auditLogDestinations.add((OMRSAuditLogStore)auditLogConnector);
+            OMRSAuditLogDestination destination = new OMRSAuditLogDestination("TestServer", "Test", "ODPi", auditLogDestinations);
+            OMRSAuditLog auditLog = new OMRSAuditLog(destination, -1, "EventMapperBenchmark", "Benchmarking of the event mapper", null);
+            OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(MockConstants.EGERIA_USER, auditLog);
+            OMRSRepositoryEventManager eventManager = new OMRSRepositoryEventManager("Mock Outbound EventManager",
+                    new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.SELECTED_TYPES, Collections.emptyList()),
+                    new OMRSRepositoryContentValidator(contentManager),
+                    new OMRSAuditLog(destination, OMRSAuditingComponent.REPOSITORY_EVENT_MANAGER));
+
+            List<Connector> inMemoryConnector = new ArrayList<>();
+            inMemoryConnector.add(new InMemoryOpenMetadataTopicConnector());
+            OMRSTopicConnector omrsTopicConnector = new OMRSTopicConnector();
+            omrsTopicConnector.initializeEmbeddedConnectors(inMemoryConnector);
+            eventManager.registerRepositoryEventProcessor(new OMRSRepositoryEventPublisher("Mock EventPublisher",
+                    omrsTopicConnector,
+                    auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER)));
+
+            igcomrsRepositoryConnector = (IGCOMRSRepositoryConnector) connectorBroker.getConnector(mockConnection);
+            igcomrsRepositoryConnector.setAuditLog(auditLog);
+            igcomrsRepositoryConnector.setRepositoryHelper(new OMRSRepositoryContentHelper(contentManager));
+            igcomrsRepositoryConnector.setRepositoryValidator(new OMRSRepositoryContentValidator(contentManager));
+            igcomrsRepositoryConnector.setMetadataCollectionId(UUID.randomUUID().toString());
+            igcomrsRepositoryConnector.start();
+
+            IGCOMRSMetadataCollection igcomrsMetadataCollection = (IGCOMRSMetadataCollection) igcomrsRepositoryConnector.getMetadataCollection();
+
+            OpenMetadataArchiveTypeStore typeStore = new OpenMetadataTypesArchive().getOpenMetadataArchive().getArchiveTypeStore();
+            for (AttributeTypeDef attributeTypeDef : typeStore.getAttributeTypeDefs()) {
+                try {
+                    igcomrsMetadataCollection.addAttributeTypeDef(MockConstants.EGERIA_USER, attributeTypeDef);
+                } catch (Exception e) {
+                    log.debug("AttributeTypeDef not added: {}", attributeTypeDef.getName());
+                }
+                contentManager.addAttributeTypeDef(igcomrsRepositoryConnector.getRepositoryName(), attributeTypeDef);
+            }
+            for (TypeDef typeDef : typeStore.getNewTypeDefs()) {
+                try {
+                    igcomrsMetadataCollection.addTypeDef(MockConstants.EGERIA_USER, typeDef);
+                } catch (Exception e) {
+                    log.debug("TypeDef not added: {}", typeDef.getName());
+                }
+                contentManager.addTypeDef(igcomrsRepositoryConnector.getRepositoryName(), typeDef);
+            }
+
+            Connection eventMapperConnection = connectorConfigurationFactory.getRepositoryEventMapperConnection(
+                    "org.odpi.egeria.connectors.ibm.igc.eventmapper.IGCOMRSRepositoryEventMapperProvider",
+                    null,
+                    MockConstants.IGC_ENDPOINT
+            );
+            igcomrsRepositoryEventMapper = (IGCOMRSRepositoryEventMapper) connectorBroker.getConnector(eventMapperConnection);
+            igcomrsRepositoryEventMapper.setAuditLog(auditLog);
+            igcomrsRepositoryEventMapper.setRepositoryEventProcessor(eventManager);
+            igcomrsRepositoryEventMapper.initialize("Mock IGC Event Mapper", igcomrsRepositoryConnector);
+            // The event mapper's (single) consumer thread consumes from the stand-in for the topic, in place of Kafka
+            consumer = new ReplayConsumer(WARMUP_EVENTS + REPLAY_EVENTS);
+            igcomrsRepositoryEventMapper.setKafkaConsumerFactory(properties -> consumer);
+            igcomrsRepositoryEventMapper.start();
+
+        } catch (Exception e) {
+            log.error("Unable to start the connector for benchmarking.", e);
+            assertNull(e);
+        }
+
+    }
+
+    @Test
+    public void replayEvents() {
+
+        List<String> recorded = getRecordedEvents();
+        assertFalse(recorded.isEmpty(), "No recorded events to replay.");
+
+        try {
+            consumer.awaitAssignment();
+            replay(recorded, 0, WARMUP_EVENTS, 0, false);
+            replay(recorded, WARMUP_EVENTS, REPLAY_EVENTS, REPLAY_RATE, true);
+        } catch (Exception e) {
+            log.error("Unexpected exception replaying events.", e);
+            assertNull(e);
+        }
+
+    }
+
+    @AfterClass
+    public void stopConnector() {
+        try {
+            igcomrsRepositoryEventMapper.disconnect();
+            igcomrsRepositoryConnector.disconnect();
+        } catch (ConnectorCheckedException e) {
+            log.error("Unable to properly disconnect connector.", e);
+        }
+    }
+
+    /**
+     * Replay the provided number of events, cycling through those recorded: offering each at the provided rate on the
+     * stand-in for the Kafka topic, and waiting until the event mapper has committed all of them.
+     *
+     * @param recorded the recorded events
+     * @param first the offset at which to offer the first of the events
+     * @param total the number of events to replay
+     * @param rate the rate (events per second) at which to offer the events, or 0 to offer them all at once
+     * @param report true to report the measurements of the replay, false to only replay the events
+     * @throws Exception on any error replaying the events
+     */
+    private void replay(List<String> recorded, int first, int total, double rate, boolean report) throws Exception {
+
+        if (total <= 0) {
+            return;
+        }
+
+        MockServerClient mockServerClient = new MockServerClient(MockConstants.IGC_HOST, Integer.parseInt(MockConstants.IGC_PORT));
+        int restCallsBefore = report ? mockServerClient.retrieveRecordedRequests(request()).length : 0;
+
+        Thread producer = new Thread(() -> {
+            long start = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                if (rate > 0) {
+                    long due = start + (long) (i * 1_000_000_000L / rate);
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                consumer.offer(first + i, recorded.get(i % recorded.size()));
+            }
+        }, "IGC-event-replay");
+
+        long start = System.nanoTime();
+        producer.start();
+        long end = consumer.awaitCommitted(first + total);
+        producer.join();
+
+        if (report) {
+            HttpRequest[] requests = mockServerClient.retrieveRecordedRequests(request());
+            int restCalls = requests.length - restCallsBefore;
+            int stubCalls = countStubRequests(requests, restCallsBefore);
+            long[] latencies = consumer.getLatencies(first, total);
+            Arrays.sort(latencies);
+            long elapsed = end - start;
+            log.info("Replayed {} events in {} ms: {} events/sec, latency p50 {} ms / p99 {} ms, {} REST calls per event (+ {} for OMRS stubs)",
+                    total,
+                    String.format("%.1f", elapsed / 1e6),
+                    String.format("%.1f", total / (elapsed / 1e9)),
+                    String.format("%.2f", getPercentile(latencies, 0.50) / 1e6),
+                    String.format("%.2f", getPercentile(latencies, 0.99) / 1e6),
+                    String.format("%.2f", (double) (restCalls - stubCalls) / total),
+                    String.format("%.2f", (double) stubCalls / total));
+        }
+
+    }
+
+    /**
+     * Retrieve the recorded events to replay: either from the file given by the replay.file system property, or
+     * otherwise the sample events.
+     *
+     * @return {@code List<String>} of events, one JSON event each
+     */
+    private List<String> getRecordedEvents() {
+        List<String> events = new ArrayList<>();
+        String file = System.getProperty("replay.file");
+        try (BufferedReader reader = file != null
+                ? Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)
+                : new BufferedReader(new InputStreamReader(getSampleEvents(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    events.add(line.trim());
+                }
+            }
+        } catch (IOException e) {
+            log.error("Unable to read recorded events from: {}", file == null ? SAMPLE_EVENTS : file, e);
+            assertNull(e);
+        }
+        return events;
+    }
+
+    /**
+     * Retrieve the sample events, as recorded from the mocked IGC environment.
+     *
+     * @return InputStream
+     * @throws IOException if the sample events cannot be found
+     */
+    private InputStream getSampleEvents() throws IOException {
+        InputStream sample = getClass().getClassLoader().getResourceAsStream(SAMPLE_EVENTS);
+        if (sample == null) {
+            throw new IOException("Unable to find sample events: " + SAMPLE_EVENTS);
+        }
+        return sample;
+    }
+
+    /**
+     * Retrieve the provided percentile of the provided (sorted) values.
+     *
+     * @param sorted the values, in ascending order
+     * @param percentile the percentile to retrieve (between 0 and 1)
+     * @return long
+     */
+    private static long getPercentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Count the provided requests that were made for the OMRS stubs rather than the assets themselves: the searches
+     * for the stubs, and the OpenIGC writes (and deletions) of them.
+     *
+     * @param requests the requests recorded by the mocked IGC environment, in the order they were received
+     * @param from the index of the first of the requests to count
+     * @return int
+     */
+    private static int countStubRequests(HttpRequest[] requests, int from) {
+        int count = 0;
+        for (int i = from; i < requests.length; i++) {
+            String path = requests[i].getPath() == null ? null : requests[i].getPath().getValue();
+            String body = requests[i].getBodyAsString();
+            if ((path != null && path.endsWith(STUB_WRITES)) || (body != null && body.contains(STUB_TYPE))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Stands in for the IGC Kafka topic, as the consumer of the event mapper's consumer thread: recording when each
+     * event is offered on the topic and when the consumer thread commits it. Unlike the underlying mock consumer, a
+     * poll waits (up to its timeout) for an event to be offered, as a poll of Kafka would, rather than returning
+     * straight away.
+     */
+    private static class ReplayConsumer extends MockConsumer<Long, String> {
+
+        private final long[] offered;
+        private final long[] committed;
+        private long committedUpTo = 0;
+        private int available = 0;
+
+        ReplayConsumer(int capacity) {
+            super(OffsetResetStrategy.EARLIEST);
+            this.offered = new long[capacity];
+            this.committed = new long[capacity];
+            updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+            // The consumer thread subscribes to the topic, so the partition can only be assigned on its first poll
+            schedulePollTask(() -> rebalance(Collections.singletonList(PARTITION)));
+        }
+
+        /**
+         * Offer the provided event on the topic.
+         *
+         * @param offset the offset of the event
+         * @param event the event
+         */
+        synchronized void offer(int offset, String event) {
+            offered[offset] = System.nanoTime();
+            addRecord(new ConsumerRecord<>(TOPIC, PARTITION.partition(), offset, null, event));
+            available++;
+            notifyAll();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized ConsumerRecords<Long, String> poll(Duration timeout) {
+            if (available == 0 && assignment().contains(PARTITION)) {
+                try {
+                    wait(timeout.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            available = 0;
+            return super.poll(timeout);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            super.commitSync(offsets);
+            OffsetAndMetadata offset = offsets.get(PARTITION);
+            if (offset != null && offset.offset() > committedUpTo) {
+                long now = System.nanoTime();
+                for (long i = committedUpTo; i < offset.offset(); i++) {
+                    committed[(int) i] = now;
+                }
+                committedUpTo = offset.offset();
+                notifyAll();
+            }
+        }
+
+        /**
+         * Wait until the consumer thread has been assigned the partition of the topic.
+         *
+         * @throws InterruptedException if interrupted while waiting
+         */
+        synchronized void awaitAssignment() throws InterruptedException {
+            while (!assignment().contains(PARTITION)) {
+                wait(100);
+            }
+        }
+
+        /**
+         * Wait until the consumer thread has committed every event before the provided offset, failing if it stops
+         * committing events before then.
+         *
+         * @param offset the offset up to which to wait for events to be committed
+         * @return long the time (in nanoseconds) at which the last of the events was committed
+         * @throws InterruptedException if interrupted while waiting
+         */
+        synchronized long awaitCommitted(long offset) throws InterruptedException {
+            long progress = committedUpTo;
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMMIT_TIMEOUT_MS);
+            while (committedUpTo < offset) {
+                if (committedUpTo > progress) {
+                    progress = committedUpTo;
+                    deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMMIT_TIMEOUT_MS);
+                }
+                assertTrue(System.nanoTime() < deadline, "No events committed beyond offset " + committedUpTo + " within " + COMMIT_TIMEOUT_MS + " ms.");
+                wait(100);
+            }
+            return committed[(int) offset - 1];
+        }
+
+        /**
+         * Retrieve the latency of each of the provided events, from being offered until being committed.
+         *
+         * @param first the offset of the first event
+         * @param total the number of events
+         * @return long[] of latencies (in nanoseconds)
+         */
+        synchronized long[] getLatencies(int first, int total) {
+            long[] latencies = new long[total];
+            for (int i = 0; i < total; i++) {
+                latencies[i] = committed[first + i] - offered[first + i];
+            }
+            return latencies;
+        }
+
+    }
+
+}
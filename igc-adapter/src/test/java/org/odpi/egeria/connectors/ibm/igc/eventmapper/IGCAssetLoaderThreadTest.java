@@ -0,0 +1,306 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Paging;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCOMRSRepositoryConnector;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.IGCRepositoryHelper;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the paging, rate limiting and handling of failures by the threads that load existing assets from IGC in the
+ * background.
+ */
+public class IGCAssetLoaderThreadTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    private AssetClient client;
+    private CountingHelper helper;
+    private LoadingMapper mapper;
+
+    public IGCAssetLoaderThreadTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() throws IGCConnectivityException {
+        IGCOMRSRepositoryConnector connector = new IGCOMRSRepositoryConnector();
+        client = new AssetClient();
+        helper = new CountingHelper(connector, client);
+        mapper = new LoadingMapper(connector, helper, client);
+        for (int i = 0; i < 1200; i++) {
+            client.assets.add(String.format("rid%04d", i));
+        }
+    }
+
+    @Test
+    public void testInitialLoadRecordsFailures() throws Exception {
+
+        mapper.failing.addAll(Arrays.asList("rid0007", "rid0801"));
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(null);
+        IGCOMRSRepositoryEventMapper.IGCInitialLoadThread loader = mapper.new IGCInitialLoadThread(checkpoint, 0);
+        loader.running.set(true);
+
+        loader.loadAssetType("term");
+        assertEquals(mapper.processed, client.assets);
+        assertEquals(helper.persisted, 3);
+        assertTrue(checkpoint.isComplete("term"));
+        assertEquals(checkpoint.getFailed("term"), new TreeSet<>(mapper.failing));
+        assertEquals(loader.loaded.get(), 1198);
+
+        // Only the failed assets are retried, and only those that fail again are kept
+        mapper.processed.clear();
+        mapper.failing.remove("rid0007");
+        loader.retryFailedAssets("term");
+        assertEquals(mapper.processed, Arrays.asList("rid0007", "rid0801"));
+        assertEquals(checkpoint.getFailed("term"), Collections.singleton("rid0801"));
+        assertEquals(loader.loaded.get(), 1199);
+        assertEquals(loader.failed.get(), 1);
+
+    }
+
+    @Test
+    public void testInitialLoadResumesFromCheckpoint() throws Exception {
+
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(null);
+        checkpoint.update("term", 1000, Collections.emptyList());
+        IGCOMRSRepositoryEventMapper.IGCInitialLoadThread loader = mapper.new IGCInitialLoadThread(checkpoint, 0);
+        loader.running.set(true);
+
+        // Resumes one page before the checkpoint
+        loader.loadAssetType("term");
+        assertEquals(mapper.processed, client.assets.subList(1000 - PAGE_SIZE, client.assets.size()));
+        assertTrue(checkpoint.isComplete("term"));
+
+    }
+
+    @Test
+    public void testStoppedInitialLoadIsNotCompleted() throws Exception {
+
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(null);
+        IGCOMRSRepositoryEventMapper.IGCInitialLoadThread loader = mapper.new IGCInitialLoadThread(checkpoint, 400);
+        loader.running.set(true);
+        mapper.stopAfter(loader, 100);
+
+        // Stopped part-way through the first page, so nothing is checkpointed
+        loader.loadAssetType("term");
+        assertEquals(mapper.processed.size(), 400);
+        assertEquals(checkpoint.getNextIndex("term"), 0);
+        assertFalse(checkpoint.isComplete("term"));
+        assertEquals(helper.persisted, 0);
+
+    }
+
+    @Test
+    public void testRateLimitedSlices() throws Exception {
+
+        client.assets.subList(600, client.assets.size()).clear();
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(null);
+        IGCOMRSRepositoryEventMapper.IGCInitialLoadThread loader = mapper.new IGCInitialLoadThread(checkpoint, 400);
+        loader.running.set(true);
+
+        loader.loadAssetType("term");
+        assertEquals(mapper.processed, client.assets);
+        // The first second's worth of assets is loaded straight away, and the rest only once the rate permits
+        long waited = mapper.processedAt.get(400) - mapper.processedAt.get(399);
+        assertTrue(waited >= 900, "Waited " + waited + " ms between slices");
+        assertTrue(mapper.processedAt.get(399) - mapper.processedAt.get(0) < 900);
+        assertTrue(checkpoint.isComplete("term"));
+
+    }
+
+    @Test
+    public void testReconcileHoldsWatermarkAtEarliestFailure() throws Exception {
+
+        setModified();
+        mapper.failing.addAll(Arrays.asList("rid0900", "rid0600"));
+        ReconciliationWatermark watermark = new ReconciliationWatermark(null);
+        watermark.update("term", 5000);
+        IGCOMRSRepositoryEventMapper.IGCReconcilerThread reconciler = mapper.new IGCReconcilerThread(watermark, 60000, 0);
+        reconciler.running.set(true);
+
+        reconciler.reconcileAssetType("term", 30000);
+        assertTrue(client.lastQuery.path("properties").toString().contains("modified_on"));
+        assertEquals(mapper.processed, client.assets);
+        assertEquals(reconciler.failed.get(), 2);
+        assertEquals(watermark.get("term"), Long.valueOf(getModified("rid0600") - 1));
+
+        // Once the failed assets can be processed, the watermark catches up
+        mapper.failing.clear();
+        reconciler.reconcileAssetType("term", 30000);
+        assertEquals(watermark.get("term"), Long.valueOf(30000));
+
+    }
+
+    @Test
+    public void testReconcileUndatedFailureKeepsWatermark() throws Exception {
+
+        setModified();
+        client.modified.remove("rid0003");
+        mapper.failing.add("rid0003");
+        ReconciliationWatermark watermark = new ReconciliationWatermark(null);
+        watermark.update("term", 5000);
+        IGCOMRSRepositoryEventMapper.IGCReconcilerThread reconciler = mapper.new IGCReconcilerThread(watermark, 60000, 0);
+        reconciler.running.set(true);
+
+        reconciler.reconcileAssetType("term", 30000);
+        assertEquals(watermark.get("term"), Long.valueOf(5000));
+
+    }
+
+    @Test
+    public void testReconcileFailedStubWritesKeepWatermark() throws Exception {
+
+        setModified();
+        helper.persistFails = true;
+        ReconciliationWatermark watermark = new ReconciliationWatermark(null);
+        watermark.update("term", 5000);
+        IGCOMRSRepositoryEventMapper.IGCReconcilerThread reconciler = mapper.new IGCReconcilerThread(watermark, 60000, 0);
+        reconciler.running.set(true);
+
+        assertThrows(IGCConnectivityException.class, () -> reconciler.reconcileAssetType("term", 30000));
+        assertEquals(watermark.get("term"), Long.valueOf(5000));
+
+    }
+
+    @Test
+    public void testReconcileNewTypeOnlySetsWatermark() throws Exception {
+
+        ReconciliationWatermark watermark = new ReconciliationWatermark(null);
+        IGCOMRSRepositoryEventMapper.IGCReconcilerThread reconciler = mapper.new IGCReconcilerThread(watermark, 60000, 0);
+        reconciler.running.set(true);
+
+        reconciler.reconcileAssetType("term", 30000);
+        assertTrue(mapper.processed.isEmpty());
+        assertEquals(watermark.get("term"), Long.valueOf(30000));
+
+    }
+
+    private void setModified() {
+        for (String rid : client.assets) {
+            client.modified.put(rid, new Date(getModified(rid)));
+        }
+    }
+
+    private static long getModified(String rid) {
+        return 10000 + Long.parseLong(rid.substring(3)) * 10;
+    }
+
+    /**
+     * Processes assets by recording them (failing any that should fail), rather than sending out events for them.
+     */
+    private static class LoadingMapper extends IGCOMRSRepositoryEventMapper {
+
+        private final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> processedAt = Collections.synchronizedList(new ArrayList<>());
+        private final Set<String> failing = new TreeSet<>();
+        private IGCAssetLoaderThread stopping = null;
+        private int stopAfter = 0;
+
+        LoadingMapper(IGCOMRSRepositoryConnector connector, IGCRepositoryHelper helper, IGCRestClient client) {
+            super(connector, helper, client);
+        }
+
+        void stopAfter(IGCAssetLoaderThread loader, int assets) {
+            this.stopping = loader;
+            this.stopAfter = assets;
+        }
+
+        @Override
+        void processAsset(ObjectCache cache, String rid, String assetType) {
+            processed.add(rid);
+            processedAt.add(System.currentTimeMillis());
+            if (stopping != null && processed.size() == stopAfter) {
+                stopping.stop();
+            }
+            if (failing.contains(rid)) {
+                throw new IllegalStateException("Unable to process " + rid);
+            }
+        }
+
+    }
+
+    /**
+     * Pages through a fixed list of assets (in order, and with any modification recorded for each), regardless of the
+     * search criteria, keeping the last search run.
+     */
+    private static class AssetClient extends IGCRestClient {
+
+        private final List<String> assets = new ArrayList<>();
+        private final Map<String, Date> modified = new HashMap<>();
+        private JsonNode lastQuery = null;
+
+        AssetClient() throws IGCConnectivityException {
+            super(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS);
+        }
+
+        @Override
+        public <T extends Reference> ItemList<T> search(IGCSearch igcSearch) {
+            lastQuery = igcSearch.getQuery();
+            return getPage(lastQuery.path("types").get(0).asText(), lastQuery.path("begin").asInt(0), lastQuery.path("pageSize").asInt());
+        }
+
+        @Override
+        public <T extends Reference> ItemList<T> getNextPage(String propertyName, ItemList<T> list) {
+            Paging paging = list.getPaging();
+            return getPage(list.getItems().get(0).getType(), paging.getEndIndex() + 1, paging.getPageSize());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Reference> ItemList<T> getPage(String type, int begin, int pageSize) {
+            int end = Math.min(begin + pageSize, assets.size());
+            List<T> items = new ArrayList<>();
+            for (String rid : assets.subList(Math.min(begin, end), end)) {
+                Reference asset = new Reference(rid, type, rid);
+                asset.setModifiedOn(modified.get(rid));
+                items.add((T) asset);
+            }
+            Paging paging = new Paging(assets.size());
+            paging.setBeginIndex(begin);
+            paging.setEndIndex(end - 1);
+            paging.setPageSize(pageSize);
+            ItemList<T> page = new ItemList<>();
+            page.setItems(items);
+            page.setPaging(paging);
+            return page;
+        }
+
+    }
+
+    /**
+     * Counts the times the stubs are made durable, rather than writing them to IGC.
+     */
+    private static class CountingHelper extends IGCRepositoryHelper {
+
+        private int persisted = 0;
+        private boolean persistFails = false;
+
+        CountingHelper(IGCOMRSRepositoryConnector connector, IGCRestClient igcRestClient) {
+            super(connector, null, igcRestClient);
+        }
+
+        @Override
+        public void persistOMRSStubs() throws IGCConnectivityException {
+            persisted++;
+            if (persistFails) {
+                throw new IGCConnectivityException("Unable to write 1 of 2 OMRS stubs to IGC.", "stub");
+            }
+        }
+
+    }
+
+}
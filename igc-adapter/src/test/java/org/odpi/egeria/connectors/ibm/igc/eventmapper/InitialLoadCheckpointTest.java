@@ -0,0 +1,120 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the recording and recovery of the progress of the initial load by the InitialLoadCheckpoint.
+ */
+public class InitialLoadCheckpointTest {
+
+    private Path directory;
+    private Path file;
+
+    public InitialLoadCheckpointTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("initial-load");
+        file = directory.resolve("checkpoint.properties");
+    }
+
+    @AfterMethod
+    public void removeDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testInMemory() throws IOException {
+
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(null);
+        assertFalse(checkpoint.isComplete("term"));
+        assertEquals(checkpoint.getNextIndex("term"), 0);
+        assertTrue(checkpoint.getFailed("term").isEmpty());
+
+        checkpoint.update("term", 500, Collections.emptyList());
+        assertEquals(checkpoint.getNextIndex("term"), 500);
+        assertFalse(checkpoint.isComplete("term"));
+        checkpoint.complete("term");
+        assertTrue(checkpoint.isComplete("term"));
+        assertEquals(checkpoint.getNextIndex("term"), 0);
+        assertFalse(checkpoint.isComplete("category"));
+
+    }
+
+    @Test
+    public void testResumeFromFile() throws IOException {
+
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(file);
+        assertFalse(Files.exists(file));
+        checkpoint.update("term", 500, Collections.emptyList());
+        checkpoint.update("term", 1000, Collections.emptyList());
+        checkpoint.complete("category");
+        assertTrue(Files.exists(file));
+        assertFalse(Files.exists(directory.resolve("checkpoint.properties.tmp")));
+
+        InitialLoadCheckpoint resumed = new InitialLoadCheckpoint(file);
+        assertEquals(resumed.getNextIndex("term"), 1000);
+        assertFalse(resumed.isComplete("term"));
+        assertTrue(resumed.isComplete("category"));
+
+    }
+
+    @Test
+    public void testFailedAssets() throws IOException {
+
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(file);
+        checkpoint.update("term", 500, Arrays.asList("rid2", "rid1"));
+        checkpoint.update("term", 1000, Collections.singletonList("rid3"));
+        // Re-loading an overlapping page must not duplicate the failures already recorded
+        checkpoint.update("term", 1000, Collections.singletonList("rid3"));
+        checkpoint.update("category", 500, Collections.singletonList("rid9"));
+        checkpoint.complete("term");
+
+        InitialLoadCheckpoint resumed = new InitialLoadCheckpoint(file);
+        assertTrue(resumed.isComplete("term"));
+        assertEquals(resumed.getFailed("term"), new TreeSet<>(Arrays.asList("rid1", "rid2", "rid3")));
+        assertEquals(resumed.getFailed("category"), Collections.singleton("rid9"));
+
+        // Only those that still fail once retried are kept
+        resumed.setFailed("term", Collections.singletonList("rid2"));
+        assertEquals(new InitialLoadCheckpoint(file).getFailed("term"), Collections.singleton("rid2"));
+        resumed.setFailed("term", Collections.emptyList());
+        Set<String> none = new InitialLoadCheckpoint(file).getFailed("term");
+        assertTrue(none.isEmpty());
+        assertFalse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains("term.failed"));
+
+    }
+
+    @Test
+    public void testInvalidIndex() throws IOException {
+
+        Files.write(file, Arrays.asList("term=not-a-number", "category=-20"), StandardCharsets.UTF_8);
+        InitialLoadCheckpoint checkpoint = new InitialLoadCheckpoint(file);
+        assertEquals(checkpoint.getNextIndex("term"), 0);
+        assertEquals(checkpoint.getNextIndex("category"), 0);
+        assertFalse(checkpoint.isComplete("term"));
+
+    }
+
+}
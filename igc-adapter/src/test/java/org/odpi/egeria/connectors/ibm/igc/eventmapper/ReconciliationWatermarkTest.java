@@ -0,0 +1,116 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the recording and recovery of the reconciliation watermarks by the ReconciliationWatermark, and the local file
+ * in which they are kept.
+ */
+public class ReconciliationWatermarkTest {
+
+    private Path directory;
+
+    public ReconciliationWatermarkTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("reconciliation");
+    }
+
+    @AfterMethod
+    public void removeDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testInMemory() throws IOException {
+
+        ReconciliationWatermark watermark = new ReconciliationWatermark(null);
+        assertNull(watermark.get("term"));
+        watermark.update("term", 1000L);
+        watermark.update("category", 2000L);
+        assertEquals(watermark.get("term"), Long.valueOf(1000L));
+        assertEquals(watermark.get("category"), Long.valueOf(2000L));
+        watermark.update("term", 3000L);
+        assertEquals(watermark.get("term"), Long.valueOf(3000L));
+        assertTrue(listFiles().isEmpty());
+
+    }
+
+    @Test
+    public void testResumeFromFile() throws IOException {
+
+        // Any missing directories are created when the watermarks are first written
+        Path file = directory.resolve("progress").resolve("watermark.properties");
+        ReconciliationWatermark watermark = new ReconciliationWatermark(file);
+        assertNull(watermark.get("term"));
+        assertFalse(Files.exists(file));
+        watermark.update("term", 1000L);
+        watermark.update("term", 1500L);
+        watermark.update("category", 2000L);
+
+        // The file is always replaced as a whole, leaving nothing else behind
+        assertEquals(listFiles(), Arrays.asList("progress", "progress/watermark.properties"));
+        assertTrue(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).startsWith("#Progress of the reconciliation"));
+
+        ReconciliationWatermark resumed = new ReconciliationWatermark(file);
+        assertEquals(resumed.get("term"), Long.valueOf(1500L));
+        assertEquals(resumed.get("category"), Long.valueOf(2000L));
+        assertNull(resumed.get("database_column"));
+
+    }
+
+    @Test
+    public void testInvalidWatermark() throws IOException {
+
+        Path file = directory.resolve("watermark.properties");
+        Files.write(file, Arrays.asList("term=yesterday", "category=2000"), StandardCharsets.UTF_8);
+        ReconciliationWatermark watermark = new ReconciliationWatermark(file);
+        assertNull(watermark.get("term"));
+        assertEquals(watermark.get("category"), Long.valueOf(2000L));
+
+        // An invalid watermark is replaced by the next valid one
+        watermark.update("term", 1000L);
+        assertEquals(new ReconciliationWatermark(file).get("term"), Long.valueOf(1000L));
+
+    }
+
+    @Test
+    public void testUnreadableFile() throws IOException {
+
+        Path file = directory.resolve("watermark.properties");
+        Files.createDirectory(file);
+        assertThrows(IOException.class, () -> new ReconciliationWatermark(file));
+
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> !path.equals(directory))
+                    .map(path -> directory.relativize(path).toString())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.eventmapper.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model.OMRSStub;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the differences calculated by the ChangeSet between an asset and the payload of its stub, for each kind of
+ * property: lists of relationships, single relationships, arrays of values and single values.
+ */
+public class ChangeSetTest {
+
+    private static final List<String> PAGED_PROPERTIES = Arrays.asList("assigned_assets", "category_path");
+
+    private JsonClient client;
+
+    public ChangeSetTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() throws IGCException {
+        client = new JsonClient();
+    }
+
+    @Test
+    public void testNoStub() throws IGCException {
+
+        client.json = "{\"_id\":\"rid0\",\"name\":\"Address\",\"assigned_assets\":" + getReferences("rid1") + "}";
+        ChangeSet changes = new ChangeSet(client, new Reference("Address", "term", "rid0"), null);
+        assertEquals(changes.getChangedProperties(), new TreeSet<>(Arrays.asList("_id", "assigned_assets", "name")));
+        for (String property : changes.getChangedProperties()) {
+            assertChange(getSingleChange(changes, property), "add", "/" + property);
+        }
+
+    }
+
+    @Test
+    public void testPagedRelationships() throws IGCException {
+
+        // Only the relationships that differ are changes, irrespective of their position, paging or context
+        client.json = "{\"assigned_assets\":" + getReferences("rid4", "rid1", "rid3")
+                + ",\"category_path\":{\"paging\":{\"numTotal\":1,\"pageSize\":100,\"end\":0,\"begin\":0},\"items\":[{\"_id\":\"cat1\",\"_name\":\"Renamed\"}]}}";
+        OMRSStub stub = getStub("{\"assigned_assets\":" + getReferences("rid1", "rid2", "rid3")
+                + ",\"category_path\":{\"paging\":{\"numTotal\":1,\"pageSize\":1,\"end\":1,\"begin\":0},\"items\":[{\"_id\":\"cat1\",\"_name\":\"Category\"}]}}");
+        ChangeSet changes = new ChangeSet(client, new Reference("Address", "term", "rid0"), stub);
+        assertEquals(changes.getChangedProperties(), Collections.singleton("assigned_assets"));
+
+        List<ChangeSet.Change> assigned = changes.getChangesForProperty("assigned_assets");
+        assertEquals(assigned.size(), 2);
+        // An added relationship is at its index in the current version, and a removed one at its index in the previous
+        assertChange(assigned.get(0), "add", "/assigned_assets/items/0");
+        assertChange(assigned.get(1), "remove", "/assigned_assets/items/1");
+        assertNull(assigned.get(0).getOldValue(PAGED_PROPERTIES));
+
+    }
+
+    @Test
+    public void testSingleRelationships() throws IGCException {
+
+        client.json = "{\"parent_category\":{\"_id\":\"cat1\",\"_name\":\"Renamed\"},\"replaced_by\":{\"_id\":\"rid5\"},"
+                + "\"preferred_synonym\":{},\"steward\":{\"_id\":\"user2\"}}";
+        OMRSStub stub = getStub("{\"parent_category\":{\"_id\":\"cat1\",\"_name\":\"Category\"},\"replaced_by\":{},"
+                + "\"preferred_synonym\":{\"_id\":\"rid6\"},\"steward\":{\"_id\":\"user1\"},\"translations\":{\"_id\":\"rid7\"}}");
+        ChangeSet changes = new ChangeSet(client, new Reference("Address", "term", "rid0"), stub);
+
+        // A relationship to the same asset is unchanged, even when the details of that asset differ
+        assertEquals(changes.getChangedProperties(), new TreeSet<>(Arrays.asList("preferred_synonym", "replaced_by", "steward", "translations")));
+        assertChange(getSingleChange(changes, "replaced_by"), "add", "/replaced_by");
+        assertChange(getSingleChange(changes, "preferred_synonym"), "remove", "/preferred_synonym");
+        assertChange(getSingleChange(changes, "steward"), "replace", "/steward");
+        assertChange(getSingleChange(changes, "translations"), "remove", "/translations");
+
+    }
+
+    @Test
+    public void testArraysOfValues() throws IGCException {
+
+        client.json = "{\"workflow_current_state\":[\"DRAFT\",\"APPROVED\",\"PUBLISHED\"],\"labels\":[\"one\"],\"name\":\"Address\"}";
+        OMRSStub stub = getStub("{\"workflow_current_state\":[\"DRAFT\",\"PENDING\"],\"labels\":[\"one\",\"two\"],\"name\":\"Address\"}");
+        ChangeSet changes = new ChangeSet(client, new Reference("Address", "term", "rid0"), stub);
+        assertEquals(changes.getChangedProperties(), new TreeSet<>(Arrays.asList("labels", "workflow_current_state")));
+
+        // Arrays of values are compared element by element, so that every change has a value that can be retrieved
+        List<ChangeSet.Change> states = changes.getChangesForProperty("workflow_current_state");
+        assertEquals(states.size(), 2);
+        assertChange(states.get(0), "replace", "/workflow_current_state/1");
+        assertEquals(states.get(0).getOldValue(PAGED_PROPERTIES), "PENDING");
+        assertEquals(states.get(0).getNewValue(PAGED_PROPERTIES), "APPROVED");
+        assertChange(states.get(1), "add", "/workflow_current_state/2");
+        assertEquals(states.get(1).getNewValue(PAGED_PROPERTIES), "PUBLISHED");
+        assertNull(states.get(1).getOldValue(PAGED_PROPERTIES));
+
+        ChangeSet.Change label = getSingleChange(changes, "labels");
+        assertChange(label, "remove", "/labels/1");
+        assertEquals(label.getOldValue(PAGED_PROPERTIES), "two");
+
+    }
+
+    @Test
+    public void testValues() throws IGCException {
+
+        client.json = "{\"name\":\"Address Line 1\",\"is_modifier\":true,\"example\":\"\"}";
+        OMRSStub stub = getStub("{\"name\":\"Address\",\"is_modifier\":true,\"example\":\"\",\"usage\":\"Mailing\"}");
+        ChangeSet changes = new ChangeSet(client, new Reference("Address Line 1", "term", "rid0"), stub);
+        assertEquals(changes.getChangedProperties(), new TreeSet<>(Arrays.asList("name", "usage")));
+
+        ChangeSet.Change name = getSingleChange(changes, "name");
+        assertChange(name, "replace", "/name");
+        assertEquals(name.getOldValue(PAGED_PROPERTIES), "Address");
+        assertEquals(name.getNewValue(PAGED_PROPERTIES), "Address Line 1");
+        ChangeSet.Change usage = getSingleChange(changes, "usage");
+        assertChange(usage, "remove", "/usage");
+        assertEquals(usage.getOldValue(PAGED_PROPERTIES), "Mailing");
+
+    }
+
+    private static ChangeSet.Change getSingleChange(ChangeSet changes, String propertyName) {
+        List<ChangeSet.Change> change = changes.getChangesForProperty(propertyName);
+        assertNotNull(change);
+        assertEquals(change.size(), 1);
+        return change.get(0);
+    }
+
+    private static void assertChange(ChangeSet.Change change, String op, String path) {
+        assertEquals(change.getOp(), op);
+        assertEquals(change.getIgcPropertyPath(), path);
+    }
+
+    private static OMRSStub getStub(String payload) {
+        OMRSStub stub = new OMRSStub();
+        stub.setPayload(payload);
+        return stub;
+    }
+
+    private static String getReferences(String... rids) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"paging\":{\"numTotal\":").append(rids.length).append(",\"pageSize\":10,\"end\":").append(rids.length - 1).append(",\"begin\":0},\"items\":[");
+        for (int i = 0; i < rids.length; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("{\"_id\":\"").append(rids[i]).append("\",\"_type\":\"data_file_field\"}");
+        }
+        return sb.append("]}").toString();
+    }
+
+    /**
+     * Provides a fixed JSON representation for any asset, and a fixed set of paged relationship properties for any
+     * type, rather than retrieving them from IGC.
+     */
+    private static class JsonClient extends IGCRestClient {
+
+        private String json = "{}";
+
+        JsonClient() throws IGCException {
+            super(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS);
+        }
+
+        @Override
+        public String getValueAsJSON(Reference asset) {
+            return json;
+        }
+
+        @Override
+        public List<String> getPagedRelationshipPropertiesForType(String typeName) {
+            return PAGED_PROPERTIES;
+        }
+
+    }
+
+}
@@ -1790,6 +1790,49 @@ public class ConnectorTest {
 
     }
 
+    @Test
+    public void testGetEntityDetailsInBulk() {
+
+        Map<String, String> expectedSchema = new HashMap<>();
+        expectedSchema.put("name", "DB2INST1");
+        Map<String, String> expectedSchemaType = new HashMap<>();
+        expectedSchemaType.put("displayName", "DB2INST1");
+
+        EntityDetail schema = testEntityDetail("database_schema", "DeployedDatabaseSchema", null, MockConstants.DATABASE_SCHEMA_RID, expectedSchema);
+        EntityDetail schemaType = testEntityDetail("database_schema", "RelationalDBSchemaType", RelationalDBSchemaTypeMapper.IGC_RID_PREFIX, MockConstants.DATABASE_SCHEMA_RID, expectedSchemaType);
+
+        // Entities retrieved together come back in the order requested, the same as when retrieved one at a time,
+        // and with a null in place of any entity that is not known
+        List<EntityDetail> details = null;
+        try {
+            details = igcomrsMetadataCollection.getEntityDetails(MockConstants.EGERIA_USER,
+                    Arrays.asList(schemaType.getGUID(), "123", schema.getGUID()));
+        } catch (InvalidParameterException | RepositoryErrorException e) {
+            log.error("Unable to retrieve entity details in bulk.", e);
+            assertNull(e);
+        } catch (Exception e) {
+            log.error("Unexpected exception retrieving entity details in bulk.", e);
+            assertNull(e);
+        }
+
+        assertNotNull(details);
+        assertEquals(details.size(), 3);
+        assertEntityDetailsEqual(details.get(0), schemaType);
+        assertNull(details.get(1));
+        assertEntityDetailsEqual(details.get(2), schema);
+
+    }
+
+    @Test
+    public void testGetEntityDetailsOfUnsupportedType() {
+
+        // An IGC object of a type that its REST API does not support is an error, whether retrieved alone or in bulk
+        String guid = new IGCEntityGuid(metadataCollectionId, IGCRepositoryHelper.DEFAULT_IGC_TYPE, MockConstants.DATABASE_SCHEMA_RID).toString();
+        assertThrows(RepositoryErrorException.class, () -> igcomrsMetadataCollection.getEntityDetail(MockConstants.EGERIA_USER, guid));
+        assertThrows(RepositoryErrorException.class, () -> igcomrsMetadataCollection.getEntityDetails(MockConstants.EGERIA_USER, Arrays.asList("123", guid)));
+
+    }
+
     @Test
     public void testRelationalDBSchemaTypeRelationships() {
 
@@ -3487,7 +3530,7 @@ public class ConnectorTest {
             Reference testTerm = igcRestClient.getAssetById(MockConstants.TERM_RID);
             OMRSStub testStub = igcRepositoryHelper.getOMRSStubForAsset(testTerm);
 
-            // Initial test will be against a non-existent stub
+            // Initial test will be against a non-existent stub, so every one of the term's 19 properties is an 'add'
             ChangeSet test = new ChangeSet(igcRestClient, testTerm, testStub);
             Set<String> changedProperties = test.getChangedProperties();
             assertNotNull(changedProperties);
@@ -3505,12 +3548,17 @@ public class ConnectorTest {
             assertNotNull(listOfAssets);
             assertEquals(listOfAssets.size(), 2);
 
-            // Next test will have a stub populated so changes will not all be adds
+            // Next test will have a stub populated so changes will not all be adds: the 25 properties that are only in
+            // the stub are removed, and otherwise only the assigned assets and modification timestamp have changed
             testStub = igcRepositoryHelper.getOMRSStubForAsset(testTerm);
             test = new ChangeSet(igcRestClient, testTerm, testStub);
             changedProperties = test.getChangedProperties();
             assertNotNull(changedProperties);
             assertEquals(changedProperties.size(), 27);
+            // The same relationships (by RID) are unchanged, even though their paging and details differ in the stub
+            assertFalse(changedProperties.contains("category_path"));
+            assertFalse(changedProperties.contains("assigned_to_terms"));
+            assertFalse(changedProperties.contains("parent_category"));
 
             newAssignedAssetInstance = getSingleChange(test, "assigned_assets");
             assertEquals(newAssignedAssetInstance.getIgcPropertyName(), "assigned_assets");
@@ -4462,6 +4510,37 @@ public class ConnectorTest {
 
         }
 
+        // Retrieved together, the relationships come back in the order requested, with a null in place of any that
+        // is not known
+        List<String> guids = relationships.stream().map(Relationship::getGUID).collect(Collectors.toList());
+        guids.add("123");
+        try {
+            List<Relationship> foundTogether = igcomrsMetadataCollection.getRelationships(MockConstants.EGERIA_USER, guids);
+            assertNotNull(foundTogether);
+            assertEquals(foundTogether.size(), guids.size());
+            assertEquals(foundTogether.subList(0, relationships.size()), relationships);
+            assertNull(foundTogether.get(relationships.size()));
+        } catch (InvalidParameterException | RepositoryErrorException e) {
+            log.error("Unable to find relationships again by GUIDs: {}", guids);
+            assertNull(e);
+        } catch (Exception e) {
+            log.error("Unexpected exception trying to find relationships again by GUIDs: {}", guids, e);
+            assertNull(e);
+        }
+
+    }
+
+    /**
+     * Test whether the provided entity details describe the same entity, with the same values.
+     * @param found the entity detail found
+     * @param expected the entity detail expected
+     */
+    private void assertEntityDetailsEqual(EntityDetail found, EntityDetail expected) {
+        assertNotNull(found);
+        assertEquals(found.getGUID(), expected.getGUID());
+        assertEquals(found.getType().getTypeDefName(), expected.getType().getTypeDefName());
+        assertEquals(found.getVersion(), expected.getVersion());
+        assertEquals(found.getProperties(), expected.getProperties());
     }
 
     /**
@@ -0,0 +1,296 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Category;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Term;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.*;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearch;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.search.IGCSearchSorting;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.EntityMapping;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.GlossaryCategoryMapper;
+import org.odpi.egeria.connectors.ibm.igc.repositoryconnector.mapping.entities.GlossaryTermMapper;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the merging and paging of searches across several entity mappings by the EntitySearchMerger, both when
+ * resuming from a cursor and when skipping over preceding results, and the order in which it merges them.
+ */
+public class EntitySearchMergerTest {
+
+    private static final int PAGE_SIZE = 4;
+    private static final int MAX_PAGE_SIZE = 5;
+
+    private PagingClient client;
+    private TranslatingHelper helper;
+    private List<String> expected;
+
+    public EntitySearchMergerTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() throws IGCConnectivityException {
+
+        client = new PagingClient();
+        helper = new TranslatingHelper(client);
+
+        // Interleave the RIDs of the two types, so that every page of merged results draws on both searches
+        List<String> terms = new ArrayList<>();
+        List<String> categories = new ArrayList<>();
+        expected = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String rid = String.format("rid%02d", i);
+            if (i % 3 == 0) {
+                categories.add(rid);
+            } else {
+                terms.add(rid);
+            }
+            expected.add(rid);
+            // Every fourth result does not match once translated, so is left out of its page
+            if (i % 4 == 1) {
+                helper.unmatched.add(rid);
+            }
+        }
+        client.assets.put("term", terms);
+        client.assets.put("category", categories);
+
+    }
+
+    @Test
+    public void testPagingWithCursors() throws RepositoryErrorException {
+
+        EntitySearchMerger merger = new EntitySearchMerger(helper, client);
+        List<String> all = new ArrayList<>();
+        for (int from = 0; from < expected.size(); from += PAGE_SIZE) {
+            int searchesBefore = client.searches;
+            List<String> page = getPage(merger, "_id", from);
+            // Each search is resumed from its own position, so only the results on the page are translated
+            assertEquals(client.searches - searchesBefore, 2);
+            assertEquals(helper.translated, Math.min(PAGE_SIZE, expected.size() - from), "Page from " + from);
+            assertEquals(page, getExpectedPage(from), "Page from " + from);
+            all.addAll(page);
+        }
+
+        assertEquals(all, getExpectedPage(0, expected.size()));
+        assertTrue(getPage(merger, "_id", expected.size()).isEmpty());
+
+    }
+
+    @Test
+    public void testPagingWithoutCursors() throws RepositoryErrorException {
+
+        for (int from = 0; from < expected.size(); from += PAGE_SIZE) {
+            // A new merger for every page has no cursors, so must skip over the preceding results: but only by their
+            // sort keys, so still only the results on the page are translated
+            client.records.clear();
+            List<String> page = getPage(new EntitySearchMerger(helper, client), "_id", from);
+            assertEquals(helper.translated, Math.min(PAGE_SIZE, expected.size() - from), "Page from " + from);
+            assertEquals(page, getExpectedPage(from), "Page from " + from);
+            // ... and no more than a page of results from each search are ever bound to their POJOs
+            long bound = client.records.stream().filter(ProjectedRecord::isBound).count();
+            assertTrue(bound >= helper.translated && bound <= 2 * PAGE_SIZE, "Page from " + from + " bound " + bound);
+        }
+
+    }
+
+    @Test
+    public void testCursorHitAndMissGiveSamePage() throws RepositoryErrorException {
+
+        EntitySearchMerger merger = new EntitySearchMerger(helper, client);
+        for (int from = 0; from < expected.size(); from += PAGE_SIZE) {
+            List<String> resumed = getPage(merger, "_id", from);
+            List<String> skipped = getPage(new EntitySearchMerger(helper, client), "_id", from);
+            assertEquals(resumed, skipped, "Page from " + from);
+            assertEquals(resumed, getExpectedPage(from), "Page from " + from);
+        }
+
+    }
+
+    @Test
+    public void testPagingOutOfOrder() throws RepositoryErrorException {
+
+        EntitySearchMerger merger = new EntitySearchMerger(helper, client);
+        assertEquals(getPage(merger, "_id", 8), getExpectedPage(8));
+        assertEquals(getPage(merger, "_id", 12), getExpectedPage(12));
+        assertEquals(getPage(merger, "_id", 0), getExpectedPage(0));
+        assertEquals(getPage(merger, "_id", 16), getExpectedPage(16));
+        assertTrue(getPage(merger, "_id", expected.size()).isEmpty());
+
+    }
+
+    @Test
+    public void testMixedCaseSorting() throws RepositoryErrorException {
+
+        // Each search is sorted by name by IGC, without regard to case, so the merged results must be as well
+        client.assets.put("term", Arrays.asList("apple", "Cherry", "\u00e9clair", "elder"));
+        client.assets.put("category", Arrays.asList("Banana", "date", "\u00c9pice", "Fig"));
+        helper.unmatched.clear();
+
+        EntitySearchMerger merger = new EntitySearchMerger(helper, client);
+        List<String> all = new ArrayList<>();
+        all.addAll(getPage(merger, "name", 0));
+        all.addAll(getPage(merger, "name", PAGE_SIZE));
+        assertEquals(all, Arrays.asList("apple", "Banana", "Cherry", "date", "\u00e9clair", "elder", "\u00c9pice", "Fig"));
+        assertEquals(getPage(new EntitySearchMerger(helper, client), "name", PAGE_SIZE), all.subList(PAGE_SIZE, all.size()));
+
+    }
+
+    @Test
+    public void testTiesBrokenByRid() throws RepositoryErrorException {
+
+        // Each search breaks ties in the names by RID, so the merged results must as well (whatever the mapping)
+        client.assets.put("term", Arrays.asList("rid1", "rid3"));
+        client.assets.put("category", Arrays.asList("rid0", "rid2"));
+        client.names.put("rid0", "Apple");
+        client.names.put("rid1", "apple");
+        client.names.put("rid2", "pear");
+        client.names.put("rid3", "pear");
+        helper.unmatched.clear();
+
+        EntitySearchMerger merger = new EntitySearchMerger(helper, client);
+        assertEquals(getPage(merger, "name", 0), Arrays.asList("rid0", "rid1", "rid2", "rid3"));
+        assertEquals(getPage(merger, "name", 2), Arrays.asList("rid2", "rid3"));
+
+    }
+
+    private List<String> getExpectedPage(int from) {
+        return getExpectedPage(from, Math.min(from + PAGE_SIZE, expected.size()));
+    }
+
+    private List<String> getExpectedPage(int from, int to) {
+        List<String> page = new ArrayList<>();
+        for (String rid : expected.subList(from, to)) {
+            if (!helper.unmatched.contains(rid)) {
+                page.add(rid);
+            }
+        }
+        return page;
+    }
+
+    private List<String> getPage(EntitySearchMerger merger, String sortProperty, int from) throws RepositoryErrorException {
+
+        helper.translated = 0;
+        // As for any query, the searches are built afresh for every page
+        List<EntityMapping> mappings = Arrays.asList(GlossaryTermMapper.getInstance(null), GlossaryCategoryMapper.getInstance(null));
+        List<IGCSearch> searches = Arrays.asList(new IGCSearch("term"), new IGCSearch("category"));
+        List<IGCSearchSorting> sortings = new ArrayList<>();
+        for (IGCSearch search : searches) {
+            IGCSearchSorting sorting = new IGCSearchSorting(sortProperty);
+            search.addSortingCriteria(sorting);
+            sortings.add(sorting);
+        }
+
+        List<EntityDetail> results = new ArrayList<>();
+        merger.processMergedResults(mappings, searches, sortings, results, new ObjectCache(), null, from, PAGE_SIZE, MAX_PAGE_SIZE, MockConstants.EGERIA_USER);
+        return results.stream().map(EntityDetail::getGUID).collect(Collectors.toList());
+
+    }
+
+    /**
+     * Pages through a fixed set of assets of each type (in the order given, where the name of each asset is its RID
+     * unless given a name of its own) as projected records, counting the searches run and retaining every record.
+     */
+    private static class PagingClient extends IGCRestClient {
+
+        private final Map<String, List<String>> assets = new HashMap<>();
+        private final Map<String, String> names = new HashMap<>();
+        private final List<ProjectedRecord> records = new ArrayList<>();
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final ProjectedRecordReader reader = new ProjectedRecordReader(mapper, type -> type.equals("term") ? Term.class : Category.class);
+        private int searches = 0;
+
+        PagingClient() throws IGCConnectivityException {
+            super(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS);
+        }
+
+        @Override
+        public ProjectedRecordList searchProjected(IGCSearch igcSearch) throws IGCParsingException {
+            searches++;
+            JsonNode query = igcSearch.getQuery();
+            return getPage(query.path("types").get(0).asText(), query.path("begin").asInt(0), query.path("pageSize").asInt());
+        }
+
+        @Override
+        public ProjectedRecordList getNextPage(ProjectedRecordList list) throws IGCParsingException {
+            String[] next = list.getPaging().getNextPageURL().split(":");
+            return getPage(next[0], Integer.parseInt(next[1]), Integer.parseInt(next[2]));
+        }
+
+        private ProjectedRecordList getPage(String type, int begin, int pageSize) throws IGCParsingException {
+            List<String> rids = assets.get(type);
+            int end = Math.min(begin + pageSize, rids.size());
+            ObjectNode page = mapper.createObjectNode();
+            ObjectNode paging = page.putObject("paging");
+            paging.put("numTotal", rids.size());
+            paging.put("begin", begin);
+            paging.put("end", end - 1);
+            paging.put("pageSize", pageSize);
+            paging.put("next", type + ":" + end + ":" + pageSize);
+            ArrayNode items = page.putArray("items");
+            for (String rid : rids.subList(Math.min(begin, end), end)) {
+                String name = names.getOrDefault(rid, rid);
+                items.addObject().put("_id", rid).put("_type", type).put("_name", name).put("name", name);
+            }
+            ProjectedRecordList list = reader.read(page.toString());
+            records.addAll(list.getItems());
+            return list;
+        }
+
+    }
+
+    /**
+     * Translates every search result into an EntityDetail (whose GUID is the RID of the result), other than those
+     * that should not match, counting the results translated.
+     */
+    private static class TranslatingHelper extends IGCRepositoryHelper {
+
+        private final Set<String> unmatched = new HashSet<>();
+        private int translated = 0;
+
+        TranslatingHelper(IGCRestClient igcRestClient) {
+            super(new IGCOMRSRepositoryConnector(), null, igcRestClient);
+        }
+
+        @Override
+        void resolveClassificationsForPage(EntityMapping mapper, List<Reference> results, ObjectCache cache) {
+            // Nothing to resolve
+        }
+
+        @Override
+        EntityDetail getMatchingEntityDetail(EntityMapping mapper,
+                                             Reference reference,
+                                             ObjectCache cache,
+                                             SearchProperties matchProperties,
+                                             String searchCriteria,
+                                             String userId) {
+            translated++;
+            if (unmatched.contains(reference.getId())) {
+                return null;
+            }
+            EntityDetail ed = new EntityDetail();
+            ed.setGUID(reference.getId());
+            return ed;
+        }
+
+    }
+
+}
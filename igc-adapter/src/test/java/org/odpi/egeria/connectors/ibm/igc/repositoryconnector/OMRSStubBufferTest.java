@@ -0,0 +1,321 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestClient;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.xml.stream.XMLOutputFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the batching, retrying (and eventual dropping) and journalling of OMRS stub writes by the OMRSStubBuffer.
+ */
+public class OMRSStubBufferTest {
+
+    private static final Pattern DOC_ID = Pattern.compile("ID=\"(stub\\d+)\"");
+    private static final long NEVER = 600000;
+
+    private RecordingClient client;
+    private Path directory;
+
+    public OMRSStubBufferTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() throws IOException, IGCException {
+        client = new RecordingClient();
+        directory = Files.createTempDirectory("omrs-stub-buffer");
+    }
+
+    @AfterMethod
+    public void removeDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testFlushBatchesWrites() throws IGCException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        buffer.upsert("term_1", "term", "1", "{\"v\":1}");
+        buffer.upsert("term_2", "term", "2", "{\"v\":1}");
+        buffer.upsert("term_1", "term", "1", "{\"v\":2}");
+        buffer.delete("term_3");
+
+        // Buffered writes are retrieved from the buffer, and only the latest write to each stub is kept
+        assertEquals(buffer.get("term_1").getPayload(), "{\"v\":2}");
+        assertTrue(buffer.get("term_3").isDeletion());
+        assertTrue(client.upserts.isEmpty());
+
+        buffer.flush();
+        assertEquals(client.upserts.size(), 1);
+        assertEquals(client.deletions.size(), 1);
+        assertEquals(countAssets(client.upserts.get(0)), 2);
+        assertTrue(client.upserts.get(0).contains("value=\"{&quot;v&quot;:2}\""));
+        assertEquals(countAssets(client.deletions.get(0)), 1);
+        assertTrue(client.deletions.get(0).contains("<assetsToDelete>stub1</assetsToDelete>"));
+        assertNull(buffer.get("term_1"));
+        assertNull(buffer.get("term_3"));
+
+        // Nothing left to write
+        buffer.flush();
+        assertEquals(client.upserts.size(), 1);
+        buffer.close();
+
+    }
+
+    @Test
+    public void testFullBufferFlushes() throws IGCException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 2, 1024 * 1024, NEVER);
+        buffer.upsert("term_1", "term", "1", "{}");
+        assertTrue(client.upserts.isEmpty());
+        buffer.upsert("term_2", "term", "2", "{}");
+        assertEquals(client.upserts.size(), 1);
+        assertNull(buffer.get("term_1"));
+        buffer.close();
+
+    }
+
+    @Test
+    public void testPartialUpsertIsRetried() throws IGCException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        buffer.upsert("term_1", "term", "1", "{}");
+        buffer.upsert("term_2", "term", "2", "{}");
+        buffer.upsert("term_3", "term", "3", "{}");
+
+        // IGC only confirms the first and last of the stubs
+        client.upsertResponse = "{\"stub1\":\"rid1\",\"stub3\":\"rid3\"}";
+        assertThrows(IGCConnectivityException.class, buffer::flush);
+        assertNull(buffer.get("term_1"));
+        assertNotNull(buffer.get("term_2"));
+        assertNull(buffer.get("term_3"));
+
+        // ... and the next flush only retries the stub that was not written
+        client.upsertResponse = null;
+        buffer.flush();
+        assertEquals(client.upserts.size(), 2);
+        assertEquals(countAssets(client.upserts.get(1)), 1);
+        assertTrue(client.upserts.get(1).contains("repr=\"term_2\""));
+        assertNull(buffer.get("term_2"));
+        buffer.close();
+
+    }
+
+    @Test
+    public void testUnusableUpsertResponseIsRetried() throws IGCException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        buffer.upsert("term_1", "term", "1", "{}");
+        client.upsertResponse = "<html>Service unavailable</html>";
+        assertThrows(IGCConnectivityException.class, buffer::flush);
+        assertNotNull(buffer.get("term_1"));
+        client.upsertResponse = null;
+        buffer.close();
+        assertNull(buffer.get("term_1"));
+
+    }
+
+    @Test
+    public void testFailedDeletionIsRetried() throws IGCException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        buffer.upsert("term_1", "term", "1", "{}");
+        buffer.delete("term_2");
+
+        client.deleteSucceeds = false;
+        assertThrows(IGCConnectivityException.class, buffer::flush);
+        assertNull(buffer.get("term_1"));
+        assertTrue(buffer.get("term_2").isDeletion());
+
+        // A newer write to the stub supersedes the retry of the older one
+        buffer.upsert("term_2", "term", "2", "{}");
+        client.deleteSucceeds = true;
+        buffer.flush();
+        assertEquals(client.deletions.size(), 1);
+        assertTrue(client.upserts.get(client.upserts.size() - 1).contains("repr=\"term_2\""));
+        buffer.close();
+
+    }
+
+    @Test
+    public void testRejectedDocumentIsSplit() throws IGCException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        for (int i = 1; i <= 4; i++) {
+            buffer.upsert("term_" + i, "term", "" + i, "{}");
+        }
+        buffer.delete("term_5");
+        buffer.delete("term_6");
+
+        // IGC rejects any document that includes a bad stub, so the documents are split until it is isolated
+        client.rejected.add("term_3");
+        client.rejected.add("term_6");
+        assertThrows(IGCConnectivityException.class, buffer::flush);
+        assertEquals(client.upserts.size(), 5);
+        assertEquals(client.deletions.size(), 3);
+        assertNotNull(buffer.get("term_3"));
+        assertNotNull(buffer.get("term_6"));
+        for (String written : new String[]{"term_1", "term_2", "term_4", "term_5"}) {
+            assertNull(buffer.get(written));
+        }
+
+        // ... and each bad stub is only retried until it has been rejected the maximum number of times
+        for (int attempt = 2; attempt < OMRSStubBuffer.MAX_WRITE_ATTEMPTS; attempt++) {
+            assertThrows(IGCConnectivityException.class, buffer::flush);
+        }
+        buffer.flush();
+        assertNull(buffer.get("term_3"));
+        assertNull(buffer.get("term_6"));
+        assertEquals(client.upserts.size(), 5 + OMRSStubBuffer.MAX_WRITE_ATTEMPTS - 1);
+        buffer.close();
+
+    }
+
+    @Test
+    public void testUnavailableIsNotCountedAsRejection() throws IGCException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        buffer.upsert("term_1", "term", "1", "{}");
+        buffer.upsert("term_2", "term", "2", "{}");
+
+        // While IGC is unavailable the document is neither split nor are its stubs ever dropped
+        client.unavailable = true;
+        for (int attempt = 1; attempt <= OMRSStubBuffer.MAX_WRITE_ATTEMPTS; attempt++) {
+            assertThrows(IGCConnectivityException.class, buffer::flush);
+        }
+        assertEquals(client.upserts.size(), OMRSStubBuffer.MAX_WRITE_ATTEMPTS);
+        assertNotNull(buffer.get("term_1"));
+        assertNotNull(buffer.get("term_2"));
+
+        client.unavailable = false;
+        buffer.flush();
+        assertNull(buffer.get("term_1"));
+        assertNull(buffer.get("term_2"));
+        buffer.close();
+
+    }
+
+    @Test
+    public void testJournalKeptUntilAllWritesConfirmed() throws IGCException, IOException {
+
+        OMRSStubBuffer buffer = new OMRSStubBuffer(client, XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        buffer.openJournal(directory);
+        buffer.upsert("term_1", "term", "1", "{}");
+        buffer.upsert("term_2", "term", "2", "{}");
+        buffer.sync();
+        assertTrue(client.upserts.isEmpty());
+
+        client.upsertResponse = "{\"stub1\":\"rid1\"}";
+        assertThrows(IGCConnectivityException.class, buffer::flush);
+        assertEquals(countSegments(), 1);
+
+        // A buffer opened on the same journal (eg. after a crash) recovers the writes that were not confirmed
+        OMRSStubBuffer recovered = new OMRSStubBuffer(new RecordingClient(), XMLOutputFactory.newInstance(), 10, 1024 * 1024, NEVER);
+        recovered.openJournal(directory);
+        assertNotNull(recovered.get("term_1"));
+        assertNotNull(recovered.get("term_2"));
+
+        client.upsertResponse = null;
+        buffer.flush();
+        assertEquals(countSegments(), 0);
+        buffer.close();
+
+    }
+
+    private static int countAssets(String xml) {
+        int count = 0;
+        Matcher matcher = DOC_ID.matcher(xml);
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private int countSegments() throws IOException {
+        try (Stream<Path> segments = Files.list(directory)) {
+            return (int) segments.filter(path -> path.getFileName().toString().endsWith(".journal")).count();
+        }
+    }
+
+    /**
+     * Records the OpenIGC documents sent to IGC, and responds to them as configured (by default, confirming that
+     * every stub was written): rejecting any document that includes one of the rejected stubs, and failing every
+     * document while unavailable.
+     */
+    private static class RecordingClient extends IGCRestClient {
+
+        private final List<String> upserts = new ArrayList<>();
+        private final List<String> deletions = new ArrayList<>();
+        private final Set<String> rejected = new HashSet<>();
+        private String upsertResponse = null;
+        private boolean deleteSucceeds = true;
+        private boolean unavailable = false;
+
+        RecordingClient() throws IGCConnectivityException {
+            super(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS);
+        }
+
+        @Override
+        public synchronized String upsertOpenIgcAsset(String assetXML) throws IGCConnectivityException {
+            upserts.add(assetXML);
+            if (isRejected(assetXML)) {
+                throw new IGCConnectivityException("Request failed.", new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+            }
+            if (upsertResponse != null) {
+                return upsertResponse;
+            }
+            StringJoiner response = new StringJoiner(",", "{", "}");
+            Matcher matcher = DOC_ID.matcher(assetXML);
+            while (matcher.find()) {
+                response.add("\"" + matcher.group(1) + "\":\"rid_" + matcher.group(1) + "\"");
+            }
+            return response.toString();
+        }
+
+        @Override
+        public synchronized boolean deleteOpenIgcAsset(String assetXML) throws IGCConnectivityException {
+            deletions.add(assetXML);
+            return deleteSucceeds && !isRejected(assetXML);
+        }
+
+        private boolean isRejected(String assetXML) throws IGCConnectivityException {
+            if (unavailable) {
+                throw new IGCConnectivityException("Request failed.", new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+            }
+            for (String stubName : rejected) {
+                if (assetXML.contains("repr=\"" + stubName + "\"")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the recording, replay and removal of OMRS stub writes by the OMRSStubJournal.
+ */
+public class OMRSStubJournalTest {
+
+    private Path directory;
+
+    public OMRSStubJournalTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("omrs-stub-journal");
+    }
+
+    @AfterMethod
+    public void removeDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testReplay() throws IOException {
+
+        OMRSStubJournal journal = new OMRSStubJournal(directory);
+        journal.append(upsert("term_1", "{\"v\":1}"));
+        journal.append(upsert("term_2", "{\"v\":1}"));
+        assertNotNull(journal.roll());
+        journal.append(upsert("term_1", "{\"v\":2}"));
+        journal.append(delete("term_2"));
+        journal.append(upsert("term_3", "{\"v\":1}"));
+        journal.close();
+
+        OMRSStubJournal reopened = new OMRSStubJournal(directory);
+        List<Path> segments = new ArrayList<>();
+        Map<String, OMRSStubBuffer.PendingStub> writes = reopened.replay(segments);
+
+        assertEquals(segments.size(), 2);
+        assertEquals(new ArrayList<>(writes.keySet()), List.of("term_1", "term_2", "term_3"));
+        OMRSStubBuffer.PendingStub term1 = writes.get("term_1");
+        assertFalse(term1.isDeletion());
+        assertEquals(term1.getSourceType(), "term");
+        assertEquals(term1.getSourceRID(), "term_1");
+        assertEquals(term1.getPayload(), "{\"v\":2}");
+        assertTrue(writes.get("term_2").isDeletion());
+        assertNull(writes.get("term_2").getPayload());
+
+        // New writes are only ever appended to a new segment, after those replayed
+        reopened.append(upsert("term_4", "{\"v\":1}"));
+        Path rolled = reopened.roll();
+        assertNotNull(rolled);
+        assertFalse(segments.contains(rolled));
+        assertTrue(rolled.getFileName().toString().compareTo(segments.get(1).getFileName().toString()) > 0);
+        reopened.close();
+
+    }
+
+    @Test
+    public void testReplaySkipsCurrentSegment() throws IOException {
+
+        OMRSStubJournal journal = new OMRSStubJournal(directory);
+        journal.append(upsert("term_1", "{\"v\":1}"));
+        journal.sync();
+        List<Path> segments = new ArrayList<>();
+        assertTrue(journal.replay(segments).isEmpty());
+        assertTrue(segments.isEmpty());
+        journal.close();
+
+    }
+
+    @Test
+    public void testTornTrailingLine() throws IOException {
+
+        OMRSStubJournal journal = new OMRSStubJournal(directory);
+        journal.append(upsert("term_1", "{\"v\":1}"));
+        journal.append(upsert("term_2", "{\"v\":1}"));
+        Path segment = journal.roll();
+        journal.close();
+
+        // A write that was never completed before a crash
+        Files.write(segment, "{\"name\":\"term_3\",\"type\":\"te".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        Map<String, OMRSStubBuffer.PendingStub> writes = new OMRSStubJournal(directory).replay(new ArrayList<>());
+        assertEquals(new ArrayList<>(writes.keySet()), List.of("term_1", "term_2"));
+
+    }
+
+    @Test
+    public void testUnparseableLines() throws IOException {
+
+        Path segment = directory.resolve("omrs-stubs-0000000000000000001.journal");
+        List<String> lines = new ArrayList<>();
+        lines.add("{\"name\":\"term_1\",\"type\":\"term\",\"rid\":\"term_1\",\"payload\":\"{}\"}");
+        lines.add("not a journal entry");
+        lines.add("");
+        lines.add("{\"type\":\"term\",\"rid\":\"term_2\",\"payload\":\"{}\"}");
+        lines.add("{\"name\":\"term_3\",\"delete\":true}");
+        Files.write(segment, lines, StandardCharsets.UTF_8);
+        // Files in the directory that are not segments are ignored
+        Files.write(directory.resolve("omrs-stubs-notes.journal"), Collections.singletonList("{\"name\":\"term_4\"}"), StandardCharsets.UTF_8);
+
+        List<Path> segments = new ArrayList<>();
+        Map<String, OMRSStubBuffer.PendingStub> writes = new OMRSStubJournal(directory).replay(segments);
+        assertEquals(segments, Collections.singletonList(segment));
+        assertEquals(new ArrayList<>(writes.keySet()), List.of("term_1", "term_3"));
+        assertTrue(writes.get("term_3").isDeletion());
+
+    }
+
+    @Test
+    public void testRollAndConfirm() throws IOException {
+
+        OMRSStubJournal journal = new OMRSStubJournal(directory);
+        assertNull(journal.roll());
+
+        journal.append(upsert("term_1", "{\"v\":1}"));
+        Path first = journal.roll();
+        assertNotNull(first);
+        assertTrue(Files.exists(first));
+        assertNull(journal.roll());
+
+        journal.append(upsert("term_2", "{\"v\":1}"));
+        Path second = journal.roll();
+        assertNotNull(second);
+        assertNotEquals(second, first);
+
+        // Only the confirmed segment is removed: the writes in the other are still recovered
+        journal.delete(Collections.singletonList(first));
+        assertFalse(Files.exists(first));
+        journal.close();
+
+        List<Path> segments = new ArrayList<>();
+        Map<String, OMRSStubBuffer.PendingStub> writes = new OMRSStubJournal(directory).replay(segments);
+        assertEquals(segments, Collections.singletonList(second));
+        assertEquals(new ArrayList<>(writes.keySet()), Collections.singletonList("term_2"));
+
+        journal.delete(segments);
+        assertTrue(new OMRSStubJournal(directory).replay(new ArrayList<>()).isEmpty());
+
+    }
+
+    private static OMRSStubBuffer.PendingStub upsert(String stubName, String payload) {
+        return new OMRSStubBuffer.PendingStub(stubName, "term", stubName, payload, false);
+    }
+
+    private static OMRSStubBuffer.PendingStub delete(String stubName) {
+        return new OMRSStubBuffer.PendingStub(stubName, null, null, null, true);
+    }
+
+}
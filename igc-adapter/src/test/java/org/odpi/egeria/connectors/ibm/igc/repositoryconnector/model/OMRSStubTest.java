@@ -0,0 +1,84 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.repositoryconnector.model;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the compact encoding of the payload of an OMRSStub, and the decoding of payloads stored either in that
+ * encoding or as plain JSON.
+ */
+public class OMRSStubTest {
+
+    private static final String PAYLOAD = "{\"_id\":\"rid0\",\"_type\":\"term\",\"name\":\"Address\",\"short_description\":\"R\u00e9sum\u00e9 of the postal address\"}";
+
+    public OMRSStubTest() {
+        // Do nothing...
+    }
+
+    @Test
+    public void testRoundTrip() throws IGCParsingException {
+
+        String encoded = OMRSStub.encodePayload(PAYLOAD);
+        assertTrue(encoded.startsWith(OMRSStub.COMPACT_PAYLOAD_HEADER));
+        assertEquals(OMRSStub.decodePayload(encoded), PAYLOAD);
+
+        OMRSStub stub = new OMRSStub();
+        stub.setPayload(encoded);
+        assertEquals(stub.getPayload(), encoded);
+        assertEquals(stub.getPayloadAsJSON(), PAYLOAD);
+
+        assertNull(OMRSStub.encodePayload(null));
+        assertNull(OMRSStub.decodePayload(null));
+
+    }
+
+    @Test
+    public void testLargePayload() throws IGCParsingException {
+
+        // A payload of many relationships, whose encoding and decoding each take more than a single buffer
+        StringBuilder sb = new StringBuilder("{\"assigned_assets\":{\"items\":[");
+        for (int i = 0; i < 2000; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("{\"_id\":\"b1c497ce.60641b50.001mts4ph.").append(i).append("\",\"_type\":\"data_file_field\"}");
+        }
+        String json = sb.append("]}}").toString();
+
+        String encoded = OMRSStub.encodePayload(json);
+        assertTrue(encoded.length() < json.length() / 4);
+        assertEquals(OMRSStub.decodePayload(encoded), json);
+
+    }
+
+    @Test
+    public void testPlainJSON() throws IGCParsingException {
+
+        // Payloads stored as JSON by earlier versions are read as they are
+        assertEquals(OMRSStub.decodePayload(PAYLOAD), PAYLOAD);
+        OMRSStub stub = new OMRSStub();
+        stub.setPayload(PAYLOAD);
+        assertEquals(stub.getPayloadAsJSON(), PAYLOAD);
+
+    }
+
+    @Test
+    public void testInvalidPayloads() {
+
+        String encoded = OMRSStub.encodePayload(PAYLOAD);
+        String body = encoded.substring(OMRSStub.COMPACT_PAYLOAD_HEADER.length());
+        // (cut at a multiple of 4 characters, so that what remains is still valid Base64)
+        String truncated = body.substring(0, body.length() / 8 * 4);
+
+        // An unknown version of the encoding, an invalid encoding or a truncated payload are each reported
+        assertThrows(IGCParsingException.class, () -> OMRSStub.decodePayload("omrs-stub:3:" + body));
+        assertThrows(IGCParsingException.class, () -> OMRSStub.decodePayload(OMRSStub.COMPACT_PAYLOAD_HEADER + "not*base64!"));
+        assertThrows(IGCParsingException.class, () -> OMRSStub.decodePayload(OMRSStub.COMPACT_PAYLOAD_HEADER + truncated));
+
+    }
+
+}
@@ -5,6 +5,7 @@ package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
@@ -19,6 +20,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache.ObjectCache;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCConnectivityException;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
@@ -75,11 +77,14 @@ public class IGCRestClient {
     private String authorization;
     private String baseURL;
     private Boolean workflowEnabled = false;
-    private List<String> cookies = null;
+    private volatile List<String> cookies = null;
     private RestTemplate restTemplate;
 
     private IGCVersionEnum igcVersion;
-    private HashMap<String, DynamicPropertyReader> typeAndPropertyToAccessor;
+    // The readers (and properties without any reader) of each type, keyed first by the type and then by the property,
+    // so that neither a key nor its hash needs to be built on every read of a property
+    private Map<String, Map<String, DynamicPropertyReader>> typeToAccessors;
+    private Map<String, Set<String>> typeToPropertiesWithoutAccessor;
 
     private Set<String> typesThatCanBeCreated;
     private Set<String> typesThatIncludeModificationDetails;
@@ -95,6 +100,7 @@ public class IGCRestClient {
 
     private ObjectMapper mapper;
     private ObjectMapper typeMapper;
+    private ProjectedRecordReader projectedRecordReader;
 
     private static final String EP_BASE_API = "/ibm/iis/igc-rest/v1";
     private static final String EP_TYPES = EP_BASE_API + "/types";
@@ -153,12 +159,16 @@ public class IGCRestClient {
         // an array of values (Strings) and another only has a single String (eg. 'rule_logic' in
         // 'published_data_rule_definition'), and also allow empty Strings to be equivalent to nulls, for
         // areas where a Number is expected but the payload may contain "" (eg. 'length' of 'database_column' as
-        // derived from 'data_item')
+        // derived from 'data_item'). The Blackbird module replaces the reflective access to the properties of the
+        // (many) IGC beans with generated accessors, as binding large pages of results is otherwise CPU-intensive
         this.mapper = new ObjectMapper()
                             .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
-                            .enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+                            .enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT)
+                            .registerModule(new BlackbirdModule());
         this.typeMapper = new ObjectMapper();
-        this.typeAndPropertyToAccessor = new HashMap<>();
+        this.projectedRecordReader = new ProjectedRecordReader(this.mapper, this::findPOJOForType);
+        this.typeToAccessors = new ConcurrentHashMap<>();
+        this.typeToPropertiesWithoutAccessor = new ConcurrentHashMap<>();
         this.restTemplate = new RestTemplate();
 
         // Ensure that the REST template always uses UTF-8
@@ -166,15 +176,17 @@ public class IGCRestClient {
         converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
         converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
 
-        this.typesThatCanBeCreated = new HashSet<>();
-        this.typesThatIncludeModificationDetails = new HashSet<>();
-        this.typeToDisplayName = new HashMap<>();
-        this.typeToNonRelationshipProperties = new HashMap<>();
-        this.typeToStringProperties = new HashMap<>();
-        this.typeToAllProperties = new HashMap<>();
-        this.typeToPagedRelationshipProperties = new HashMap<>();
+        // The client may be shared by many threads, so the caches of type details must all be thread-safe (the
+        // display name is cached last for each type, and may be null, so its map cannot be a ConcurrentHashMap)
+        this.typesThatCanBeCreated = ConcurrentHashMap.newKeySet();
+        this.typesThatIncludeModificationDetails = ConcurrentHashMap.newKeySet();
+        this.typeToDisplayName = Collections.synchronizedMap(new HashMap<>());
+        this.typeToNonRelationshipProperties = new ConcurrentHashMap<>();
+        this.typeToStringProperties = new ConcurrentHashMap<>();
+        this.typeToAllProperties = new ConcurrentHashMap<>();
+        this.typeToPagedRelationshipProperties = new ConcurrentHashMap<>();
 
-        this.registeredTypes = new HashMap<>();
+        this.registeredTypes = new ConcurrentHashMap<>();
 
         // Setup these values up-front for the 'note' type, which is not formally a type otherwise
         this.typesThatIncludeModificationDetails.add(IGCRestConstants.NOTE);
@@ -244,9 +256,10 @@ public class IGCRestClient {
 
         // If we have cookies already, and haven't been asked to force the login,
         // re-use these (to maintain the same session)
-        if (cookies != null && !forceLogin) {
+        List<String> sessionCookies = cookies;
+        if (sessionCookies != null && !forceLogin) {
             // Note that validation of the cookies is done when we store them, and all access is private to this class
-            headers.addAll(HttpHeaders.COOKIE, cookies);
+            headers.addAll(HttpHeaders.COOKIE, sessionCookies);
         } else { // otherwise re-authenticate by Basic authentication
             String auth = "Basic " + this.authorization;
             headers.add(HttpHeaders.AUTHORIZATION, auth);
@@ -333,7 +346,8 @@ public class IGCRestClient {
                 // Validate each cookie against our whitelist of valid cookies, to avoid any potential security exposure
                 List<String> candidateCookies = headers.get(HttpHeaders.SET_COOKIE);
                 if (candidateCookies != null) {
-                    cookies = new ArrayList<>();
+                    // Build up the full set of cookies before replacing any others, as other threads may be using them
+                    List<String> validCookies = new ArrayList<>();
                     for (String candidate : candidateCookies) {
                         String[] tokens = candidate.split("=");
                         if (tokens.length < 2) {
@@ -345,11 +359,12 @@ public class IGCRestClient {
                         }
                         Matcher m = IGCRestConstants.COOKIE_WHITELIST.matcher(candidate);
                         if (m.matches()) {
-                            cookies.add(candidate);
+                            validCookies.add(candidate);
                         } else {
                             throw new IGCConnectivityException("A cookie was found that has invalid characters and could therefore present a security problem.", candidate);
                         }
                     }
+                    cookies = validCookies;
                 }
             }
         } else {
@@ -916,6 +931,20 @@ public class IGCRestClient {
         return itemList;
     }
 
+    /**
+     * Retrieve all assets that match the provided search criteria from IGC, as projected records: holding only the
+     * properties returned by the search, and only bound to their POJOs as they are needed.
+     *
+     * @param igcSearch search conditions and criteria to use
+     * @return ProjectedRecordList - the first page of results from the search
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @see ProjectedRecord
+     */
+    public ProjectedRecordList searchProjected(IGCSearch igcSearch) throws IGCConnectivityException, IGCParsingException {
+        return projectedRecordReader.read(searchJson(igcSearch));
+    }
+
     /**
      * Update the asset specified by the provided RID with the value(s) provided.
      *
@@ -1176,6 +1205,21 @@ public class IGCRestClient {
         return getNextPage(propertyName, list.getPaging());
     }
 
+    /**
+     * Retrieve the next page of results of a search, as projected records, or if there is no next page return an
+     * empty list.
+     *
+     * @param list the page of projected records from which to retrieve the next page
+     * @return ProjectedRecordList - the next page of results
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     * @throws IGCParsingException if there is any issue parsing the response from IGC
+     * @see #searchProjected(IGCSearch)
+     */
+    public ProjectedRecordList getNextPage(ProjectedRecordList list) throws IGCConnectivityException, IGCParsingException {
+        String nextPageBody = getNextPageBody(null, list.getPaging());
+        return nextPageBody == null ? new ProjectedRecordList(new ArrayList<>(), null) : projectedRecordReader.read(nextPageBody);
+    }
+
     /**
      * Retrieve all pages of results from a set of Paging details and items, or if there is no next page return the
      * items provided.
@@ -1210,35 +1254,8 @@ public class IGCRestClient {
         ItemList<T> nextPage = null;
         try {
             nextPage = mapper.readValue("{}", new TypeReference<ItemList<T>>() {});
-            String sNextURL = paging.getNextPageURL();
-            if (sNextURL != null && !sNextURL.equals("null")) {
-                if (this.workflowEnabled && !sNextURL.contains("workflowMode=draft")) {
-                    sNextURL += "&workflowMode=draft";
-                }
-                String requestUrl;
-                if (sNextURL.startsWith("extern:")) {
-                    // On v11.5, for virtual assets, the paging URL only has the RID and nothing else -- we must
-                    // reconstruct an appropriate paging URL from just this RID and the other parameters received by
-                    // the method
-                    requestUrl = EP_ASSET + "/" + getEncodedPathVariable(sNextURL)
-                            + "/" + getEncodedPathVariable(propertyName)
-                            + "?begin=" + (paging.getEndIndex() + 1)
-                            + "&pageSize=" + paging.getPageSize();
-                } else {
-                    // Strip off the hostname and port number details from the IGC response, to replace with details used
-                    // in configuration of the connector (allowing a proxy or other server in front)
-                    UriComponents components = UriComponentsBuilder.fromHttpUrl(sNextURL).build(true);
-                    String embeddedHost = "https://" + components.getHost() + ":" + components.getPort();
-                    requestUrl = sNextURL.substring(embeddedHost.length() + 1);
-                }
-                String nextPageBody = makeRequest(requestUrl, HttpMethod.GET, null, null);
-                // If the page is part of an ASSET retrieval, we need to strip off the attribute
-                // name of the relationship for proper multi-page composition
-                if (requestUrl.startsWith(EP_ASSET)) {
-                    String remainder = requestUrl.substring(EP_ASSET.length() + 1);
-                    String attributeName = remainder.substring(remainder.indexOf('/') + 1, remainder.indexOf('?'));
-                    nextPageBody = nextPageBody.substring(attributeName.length() + 4, nextPageBody.length() - 1);
-                }
+            String nextPageBody = getNextPageBody(propertyName, paging);
+            if (nextPageBody != null) {
                 nextPage = mapper.readValue(nextPageBody, new TypeReference<ItemList<T>>() {});
             }
         } catch (IOException e) {
@@ -1247,6 +1264,49 @@ public class IGCRestClient {
         return nextPage;
     }
 
+    /**
+     * Retrieve the JSON of the next page of results from a set of paging details, if there is a next page.
+     *
+     * @param propertyName the name of the property for which the list provides items (or null if the result of a search)
+     * @param paging the "paging" portion of the JSON response from which to retrieve the next page
+     * @return String - the JSON of the next page of results, or null if there is no next page
+     * @throws IGCConnectivityException if there is any connectivity issue during the request
+     */
+    private String getNextPageBody(String propertyName, Paging paging) throws IGCConnectivityException {
+        String nextPageBody = null;
+        String sNextURL = paging.getNextPageURL();
+        if (sNextURL != null && !sNextURL.equals("null")) {
+            if (this.workflowEnabled && !sNextURL.contains("workflowMode=draft")) {
+                sNextURL += "&workflowMode=draft";
+            }
+            String requestUrl;
+            if (sNextURL.startsWith("extern:")) {
+                // On v11.5, for virtual assets, the paging URL only has the RID and nothing else -- we must
+                // reconstruct an appropriate paging URL from just this RID and the other parameters received by
+                // the method
+                requestUrl = EP_ASSET + "/" + getEncodedPathVariable(sNextURL)
+                        + "/" + getEncodedPathVariable(propertyName)
+                        + "?begin=" + (paging.getEndIndex() + 1)
+                        + "&pageSize=" + paging.getPageSize();
+            } else {
+                // Strip off the hostname and port number details from the IGC response, to replace with details used
+                // in configuration of the connector (allowing a proxy or other server in front)
+                UriComponents components = UriComponentsBuilder.fromHttpUrl(sNextURL).build(true);
+                String embeddedHost = "https://" + components.getHost() + ":" + components.getPort();
+                requestUrl = sNextURL.substring(embeddedHost.length() + 1);
+            }
+            nextPageBody = makeRequest(requestUrl, HttpMethod.GET, null, null);
+            // If the page is part of an ASSET retrieval, we need to strip off the attribute
+            // name of the relationship for proper multi-page composition
+            if (requestUrl.startsWith(EP_ASSET)) {
+                String remainder = requestUrl.substring(EP_ASSET.length() + 1);
+                String attributeName = remainder.substring(remainder.indexOf('/') + 1, remainder.indexOf('?'));
+                nextPageBody = nextPageBody.substring(attributeName.length() + 4, nextPageBody.length() - 1);
+            }
+        }
+        return nextPageBody;
+    }
+
     /**
      * Retrieve all pages of results from the set of Paging details and items, or if there is no next page return the
      * items provided.
@@ -1508,6 +1568,7 @@ public class IGCRestClient {
             String typeId = typeName.value();
             this.mapper.registerSubtypes(clazz);
             this.registeredTypes.put(typeId, clazz);
+            this.projectedRecordReader.clear();
             log.info("Registered IGC type {} to be handled by POJO: {}", typeId, clazz.getCanonicalName());
         } else {
             throw new IGCIOException("Unable to find JsonTypeName annotation to identify type in POJO.", clazz.getCanonicalName(), null);
@@ -1524,7 +1585,7 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue introspecting the provided POJO class
      */
     public Class<?> getPOJOForType(String assetType) throws IGCIOException {
-        Class<?> igcPOJO = registeredTypes.getOrDefault(assetType, null);
+        Class<?> igcPOJO = assetType == null ? null : registeredTypes.get(assetType);
         if (igcPOJO == null) {
             StringBuilder sbPojoName = new StringBuilder();
             sbPojoName.append(IGCRestConstants.IGC_REST_BASE_MODEL_PKG);
@@ -1540,23 +1601,28 @@ public class IGCRestClient {
     }
 
     /**
-     * Returns true iff the workflow is enabled in the environment against which the REST connection is defined.
+     * Returns the POJO that is registered to serde the provided IGC asset type (as for getPOJOForType), or null if
+     * there is none.
      *
-     * @return Boolean
+     * @param assetType name of the IGC asset
+     * @return Class
      */
-    public Boolean isWorkflowEnabled() {
-        return this.workflowEnabled;
+    private Class<?> findPOJOForType(String assetType) {
+        try {
+            return assetType == null ? null : getPOJOForType(assetType);
+        } catch (IGCIOException e) {
+            log.debug("Unable to find POJO for type: {}", assetType, e);
+            return null;
+        }
     }
 
     /**
-     * Construct a unique key for dynamic reading and writing of a given type's specific property.
+     * Returns true iff the workflow is enabled in the environment against which the REST connection is defined.
      *
-     * @param typeName the name of the IGC object type
-     * @param propertyName the name of the property within the object
-     * @return String
+     * @return Boolean
      */
-    private String getDynamicPropertyKey(String typeName, String propertyName) {
-        return typeName + "$" + propertyName;
+    public Boolean isWorkflowEnabled() {
+        return this.workflowEnabled;
     }
 
     /**
@@ -1569,17 +1635,55 @@ public class IGCRestClient {
      * @throws IGCIOException if there is any issue introspecting the class that defines the type and its properties
      */
     private DynamicPropertyReader getAccessor(String type, String property) throws IGCIOException {
-        String key = getDynamicPropertyKey(type, property);
-        if (!typeAndPropertyToAccessor.containsKey(key)) {
-            try {
-                DynamicPropertyReader reader = new DynamicPropertyReader(getPOJOForType(type), property);
-                typeAndPropertyToAccessor.put(key, reader);
-            } catch (IllegalArgumentException e) {
-                log.warn("Unable to setup an accessor for property '{}' on type '{}' - this property will be entirely ignored. If this is a custom property, see https://github.com/odpi/egeria-connector-ibm-information-server/tree/master/igc-clientlibrary#using-your-own-asset-types for how to add your own properties.", property, type, e);
-                typeAndPropertyToAccessor.put(key, null); // add a null accessor to avoid trying to build one again
+        Map<String, DynamicPropertyReader> accessors = type == null ? null : typeToAccessors.get(type);
+        DynamicPropertyReader reader = accessors == null || property == null ? null : accessors.get(property);
+        if (reader == null) {
+            reader = createAccessor(type, property);
+        }
+        return reader;
+    }
+
+    /**
+     * Create (and cache) a dynamic property reader to access properties of the provided asset type, unless it has
+     * already been found that no reader can be created for the property.
+     *
+     * @param type the IGC asset type from which to retrieve the property
+     * @param property the name of the property to retrieve
+     * @return DynamicPropertyReader, or null if no reader can be created for the property
+     * @throws IGCIOException if there is any issue introspecting the class that defines the type and its properties
+     */
+    private DynamicPropertyReader createAccessor(String type, String property) throws IGCIOException {
+        Set<String> withoutAccessor = type == null ? null : typeToPropertiesWithoutAccessor.get(type);
+        if (withoutAccessor != null && withoutAccessor.contains(property)) {
+            return null;
+        }
+        DynamicPropertyReader reader = null;
+        try {
+            reader = DynamicPropertyReader.forProperty(getPOJOForType(type), property);
+            if (type != null && property != null) {
+                typeToAccessors.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).put(property, reader);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Unable to setup an accessor for property '{}' on type '{}' - this property will be entirely ignored. If this is a custom property, see https://github.com/odpi/egeria-connector-ibm-information-server/tree/master/igc-clientlibrary#using-your-own-asset-types for how to add your own properties.", property, type, e);
+            if (type != null && property != null) {
+                // record the missing accessor to avoid trying to build one again
+                typeToPropertiesWithoutAccessor.computeIfAbsent(type, k -> ConcurrentHashMap.newKeySet()).add(property);
             }
         }
-        return typeAndPropertyToAccessor.getOrDefault(key, null);
+        return reader;
+    }
+
+    /**
+     * Retrieve the dynamic property reader for the provided asset type and property, so that callers reading the
+     * same property from many objects can resolve the reader once rather than on every read.
+     *
+     * @param type the IGC asset type from which to retrieve the property
+     * @param property the name of the property to retrieve
+     * @return DynamicPropertyReader, or null if no reader could be created for the property
+     * @throws IGCIOException if there is any issue introspecting the class that defines the type and its properties
+     */
+    public DynamicPropertyReader getPropertyReader(String type, String property) throws IGCIOException {
+        return getAccessor(type, property);
     }
 
     /**
@@ -4,23 +4,27 @@ package org.odpi.egeria.connectors.ibm.igc.clientlibrary.cache;
 
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides a general mechanism to cache IGC objects temporarily, to avoid the need to repeatedly retrieve them and
  * incur the penalties of calling the REST API multiple times to retrieve the same information.
+ * <br><br>
+ * The cache is safe to share between threads, for example amongst tasks that retrieve assets in parallel.
  */
 public class ObjectCache {
 
-    private Map<String, Reference> cache = new HashMap<>();
+    private Map<String, Reference> cache = new ConcurrentHashMap<>();
 
     /**
      * Add the provided entry into the cache.
      * @param entry to add
      */
     public void add(Reference entry) {
-        cache.put(entry.getId(), entry);
+        if (entry.getId() != null) {
+            cache.put(entry.getId(), entry);
+        }
     }
 
     /**
@@ -29,7 +33,7 @@ public class ObjectCache {
      * @return the IGC object, or null if not in the cache
      */
     public Reference get(String id) {
-        return cache.getOrDefault(id, null);
+        return id == null ? null : cache.get(id);
     }
 
 }
@@ -218,6 +218,8 @@ public class IGCBeanGenerator {
             if (!propertyDetails.isEmpty()) {
                 fs.append("import com.fasterxml.jackson.annotation.JsonProperty;");
                 fs.append(System.lineSeparator());
+                fs.append("import " + IGCRestConstants.IGC_REST_COMMON_MODEL_PKG + ".BeanPropertyTable;");
+                fs.append(System.lineSeparator());
                 Set<String> dataTypes = typeCharacteristics.getDataTypes();
                 if (superType.equals("reference")
                         || dataTypes.contains("Reference")) {
@@ -272,6 +274,11 @@ public class IGCBeanGenerator {
                     fs.append(System.lineSeparator());
                     fs.append(System.lineSeparator());
                 }
+                // And finally the table through which to read each property by its ordinal
+                if (!propertyDetails.isEmpty()) {
+                    fs.append(getPropertyTable(className, propertyDetails));
+                    fs.append(System.lineSeparator());
+                }
             } catch (IOException e) {
                 log.error("Unable to append property details.", e);
             }
@@ -311,6 +318,45 @@ public class IGCBeanGenerator {
                 System.lineSeparator();
     }
 
+    private String getPropertyTable(String className, Collection<PropertyDetail> propertyDetails) {
+        StringBuilder table = new StringBuilder();
+        table.append("    /**")
+                .append(System.lineSeparator())
+                .append("     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.")
+                .append(System.lineSeparator())
+                .append("     */")
+                .append(System.lineSeparator());
+        table.append("    public static final BeanPropertyTable<").append(className).append("> PROPERTY_TABLE = new BeanPropertyTable<").append(className).append(">(");
+        StringBuilder cases = new StringBuilder();
+        int ordinal = 0;
+        for (PropertyDetail detail : propertyDetails) {
+            table.append(ordinal == 0 ? "" : ",")
+                    .append(System.lineSeparator())
+                    .append("            \"").append(detail.getPropertyName()).append("\"");
+            cases.append("                case ").append(ordinal).append(": return bean.").append(detail.getGetterName()).append("();")
+                    .append(System.lineSeparator());
+            ordinal++;
+        }
+        table.append(") {")
+                .append(System.lineSeparator())
+                .append("        @Override")
+                .append(System.lineSeparator())
+                .append("        public Object getValue(").append(className).append(" bean, int ordinal) {")
+                .append(System.lineSeparator())
+                .append("            switch (ordinal) {")
+                .append(System.lineSeparator())
+                .append(cases)
+                .append("                default: return null;")
+                .append(System.lineSeparator())
+                .append("            }")
+                .append(System.lineSeparator())
+                .append("        }")
+                .append(System.lineSeparator())
+                .append("    };")
+                .append(System.lineSeparator());
+        return table.toString();
+    }
+
     private PropertyDetail getPropertyDetail(TypeProperty property) {
 
         PropertyDetail detail = null;
@@ -332,6 +378,8 @@ public class IGCBeanGenerator {
                     propertyName = "z" + propertyName;
                 }
                 detail.setJavaType(javaType);
+                detail.setPropertyName(propNameActual);
+                detail.setGetterName(IGCRestConstants.getGetterNameForProperty(propNameActual));
                 detail.setMember(getMemberDeclaration(property, propNameActual, propertyName, javaType));
                 detail.setGetSet(getGetterAndSetter(property, propNameActual, propertyName, javaType));
             }
@@ -553,6 +601,8 @@ public class IGCBeanGenerator {
 
         private String member;
         private String getSet;
+        private String propertyName;
+        private String getterName;
         private Set<String> javaTypes;
 
         PropertyDetail() {
@@ -561,6 +611,8 @@ public class IGCBeanGenerator {
 
         void setMember(String member) { this.member = member; }
         void setGetSet(String getSet) { this.getSet = getSet; }
+        void setPropertyName(String propertyName) { this.propertyName = propertyName; }
+        void setGetterName(String getterName) { this.getterName = getterName; }
         void setJavaType(String javaType) {
             if (javaType.startsWith("ItemList<")) {
                 this.javaTypes.add("ItemList");
@@ -575,6 +627,8 @@ public class IGCBeanGenerator {
 
         String getMember() { return this.member; }
         String getGetSet() { return this.getSet; }
+        String getPropertyName() { return this.propertyName; }
+        String getGetterName() { return this.getterName; }
         Set<String> getJavaTypes() { return this.javaTypes; }
 
     }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -61,4 +62,20 @@ public class Acl extends Reference {
     @JsonProperty("of_common_object")
     public void setOfCommonObject(InformationAsset ofCommonObject) { this.ofCommonObject = ofCommonObject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Acl> PROPERTY_TABLE = new BeanPropertyTable<Acl>(
+            "has_acl_entry",
+            "of_common_object") {
+        @Override
+        public Object getValue(Acl bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getHasAclEntry();
+                case 1: return bean.getOfCommonObject();
+                default: return null;
+            }
+        }
+    };
+
 }
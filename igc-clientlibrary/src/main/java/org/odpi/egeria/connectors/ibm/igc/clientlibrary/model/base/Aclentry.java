@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.List;
 
@@ -106,4 +107,24 @@ public class Aclentry extends Reference {
     @JsonProperty("used_by_acl")
     public void setUsedByAcl(Acl usedByAcl) { this.usedByAcl = usedByAcl; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Aclentry> PROPERTY_TABLE = new BeanPropertyTable<Aclentry>(
+            "has_principal",
+            "has_system_role",
+            "permissions",
+            "used_by_acl") {
+        @Override
+        public Object getValue(Aclentry bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getHasPrincipal();
+                case 1: return bean.getHasSystemRole();
+                case 2: return bean.getPermissions();
+                case 3: return bean.getUsedByAcl();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -180,4 +181,34 @@ public class Actiondescriptor extends Reference {
     @JsonProperty("parameters")
     public void setParameters(String parameters) { this.parameters = parameters; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Actiondescriptor> PROPERTY_TABLE = new BeanPropertyTable<Actiondescriptor>(
+            "description",
+            "display_name",
+            "has_privilege_contact_role",
+            "has_privilege_system_role",
+            "instance_constraint_expression",
+            "name",
+            "of_class_descriptor",
+            "operation",
+            "parameters") {
+        @Override
+        public Object getValue(Actiondescriptor bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getDisplayName();
+                case 2: return bean.getHasPrivilegeContactRole();
+                case 3: return bean.getHasPrivilegeSystemRole();
+                case 4: return bean.getInstanceConstraintExpression();
+                case 5: return bean.getTheName();
+                case 6: return bean.getOfClassDescriptor();
+                case 7: return bean.getOperation();
+                case 8: return bean.getParameters();
+                default: return null;
+            }
+        }
+    };
+
 }
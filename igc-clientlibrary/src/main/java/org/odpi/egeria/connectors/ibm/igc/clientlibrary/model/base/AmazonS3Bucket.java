@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -214,4 +215,38 @@ public class AmazonS3Bucket extends InformationAsset {
     @JsonProperty("uses_data_file_definitions")
     public void setUsesDataFileDefinitions(ItemList<DataFileDefinition> usesDataFileDefinitions) { this.usesDataFileDefinitions = usesDataFileDefinitions; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AmazonS3Bucket> PROPERTY_TABLE = new BeanPropertyTable<AmazonS3Bucket>(
+            "contains_amazon_s3_data_file_folders",
+            "contains_amazon_s3_data_files",
+            "data_connection",
+            "host",
+            "include_for_business_lineage",
+            "location",
+            "same_as_data_sources",
+            "source_creation_date",
+            "source_modification_date",
+            "synchronized_from",
+            "uses_data_file_definitions") {
+        @Override
+        public Object getValue(AmazonS3Bucket bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsAmazonS3DataFileFolders();
+                case 1: return bean.getContainsAmazonS3DataFiles();
+                case 2: return bean.getDataConnection();
+                case 3: return bean.getHost();
+                case 4: return bean.getIncludeForBusinessLineage();
+                case 5: return bean.getLocation();
+                case 6: return bean.getSameAsDataSources();
+                case 7: return bean.getSourceCreationDate();
+                case 8: return bean.getSourceModificationDate();
+                case 9: return bean.getSynchronizedFrom();
+                case 10: return bean.getUsesDataFileDefinitions();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -282,4 +283,46 @@ public class AmazonS3DataFile extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AmazonS3DataFile> PROPERTY_TABLE = new BeanPropertyTable<AmazonS3DataFile>(
+            "alias_(business_name)",
+            "compression",
+            "content_type",
+            "data_file_records",
+            "implements_data_file_definition",
+            "imported_from",
+            "include_for_business_lineage",
+            "parent_folder",
+            "path",
+            "size",
+            "source_creation_date",
+            "source_modification_date",
+            "synchronized_from",
+            "url",
+            "version") {
+        @Override
+        public Object getValue(AmazonS3DataFile bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getCompression();
+                case 2: return bean.getContentType();
+                case 3: return bean.getDataFileRecords();
+                case 4: return bean.getImplementsDataFileDefinition();
+                case 5: return bean.getImportedFrom();
+                case 6: return bean.getIncludeForBusinessLineage();
+                case 7: return bean.getParentFolder();
+                case 8: return bean.getPath();
+                case 9: return bean.getSize();
+                case 10: return bean.getSourceCreationDate();
+                case 11: return bean.getSourceModificationDate();
+                case 12: return bean.getSynchronizedFrom();
+                case 13: return bean.getTheUrl();
+                case 14: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
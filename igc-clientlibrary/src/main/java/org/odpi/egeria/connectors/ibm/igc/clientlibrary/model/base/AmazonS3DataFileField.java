@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -504,4 +505,68 @@ public class AmazonS3DataFileField extends Classificationenabledgroup {
     @JsonProperty("uniqueFlag")
     public void setUniqueflag(Boolean uniqueflag) { this.uniqueflag = uniqueflag; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AmazonS3DataFileField> PROPERTY_TABLE = new BeanPropertyTable<AmazonS3DataFileField>(
+            "analysis",
+            "averageValue",
+            "constantFlag",
+            "data_file_record",
+            "domainType",
+            "implements_design_columns",
+            "implements_entity_attributes",
+            "inferredDataType",
+            "inferredFormat",
+            "inferredLength",
+            "inferredPrecision",
+            "inferredScale",
+            "isInferredForeignKey",
+            "isInferredPrimaryKey",
+            "nbRecordsTested",
+            "nullabilityFlag",
+            "numberCompleteValues",
+            "numberDistinctValues",
+            "numberEmptyValues",
+            "numberFormats",
+            "numberNullValues",
+            "numberValidValues",
+            "numberZeroValues",
+            "qualityScore",
+            "synchronized_from",
+            "uniqueFlag") {
+        @Override
+        public Object getValue(AmazonS3DataFileField bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalysis();
+                case 1: return bean.getAveragevalue();
+                case 2: return bean.getConstantflag();
+                case 3: return bean.getDataFileRecord();
+                case 4: return bean.getDomaintype();
+                case 5: return bean.getImplementsDesignColumns();
+                case 6: return bean.getImplementsEntityAttributes();
+                case 7: return bean.getInferreddatatype();
+                case 8: return bean.getInferredformat();
+                case 9: return bean.getInferredlength();
+                case 10: return bean.getInferredprecision();
+                case 11: return bean.getInferredscale();
+                case 12: return bean.getIsinferredforeignkey();
+                case 13: return bean.getIsinferredprimarykey();
+                case 14: return bean.getNbrecordstested();
+                case 15: return bean.getNullabilityflag();
+                case 16: return bean.getNumbercompletevalues();
+                case 17: return bean.getNumberdistinctvalues();
+                case 18: return bean.getNumberemptyvalues();
+                case 19: return bean.getNumberformats();
+                case 20: return bean.getNumbernullvalues();
+                case 21: return bean.getNumbervalidvalues();
+                case 22: return bean.getNumberzerovalues();
+                case 23: return bean.getQualityscore();
+                case 24: return bean.getSynchronizedFrom();
+                case 25: return bean.getUniqueflag();
+                default: return null;
+            }
+        }
+    };
+
 }
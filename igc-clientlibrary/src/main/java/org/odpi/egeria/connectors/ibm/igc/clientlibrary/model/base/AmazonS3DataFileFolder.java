@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -248,4 +249,42 @@ public class AmazonS3DataFileFolder extends InformationAsset {
     @JsonProperty("uses_data_file_definitions")
     public void setUsesDataFileDefinitions(ItemList<DataFileDefinition> usesDataFileDefinitions) { this.usesDataFileDefinitions = usesDataFileDefinitions; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AmazonS3DataFileFolder> PROPERTY_TABLE = new BeanPropertyTable<AmazonS3DataFileFolder>(
+            "amazon_s3_bucket",
+            "amazon_s3_data_file_folder",
+            "contains_amazon_s3_data_file_folders",
+            "contains_amazon_s3_data_files",
+            "data_connection",
+            "include_for_business_lineage",
+            "location",
+            "parent_folder",
+            "same_as_data_sources",
+            "source_creation_date",
+            "source_modification_date",
+            "synchronized_from",
+            "uses_data_file_definitions") {
+        @Override
+        public Object getValue(AmazonS3DataFileFolder bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAmazonS3Bucket();
+                case 1: return bean.getAmazonS3DataFileFolder();
+                case 2: return bean.getContainsAmazonS3DataFileFolders();
+                case 3: return bean.getContainsAmazonS3DataFiles();
+                case 4: return bean.getDataConnection();
+                case 5: return bean.getIncludeForBusinessLineage();
+                case 6: return bean.getLocation();
+                case 7: return bean.getParentFolder();
+                case 8: return bean.getSameAsDataSources();
+                case 9: return bean.getSourceCreationDate();
+                case 10: return bean.getSourceModificationDate();
+                case 11: return bean.getSynchronizedFrom();
+                case 12: return bean.getUsesDataFileDefinitions();
+                default: return null;
+            }
+        }
+    };
+
 }
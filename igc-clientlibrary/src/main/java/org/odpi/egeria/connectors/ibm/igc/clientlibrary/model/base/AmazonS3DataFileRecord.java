@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 import java.util.List;
@@ -308,4 +309,48 @@ public class AmazonS3DataFileRecord extends InformationAsset {
     @JsonProperty("synchronized_from")
     public void setSynchronizedFrom(String synchronizedFrom) { this.synchronizedFrom = synchronizedFrom; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AmazonS3DataFileRecord> PROPERTY_TABLE = new BeanPropertyTable<AmazonS3DataFileRecord>(
+            "FKViolationCount",
+            "PKDuplicateCount",
+            "alias_(business_name)",
+            "amazon_s3_data_file",
+            "amazon_s_3_data_file_fields",
+            "analysis",
+            "fieldCount",
+            "implements_design_tables_or_views",
+            "implements_logical_entities",
+            "imported_from",
+            "include_for_business_lineage",
+            "nbRecordTested",
+            "qualityScore",
+            "reviewDate",
+            "rowCount",
+            "synchronized_from") {
+        @Override
+        public Object getValue(AmazonS3DataFileRecord bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getFkviolationcount();
+                case 1: return bean.getPkduplicatecount();
+                case 2: return bean.getAliasBusinessName();
+                case 3: return bean.getAmazonS3DataFile();
+                case 4: return bean.getAmazonS3DataFileFields();
+                case 5: return bean.getAnalysis();
+                case 6: return bean.getFieldcount();
+                case 7: return bean.getImplementsDesignTablesOrViews();
+                case 8: return bean.getImplementsLogicalEntities();
+                case 9: return bean.getImportedFrom();
+                case 10: return bean.getIncludeForBusinessLineage();
+                case 11: return bean.getNbrecordtested();
+                case 12: return bean.getQualityscore();
+                case 13: return bean.getReviewdate();
+                case 14: return bean.getRowcount();
+                case 15: return bean.getSynchronizedFrom();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class AnalysisProject extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AnalysisProject> PROPERTY_TABLE = new BeanPropertyTable<AnalysisProject>(
+            "assigned_to_terms",
+            "long_description",
+            "native_id",
+            "short_&_long_description",
+            "short_description") {
+        @Override
+        public Object getValue(AnalysisProject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedToTerms();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getShortLongDescription();
+                case 4: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -129,4 +130,28 @@ public class Analysissummaryobject extends MainObject {
     @JsonProperty("reviewed_by_principal")
     public void setReviewedByPrincipal(Steward reviewedByPrincipal) { this.reviewedByPrincipal = reviewedByPrincipal; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Analysissummaryobject> PROPERTY_TABLE = new BeanPropertyTable<Analysissummaryobject>(
+            "is_viewable",
+            "native_id",
+            "project_name",
+            "promoted_by_principal",
+            "review_date",
+            "reviewed_by_principal") {
+        @Override
+        public Object getValue(Analysissummaryobject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getIsViewable();
+                case 1: return bean.getNativeId();
+                case 2: return bean.getProjectName();
+                case 3: return bean.getPromotedByPrincipal();
+                case 4: return bean.getReviewDate();
+                case 5: return bean.getReviewedByPrincipal();
+                default: return null;
+            }
+        }
+    };
+
 }
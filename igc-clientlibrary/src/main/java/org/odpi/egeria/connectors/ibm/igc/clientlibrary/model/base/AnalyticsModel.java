@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -265,4 +266,44 @@ public class AnalyticsModel extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(Number version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AnalyticsModel> PROPERTY_TABLE = new BeanPropertyTable<AnalyticsModel>(
+            "analytics_project",
+            "eval_metric",
+            "first_published_date",
+            "input_training_column",
+            "input_training_notebook",
+            "input_training_script",
+            "label_training_column",
+            "logical_name",
+            "model_quality",
+            "model_type",
+            "package_name",
+            "system_equiv_id",
+            "url",
+            "version") {
+        @Override
+        public Object getValue(AnalyticsModel bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalyticsProject();
+                case 1: return bean.getEvalMetric();
+                case 2: return bean.getFirstPublishedDate();
+                case 3: return bean.getInputTrainingColumn();
+                case 4: return bean.getInputTrainingNotebook();
+                case 5: return bean.getInputTrainingScript();
+                case 6: return bean.getLabelTrainingColumn();
+                case 7: return bean.getLogicalName();
+                case 8: return bean.getModelQuality();
+                case 9: return bean.getModelType();
+                case 10: return bean.getPackageName();
+                case 11: return bean.getSystemEquivId();
+                case 12: return bean.getTheUrl();
+                case 13: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -43,4 +44,18 @@ public class AnalyticsObject extends Reference {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AnalyticsObject> PROPERTY_TABLE = new BeanPropertyTable<AnalyticsObject>(
+            "native_id") {
+        @Override
+        public Object getValue(AnalyticsObject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getNativeId();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -94,4 +95,24 @@ public class AnalyticsProject extends InformationAsset {
     @JsonProperty("r_shiny_apps")
     public void setRShinyApps(ItemList<RShinyApp> rShinyApps) { this.rShinyApps = rShinyApps; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AnalyticsProject> PROPERTY_TABLE = new BeanPropertyTable<AnalyticsProject>(
+            "analytics_models",
+            "analytics_scripts",
+            "notebooks",
+            "r_shiny_apps") {
+        @Override
+        public Object getValue(AnalyticsProject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalyticsModels();
+                case 1: return bean.getAnalyticsScripts();
+                case 2: return bean.getNotebooks();
+                case 3: return bean.getRShinyApps();
+                default: return null;
+            }
+        }
+    };
+
 }
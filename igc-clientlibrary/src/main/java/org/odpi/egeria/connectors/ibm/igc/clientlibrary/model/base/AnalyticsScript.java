@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -180,4 +181,34 @@ public class AnalyticsScript extends MainObject {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AnalyticsScript> PROPERTY_TABLE = new BeanPropertyTable<AnalyticsScript>(
+            "analytics_project",
+            "data_file",
+            "first_published_date",
+            "logical_name",
+            "native_id",
+            "package_name",
+            "script_type",
+            "system_equiv_id",
+            "url") {
+        @Override
+        public Object getValue(AnalyticsScript bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalyticsProject();
+                case 1: return bean.getDataFile();
+                case 2: return bean.getFirstPublishedDate();
+                case 3: return bean.getLogicalName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getPackageName();
+                case 6: return bean.getScriptType();
+                case 7: return bean.getSystemEquivId();
+                case 8: return bean.getTheUrl();
+                default: return null;
+            }
+        }
+    };
+
 }
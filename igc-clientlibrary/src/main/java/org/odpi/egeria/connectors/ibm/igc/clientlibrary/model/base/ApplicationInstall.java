@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -213,4 +214,38 @@ public class ApplicationInstall extends MainObject {
     @JsonProperty("vendor_name")
     public void setVendorName(String vendorName) { this.vendorName = vendorName; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ApplicationInstall> PROPERTY_TABLE = new BeanPropertyTable<ApplicationInstall>(
+            "default_credential",
+            "has_credential",
+            "installation_date",
+            "installation_path",
+            "installed_on_host",
+            "instance_name",
+            "location_name",
+            "native_id",
+            "platform_identifier",
+            "release_number",
+            "vendor_name") {
+        @Override
+        public Object getValue(ApplicationInstall bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefaultCredential();
+                case 1: return bean.getHasCredential();
+                case 2: return bean.getInstallationDate();
+                case 3: return bean.getInstallationPath();
+                case 4: return bean.getInstalledOnHost();
+                case 5: return bean.getInstanceName();
+                case 6: return bean.getLocationName();
+                case 7: return bean.getNativeId();
+                case 8: return bean.getPlatformIdentifier();
+                case 9: return bean.getReleaseNumber();
+                case 10: return bean.getVendorName();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -78,4 +79,22 @@ public class Applicationfunction extends Reference {
     @JsonProperty("uses_class_descriptor")
     public void setUsesClassDescriptor(ItemList<Classdescriptor> usesClassDescriptor) { this.usesClassDescriptor = usesClassDescriptor; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Applicationfunction> PROPERTY_TABLE = new BeanPropertyTable<Applicationfunction>(
+            "description",
+            "name",
+            "uses_class_descriptor") {
+        @Override
+        public Object getValue(Applicationfunction bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getTheName();
+                case 2: return bean.getUsesClassDescriptor();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.Date;
 
@@ -112,4 +113,26 @@ public class Archivedtask extends Reference {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Archivedtask> PROPERTY_TABLE = new BeanPropertyTable<Archivedtask>(
+            "completion_date",
+            "message",
+            "name",
+            "requested_on",
+            "status") {
+        @Override
+        public Object getValue(Archivedtask bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCompletionDate();
+                case 1: return bean.getMessage();
+                case 2: return bean.getTheName();
+                case 3: return bean.getRequestedOn();
+                case 4: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
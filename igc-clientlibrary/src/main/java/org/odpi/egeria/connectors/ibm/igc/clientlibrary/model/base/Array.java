@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class Array extends MainObject {
     @JsonProperty("previous_array")
     public void setPreviousArray(Array previousArray) { this.previousArray = previousArray; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Array> PROPERTY_TABLE = new BeanPropertyTable<Array>(
+            "belonging_to_data_item",
+            "lower_bound",
+            "maximum_size",
+            "minimum_size",
+            "native_id",
+            "next_array",
+            "previous_array") {
+        @Override
+        public Object getValue(Array bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBelongingToDataItem();
+                case 1: return bean.getLowerBound();
+                case 2: return bean.getMaximumSize();
+                case 3: return bean.getMinimumSize();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getNextArray();
+                case 6: return bean.getPreviousArray();
+                default: return null;
+            }
+        }
+    };
+
 }
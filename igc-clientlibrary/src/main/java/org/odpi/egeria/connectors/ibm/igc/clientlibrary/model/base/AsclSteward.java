@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -129,4 +130,28 @@ public class AsclSteward extends Reference {
     @JsonProperty("steward_user")
     public void setStewardUser(StewardUser stewardUser) { this.stewardUser = stewardUser; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AsclSteward> PROPERTY_TABLE = new BeanPropertyTable<AsclSteward>(
+            "email_address",
+            "managed_assets",
+            "managed_assets_basic",
+            "organization",
+            "steward_group",
+            "steward_user") {
+        @Override
+        public Object getValue(AsclSteward bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getEmailAddress();
+                case 1: return bean.getManagedAssets();
+                case 2: return bean.getManagedAssetsBasic();
+                case 3: return bean.getOrganization();
+                case 4: return bean.getStewardGroup();
+                case 5: return bean.getStewardUser();
+                default: return null;
+            }
+        }
+    };
+
 }
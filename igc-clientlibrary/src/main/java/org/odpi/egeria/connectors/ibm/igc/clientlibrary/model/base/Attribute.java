@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code attribute} asset type in IGC, displayed as '{@literal Attribute}' in the IGC UI.
@@ -127,4 +128,28 @@ public class Attribute extends InformationAsset {
     @JsonProperty("references_attribute_types")
     public void setReferencesAttributeTypes(AttributeType referencesAttributeTypes) { this.referencesAttributeTypes = referencesAttributeTypes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Attribute> PROPERTY_TABLE = new BeanPropertyTable<Attribute>(
+            "alias_(business_name)",
+            "attribute_label",
+            "code",
+            "member_type",
+            "member_type_for_query",
+            "references_attribute_types") {
+        @Override
+        public Object getValue(Attribute bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAttributeLabel();
+                case 2: return bean.getCode();
+                case 3: return bean.getMemberType();
+                case 4: return bean.getMemberTypeForQuery();
+                case 5: return bean.getReferencesAttributeTypes();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -111,4 +112,26 @@ public class AttributeType extends InformationAsset {
     @JsonProperty("referenced_by_attributes")
     public void setReferencedByAttributes(ItemList<Attribute> referencedByAttributes) { this.referencedByAttributes = referencedByAttributes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AttributeType> PROPERTY_TABLE = new BeanPropertyTable<AttributeType>(
+            "alias_(business_name)",
+            "contains_attribute_type_fields",
+            "mdm_model",
+            "mdm_model_for_query",
+            "referenced_by_attributes") {
+        @Override
+        public Object getValue(AttributeType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getContainsAttributeTypeFields();
+                case 2: return bean.getMdmModel();
+                case 3: return bean.getMdmModelForQuery();
+                case 4: return bean.getReferencedByAttributes();
+                default: return null;
+            }
+        }
+    };
+
 }
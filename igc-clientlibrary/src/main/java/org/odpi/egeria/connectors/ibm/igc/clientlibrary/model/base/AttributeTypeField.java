@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code attribute_type_field} asset type in IGC, displayed as '{@literal Attribute Type Field}' in the IGC UI.
@@ -138,4 +139,28 @@ public class AttributeTypeField extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AttributeTypeField> PROPERTY_TABLE = new BeanPropertyTable<AttributeTypeField>(
+            "alias_(business_name)",
+            "attribute_type",
+            "attribute_type_for_query",
+            "length",
+            "required",
+            "type") {
+        @Override
+        public Object getValue(AttributeTypeField bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAttributeType();
+                case 2: return bean.getAttributeTypeForQuery();
+                case 3: return bean.getLength();
+                case 4: return bean.getRequired();
+                case 5: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -99,4 +100,22 @@ public class AutomationRule extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<AutomationRule> PROPERTY_TABLE = new BeanPropertyTable<AutomationRule>(
+            "associated_terms",
+            "rule_logic",
+            "status") {
+        @Override
+        public Object getValue(AutomationRule bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssociatedTerms();
+                case 1: return bean.getRuleLogic();
+                case 2: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
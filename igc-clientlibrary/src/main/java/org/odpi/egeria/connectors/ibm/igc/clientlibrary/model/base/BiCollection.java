@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -384,4 +385,58 @@ public class BiCollection extends InformationAsset {
     @JsonProperty("uses_database_tables_or_views")
     public void setUsesDatabaseTablesOrViews(ItemList<Datagroup> usesDatabaseTablesOrViews) { this.usesDatabaseTablesOrViews = usesDatabaseTablesOrViews; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiCollection> PROPERTY_TABLE = new BeanPropertyTable<BiCollection>(
+            "alias_(business_name)",
+            "bi_collection",
+            "bi_collection_members",
+            "bi_filters",
+            "bi_hierarchies",
+            "bi_levels",
+            "bi_model",
+            "bi_model_or_bi_collection",
+            "filter_expression",
+            "has_olap_collection",
+            "imported_from",
+            "join_condition",
+            "namespace",
+            "referenced_by_bi_collection",
+            "referenced_by_bi_hierarchies",
+            "references_bi_collections",
+            "type",
+            "type_definition",
+            "used_by_bi_cubes",
+            "used_by_bi_report_queries",
+            "uses_database_tables_or_views") {
+        @Override
+        public Object getValue(BiCollection bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getBiCollection();
+                case 2: return bean.getBiCollectionMembers();
+                case 3: return bean.getBiFilters();
+                case 4: return bean.getBiHierarchies();
+                case 5: return bean.getBiLevels();
+                case 6: return bean.getBiModel();
+                case 7: return bean.getBiModelOrBiCollection();
+                case 8: return bean.getFilterExpression();
+                case 9: return bean.getHasOlapCollection();
+                case 10: return bean.getImportedFrom();
+                case 11: return bean.getJoinCondition();
+                case 12: return bean.getNamespace();
+                case 13: return bean.getReferencedByBiCollection();
+                case 14: return bean.getReferencedByBiHierarchies();
+                case 15: return bean.getReferencesBiCollections();
+                case 16: return bean.getTheType();
+                case 17: return bean.getTypeDefinition();
+                case 18: return bean.getUsedByBiCubes();
+                case 19: return bean.getUsedByBiReportQueries();
+                case 20: return bean.getUsesDatabaseTablesOrViews();
+                default: return null;
+            }
+        }
+    };
+
 }
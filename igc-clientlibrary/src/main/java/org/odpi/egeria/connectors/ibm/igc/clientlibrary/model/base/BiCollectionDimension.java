@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -128,4 +129,28 @@ public class BiCollectionDimension extends MainObject {
     @JsonProperty("uses_olap_hierarchy")
     public void setUsesOlapHierarchy(BiHierarchy usesOlapHierarchy) { this.usesOlapHierarchy = usesOlapHierarchy; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiCollectionDimension> PROPERTY_TABLE = new BeanPropertyTable<BiCollectionDimension>(
+            "bi_cube",
+            "business_name",
+            "native_id",
+            "references_bi_collection",
+            "sequence",
+            "uses_olap_hierarchy") {
+        @Override
+        public Object getValue(BiCollectionDimension bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiCube();
+                case 1: return bean.getBusinessName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getReferencesBiCollection();
+                case 4: return bean.getSequence();
+                case 5: return bean.getUsesOlapHierarchy();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -111,4 +112,26 @@ public class BiCollectionFact extends MainObject {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiCollectionFact> PROPERTY_TABLE = new BeanPropertyTable<BiCollectionFact>(
+            "bi_cube",
+            "business_name",
+            "native_id",
+            "references_bi_member",
+            "sequence") {
+        @Override
+        public Object getValue(BiCollectionFact bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiCube();
+                case 1: return bean.getBusinessName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getReferencesBiMember();
+                case 4: return bean.getSequence();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -230,4 +231,40 @@ public class BiCollectionMember extends InformationAsset {
     @JsonProperty("uses_database_columns")
     public void setUsesDatabaseColumns(ItemList<DatabaseColumn> usesDatabaseColumns) { this.usesDatabaseColumns = usesDatabaseColumns; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiCollectionMember> PROPERTY_TABLE = new BeanPropertyTable<BiCollectionMember>(
+            "bi_collection",
+            "data_type",
+            "details",
+            "expression",
+            "namespace",
+            "referenced_by_bi_members",
+            "references_bi_members",
+            "type",
+            "type_definition",
+            "used_by_bi_cubes",
+            "used_by_bi_report_query_items",
+            "uses_database_columns") {
+        @Override
+        public Object getValue(BiCollectionMember bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiCollection();
+                case 1: return bean.getDataType();
+                case 2: return bean.getDetails();
+                case 3: return bean.getExpression();
+                case 4: return bean.getNamespace();
+                case 5: return bean.getReferencedByBiMembers();
+                case 6: return bean.getReferencesBiMembers();
+                case 7: return bean.getTheType();
+                case 8: return bean.getTypeDefinition();
+                case 9: return bean.getUsedByBiCubes();
+                case 10: return bean.getUsedByBiReportQueryItems();
+                case 11: return bean.getUsesDatabaseColumns();
+                default: return null;
+            }
+        }
+    };
+
 }
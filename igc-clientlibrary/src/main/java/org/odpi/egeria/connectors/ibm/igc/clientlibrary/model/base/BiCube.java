@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -197,4 +198,36 @@ public class BiCube extends InformationAsset {
     @JsonProperty("used_by_bi_reports")
     public void setUsedByBiReports(ItemList<BiReport> usedByBiReports) { this.usedByBiReports = usedByBiReports; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiCube> PROPERTY_TABLE = new BeanPropertyTable<BiCube>(
+            "alias_(business_name)",
+            "author",
+            "bi_collection_dimensions",
+            "bi_collection_facts",
+            "bi_cube_creation_date",
+            "bi_cube_modification_date",
+            "bi_model",
+            "imported_from",
+            "namespace",
+            "used_by_bi_reports") {
+        @Override
+        public Object getValue(BiCube bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAuthor();
+                case 2: return bean.getBiCollectionDimensions();
+                case 3: return bean.getBiCollectionFacts();
+                case 4: return bean.getBiCubeCreationDate();
+                case 5: return bean.getBiCubeModificationDate();
+                case 6: return bean.getBiModel();
+                case 7: return bean.getImportedFrom();
+                case 8: return bean.getNamespace();
+                case 9: return bean.getUsedByBiReports();
+                default: return null;
+            }
+        }
+    };
+
 }
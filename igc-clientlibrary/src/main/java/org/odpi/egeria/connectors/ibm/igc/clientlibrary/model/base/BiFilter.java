@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class BiFilter extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiFilter> PROPERTY_TABLE = new BeanPropertyTable<BiFilter>(
+            "bi_collection",
+            "bi_model",
+            "context",
+            "filter_expression",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description") {
+        @Override
+        public Object getValue(BiFilter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiCollection();
+                case 1: return bean.getBiModel();
+                case 2: return bean.getTheContext();
+                case 3: return bean.getFilterExpression();
+                case 4: return bean.getLongDescription();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -178,4 +179,32 @@ public class BiHierarchy extends MainObject {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiHierarchy> PROPERTY_TABLE = new BeanPropertyTable<BiHierarchy>(
+            "bi_collection",
+            "bi_levels",
+            "bi_model",
+            "context",
+            "deployment",
+            "native_id",
+            "references_bi_collections",
+            "type") {
+        @Override
+        public Object getValue(BiHierarchy bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiCollection();
+                case 1: return bean.getBiLevels();
+                case 2: return bean.getBiModel();
+                case 3: return bean.getTheContext();
+                case 4: return bean.getDeployment();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getReferencesBiCollections();
+                case 7: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -120,4 +121,26 @@ public class BiHierarchyMember extends Reference {
     @JsonProperty("sorting_order")
     public void setSortingOrder(String sortingOrder) { this.sortingOrder = sortingOrder; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiHierarchyMember> PROPERTY_TABLE = new BeanPropertyTable<BiHierarchyMember>(
+            "bi_level",
+            "child_level",
+            "native_id",
+            "sequence",
+            "sorting_order") {
+        @Override
+        public Object getValue(BiHierarchyMember bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiLevel();
+                case 1: return bean.getChildLevel();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getSequence();
+                case 4: return bean.getSortingOrder();
+                default: return null;
+            }
+        }
+    };
+
 }
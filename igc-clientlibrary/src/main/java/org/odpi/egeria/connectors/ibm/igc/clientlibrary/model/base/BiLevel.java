@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -128,4 +129,28 @@ public class BiLevel extends MainObject {
     @JsonProperty("parent_bi_level")
     public void setParentBiLevel(ItemList<BiLevel> parentBiLevel) { this.parentBiLevel = parentBiLevel; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiLevel> PROPERTY_TABLE = new BeanPropertyTable<BiLevel>(
+            "bi_collection",
+            "bi_hierarchy",
+            "children_levels",
+            "depth",
+            "native_id",
+            "parent_bi_level") {
+        @Override
+        public Object getValue(BiLevel bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiCollection();
+                case 1: return bean.getBiHierarchy();
+                case 2: return bean.getChildrenLevels();
+                case 3: return bean.getDepth();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getParentBiLevel();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -350,4 +351,54 @@ public class BiModel extends InformationAsset {
     @JsonProperty("uses_databases")
     public void setUsesDatabases(ItemList<Database> usesDatabases) { this.usesDatabases = usesDatabases; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiModel> PROPERTY_TABLE = new BeanPropertyTable<BiModel>(
+            "alias_(business_name)",
+            "bi_collections",
+            "bi_cubes",
+            "bi_filters",
+            "bi_folder",
+            "bi_folder_or_bi_model",
+            "bi_hierarchies",
+            "bi_joins",
+            "bi_model",
+            "bi_model_creation_date",
+            "bi_model_modification_date",
+            "bi_report_queries",
+            "bi_reports",
+            "child_bi_models",
+            "imported_from",
+            "include_for_business_lineage",
+            "namespace",
+            "used_by_bi_reports",
+            "uses_databases") {
+        @Override
+        public Object getValue(BiModel bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getBiCollections();
+                case 2: return bean.getBiCubes();
+                case 3: return bean.getBiFilters();
+                case 4: return bean.getBiFolder();
+                case 5: return bean.getBiFolderOrBiModel();
+                case 6: return bean.getBiHierarchies();
+                case 7: return bean.getBiJoins();
+                case 8: return bean.getBiModel();
+                case 9: return bean.getBiModelCreationDate();
+                case 10: return bean.getBiModelModificationDate();
+                case 11: return bean.getBiReportQueries();
+                case 12: return bean.getBiReports();
+                case 13: return bean.getChildBiModels();
+                case 14: return bean.getImportedFrom();
+                case 15: return bean.getIncludeForBusinessLineage();
+                case 16: return bean.getNamespace();
+                case 17: return bean.getUsedByBiReports();
+                case 18: return bean.getUsesDatabases();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -145,4 +146,30 @@ public class BiOlapLevelElement extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiOlapLevelElement> PROPERTY_TABLE = new BeanPropertyTable<BiOlapLevelElement>(
+            "business_name",
+            "defined_as_an_olap_member",
+            "defined_in_level",
+            "key_level",
+            "name",
+            "native_id",
+            "short_description") {
+        @Override
+        public Object getValue(BiOlapLevelElement bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBusinessName();
+                case 1: return bean.getDefinedAsAnOlapMember();
+                case 2: return bean.getDefinedInLevel();
+                case 3: return bean.getKeyLevel();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
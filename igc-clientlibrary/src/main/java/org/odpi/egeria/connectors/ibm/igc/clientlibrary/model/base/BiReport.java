@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 import java.util.List;
@@ -373,4 +374,56 @@ public class BiReport extends InformationAsset {
     @JsonProperty("references_bi_reports")
     public void setReferencesBiReports(ItemList<BiReport> referencesBiReports) { this.referencesBiReports = referencesBiReports; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiReport> PROPERTY_TABLE = new BeanPropertyTable<BiReport>(
+            "alias_(business_name)",
+            "author",
+            "bi_cube",
+            "bi_folder",
+            "bi_folder_or_bi_model_or_cube",
+            "bi_model",
+            "bi_report_creation_date",
+            "bi_report_modification_date",
+            "bi_report_queries",
+            "bi_report_run_date",
+            "expression",
+            "format",
+            "imported_from",
+            "include_for_business_lineage",
+            "language",
+            "namespace",
+            "number_of_runs",
+            "number_of_versions",
+            "referenced_by_bi_reports",
+            "references_bi_reports") {
+        @Override
+        public Object getValue(BiReport bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAuthor();
+                case 2: return bean.getBiCube();
+                case 3: return bean.getBiFolder();
+                case 4: return bean.getBiFolderOrBiModelOrCube();
+                case 5: return bean.getBiModel();
+                case 6: return bean.getBiReportCreationDate();
+                case 7: return bean.getBiReportModificationDate();
+                case 8: return bean.getBiReportQueries();
+                case 9: return bean.getBiReportRunDate();
+                case 10: return bean.getExpression();
+                case 11: return bean.getFormat();
+                case 12: return bean.getImportedFrom();
+                case 13: return bean.getIncludeForBusinessLineage();
+                case 14: return bean.getLanguage();
+                case 15: return bean.getNamespace();
+                case 16: return bean.getNumberOfRuns();
+                case 17: return bean.getNumberOfVersions();
+                case 18: return bean.getReferencedByBiReports();
+                case 19: return bean.getReferencesBiReports();
+                default: return null;
+            }
+        }
+    };
+
 }
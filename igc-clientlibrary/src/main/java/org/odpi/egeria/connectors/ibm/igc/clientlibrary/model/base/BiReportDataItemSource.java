@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class BiReportDataItemSource extends Reference {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiReportDataItemSource> PROPERTY_TABLE = new BeanPropertyTable<BiReportDataItemSource>(
+            "defined_by_data_field",
+            "defined_by_olap_member",
+            "defined_in_report_data_item",
+            "defined_of_report_field",
+            "native_id") {
+        @Override
+        public Object getValue(BiReportDataItemSource bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefinedByDataField();
+                case 1: return bean.getDefinedByOlapMember();
+                case 2: return bean.getDefinedInReportDataItem();
+                case 3: return bean.getDefinedOfReportField();
+                case 4: return bean.getNativeId();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -281,4 +282,46 @@ public class BiReportQuery extends InformationAsset {
     @JsonProperty("uses_database_tables_or_views")
     public void setUsesDatabaseTablesOrViews(ItemList<Datagroup> usesDatabaseTablesOrViews) { this.usesDatabaseTablesOrViews = usesDatabaseTablesOrViews; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiReportQuery> PROPERTY_TABLE = new BeanPropertyTable<BiReportQuery>(
+            "bi_collection",
+            "bi_model",
+            "bi_report",
+            "bi_report_query_detail_filters",
+            "bi_report_query_items",
+            "bi_report_query_summary_filters",
+            "condition",
+            "contained_by_bi_report_queries",
+            "contains_bi_queries",
+            "context",
+            "imported_from",
+            "namespace",
+            "type",
+            "uses_bi_collections",
+            "uses_database_tables_or_views") {
+        @Override
+        public Object getValue(BiReportQuery bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiCollection();
+                case 1: return bean.getBiModel();
+                case 2: return bean.getBiReport();
+                case 3: return bean.getBiReportQueryDetailFilters();
+                case 4: return bean.getBiReportQueryItems();
+                case 5: return bean.getBiReportQuerySummaryFilters();
+                case 6: return bean.getCondition();
+                case 7: return bean.getContainedByBiReportQueries();
+                case 8: return bean.getContainsBiQueries();
+                case 9: return bean.getTheContext();
+                case 10: return bean.getImportedFrom();
+                case 11: return bean.getNamespace();
+                case 12: return bean.getTheType();
+                case 13: return bean.getUsesBiCollections();
+                case 14: return bean.getUsesDatabaseTablesOrViews();
+                default: return null;
+            }
+        }
+    };
+
 }
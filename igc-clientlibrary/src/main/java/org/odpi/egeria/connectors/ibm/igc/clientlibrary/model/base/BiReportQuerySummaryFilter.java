@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -179,4 +180,34 @@ public class BiReportQuerySummaryFilter extends InformationAsset {
     @JsonProperty("uses_database_columns")
     public void setUsesDatabaseColumns(ItemList<DataItem> usesDatabaseColumns) { this.usesDatabaseColumns = usesDatabaseColumns; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiReportQuerySummaryFilter> PROPERTY_TABLE = new BeanPropertyTable<BiReportQuerySummaryFilter>(
+            "bi_report_query",
+            "contains_bi_report_query_items",
+            "expression",
+            "expression_in_title",
+            "namespace",
+            "src_contains_bi_report_query_items",
+            "type",
+            "uses_bi_collection_members",
+            "uses_database_columns") {
+        @Override
+        public Object getValue(BiReportQuerySummaryFilter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiReportQuery();
+                case 1: return bean.getContainsBiReportQueryItems();
+                case 2: return bean.getExpression();
+                case 3: return bean.getExpressionInTitle();
+                case 4: return bean.getNamespace();
+                case 5: return bean.getSrcContainsBiReportQueryItems();
+                case 6: return bean.getTheType();
+                case 7: return bean.getUsesBiCollectionMembers();
+                case 8: return bean.getUsesDatabaseColumns();
+                default: return null;
+            }
+        }
+    };
+
 }
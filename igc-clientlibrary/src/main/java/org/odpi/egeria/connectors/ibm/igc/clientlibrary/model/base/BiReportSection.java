@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -229,4 +230,38 @@ public class BiReportSection extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiReportSection> PROPERTY_TABLE = new BeanPropertyTable<BiReportSection>(
+            "alias_(business_name)",
+            "bi_report",
+            "bi_report_fields",
+            "contained_in_report_section",
+            "contains_sub_section",
+            "label",
+            "name",
+            "native_id",
+            "sequence",
+            "short_description",
+            "type") {
+        @Override
+        public Object getValue(BiReportSection bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getBiReport();
+                case 2: return bean.getBiReportFields();
+                case 3: return bean.getContainedInReportSection();
+                case 4: return bean.getContainsSubSection();
+                case 5: return bean.getLabel();
+                case 6: return bean.getTheName();
+                case 7: return bean.getNativeId();
+                case 8: return bean.getSequence();
+                case 9: return bean.getShortDescription();
+                case 10: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class BiRootFolder extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BiRootFolder> PROPERTY_TABLE = new BeanPropertyTable<BiRootFolder>(
+            "bi_models",
+            "bi_reports",
+            "bi_server",
+            "contains_bi_folders",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description") {
+        @Override
+        public Object getValue(BiRootFolder bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiModels();
+                case 1: return bean.getBiReports();
+                case 2: return bean.getBiServer();
+                case 3: return bean.getContainsBiFolders();
+                case 4: return bean.getLongDescription();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class BinaryInfosetOperation extends Reference {
     @JsonProperty("secondary_input")
     public void setSecondaryInput(Infoset secondaryInput) { this.secondaryInput = secondaryInput; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<BinaryInfosetOperation> PROPERTY_TABLE = new BeanPropertyTable<BinaryInfosetOperation>(
+            "infoset",
+            "primary_input",
+            "secondary_input") {
+        @Override
+        public Object getValue(BinaryInfosetOperation bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getInfoset();
+                case 1: return bean.getPrimaryInput();
+                case 2: return bean.getSecondaryInput();
+                default: return null;
+            }
+        }
+    };
+
 }
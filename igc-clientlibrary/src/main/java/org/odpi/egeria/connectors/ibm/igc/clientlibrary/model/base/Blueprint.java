@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code blueprint} asset type in IGC, displayed as '{@literal Blueprint}' in the IGC UI.
@@ -42,4 +43,18 @@ public class Blueprint extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Blueprint> PROPERTY_TABLE = new BeanPropertyTable<Blueprint>(
+            "version") {
+        @Override
+        public Object getValue(Blueprint bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
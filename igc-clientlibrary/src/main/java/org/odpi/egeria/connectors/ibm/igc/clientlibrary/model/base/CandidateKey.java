@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class CandidateKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<CandidateKey> PROPERTY_TABLE = new BeanPropertyTable<CandidateKey>(
+            "database_table_view",
+            "defined_on_database_columns",
+            "long_description",
+            "name",
+            "native_id",
+            "primary_key",
+            "referenced_by_foreign_keys",
+            "short_description") {
+        @Override
+        public Object getValue(CandidateKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDatabaseTableView();
+                case 1: return bean.getDefinedOnDatabaseColumns();
+                case 2: return bean.getLongDescription();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getPrimaryKey();
+                case 6: return bean.getReferencedByForeignKeys();
+                case 7: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
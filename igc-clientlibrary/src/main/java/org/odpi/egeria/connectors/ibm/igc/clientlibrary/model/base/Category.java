@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -203,4 +204,34 @@ public class Category extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Category> PROPERTY_TABLE = new BeanPropertyTable<Category>(
+            "category_path",
+            "glossary_type",
+            "language",
+            "parent_category",
+            "subcategories",
+            "terms",
+            "translations",
+            "workflow_current_state",
+            "workflow_stored_state") {
+        @Override
+        public Object getValue(Category bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCategoryPath();
+                case 1: return bean.getGlossaryType();
+                case 2: return bean.getLanguage();
+                case 3: return bean.getParentCategory();
+                case 4: return bean.getSubcategories();
+                case 5: return bean.getTerms();
+                case 6: return bean.getTranslations();
+                case 7: return bean.getWorkflowCurrentState();
+                case 8: return bean.getWorkflowStoredState();
+                default: return null;
+            }
+        }
+    };
+
 }
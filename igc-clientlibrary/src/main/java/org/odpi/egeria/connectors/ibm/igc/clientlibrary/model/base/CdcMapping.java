@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -129,4 +130,28 @@ public class CdcMapping extends Reference {
     @JsonProperty("targets")
     public void setTargets(ItemList<InformationAsset> targets) { this.targets = targets; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<CdcMapping> PROPERTY_TABLE = new BeanPropertyTable<CdcMapping>(
+            "cdc_mapping_document",
+            "description",
+            "name",
+            "rule",
+            "sources",
+            "targets") {
+        @Override
+        public Object getValue(CdcMapping bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCdcMappingDocument();
+                case 1: return bean.getDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getRule();
+                case 4: return bean.getSources();
+                case 5: return bean.getTargets();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -79,4 +80,22 @@ public class ChangedProperties extends Reference {
     @JsonProperty("term_history")
     public void setTermHistory(ItemList<TermHistory> termHistory) { this.termHistory = termHistory; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ChangedProperties> PROPERTY_TABLE = new BeanPropertyTable<ChangedProperties>(
+            "previous_value",
+            "property_name",
+            "term_history") {
+        @Override
+        public Object getValue(ChangedProperties bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getPreviousValue();
+                case 1: return bean.getPropertyName();
+                case 2: return bean.getTermHistory();
+                default: return null;
+            }
+        }
+    };
+
 }
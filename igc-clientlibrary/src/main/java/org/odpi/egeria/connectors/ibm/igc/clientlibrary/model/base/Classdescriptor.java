@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -214,4 +215,38 @@ public class Classdescriptor extends Reference {
     @JsonProperty("used_in_application_function")
     public void setUsedInApplicationFunction(ItemList<Applicationfunction> usedInApplicationFunction) { this.usedInApplicationFunction = usedInApplicationFunction; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Classdescriptor> PROPERTY_TABLE = new BeanPropertyTable<Classdescriptor>(
+            "class_name",
+            "has_action_descriptor",
+            "has_custom_attribute_def",
+            "has_navigation_descriptor",
+            "has_prop_descriptor",
+            "identifier_attribute",
+            "long_description_attribute",
+            "model_name",
+            "model_uri",
+            "short_description_attribute",
+            "used_in_application_function") {
+        @Override
+        public Object getValue(Classdescriptor bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getClassName();
+                case 1: return bean.getHasActionDescriptor();
+                case 2: return bean.getHasCustomAttributeDef();
+                case 3: return bean.getHasNavigationDescriptor();
+                case 4: return bean.getHasPropDescriptor();
+                case 5: return bean.getIdentifierAttribute();
+                case 6: return bean.getLongDescriptionAttribute();
+                case 7: return bean.getModelName();
+                case 8: return bean.getModelUri();
+                case 9: return bean.getShortDescriptionAttribute();
+                case 10: return bean.getUsedInApplicationFunction();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -205,4 +206,36 @@ public class Classification extends Reference {
     @JsonProperty("value_frequency")
     public void setValueFrequency(Number valueFrequency) { this.valueFrequency = valueFrequency; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Classification> PROPERTY_TABLE = new BeanPropertyTable<Classification>(
+            "classifies_asset",
+            "column_analysis",
+            "confidencePercent",
+            "data_class",
+            "date",
+            "detected",
+            "detectedState",
+            "selected",
+            "threshold",
+            "value_frequency") {
+        @Override
+        public Object getValue(Classification bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getClassifiesAsset();
+                case 1: return bean.getColumnAnalysis();
+                case 2: return bean.getConfidencepercent();
+                case 3: return bean.getDataClass();
+                case 4: return bean.getDate();
+                case 5: return bean.getDetected();
+                case 6: return bean.getDetectedstate();
+                case 7: return bean.getSelected();
+                case 8: return bean.getThreshold();
+                case 9: return bean.getValueFrequency();
+                default: return null;
+            }
+        }
+    };
+
 }
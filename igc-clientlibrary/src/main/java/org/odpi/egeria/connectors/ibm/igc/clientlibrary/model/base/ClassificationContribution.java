@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -118,4 +119,26 @@ public class ClassificationContribution extends Reference {
     @JsonProperty("size")
     public void setSize(Number size) { this.size = size; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ClassificationContribution> PROPERTY_TABLE = new BeanPropertyTable<ClassificationContribution>(
+            "data_class",
+            "infoset",
+            "match_type",
+            "object_count",
+            "size") {
+        @Override
+        public Object getValue(ClassificationContribution bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataClass();
+                case 1: return bean.getInfoset();
+                case 2: return bean.getMatchType();
+                case 3: return bean.getObjectCount();
+                case 4: return bean.getSize();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -3,6 +3,7 @@
 package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base;
 
 import com.fasterxml.jackson.annotation.*;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
@@ -78,4 +79,22 @@ public class Classificationenabledgroup extends DataField {
     @JsonProperty("selected_classification")
     public void setSelectedClassification(DataClass selectedClassification) { this.selectedClassification = selectedClassification; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Classificationenabledgroup> PROPERTY_TABLE = new BeanPropertyTable<Classificationenabledgroup>(
+            "detected_classifications",
+            "hasDataClassification",
+            "selected_classification") {
+        @Override
+        public Object getValue(Classificationenabledgroup bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDetectedClassifications();
+                case 1: return bean.getHasdataclassification();
+                case 2: return bean.getSelectedClassification();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -231,4 +232,40 @@ public class Collection extends Reference {
     @JsonProperty("visibility")
     public void setVisibility(Boolean visibility) { this.visibility = visibility; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Collection> PROPERTY_TABLE = new BeanPropertyTable<Collection>(
+            "assets",
+            "in_collections",
+            "labels",
+            "long_description",
+            "name",
+            "native_id",
+            "owners",
+            "references_assets",
+            "short_description",
+            "user_id",
+            "viewers",
+            "visibility") {
+        @Override
+        public Object getValue(Collection bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssets();
+                case 1: return bean.getInCollections();
+                case 2: return bean.getLabels();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getOwners();
+                case 7: return bean.getReferencesAssets();
+                case 8: return bean.getShortDescription();
+                case 9: return bean.getUserId();
+                case 10: return bean.getViewers();
+                case 11: return bean.getVisibility();
+                default: return null;
+            }
+        }
+    };
+
 }
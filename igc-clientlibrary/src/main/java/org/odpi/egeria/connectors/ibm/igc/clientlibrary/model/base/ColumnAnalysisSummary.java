@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -599,4 +600,80 @@ public class ColumnAnalysisSummary extends Reference {
     @JsonProperty("steward")
     public void setSteward(ItemList<Steward> steward) { this.steward = steward; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ColumnAnalysisSummary> PROPERTY_TABLE = new BeanPropertyTable<ColumnAnalysisSummary>(
+            "allow_null_values",
+            "analyzed_column",
+            "assigned_to_terms",
+            "average_length",
+            "constant",
+            "domain_type",
+            "inferred_data_type",
+            "inferred_format",
+            "inferred_length",
+            "inferred_precision",
+            "inferred_scale",
+            "long_description",
+            "longest_length",
+            "mask",
+            "native_id",
+            "number_of_complete_values",
+            "number_of_distinct_formats",
+            "number_of_distinct_patterns",
+            "number_of_distinct_values",
+            "number_of_empty_values",
+            "number_of_null_values",
+            "number_of_valid_values",
+            "number_values",
+            "project_name",
+            "promoted_by_principal",
+            "require_unique_values",
+            "review_date",
+            "reviewed_by_principal",
+            "short_&_long_description",
+            "short_description",
+            "shortest_length",
+            "steward") {
+        @Override
+        public Object getValue(ColumnAnalysisSummary bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAllowNullValues();
+                case 1: return bean.getAnalyzedColumn();
+                case 2: return bean.getAssignedToTerms();
+                case 3: return bean.getAverageLength();
+                case 4: return bean.getConstant();
+                case 5: return bean.getDomainType();
+                case 6: return bean.getInferredDataType();
+                case 7: return bean.getInferredFormat();
+                case 8: return bean.getInferredLength();
+                case 9: return bean.getInferredPrecision();
+                case 10: return bean.getInferredScale();
+                case 11: return bean.getLongDescription();
+                case 12: return bean.getLongestLength();
+                case 13: return bean.getMask();
+                case 14: return bean.getNativeId();
+                case 15: return bean.getNumberOfCompleteValues();
+                case 16: return bean.getNumberOfDistinctFormats();
+                case 17: return bean.getNumberOfDistinctPatterns();
+                case 18: return bean.getNumberOfDistinctValues();
+                case 19: return bean.getNumberOfEmptyValues();
+                case 20: return bean.getNumberOfNullValues();
+                case 21: return bean.getNumberOfValidValues();
+                case 22: return bean.getNumberValues();
+                case 23: return bean.getProjectName();
+                case 24: return bean.getPromotedByPrincipal();
+                case 25: return bean.getRequireUniqueValues();
+                case 26: return bean.getReviewDate();
+                case 27: return bean.getReviewedByPrincipal();
+                case 28: return bean.getShortLongDescription();
+                case 29: return bean.getShortDescription();
+                case 30: return bean.getShortestLength();
+                case 31: return bean.getSteward();
+                default: return null;
+            }
+        }
+    };
+
 }
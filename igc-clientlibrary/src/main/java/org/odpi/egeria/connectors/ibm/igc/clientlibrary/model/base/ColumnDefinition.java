@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -94,4 +95,24 @@ public class ColumnDefinition extends DataField {
     @JsonProperty("used_by_stage_columns")
     public void setUsedByStageColumns(ItemList<DataItem> usedByStageColumns) { this.usedByStageColumns = usedByStageColumns; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ColumnDefinition> PROPERTY_TABLE = new BeanPropertyTable<ColumnDefinition>(
+            "apt_field_properties",
+            "key",
+            "table_definition",
+            "used_by_stage_columns") {
+        @Override
+        public Object getValue(ColumnDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAptFieldProperties();
+                case 1: return bean.getKey();
+                case 2: return bean.getTableDefinition();
+                case 3: return bean.getUsedByStageColumns();
+                default: return null;
+            }
+        }
+    };
+
 }
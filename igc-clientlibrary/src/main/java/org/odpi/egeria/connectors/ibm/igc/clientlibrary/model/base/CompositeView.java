@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code composite_view} asset type in IGC, displayed as '{@literal Composite View}' in the IGC UI.
@@ -100,4 +101,24 @@ public class CompositeView extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<CompositeView> PROPERTY_TABLE = new BeanPropertyTable<CompositeView>(
+            "alias_(business_name)",
+            "composite_view",
+            "member_type",
+            "type") {
+        @Override
+        public Object getValue(CompositeView bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getCompositeView();
+                case 2: return bean.getMemberType();
+                case 3: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
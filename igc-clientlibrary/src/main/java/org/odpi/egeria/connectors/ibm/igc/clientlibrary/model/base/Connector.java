@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -214,4 +215,38 @@ public class Connector extends Reference {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Connector> PROPERTY_TABLE = new BeanPropertyTable<Connector>(
+            "data_connections",
+            "host",
+            "implements_stage_type",
+            "library",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description",
+            "type",
+            "variant",
+            "version") {
+        @Override
+        public Object getValue(Connector bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataConnections();
+                case 1: return bean.getHost();
+                case 2: return bean.getImplementsStageType();
+                case 3: return bean.getLibrary();
+                case 4: return bean.getLongDescription();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getShortDescription();
+                case 8: return bean.getTheType();
+                case 9: return bean.getVariant();
+                case 10: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -128,4 +129,28 @@ public class Credential extends Reference {
     @JsonProperty("username")
     public void setUsername(String username) { this.username = username; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Credential> PROPERTY_TABLE = new BeanPropertyTable<Credential>(
+            "default_for_application_install",
+            "for_application_install",
+            "of_user_credentials",
+            "password",
+            "used_by_user_credentials",
+            "username") {
+        @Override
+        public Object getValue(Credential bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefaultForApplicationInstall();
+                case 1: return bean.getForApplicationInstall();
+                case 2: return bean.getOfUserCredentials();
+                case 3: return bean.getPassword();
+                case 4: return bean.getUsedByUserCredentials();
+                case 5: return bean.getUsername();
+                default: return null;
+            }
+        }
+    };
+
 }
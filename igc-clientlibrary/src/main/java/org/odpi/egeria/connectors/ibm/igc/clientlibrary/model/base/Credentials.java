@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -78,4 +79,22 @@ public class Credentials extends Reference {
     @JsonProperty("of_user")
     public void setOfUser(User ofUser) { this.ofUser = ofUser; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Credentials> PROPERTY_TABLE = new BeanPropertyTable<Credentials>(
+            "asb_credential",
+            "external_credential",
+            "of_user") {
+        @Override
+        public Object getValue(Credentials bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAsbCredential();
+                case 1: return bean.getExternalCredential();
+                case 2: return bean.getOfUser();
+                default: return null;
+            }
+        }
+    };
+
 }
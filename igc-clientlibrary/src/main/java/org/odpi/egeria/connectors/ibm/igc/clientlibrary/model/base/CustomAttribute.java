@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -106,4 +107,24 @@ public class CustomAttribute extends Reference {
     @JsonProperty("name")
     public void setTheName(String name) { this.name = name; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<CustomAttribute> PROPERTY_TABLE = new BeanPropertyTable<CustomAttribute>(
+            "applies_to",
+            "custom_attribute_type",
+            "description",
+            "name") {
+        @Override
+        public Object getValue(CustomAttribute bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAppliesTo();
+                case 1: return bean.getCustomAttributeType();
+                case 2: return bean.getDescription();
+                case 3: return bean.getTheName();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -130,4 +131,28 @@ public class Customattributedef extends InformationAsset {
     @JsonProperty("of_class_descriptor")
     public void setOfClassDescriptor(Classdescriptor ofClassDescriptor) { this.ofClassDescriptor = ofClassDescriptor; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Customattributedef> PROPERTY_TABLE = new BeanPropertyTable<Customattributedef>(
+            "data_type",
+            "description",
+            "has_custom_attribute_val",
+            "has_data_values",
+            "has_valid_values",
+            "of_class_descriptor") {
+        @Override
+        public Object getValue(Customattributedef bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataType();
+                case 1: return bean.getDescription();
+                case 2: return bean.getHasCustomAttributeVal();
+                case 3: return bean.getHasDataValues();
+                case 4: return bean.getHasValidValues();
+                case 5: return bean.getOfClassDescriptor();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -60,4 +61,20 @@ public class Customattributeval extends Reference {
     @JsonProperty("x_custom_attribute_name")
     public void setXCustomAttributeName(String xCustomAttributeName) { this.xCustomAttributeName = xCustomAttributeName; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Customattributeval> PROPERTY_TABLE = new BeanPropertyTable<Customattributeval>(
+            "value",
+            "x_custom_attribute_name") {
+        @Override
+        public Object getValue(Customattributeval bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getValue();
+                case 1: return bean.getXCustomAttributeName();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -650,4 +651,82 @@ public class DataClass extends InformationAsset {
     @JsonProperty("valid_values_case_sensitive")
     public void setValidValuesCaseSensitive(Boolean validValuesCaseSensitive) { this.validValuesCaseSensitive = validValuesCaseSensitive; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataClass> PROPERTY_TABLE = new BeanPropertyTable<DataClass>(
+            "active",
+            "additional_regular_expression",
+            "additionial_applicable_for",
+            "allowSubstringMatch",
+            "applicable_for_single",
+            "class_code",
+            "classifications_selected",
+            "classified_assets_detected",
+            "columnNameMatch",
+            "contains_data_classes",
+            "data_class_type_single",
+            "data_type_filter_elements_enum",
+            "default_threshold",
+            "enabled",
+            "example",
+            "expression",
+            "filters",
+            "java_class_name_single",
+            "language",
+            "length_filter_max",
+            "length_filter_min",
+            "parent_data_class",
+            "priority",
+            "properties",
+            "provider",
+            "reference_columns_metadata",
+            "regular_expression_single",
+            "scope",
+            "script",
+            "squeezeConsecutiveWhiteSpaces",
+            "validValueReferenceFile",
+            "valid_value_strings",
+            "valid_values_case_sensitive") {
+        @Override
+        public Object getValue(DataClass bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getActive();
+                case 1: return bean.getAdditionalRegularExpression();
+                case 2: return bean.getAdditionialApplicableFor();
+                case 3: return bean.getAllowsubstringmatch();
+                case 4: return bean.getApplicableForSingle();
+                case 5: return bean.getClassCode();
+                case 6: return bean.getClassificationsSelected();
+                case 7: return bean.getClassifiedAssetsDetected();
+                case 8: return bean.getColumnnamematch();
+                case 9: return bean.getContainsDataClasses();
+                case 10: return bean.getDataClassTypeSingle();
+                case 11: return bean.getDataTypeFilterElementsEnum();
+                case 12: return bean.getDefaultThreshold();
+                case 13: return bean.getEnabled();
+                case 14: return bean.getExample();
+                case 15: return bean.getExpression();
+                case 16: return bean.getFilters();
+                case 17: return bean.getJavaClassNameSingle();
+                case 18: return bean.getLanguage();
+                case 19: return bean.getLengthFilterMax();
+                case 20: return bean.getLengthFilterMin();
+                case 21: return bean.getParentDataClass();
+                case 22: return bean.getPriority();
+                case 23: return bean.getProperties();
+                case 24: return bean.getProvider();
+                case 25: return bean.getReferenceColumnsMetadata();
+                case 26: return bean.getRegularExpressionSingle();
+                case 27: return bean.getScope();
+                case 28: return bean.getScript();
+                case 29: return bean.getSqueezeconsecutivewhitespaces();
+                case 30: return bean.getValidvaluereferencefile();
+                case 31: return bean.getValidValueStrings();
+                case 32: return bean.getValidValuesCaseSensitive();
+                default: return null;
+            }
+        }
+    };
+
 }
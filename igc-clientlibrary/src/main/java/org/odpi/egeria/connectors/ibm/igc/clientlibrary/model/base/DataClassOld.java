@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class DataClassOld extends MainObject {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataClassOld> PROPERTY_TABLE = new BeanPropertyTable<DataClassOld>(
+            "class_code",
+            "classifies_data_field",
+            "has_sub_data_class",
+            "inferred_by_df_analysis_summary",
+            "is_sub_of_data_class",
+            "is_user_defined",
+            "native_id") {
+        @Override
+        public Object getValue(DataClassOld bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getClassCode();
+                case 1: return bean.getClassifiesDataField();
+                case 2: return bean.getHasSubDataClass();
+                case 3: return bean.getInferredByDfAnalysisSummary();
+                case 4: return bean.getIsSubOfDataClass();
+                case 5: return bean.getIsUserDefined();
+                case 6: return bean.getNativeId();
+                default: return null;
+            }
+        }
+    };
+
 }
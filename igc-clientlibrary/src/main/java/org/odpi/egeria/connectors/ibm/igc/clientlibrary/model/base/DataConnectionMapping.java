@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -146,4 +147,30 @@ public class DataConnectionMapping extends Reference {
     @JsonProperty("used_by")
     public void setUsedBy(ItemList<MainObject> usedBy) { this.usedBy = usedBy; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataConnectionMapping> PROPERTY_TABLE = new BeanPropertyTable<DataConnectionMapping>(
+            "bound_to_database",
+            "host_(engine)_name",
+            "name",
+            "preferred_data_connection",
+            "same_as_data_connections",
+            "type",
+            "used_by") {
+        @Override
+        public Object getValue(DataConnectionMapping bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBoundToDatabase();
+                case 1: return bean.getHostEngineName();
+                case 2: return bean.getTheName();
+                case 3: return bean.getPreferredDataConnection();
+                case 4: return bean.getSameAsDataConnections();
+                case 5: return bean.getTheType();
+                case 6: return bean.getUsedBy();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -60,4 +61,20 @@ public class DataElement extends DataItemDefinition {
     @JsonProperty("transforms")
     public void setTransforms(ItemList<TransformsFunction> transforms) { this.transforms = transforms; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataElement> PROPERTY_TABLE = new BeanPropertyTable<DataElement>(
+            "transformation_project",
+            "transforms") {
+        @Override
+        public Object getValue(DataElement bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTransformationProject();
+                case 1: return bean.getTransforms();
+                default: return null;
+            }
+        }
+    };
+
 }
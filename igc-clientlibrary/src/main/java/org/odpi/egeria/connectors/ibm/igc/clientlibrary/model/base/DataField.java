@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -48,4 +49,18 @@ public class DataField extends DataItem {
     @JsonProperty("used_by_analytics_objects")
     public void setUsedByAnalyticsObjects(ItemList<AnalyticsObject> usedByAnalyticsObjects) { this.usedByAnalyticsObjects = usedByAnalyticsObjects; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataField> PROPERTY_TABLE = new BeanPropertyTable<DataField>(
+            "used_by_analytics_objects") {
+        @Override
+        public Object getValue(DataField bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getUsedByAnalyticsObjects();
+                default: return null;
+            }
+        }
+    };
+
 }
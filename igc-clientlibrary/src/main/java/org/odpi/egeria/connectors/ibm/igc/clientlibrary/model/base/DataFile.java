@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -272,4 +273,44 @@ public class DataFile extends InformationAsset {
     @JsonProperty("synchronized_from")
     public void setSynchronizedFrom(String synchronizedFrom) { this.synchronizedFrom = synchronizedFrom; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataFile> PROPERTY_TABLE = new BeanPropertyTable<DataFile>(
+            "alias_(business_name)",
+            "amazon_s3_data_files",
+            "data_file_records",
+            "host",
+            "implements_data_file_definition",
+            "implements_physical_models",
+            "imported_from",
+            "include_for_business_lineage",
+            "parent_folder",
+            "parent_folder_or_host",
+            "path",
+            "store_type",
+            "suggested_term_assignments",
+            "synchronized_from") {
+        @Override
+        public Object getValue(DataFile bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAmazonS3DataFiles();
+                case 2: return bean.getDataFileRecords();
+                case 3: return bean.getHost();
+                case 4: return bean.getImplementsDataFileDefinition();
+                case 5: return bean.getImplementsPhysicalModels();
+                case 6: return bean.getImportedFrom();
+                case 7: return bean.getIncludeForBusinessLineage();
+                case 8: return bean.getParentFolder();
+                case 9: return bean.getParentFolderOrHost();
+                case 10: return bean.getPath();
+                case 11: return bean.getStoreType();
+                case 12: return bean.getSuggestedTermAssignments();
+                case 13: return bean.getSynchronizedFrom();
+                default: return null;
+            }
+        }
+    };
+
 }
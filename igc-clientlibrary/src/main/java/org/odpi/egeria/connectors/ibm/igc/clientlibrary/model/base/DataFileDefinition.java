@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -111,4 +112,26 @@ public class DataFileDefinition extends InformationAsset {
     @JsonProperty("references_data_file_folders")
     public void setReferencesDataFileFolders(ItemList<MainObject> referencesDataFileFolders) { this.referencesDataFileFolders = referencesDataFileFolders; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataFileDefinition> PROPERTY_TABLE = new BeanPropertyTable<DataFileDefinition>(
+            "alias_(business_name)",
+            "data_file_definition_records",
+            "implemented_by_data_files",
+            "imported_from",
+            "references_data_file_folders") {
+        @Override
+        public Object getValue(DataFileDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getDataFileDefinitionRecords();
+                case 2: return bean.getImplementedByDataFiles();
+                case 3: return bean.getImportedFrom();
+                case 4: return bean.getReferencesDataFileFolders();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code data_file_definition_field} asset type in IGC, displayed as '{@literal Data File Definition Field}' in the IGC UI.
@@ -268,4 +269,38 @@ public class DataFileDefinitionField extends InformationAsset {
     @JsonProperty("unique")
     public void setUnique(Boolean unique) { this.unique = unique; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataFileDefinitionField> PROPERTY_TABLE = new BeanPropertyTable<DataFileDefinitionField>(
+            "allows_null_values",
+            "data_file_definition_record",
+            "data_type",
+            "fraction",
+            "length",
+            "level",
+            "minimum_length",
+            "odbc_type",
+            "position",
+            "type",
+            "unique") {
+        @Override
+        public Object getValue(DataFileDefinitionField bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAllowsNullValues();
+                case 1: return bean.getDataFileDefinitionRecord();
+                case 2: return bean.getDataType();
+                case 3: return bean.getFraction();
+                case 4: return bean.getLength();
+                case 5: return bean.getLevel();
+                case 6: return bean.getMinimumLength();
+                case 7: return bean.getOdbcType();
+                case 8: return bean.getPosition();
+                case 9: return bean.getTheType();
+                case 10: return bean.getUnique();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -94,4 +95,24 @@ public class DataFileDefinitionRecord extends InformationAsset {
     @JsonProperty("imported_from")
     public void setImportedFrom(String importedFrom) { this.importedFrom = importedFrom; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataFileDefinitionRecord> PROPERTY_TABLE = new BeanPropertyTable<DataFileDefinitionRecord>(
+            "alias_(business_name)",
+            "data_file_definition",
+            "data_file_definition_fields",
+            "imported_from") {
+        @Override
+        public Object getValue(DataFileDefinitionRecord bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getDataFileDefinition();
+                case 2: return bean.getDataFileDefinitionFields();
+                case 3: return bean.getImportedFrom();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -631,4 +632,82 @@ public class DataFileField extends Classificationenabledgroup {
     @JsonProperty("uniqueFlag")
     public void setUniqueflag(Boolean uniqueflag) { this.uniqueflag = uniqueflag; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataFileField> PROPERTY_TABLE = new BeanPropertyTable<DataFileField>(
+            "analysis",
+            "averageValue",
+            "constantFlag",
+            "data_file_record",
+            "database_data_rule_sets",
+            "datafile_data_rules",
+            "domainType",
+            "implements_design_columns",
+            "implements_entity_attributes",
+            "inferredDataType",
+            "inferredFormat",
+            "inferredLength",
+            "inferredPrecision",
+            "inferredScale",
+            "isInferredForeignKey",
+            "isInferredPrimaryKey",
+            "nbRecordsTested",
+            "nullabilityFlag",
+            "numberCompleteValues",
+            "numberDistinctValues",
+            "numberEmptyValues",
+            "numberFormats",
+            "numberNullValues",
+            "numberValidValues",
+            "numberZeroValues",
+            "qualityScore",
+            "qualityScore_bubble",
+            "quality_benchmark",
+            "quality_dimension",
+            "same_as_data_sources",
+            "suggested_term_assignments",
+            "synchronized_from",
+            "uniqueFlag") {
+        @Override
+        public Object getValue(DataFileField bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalysis();
+                case 1: return bean.getAveragevalue();
+                case 2: return bean.getConstantflag();
+                case 3: return bean.getDataFileRecord();
+                case 4: return bean.getDatabaseDataRuleSets();
+                case 5: return bean.getDatafileDataRules();
+                case 6: return bean.getDomaintype();
+                case 7: return bean.getImplementsDesignColumns();
+                case 8: return bean.getImplementsEntityAttributes();
+                case 9: return bean.getInferreddatatype();
+                case 10: return bean.getInferredformat();
+                case 11: return bean.getInferredlength();
+                case 12: return bean.getInferredprecision();
+                case 13: return bean.getInferredscale();
+                case 14: return bean.getIsinferredforeignkey();
+                case 15: return bean.getIsinferredprimarykey();
+                case 16: return bean.getNbrecordstested();
+                case 17: return bean.getNullabilityflag();
+                case 18: return bean.getNumbercompletevalues();
+                case 19: return bean.getNumberdistinctvalues();
+                case 20: return bean.getNumberemptyvalues();
+                case 21: return bean.getNumberformats();
+                case 22: return bean.getNumbernullvalues();
+                case 23: return bean.getNumbervalidvalues();
+                case 24: return bean.getNumberzerovalues();
+                case 25: return bean.getQualityscore();
+                case 26: return bean.getQualityscoreBubble();
+                case 27: return bean.getQualityBenchmark();
+                case 28: return bean.getQualityDimension();
+                case 29: return bean.getSameAsDataSources();
+                case 30: return bean.getSuggestedTermAssignments();
+                case 31: return bean.getSynchronizedFrom();
+                case 32: return bean.getUniqueflag();
+                default: return null;
+            }
+        }
+    };
+
 }
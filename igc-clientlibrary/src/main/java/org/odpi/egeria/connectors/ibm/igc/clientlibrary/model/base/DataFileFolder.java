@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -307,4 +308,48 @@ public class DataFileFolder extends InformationAsset {
     @JsonProperty("uses_data_file_definitions")
     public void setUsesDataFileDefinitions(ItemList<DataFileDefinition> usesDataFileDefinitions) { this.usesDataFileDefinitions = usesDataFileDefinitions; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataFileFolder> PROPERTY_TABLE = new BeanPropertyTable<DataFileFolder>(
+            "data_connection",
+            "data_file_folders",
+            "data_files",
+            "host",
+            "include_for_business_lineage",
+            "location",
+            "parent_folder",
+            "parent_folder_or_host",
+            "same_as_data_sources",
+            "source_creation_date",
+            "source_modification_date",
+            "store_type",
+            "suggested_term_assignments",
+            "synchronized_from",
+            "type",
+            "uses_data_file_definitions") {
+        @Override
+        public Object getValue(DataFileFolder bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataConnection();
+                case 1: return bean.getDataFileFolders();
+                case 2: return bean.getDataFiles();
+                case 3: return bean.getHost();
+                case 4: return bean.getIncludeForBusinessLineage();
+                case 5: return bean.getLocation();
+                case 6: return bean.getParentFolder();
+                case 7: return bean.getParentFolderOrHost();
+                case 8: return bean.getSameAsDataSources();
+                case 9: return bean.getSourceCreationDate();
+                case 10: return bean.getSourceModificationDate();
+                case 11: return bean.getStoreType();
+                case 12: return bean.getSuggestedTermAssignments();
+                case 13: return bean.getSynchronizedFrom();
+                case 14: return bean.getTheType();
+                case 15: return bean.getUsesDataFileDefinitions();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -265,4 +266,44 @@ public class DataFileFolderNobucket extends InformationAsset {
     @JsonProperty("uses_data_file_definitions")
     public void setUsesDataFileDefinitions(ItemList<DataFileDefinition> usesDataFileDefinitions) { this.usesDataFileDefinitions = usesDataFileDefinitions; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataFileFolderNobucket> PROPERTY_TABLE = new BeanPropertyTable<DataFileFolderNobucket>(
+            "amazon_s3_data_file_folder",
+            "data_file_folders",
+            "data_files",
+            "host",
+            "include_for_business_lineage",
+            "location",
+            "parent_folder",
+            "same_as_data_sources",
+            "source_creation_date",
+            "source_modification_date",
+            "store_type",
+            "synchronized_from",
+            "type",
+            "uses_data_file_definitions") {
+        @Override
+        public Object getValue(DataFileFolderNobucket bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAmazonS3DataFileFolder();
+                case 1: return bean.getDataFileFolders();
+                case 2: return bean.getDataFiles();
+                case 3: return bean.getHost();
+                case 4: return bean.getIncludeForBusinessLineage();
+                case 5: return bean.getLocation();
+                case 6: return bean.getParentFolder();
+                case 7: return bean.getSameAsDataSources();
+                case 8: return bean.getSourceCreationDate();
+                case 9: return bean.getSourceModificationDate();
+                case 10: return bean.getStoreType();
+                case 11: return bean.getSynchronizedFrom();
+                case 12: return bean.getTheType();
+                case 13: return bean.getUsesDataFileDefinitions();
+                default: return null;
+            }
+        }
+    };
+
 }
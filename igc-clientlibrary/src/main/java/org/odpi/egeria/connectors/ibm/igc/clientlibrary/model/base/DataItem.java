@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 import java.util.List;
@@ -469,4 +470,60 @@ public class DataItem extends InformationAsset {
     @JsonProperty("validated_by_data_values")
     public void setValidatedByDataValues(ItemList<DataItemValue> validatedByDataValues) { this.validatedByDataValues = validatedByDataValues; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataItem> PROPERTY_TABLE = new BeanPropertyTable<DataItem>(
+            "allow_null_values",
+            "allows_empty_value",
+            "allows_null_values",
+            "based_on",
+            "calendar",
+            "data_item_definition",
+            "data_type",
+            "default_value",
+            "display_size",
+            "fraction",
+            "has_dimension",
+            "is_computed",
+            "is_signed",
+            "item_kind",
+            "length",
+            "level",
+            "minimum_length",
+            "odbc_type",
+            "position",
+            "type",
+            "unique",
+            "validated_by_data_values") {
+        @Override
+        public Object getValue(DataItem bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAllowNullValues();
+                case 1: return bean.getAllowsEmptyValue();
+                case 2: return bean.getAllowsNullValues();
+                case 3: return bean.getBasedOn();
+                case 4: return bean.getCalendar();
+                case 5: return bean.getDataItemDefinition();
+                case 6: return bean.getDataType();
+                case 7: return bean.getDefaultValue();
+                case 8: return bean.getDisplaySize();
+                case 9: return bean.getFraction();
+                case 10: return bean.getHasDimension();
+                case 11: return bean.getIsComputed();
+                case 12: return bean.getIsSigned();
+                case 13: return bean.getItemKind();
+                case 14: return bean.getLength();
+                case 15: return bean.getLevel();
+                case 16: return bean.getMinimumLength();
+                case 17: return bean.getOdbcType();
+                case 18: return bean.getPosition();
+                case 19: return bean.getTheType();
+                case 20: return bean.getUnique();
+                case 21: return bean.getValidatedByDataValues();
+                default: return null;
+            }
+        }
+    };
+
 }
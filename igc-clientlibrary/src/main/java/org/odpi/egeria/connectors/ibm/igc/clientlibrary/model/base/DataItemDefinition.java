@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -66,4 +67,20 @@ public class DataItemDefinition extends DataItem {
     @JsonProperty("database_schema")
     public void setDatabaseSchema(DatabaseSchema databaseSchema) { this.databaseSchema = databaseSchema; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataItemDefinition> PROPERTY_TABLE = new BeanPropertyTable<DataItemDefinition>(
+            "contains_data_fields",
+            "database_schema") {
+        @Override
+        public Object getValue(DataItemDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsDataFields();
+                case 1: return bean.getDatabaseSchema();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -349,4 +350,54 @@ public class DataItemProperties extends Reference {
     @JsonProperty("usage")
     public void setUsage(String usage) { this.usage = usage; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataItemProperties> PROPERTY_TABLE = new BeanPropertyTable<DataItemProperties>(
+            "apt_field_prop",
+            "association",
+            "belonging_to_parameter_definition",
+            "column_definition",
+            "date_mask",
+            "depend_field",
+            "field_type",
+            "filler_parents",
+            "flow_variable",
+            "has_sign_indicator",
+            "is_u_string",
+            "nls_map",
+            "pad_char",
+            "redefined_field",
+            "scale",
+            "scd_purpose",
+            "sign_option",
+            "sync_indicator",
+            "usage") {
+        @Override
+        public Object getValue(DataItemProperties bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAptFieldProp();
+                case 1: return bean.getAssociation();
+                case 2: return bean.getBelongingToParameterDefinition();
+                case 3: return bean.getColumnDefinition();
+                case 4: return bean.getDateMask();
+                case 5: return bean.getDependField();
+                case 6: return bean.getFieldType();
+                case 7: return bean.getFillerParents();
+                case 8: return bean.getFlowVariable();
+                case 9: return bean.getHasSignIndicator();
+                case 10: return bean.getIsUString();
+                case 11: return bean.getNlsMap();
+                case 12: return bean.getPadChar();
+                case 13: return bean.getRedefinedField();
+                case 14: return bean.getScale();
+                case 15: return bean.getScdPurpose();
+                case 16: return bean.getSignOption();
+                case 17: return bean.getSyncIndicator();
+                case 18: return bean.getUsage();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -60,4 +61,20 @@ public class DataMapFilterOperation extends Reference {
     @JsonProperty("primary_input")
     public void setPrimaryInput(Infoset primaryInput) { this.primaryInput = primaryInput; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataMapFilterOperation> PROPERTY_TABLE = new BeanPropertyTable<DataMapFilterOperation>(
+            "infoset",
+            "primary_input") {
+        @Override
+        public Object getValue(DataMapFilterOperation bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getInfoset();
+                case 1: return bean.getPrimaryInput();
+                default: return null;
+            }
+        }
+    };
+
 }
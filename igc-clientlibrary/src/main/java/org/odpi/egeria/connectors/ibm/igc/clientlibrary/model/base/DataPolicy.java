@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -112,4 +113,26 @@ public class DataPolicy extends MainObject {
     @JsonProperty("termination_date")
     public void setTerminationDate(Date terminationDate) { this.terminationDate = terminationDate; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataPolicy> PROPERTY_TABLE = new BeanPropertyTable<DataPolicy>(
+            "applied_to_assets",
+            "contacts",
+            "effective_date",
+            "policy_number",
+            "termination_date") {
+        @Override
+        public Object getValue(DataPolicy bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAppliedToAssets();
+                case 1: return bean.getContacts();
+                case 2: return bean.getEffectiveDate();
+                case 3: return bean.getPolicyNumber();
+                case 4: return bean.getTerminationDate();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -228,4 +229,38 @@ public class DataRule extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataRule> PROPERTY_TABLE = new BeanPropertyTable<DataRule>(
+            "benchmark",
+            "contact",
+            "data_policies",
+            "data_rule_definitions",
+            "execution_history",
+            "expression",
+            "implemented_bindings",
+            "metrics",
+            "output_content_column",
+            "project",
+            "status") {
+        @Override
+        public Object getValue(DataRule bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBenchmark();
+                case 1: return bean.getContact();
+                case 2: return bean.getDataPolicies();
+                case 3: return bean.getDataRuleDefinitions();
+                case 4: return bean.getExecutionHistory();
+                case 5: return bean.getExpression();
+                case 6: return bean.getImplementedBindings();
+                case 7: return bean.getMetrics();
+                case 8: return bean.getOutputContentColumn();
+                case 9: return bean.getProject();
+                case 10: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
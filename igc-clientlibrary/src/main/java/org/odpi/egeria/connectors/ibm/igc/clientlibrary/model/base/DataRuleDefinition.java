@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 import java.util.List;
@@ -217,4 +218,36 @@ public class DataRuleDefinition extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataRuleDefinition> PROPERTY_TABLE = new BeanPropertyTable<DataRuleDefinition>(
+            "contact",
+            "data_policies",
+            "data_rule_set_definitions",
+            "non_published_data_rule_definitions",
+            "project",
+            "publication_date",
+            "published",
+            "published_data_rule_definitions",
+            "rule_logic",
+            "status") {
+        @Override
+        public Object getValue(DataRuleDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContact();
+                case 1: return bean.getDataPolicies();
+                case 2: return bean.getDataRuleSetDefinitions();
+                case 3: return bean.getNonPublishedDataRuleDefinitions();
+                case 4: return bean.getProject();
+                case 5: return bean.getPublicationDate();
+                case 6: return bean.getPublished();
+                case 7: return bean.getPublishedDataRuleDefinitions();
+                case 8: return bean.getRuleLogic();
+                case 9: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
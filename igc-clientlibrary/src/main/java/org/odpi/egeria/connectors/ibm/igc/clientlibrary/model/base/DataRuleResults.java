@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -181,4 +182,34 @@ public class DataRuleResults extends Reference {
     @JsonProperty("start_time")
     public void setStartTime(Date startTime) { this.startTime = startTime; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataRuleResults> PROPERTY_TABLE = new BeanPropertyTable<DataRuleResults>(
+            "benchmark",
+            "end_time",
+            "name",
+            "native_id",
+            "number_of_records_met",
+            "number_of_records_not_met",
+            "number_of_records_tested",
+            "rule_results",
+            "start_time") {
+        @Override
+        public Object getValue(DataRuleResults bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBenchmark();
+                case 1: return bean.getEndTime();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getNumberOfRecordsMet();
+                case 5: return bean.getNumberOfRecordsNotMet();
+                case 6: return bean.getNumberOfRecordsTested();
+                case 7: return bean.getRuleResults();
+                case 8: return bean.getStartTime();
+                default: return null;
+            }
+        }
+    };
+
 }
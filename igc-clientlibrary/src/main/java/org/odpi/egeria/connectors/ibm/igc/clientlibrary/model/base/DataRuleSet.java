@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -194,4 +195,34 @@ public class DataRuleSet extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataRuleSet> PROPERTY_TABLE = new BeanPropertyTable<DataRuleSet>(
+            "benchmark",
+            "contact",
+            "data_policies",
+            "data_rule_set_definitions",
+            "execution_history",
+            "implemented_bindings",
+            "metrics",
+            "project",
+            "status") {
+        @Override
+        public Object getValue(DataRuleSet bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBenchmark();
+                case 1: return bean.getContact();
+                case 2: return bean.getDataPolicies();
+                case 3: return bean.getDataRuleSetDefinitions();
+                case 4: return bean.getExecutionHistory();
+                case 5: return bean.getImplementedBindings();
+                case 6: return bean.getMetrics();
+                case 7: return bean.getProject();
+                case 8: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -182,4 +183,32 @@ public class DataRuleSetDefinition extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DataRuleSetDefinition> PROPERTY_TABLE = new BeanPropertyTable<DataRuleSetDefinition>(
+            "contact",
+            "data_policies",
+            "non_published_data_rule_set_definitions",
+            "project",
+            "publication_date",
+            "published",
+            "published_data_rule_set_definitions",
+            "status") {
+        @Override
+        public Object getValue(DataRuleSetDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContact();
+                case 1: return bean.getDataPolicies();
+                case 2: return bean.getNonPublishedDataRuleSetDefinitions();
+                case 3: return bean.getProject();
+                case 4: return bean.getPublicationDate();
+                case 5: return bean.getPublished();
+                case 6: return bean.getPublishedDataRuleSetDefinitions();
+                case 7: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -348,4 +349,52 @@ public class Database extends InformationAsset {
     @JsonProperty("synchronized_from")
     public void setSynchronizedFrom(String synchronizedFrom) { this.synchronizedFrom = synchronizedFrom; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Database> PROPERTY_TABLE = new BeanPropertyTable<Database>(
+            "alias_(business_name)",
+            "bi_models",
+            "bi_reports",
+            "data_connection_mappings",
+            "data_connections",
+            "data_policies",
+            "database_schemas",
+            "database_type",
+            "dbms",
+            "dbms_server_instance",
+            "dbms_vendor",
+            "dbms_version",
+            "host",
+            "imported_from",
+            "location",
+            "mapped_to_mdm_models",
+            "suggested_term_assignments",
+            "synchronized_from") {
+        @Override
+        public Object getValue(Database bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getBiModels();
+                case 2: return bean.getBiReports();
+                case 3: return bean.getDataConnectionMappings();
+                case 4: return bean.getDataConnections();
+                case 5: return bean.getDataPolicies();
+                case 6: return bean.getDatabaseSchemas();
+                case 7: return bean.getDatabaseType();
+                case 8: return bean.getDbms();
+                case 9: return bean.getDbmsServerInstance();
+                case 10: return bean.getDbmsVendor();
+                case 11: return bean.getDbmsVersion();
+                case 12: return bean.getHost();
+                case 13: return bean.getImportedFrom();
+                case 14: return bean.getLocation();
+                case 15: return bean.getMappedToMdmModels();
+                case 16: return bean.getSuggestedTermAssignments();
+                case 17: return bean.getSynchronizedFrom();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 import java.util.List;
@@ -243,4 +244,40 @@ public class DatabaseAlias extends Datagroup {
     @JsonProperty("reads_from_(user_defined)")
     public void setReadsFromUserDefined(ItemList<InformationAsset> readsFromUserDefined) { this.readsFromUserDefined = readsFromUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DatabaseAlias> PROPERTY_TABLE = new BeanPropertyTable<DatabaseAlias>(
+            "alias_of_database_tables_or_views",
+            "database_columns",
+            "defined_foreign_key",
+            "defined_primary_key",
+            "implemented_key",
+            "imported_from",
+            "indexes",
+            "lineage_service_information",
+            "lineage_service_last_run_date",
+            "lineage_service_status",
+            "reads_from_(operational)",
+            "reads_from_(user_defined)") {
+        @Override
+        public Object getValue(DatabaseAlias bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasOfDatabaseTablesOrViews();
+                case 1: return bean.getDatabaseColumns();
+                case 2: return bean.getDefinedForeignKey();
+                case 3: return bean.getDefinedPrimaryKey();
+                case 4: return bean.getImplementedKey();
+                case 5: return bean.getImportedFrom();
+                case 6: return bean.getIndexes();
+                case 7: return bean.getLineageServiceInformation();
+                case 8: return bean.getLineageServiceLastRunDate();
+                case 9: return bean.getLineageServiceStatus();
+                case 10: return bean.getReadsFromOperational();
+                case 11: return bean.getReadsFromUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -1169,4 +1170,144 @@ public class DatabaseColumn extends Classificationenabledgroup {
     @JsonProperty("view")
     public void setView(ItemList<View> view) { this.view = view; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DatabaseColumn> PROPERTY_TABLE = new BeanPropertyTable<DatabaseColumn>(
+            "analysis",
+            "averageValue",
+            "bi_collection_members",
+            "bi_report_query_items",
+            "column_definitions",
+            "constantFlag",
+            "data_policies",
+            "data_rule_definitions",
+            "data_rule_set_definitions",
+            "data_rule_sets",
+            "data_rules",
+            "database_alias",
+            "database_domains",
+            "database_indexes",
+            "database_table",
+            "database_table_or_view",
+            "defined_foreign_key",
+            "defined_foreign_key_referenced",
+            "defined_foreign_key_references",
+            "defined_non_primary_key",
+            "defined_primary_key",
+            "domainType",
+            "has_DataClassifications",
+            "implemented_key",
+            "implements_design_columns",
+            "implements_entity_attributes",
+            "index",
+            "inferredDataType",
+            "inferredFormat",
+            "inferredLength",
+            "inferredPrecision",
+            "inferredScale",
+            "isInferredForeignKey",
+            "isInferredPrimaryKey",
+            "mapped_to_physical_object_attributes",
+            "nbRecordsTested",
+            "nullabilityFlag",
+            "numberCompleteValues",
+            "numberDistinctValues",
+            "numberEmptyValues",
+            "numberFormats",
+            "numberNullValues",
+            "numberValidValues",
+            "numberZeroValues",
+            "occurs",
+            "qualityScore",
+            "qualityScore_bubble",
+            "quality_benchmark",
+            "quality_dimension",
+            "referenced_by_database_columns",
+            "references_database_columns",
+            "same_as_database_columns",
+            "same_as_data_sources",
+            "selected_foreign_key",
+            "selected_foreign_key_referenced",
+            "selected_foreign_key_references",
+            "selected_natural_key",
+            "selected_primary_key",
+            "start_end_columns",
+            "suggested_term_assignments",
+            "synchronized_from",
+            "uniqueFlag",
+            "validity_tables",
+            "view") {
+        @Override
+        public Object getValue(DatabaseColumn bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalysis();
+                case 1: return bean.getAveragevalue();
+                case 2: return bean.getBiCollectionMembers();
+                case 3: return bean.getBiReportQueryItems();
+                case 4: return bean.getColumnDefinitions();
+                case 5: return bean.getConstantflag();
+                case 6: return bean.getDataPolicies();
+                case 7: return bean.getDataRuleDefinitions();
+                case 8: return bean.getDataRuleSetDefinitions();
+                case 9: return bean.getDataRuleSets();
+                case 10: return bean.getDataRules();
+                case 11: return bean.getDatabaseAlias();
+                case 12: return bean.getDatabaseDomains();
+                case 13: return bean.getDatabaseIndexes();
+                case 14: return bean.getDatabaseTable();
+                case 15: return bean.getDatabaseTableOrView();
+                case 16: return bean.getDefinedForeignKey();
+                case 17: return bean.getDefinedForeignKeyReferenced();
+                case 18: return bean.getDefinedForeignKeyReferences();
+                case 19: return bean.getDefinedNonPrimaryKey();
+                case 20: return bean.getDefinedPrimaryKey();
+                case 21: return bean.getDomaintype();
+                case 22: return bean.getHasDataclassifications();
+                case 23: return bean.getImplementedKey();
+                case 24: return bean.getImplementsDesignColumns();
+                case 25: return bean.getImplementsEntityAttributes();
+                case 26: return bean.getIndex();
+                case 27: return bean.getInferreddatatype();
+                case 28: return bean.getInferredformat();
+                case 29: return bean.getInferredlength();
+                case 30: return bean.getInferredprecision();
+                case 31: return bean.getInferredscale();
+                case 32: return bean.getIsinferredforeignkey();
+                case 33: return bean.getIsinferredprimarykey();
+                case 34: return bean.getMappedToPhysicalObjectAttributes();
+                case 35: return bean.getNbrecordstested();
+                case 36: return bean.getNullabilityflag();
+                case 37: return bean.getNumbercompletevalues();
+                case 38: return bean.getNumberdistinctvalues();
+                case 39: return bean.getNumberemptyvalues();
+                case 40: return bean.getNumberformats();
+                case 41: return bean.getNumbernullvalues();
+                case 42: return bean.getNumbervalidvalues();
+                case 43: return bean.getNumberzerovalues();
+                case 44: return bean.getOccurs();
+                case 45: return bean.getQualityscore();
+                case 46: return bean.getQualityscoreBubble();
+                case 47: return bean.getQualityBenchmark();
+                case 48: return bean.getQualityDimension();
+                case 49: return bean.getReferencedByDatabaseColumns();
+                case 50: return bean.getReferencesDatabaseColumns();
+                case 51: return bean.getSameAsDatabaseColumns();
+                case 52: return bean.getSameAsDataSources();
+                case 53: return bean.getSelectedForeignKey();
+                case 54: return bean.getSelectedForeignKeyReferenced();
+                case 55: return bean.getSelectedForeignKeyReferences();
+                case 56: return bean.getSelectedNaturalKey();
+                case 57: return bean.getSelectedPrimaryKey();
+                case 58: return bean.getStartEndColumns();
+                case 59: return bean.getSuggestedTermAssignments();
+                case 60: return bean.getSynchronizedFrom();
+                case 61: return bean.getUniqueflag();
+                case 62: return bean.getValidityTables();
+                case 63: return bean.getView();
+                default: return null;
+            }
+        }
+    };
+
 }
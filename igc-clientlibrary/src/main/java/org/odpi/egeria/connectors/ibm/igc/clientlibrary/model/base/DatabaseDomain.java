@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -253,4 +254,36 @@ public class DatabaseDomain extends Reference {
     @JsonProperty("used_by_data_items")
     public void setUsedByDataItems(ItemList<DataItem> usedByDataItems) { this.usedByDataItems = usedByDataItems; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DatabaseDomain> PROPERTY_TABLE = new BeanPropertyTable<DatabaseDomain>(
+            "data_type",
+            "database_schema",
+            "fraction",
+            "length",
+            "long_description",
+            "name",
+            "native_id",
+            "odbc_type",
+            "short_description",
+            "used_by_data_items") {
+        @Override
+        public Object getValue(DatabaseDomain bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataType();
+                case 1: return bean.getDatabaseSchema();
+                case 2: return bean.getFraction();
+                case 3: return bean.getLength();
+                case 4: return bean.getLongDescription();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getOdbcType();
+                case 8: return bean.getShortDescription();
+                case 9: return bean.getUsedByDataItems();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -232,4 +233,40 @@ public class DatabaseIndex extends Reference {
     @JsonProperty("unique")
     public void setUnique(Boolean unique) { this.unique = unique; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DatabaseIndex> PROPERTY_TABLE = new BeanPropertyTable<DatabaseIndex>(
+            "expression",
+            "function",
+            "indexed_database_columns",
+            "join",
+            "joined_database_columns",
+            "long_description",
+            "name",
+            "native_id",
+            "partition",
+            "short_description",
+            "type",
+            "unique") {
+        @Override
+        public Object getValue(DatabaseIndex bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getExpression();
+                case 1: return bean.getFunction();
+                case 2: return bean.getIndexedDatabaseColumns();
+                case 3: return bean.getJoin();
+                case 4: return bean.getJoinedDatabaseColumns();
+                case 5: return bean.getLongDescription();
+                case 6: return bean.getTheName();
+                case 7: return bean.getNativeId();
+                case 8: return bean.getPartition();
+                case 9: return bean.getShortDescription();
+                case 10: return bean.getTheType();
+                case 11: return bean.getUnique();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -340,4 +341,52 @@ public class DatabaseSchema extends InformationAsset {
     @JsonProperty("views")
     public void setViews(ItemList<View> views) { this.views = views; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DatabaseSchema> PROPERTY_TABLE = new BeanPropertyTable<DatabaseSchema>(
+            "alias_(business_name)",
+            "data_policies",
+            "database",
+            "database_aliases",
+            "database_domains",
+            "database_tables",
+            "implements_logical_data_models",
+            "implements_physical_data_models",
+            "imported_from",
+            "include_for_business_lineage",
+            "mapped_to_mdm_models",
+            "owner",
+            "preferred_database_schema",
+            "same_as_data_sources",
+            "stored_procedures",
+            "suggested_term_assignments",
+            "synchronized_from",
+            "views") {
+        @Override
+        public Object getValue(DatabaseSchema bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getDataPolicies();
+                case 2: return bean.getDatabase();
+                case 3: return bean.getDatabaseAliases();
+                case 4: return bean.getDatabaseDomains();
+                case 5: return bean.getDatabaseTables();
+                case 6: return bean.getImplementsLogicalDataModels();
+                case 7: return bean.getImplementsPhysicalDataModels();
+                case 8: return bean.getImportedFrom();
+                case 9: return bean.getIncludeForBusinessLineage();
+                case 10: return bean.getMappedToMdmModels();
+                case 11: return bean.getOwner();
+                case 12: return bean.getPreferredDatabaseSchema();
+                case 13: return bean.getSameAsDataSources();
+                case 14: return bean.getStoredProcedures();
+                case 15: return bean.getSuggestedTermAssignments();
+                case 16: return bean.getSynchronizedFrom();
+                case 17: return bean.getViews();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
@@ -689,4 +690,90 @@ public class DatabaseTable extends Datagroup {
     @JsonProperty("target_mapping_specifications")
     public void setTargetMappingSpecifications(ItemList<MappingSpecification> targetMappingSpecifications) { this.targetMappingSpecifications = targetMappingSpecifications; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DatabaseTable> PROPERTY_TABLE = new BeanPropertyTable<DatabaseTable>(
+            "FKViolationCount",
+            "PKDuplicateCount",
+            "alias_(business_name)",
+            "analysis",
+            "bi_model_collections",
+            "bi_report_queries",
+            "data_policies",
+            "database_aliases",
+            "database_columns",
+            "database_indexes",
+            "defined_foreign_key",
+            "defined_non_primary_key",
+            "defined_primary_key",
+            "fieldCount",
+            "implements_design_tables_or_views",
+            "implements_logical_entities",
+            "imported_from",
+            "indexes",
+            "mapped_to_physical_objects",
+            "multi_column_analysis",
+            "nbRecordTested",
+            "qualityScore",
+            "qualityScore_bubble",
+            "quality_benchmark",
+            "quality_dimension",
+            "referenced_by_views",
+            "reviewDate",
+            "rowCount",
+            "same_as_data_sources",
+            "selected_foreign_key",
+            "selected_natural_key",
+            "selected_primary_key",
+            "source_mapping_specifications",
+            "suggested_term_assignments",
+            "synchronized_from",
+            "table_definitions",
+            "target_mapping_specifications") {
+        @Override
+        public Object getValue(DatabaseTable bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getFkviolationcount();
+                case 1: return bean.getPkduplicatecount();
+                case 2: return bean.getAliasBusinessName();
+                case 3: return bean.getAnalysis();
+                case 4: return bean.getBiModelCollections();
+                case 5: return bean.getBiReportQueries();
+                case 6: return bean.getDataPolicies();
+                case 7: return bean.getDatabaseAliases();
+                case 8: return bean.getDatabaseColumns();
+                case 9: return bean.getDatabaseIndexes();
+                case 10: return bean.getDefinedForeignKey();
+                case 11: return bean.getDefinedNonPrimaryKey();
+                case 12: return bean.getDefinedPrimaryKey();
+                case 13: return bean.getFieldcount();
+                case 14: return bean.getImplementsDesignTablesOrViews();
+                case 15: return bean.getImplementsLogicalEntities();
+                case 16: return bean.getImportedFrom();
+                case 17: return bean.getIndexes();
+                case 18: return bean.getMappedToPhysicalObjects();
+                case 19: return bean.getMultiColumnAnalysis();
+                case 20: return bean.getNbrecordtested();
+                case 21: return bean.getQualityscore();
+                case 22: return bean.getQualityscoreBubble();
+                case 23: return bean.getQualityBenchmark();
+                case 24: return bean.getQualityDimension();
+                case 25: return bean.getReferencedByViews();
+                case 26: return bean.getReviewdate();
+                case 27: return bean.getRowcount();
+                case 28: return bean.getSameAsDataSources();
+                case 29: return bean.getSelectedForeignKey();
+                case 30: return bean.getSelectedNaturalKey();
+                case 31: return bean.getSelectedPrimaryKey();
+                case 32: return bean.getSourceMappingSpecifications();
+                case 33: return bean.getSuggestedTermAssignments();
+                case 34: return bean.getSynchronizedFrom();
+                case 35: return bean.getTableDefinitions();
+                case 36: return bean.getTargetMappingSpecifications();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code datagroup} asset type in IGC, displayed as '{@literal DataGroup}' in the IGC UI.
@@ -104,4 +105,24 @@ public class Datagroup extends InformationAsset {
     @JsonProperty("name_quoting_char")
     public void setNameQuotingChar(String nameQuotingChar) { this.nameQuotingChar = nameQuotingChar; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Datagroup> PROPERTY_TABLE = new BeanPropertyTable<Datagroup>(
+            "database_schema",
+            "imported_via_data_connection",
+            "name_qualifier",
+            "name_quoting_char") {
+        @Override
+        public Object getValue(Datagroup bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDatabaseSchema();
+                case 1: return bean.getImportedViaDataConnection();
+                case 2: return bean.getNameQualifier();
+                case 3: return bean.getNameQuotingChar();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -78,4 +79,22 @@ public class Datasourcealiasgroup extends Reference {
     @JsonProperty("same_as_data_connections")
     public void setSameAsDataConnections(ItemList<DataConnectionMapping> sameAsDataConnections) { this.sameAsDataConnections = sameAsDataConnections; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Datasourcealiasgroup> PROPERTY_TABLE = new BeanPropertyTable<Datasourcealiasgroup>(
+            "bound_to_database",
+            "preferred_data_connection",
+            "same_as_data_connections") {
+        @Override
+        public Object getValue(Datasourcealiasgroup bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBoundToDatabase();
+                case 1: return bean.getPreferredDataConnection();
+                case 2: return bean.getSameAsDataConnections();
+                default: return null;
+            }
+        }
+    };
+
 }
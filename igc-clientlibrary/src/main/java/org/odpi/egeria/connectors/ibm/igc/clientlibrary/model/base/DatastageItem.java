@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -94,4 +95,24 @@ public class DatastageItem extends Reference {
     @JsonProperty("repository_id")
     public void setRepositoryId(String repositoryId) { this.repositoryId = repositoryId; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DatastageItem> PROPERTY_TABLE = new BeanPropertyTable<DatastageItem>(
+            "class_name",
+            "name",
+            "reference_item",
+            "repository_id") {
+        @Override
+        public Object getValue(DatastageItem bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getClassName();
+                case 1: return bean.getTheName();
+                case 2: return bean.getReferenceItem();
+                case 3: return bean.getRepositoryId();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -60,4 +61,20 @@ public class Derivation extends Reference {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Derivation> PROPERTY_TABLE = new BeanPropertyTable<Derivation>(
+            "expression",
+            "native_id") {
+        @Override
+        public Object getValue(Derivation bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getExpression();
+                case 1: return bean.getNativeId();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -406,4 +407,54 @@ public class DesignColumn extends InformationAsset {
     @JsonProperty("unique")
     public void setUnique(Boolean unique) { this.unique = unique; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DesignColumn> PROPERTY_TABLE = new BeanPropertyTable<DesignColumn>(
+            "allows_null_values",
+            "data_type",
+            "design_table_or_view",
+            "fraction",
+            "implemented_by_data_fields",
+            "implemented_by_database_columns",
+            "implements_entity_attributes",
+            "included_in_design_foreign_key",
+            "included_in_design_key",
+            "length",
+            "level",
+            "minimum_length",
+            "odbc_type",
+            "parent_design_foreignKey",
+            "physical_domains",
+            "position",
+            "primary_key",
+            "type",
+            "unique") {
+        @Override
+        public Object getValue(DesignColumn bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAllowsNullValues();
+                case 1: return bean.getDataType();
+                case 2: return bean.getDesignTableOrView();
+                case 3: return bean.getFraction();
+                case 4: return bean.getImplementedByDataFields();
+                case 5: return bean.getImplementedByDatabaseColumns();
+                case 6: return bean.getImplementsEntityAttributes();
+                case 7: return bean.getIncludedInDesignForeignKey();
+                case 8: return bean.getIncludedInDesignKey();
+                case 9: return bean.getLength();
+                case 10: return bean.getLevel();
+                case 11: return bean.getMinimumLength();
+                case 12: return bean.getOdbcType();
+                case 13: return bean.getParentDesignForeignkey();
+                case 14: return bean.getPhysicalDomains();
+                case 15: return bean.getPosition();
+                case 16: return bean.getPrimaryKey();
+                case 17: return bean.getTheType();
+                case 18: return bean.getUnique();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -146,4 +147,30 @@ public class DesignForeignKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DesignForeignKey> PROPERTY_TABLE = new BeanPropertyTable<DesignForeignKey>(
+            "included_database_columns",
+            "long_description",
+            "name",
+            "native_id",
+            "of_data_collection",
+            "referenced_by_design_column",
+            "short_description") {
+        @Override
+        public Object getValue(DesignForeignKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getIncludedDatabaseColumns();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getOfDataCollection();
+                case 5: return bean.getReferencedByDesignColumn();
+                case 6: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
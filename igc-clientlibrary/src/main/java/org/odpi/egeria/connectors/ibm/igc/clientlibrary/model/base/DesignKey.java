@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class DesignKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DesignKey> PROPERTY_TABLE = new BeanPropertyTable<DesignKey>(
+            "defined_on_design_columns",
+            "design_table_or_view",
+            "long_description",
+            "name",
+            "native_id",
+            "primary_key",
+            "referenced_by_design_foreign_keys",
+            "short_description") {
+        @Override
+        public Object getValue(DesignKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefinedOnDesignColumns();
+                case 1: return bean.getDesignTableOrView();
+                case 2: return bean.getLongDescription();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getPrimaryKey();
+                case 6: return bean.getReferencedByDesignForeignKeys();
+                case 7: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
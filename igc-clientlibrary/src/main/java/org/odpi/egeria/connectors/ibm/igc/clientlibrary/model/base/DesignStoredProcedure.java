@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class DesignStoredProcedure extends Datagroup {
     @JsonProperty("source_code")
     public void setSourceCode(String sourceCode) { this.sourceCode = sourceCode; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DesignStoredProcedure> PROPERTY_TABLE = new BeanPropertyTable<DesignStoredProcedure>(
+            "alias_(business_name)",
+            "design_stored_procedure_parameters",
+            "error_code",
+            "implemented_by_stored_procedures",
+            "imported_from",
+            "physical_data_model",
+            "source_code") {
+        @Override
+        public Object getValue(DesignStoredProcedure bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getDesignStoredProcedureParameters();
+                case 2: return bean.getErrorCode();
+                case 3: return bean.getImplementedByStoredProcedures();
+                case 4: return bean.getImportedFrom();
+                case 5: return bean.getPhysicalDataModel();
+                case 6: return bean.getSourceCode();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code design_stored_procedure_parameter} asset type in IGC, displayed as '{@literal Design Stored Procedure Parameter}' in the IGC UI.
@@ -137,4 +138,26 @@ public class DesignStoredProcedureParameter extends InformationAsset {
     @JsonProperty("minimum_length")
     public void setMinimumLength(Number minimumLength) { this.minimumLength = minimumLength; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DesignStoredProcedureParameter> PROPERTY_TABLE = new BeanPropertyTable<DesignStoredProcedureParameter>(
+            "data_type",
+            "design_stored_procedure",
+            "fraction",
+            "length",
+            "minimum_length") {
+        @Override
+        public Object getValue(DesignStoredProcedureParameter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataType();
+                case 1: return bean.getDesignStoredProcedure();
+                case 2: return bean.getFraction();
+                case 3: return bean.getLength();
+                case 4: return bean.getMinimumLength();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -196,4 +197,36 @@ public class DesignTable extends Datagroup {
     @JsonProperty("referenced_by_design_foreign_keys")
     public void setReferencedByDesignForeignKeys(ItemList<DesignForeignKey> referencedByDesignForeignKeys) { this.referencedByDesignForeignKeys = referencedByDesignForeignKeys; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DesignTable> PROPERTY_TABLE = new BeanPropertyTable<DesignTable>(
+            "alias_(business_name)",
+            "design_columns",
+            "design_foreign_keys",
+            "design_keys",
+            "implemented_by_data_file_elements",
+            "implemented_by_database_tables_views",
+            "implements_logical_entities",
+            "imported_from",
+            "physical_data_model",
+            "referenced_by_design_foreign_keys") {
+        @Override
+        public Object getValue(DesignTable bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getDesignColumns();
+                case 2: return bean.getDesignForeignKeys();
+                case 3: return bean.getDesignKeys();
+                case 4: return bean.getImplementedByDataFileElements();
+                case 5: return bean.getImplementedByDatabaseTablesViews();
+                case 6: return bean.getImplementsLogicalEntities();
+                case 7: return bean.getImportedFrom();
+                case 8: return bean.getPhysicalDataModel();
+                case 9: return bean.getReferencedByDesignForeignKeys();
+                default: return null;
+            }
+        }
+    };
+
 }
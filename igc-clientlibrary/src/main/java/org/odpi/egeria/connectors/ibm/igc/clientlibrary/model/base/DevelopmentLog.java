@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.Date;
 import java.util.List;
@@ -232,4 +233,40 @@ public class DevelopmentLog extends Reference {
     @JsonProperty("workflow_task")
     public void setWorkflowTask(String workflowTask) { this.workflowTask = workflowTask; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DevelopmentLog> PROPERTY_TABLE = new BeanPropertyTable<DevelopmentLog>(
+            "activity",
+            "comment",
+            "date",
+            "development_log",
+            "new_state",
+            "person",
+            "user_task_key",
+            "user_task_name",
+            "workflow_event",
+            "workflow_instance_id",
+            "workflow_new_state",
+            "workflow_task") {
+        @Override
+        public Object getValue(DevelopmentLog bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getActivity();
+                case 1: return bean.getComment();
+                case 2: return bean.getDate();
+                case 3: return bean.getDevelopmentLog();
+                case 4: return bean.getNewState();
+                case 5: return bean.getPerson();
+                case 6: return bean.getUserTaskKey();
+                case 7: return bean.getUserTaskName();
+                case 8: return bean.getWorkflowEvent();
+                case 9: return bean.getWorkflowInstanceId();
+                case 10: return bean.getWorkflowNewState();
+                case 11: return bean.getWorkflowTask();
+                default: return null;
+            }
+        }
+    };
+
 }
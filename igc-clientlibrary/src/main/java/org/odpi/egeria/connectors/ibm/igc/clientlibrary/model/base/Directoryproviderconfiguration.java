@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -95,4 +96,24 @@ public class Directoryproviderconfiguration extends Reference {
     @JsonProperty("provider_name")
     public void setProviderName(String providerName) { this.providerName = providerName; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Directoryproviderconfiguration> PROPERTY_TABLE = new BeanPropertyTable<Directoryproviderconfiguration>(
+            "description",
+            "has_directory_provider_property",
+            "of_directory",
+            "provider_name") {
+        @Override
+        public Object getValue(Directoryproviderconfiguration bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getHasDirectoryProviderProperty();
+                case 2: return bean.getOfDirectory();
+                case 3: return bean.getProviderName();
+                default: return null;
+            }
+        }
+    };
+
 }
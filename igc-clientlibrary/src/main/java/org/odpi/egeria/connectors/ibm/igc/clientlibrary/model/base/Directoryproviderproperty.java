@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -94,4 +95,24 @@ public class Directoryproviderproperty extends Reference {
     @JsonProperty("value")
     public void setValue(String value) { this.value = value; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Directoryproviderproperty> PROPERTY_TABLE = new BeanPropertyTable<Directoryproviderproperty>(
+            "of_directory_provider_configuration",
+            "of_provider_property_info",
+            "of_provider_property_type",
+            "value") {
+        @Override
+        public Object getValue(Directoryproviderproperty bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getOfDirectoryProviderConfiguration();
+                case 1: return bean.getOfProviderPropertyInfo();
+                case 2: return bean.getOfProviderPropertyType();
+                case 3: return bean.getValue();
+                default: return null;
+            }
+        }
+    };
+
 }
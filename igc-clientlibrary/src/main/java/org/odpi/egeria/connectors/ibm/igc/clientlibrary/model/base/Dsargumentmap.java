@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -60,4 +61,20 @@ public class Dsargumentmap extends Reference {
     @JsonProperty("argument_map")
     public void setArgumentMap(String argumentMap) { this.argumentMap = argumentMap; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsargumentmap> PROPERTY_TABLE = new BeanPropertyTable<Dsargumentmap>(
+            "a_xmeta_locking_root",
+            "argument_map") {
+        @Override
+        public Object getValue(Dsargumentmap bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getArgumentMap();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -214,4 +215,38 @@ public class DsdataConnection extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DsdataConnection> PROPERTY_TABLE = new BeanPropertyTable<DsdataConnection>(
+            "connection_string",
+            "data_connectors",
+            "folder_path",
+            "host",
+            "imports_database",
+            "imports_table_definitions",
+            "long_description",
+            "name",
+            "namespace",
+            "native_id",
+            "short_description") {
+        @Override
+        public Object getValue(DsdataConnection bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getConnectionString();
+                case 1: return bean.getDataConnectors();
+                case 2: return bean.getFolderPath();
+                case 3: return bean.getHost();
+                case 4: return bean.getImportsDatabase();
+                case 5: return bean.getImportsTableDefinitions();
+                case 6: return bean.getLongDescription();
+                case 7: return bean.getTheName();
+                case 8: return bean.getNamespace();
+                case 9: return bean.getNativeId();
+                case 10: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
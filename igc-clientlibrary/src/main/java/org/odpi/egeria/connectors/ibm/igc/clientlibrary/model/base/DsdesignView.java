@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -349,4 +350,54 @@ public class DsdesignView extends MainObject {
     @JsonProperty("zoom_value")
     public void setZoomValue(Number zoomValue) { this.zoomValue = zoomValue; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DsdesignView> PROPERTY_TABLE = new BeanPropertyTable<DsdesignView>(
+            "container_view_sizing",
+            "grid_lines",
+            "has_canvas_annotation",
+            "input_pins",
+            "internal_id",
+            "is_top_level",
+            "native_id",
+            "next_id",
+            "next_stage_id",
+            "of_job",
+            "output_pins",
+            "snap_to_grid",
+            "stage_list",
+            "stage_types",
+            "stage_x_pos",
+            "stage_x_size",
+            "stage_y_pos",
+            "stage_y_size",
+            "zoom_value") {
+        @Override
+        public Object getValue(DsdesignView bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainerViewSizing();
+                case 1: return bean.getGridLines();
+                case 2: return bean.getHasCanvasAnnotation();
+                case 3: return bean.getInputPins();
+                case 4: return bean.getInternalId();
+                case 5: return bean.getIsTopLevel();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getNextId();
+                case 8: return bean.getNextStageId();
+                case 9: return bean.getOfJob();
+                case 10: return bean.getOutputPins();
+                case 11: return bean.getSnapToGrid();
+                case 12: return bean.getStageList();
+                case 13: return bean.getStageTypes();
+                case 14: return bean.getStageXPos();
+                case 15: return bean.getStageXSize();
+                case 16: return bean.getStageYPos();
+                case 17: return bean.getStageYSize();
+                case 18: return bean.getZoomValue();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -174,4 +175,32 @@ public class Dsexternaldependency extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsexternaldependency> PROPERTY_TABLE = new BeanPropertyTable<Dsexternaldependency>(
+            "a_xmeta_locking_root",
+            "calls_ds_routine",
+            "location",
+            "name",
+            "of_ds_job_def",
+            "of_ds_routine",
+            "runs_ds_job",
+            "type") {
+        @Override
+        public Object getValue(Dsexternaldependency bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getCallsDsRoutine();
+                case 2: return bean.getLocation();
+                case 3: return bean.getTheName();
+                case 4: return bean.getOfDsJobDef();
+                case 5: return bean.getOfDsRoutine();
+                case 6: return bean.getRunsDsJob();
+                case 7: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
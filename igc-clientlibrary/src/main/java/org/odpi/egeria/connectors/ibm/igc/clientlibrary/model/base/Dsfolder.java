@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class Dsfolder extends Reference {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsfolder> PROPERTY_TABLE = new BeanPropertyTable<Dsfolder>(
+            "contains_assets",
+            "contains_folders",
+            "name",
+            "parent_folder",
+            "transformation_project") {
+        @Override
+        public Object getValue(Dsfolder bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsAssets();
+                case 1: return bean.getContainsFolders();
+                case 2: return bean.getTheName();
+                case 3: return bean.getParentFolder();
+                case 4: return bean.getTransformationProject();
+                default: return null;
+            }
+        }
+    };
+
 }
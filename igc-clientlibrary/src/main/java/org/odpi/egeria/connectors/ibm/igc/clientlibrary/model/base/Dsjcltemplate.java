@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -128,4 +129,28 @@ public class Dsjcltemplate extends MainObject {
     @JsonProperty("template_type")
     public void setTemplateType(String templateType) { this.templateType = templateType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsjcltemplate> PROPERTY_TABLE = new BeanPropertyTable<Dsjcltemplate>(
+            "category",
+            "code_template",
+            "ds_name_space",
+            "native_id",
+            "platform_type",
+            "template_type") {
+        @Override
+        public Object getValue(Dsjcltemplate bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCategory();
+                case 1: return bean.getCodeTemplate();
+                case 2: return bean.getDsNameSpace();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getPlatformType();
+                case 5: return bean.getTemplateType();
+                default: return null;
+            }
+        }
+    };
+
 }
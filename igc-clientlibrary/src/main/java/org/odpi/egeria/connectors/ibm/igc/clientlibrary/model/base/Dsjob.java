@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 import java.util.List;
@@ -584,4 +585,80 @@ public class Dsjob extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsjob> PROPERTY_TABLE = new BeanPropertyTable<Dsjob>(
+            "annotations",
+            "design_parameters",
+            "folder",
+            "include_for_lineage",
+            "include_for_lineage__edit",
+            "include_for_lineage_description",
+            "information_services_operations",
+            "inherits_lineage_setting_from_transformation_project",
+            "job_runs",
+            "lineage_service_information",
+            "lineage_service_last_run_date",
+            "lineage_service_status",
+            "mapping_specifications",
+            "optimized_by_jobs",
+            "optimizes_job",
+            "parameter_sets",
+            "reads_from_(design)",
+            "reads_from_(operational)",
+            "reads_from_(static)",
+            "reads_from_(user_defined)",
+            "references_local_or_shared_containers",
+            "references_table_definitions",
+            "runtime_column_propagation",
+            "sequenced_by_jobs",
+            "stages",
+            "transformation_project",
+            "type",
+            "web_service_enabled",
+            "writes_to_(design)",
+            "writes_to_(operational)",
+            "writes_to_(static)",
+            "writes_to_(user_defined)") {
+        @Override
+        public Object getValue(Dsjob bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnnotations();
+                case 1: return bean.getDesignParameters();
+                case 2: return bean.getFolder();
+                case 3: return bean.getIncludeForLineage();
+                case 4: return bean.getIncludeForLineageEdit();
+                case 5: return bean.getIncludeForLineageDescription();
+                case 6: return bean.getInformationServicesOperations();
+                case 7: return bean.getInheritsLineageSettingFromTransformationProject();
+                case 8: return bean.getJobRuns();
+                case 9: return bean.getLineageServiceInformation();
+                case 10: return bean.getLineageServiceLastRunDate();
+                case 11: return bean.getLineageServiceStatus();
+                case 12: return bean.getMappingSpecifications();
+                case 13: return bean.getOptimizedByJobs();
+                case 14: return bean.getOptimizesJob();
+                case 15: return bean.getParameterSets();
+                case 16: return bean.getReadsFromDesign();
+                case 17: return bean.getReadsFromOperational();
+                case 18: return bean.getReadsFromStatic();
+                case 19: return bean.getReadsFromUserDefined();
+                case 20: return bean.getReferencesLocalOrSharedContainers();
+                case 21: return bean.getReferencesTableDefinitions();
+                case 22: return bean.getRuntimeColumnPropagation();
+                case 23: return bean.getSequencedByJobs();
+                case 24: return bean.getStages();
+                case 25: return bean.getTransformationProject();
+                case 26: return bean.getTheType();
+                case 27: return bean.getWebServiceEnabled();
+                case 28: return bean.getWritesToDesign();
+                case 29: return bean.getWritesToOperational();
+                case 30: return bean.getWritesToStatic();
+                case 31: return bean.getWritesToUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -315,4 +316,50 @@ public class Dsmetabag extends Reference {
     @JsonProperty("values")
     public void setValues(String values) { this.values = values; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsmetabag> PROPERTY_TABLE = new BeanPropertyTable<Dsmetabag>(
+            "a_xmeta_locking_root",
+            "conditions",
+            "names",
+            "of_ds_data_connection",
+            "of_ds_data_element",
+            "of_ds_data_quality_spec",
+            "of_ds_design_view",
+            "of_ds_input_pin",
+            "of_ds_job_def",
+            "of_ds_output_pin",
+            "of_ds_routine",
+            "of_ds_stage",
+            "of_ds_stage_type",
+            "of_ds_table_definition",
+            "of_ds_transform",
+            "owners",
+            "values") {
+        @Override
+        public Object getValue(Dsmetabag bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getConditions();
+                case 2: return bean.getNames();
+                case 3: return bean.getOfDsDataConnection();
+                case 4: return bean.getOfDsDataElement();
+                case 5: return bean.getOfDsDataQualitySpec();
+                case 6: return bean.getOfDsDesignView();
+                case 7: return bean.getOfDsInputPin();
+                case 8: return bean.getOfDsJobDef();
+                case 9: return bean.getOfDsOutputPin();
+                case 10: return bean.getOfDsRoutine();
+                case 11: return bean.getOfDsStage();
+                case 12: return bean.getOfDsStageType();
+                case 13: return bean.getOfDsTableDefinition();
+                case 14: return bean.getOfDsTransform();
+                case 15: return bean.getOwners();
+                case 16: return bean.getValues();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -162,4 +163,32 @@ public class Dsmfcolumninfo extends Reference {
     @JsonProperty("usage_class")
     public void setUsageClass(String usageClass) { this.usageClass = usageClass; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsmfcolumninfo> PROPERTY_TABLE = new BeanPropertyTable<Dsmfcolumninfo>(
+            "a_xmeta_locking_root",
+            "aggregation",
+            "column_value",
+            "name",
+            "of_ds_stage",
+            "sort_link",
+            "sort_order",
+            "usage_class") {
+        @Override
+        public Object getValue(Dsmfcolumninfo bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getAggregation();
+                case 2: return bean.getColumnValue();
+                case 3: return bean.getTheName();
+                case 4: return bean.getOfDsStage();
+                case 5: return bean.getSortLink();
+                case 6: return bean.getSortOrder();
+                case 7: return bean.getUsageClass();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -141,4 +142,28 @@ public class Dsparameter extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Dsparameter> PROPERTY_TABLE = new BeanPropertyTable<Dsparameter>(
+            "long_description",
+            "name",
+            "native_id",
+            "of_container_def",
+            "short_description",
+            "type") {
+        @Override
+        public Object getValue(Dsparameter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getLongDescription();
+                case 1: return bean.getTheName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getOfContainerDef();
+                case 4: return bean.getShortDescription();
+                case 5: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
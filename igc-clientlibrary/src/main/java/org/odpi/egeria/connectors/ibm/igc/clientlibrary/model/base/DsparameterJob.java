@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.List;
 
@@ -146,4 +147,30 @@ public class DsparameterJob extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DsparameterJob> PROPERTY_TABLE = new BeanPropertyTable<DsparameterJob>(
+            "default_value",
+            "display_caption",
+            "long_description",
+            "name",
+            "native_id",
+            "of_job_def",
+            "type") {
+        @Override
+        public Object getValue(DsparameterJob bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefaultValue();
+                case 1: return bean.getDisplayCaption();
+                case 2: return bean.getLongDescription();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getOfJobDef();
+                case 6: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -192,4 +193,34 @@ public class DsparameterSet extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DsparameterSet> PROPERTY_TABLE = new BeanPropertyTable<DsparameterSet>(
+            "default_value",
+            "display_caption",
+            "help_text",
+            "long_description",
+            "name",
+            "native_id",
+            "of_parameter_set",
+            "short_description",
+            "type") {
+        @Override
+        public Object getValue(DsparameterSet bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefaultValue();
+                case 1: return bean.getDisplayCaption();
+                case 2: return bean.getHelpText();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getOfParameterSet();
+                case 7: return bean.getShortDescription();
+                case 8: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -111,4 +112,26 @@ public class DsstageType extends StageType {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<DsstageType> PROPERTY_TABLE = new BeanPropertyTable<DsstageType>(
+            "dll_name",
+            "ole_type",
+            "properties",
+            "stages",
+            "transformation_project") {
+        @Override
+        public Object getValue(DsstageType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDllName();
+                case 1: return bean.getOleType();
+                case 2: return bean.getProperties();
+                case 3: return bean.getStages();
+                case 4: return bean.getTransformationProject();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code endpoint} asset type in IGC, displayed as '{@literal Endpoint}' in the IGC UI.
@@ -135,4 +136,28 @@ public class Endpoint extends InformationAsset {
     @JsonProperty("port")
     public void setPort(String port) { this.port = port; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Endpoint> PROPERTY_TABLE = new BeanPropertyTable<Endpoint>(
+            "alias_(business_name)",
+            "application",
+            "direction",
+            "host",
+            "namespace",
+            "port") {
+        @Override
+        public Object getValue(Endpoint bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getApplication();
+                case 2: return bean.getDirection();
+                case 3: return bean.getHost();
+                case 4: return bean.getNamespace();
+                case 5: return bean.getPort();
+                default: return null;
+            }
+        }
+    };
+
 }
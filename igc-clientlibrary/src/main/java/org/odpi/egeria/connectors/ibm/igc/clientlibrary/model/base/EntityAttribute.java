@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -315,4 +316,50 @@ public class EntityAttribute extends InformationAsset {
     @JsonProperty("validation_rule")
     public void setValidationRule(LogicalValidationRule validationRule) { this.validationRule = validationRule; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<EntityAttribute> PROPERTY_TABLE = new BeanPropertyTable<EntityAttribute>(
+            "child_logical_foreign_keys",
+            "data_type",
+            "implemented_by_database_columns",
+            "implemented_by_design_columns",
+            "length",
+            "logical_entity",
+            "logical_keys",
+            "native_type",
+            "parent_logical_foreignKey",
+            "physical_name",
+            "primary_key",
+            "required",
+            "scale",
+            "sequence",
+            "validation_list",
+            "validation_range",
+            "validation_rule") {
+        @Override
+        public Object getValue(EntityAttribute bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getChildLogicalForeignKeys();
+                case 1: return bean.getDataType();
+                case 2: return bean.getImplementedByDatabaseColumns();
+                case 3: return bean.getImplementedByDesignColumns();
+                case 4: return bean.getLength();
+                case 5: return bean.getLogicalEntity();
+                case 6: return bean.getLogicalKeys();
+                case 7: return bean.getNativeType();
+                case 8: return bean.getParentLogicalForeignkey();
+                case 9: return bean.getPhysicalName();
+                case 10: return bean.getPrimaryKey();
+                case 11: return bean.getRequired();
+                case 12: return bean.getScale();
+                case 13: return bean.getSequence();
+                case 14: return bean.getValidationList();
+                case 15: return bean.getValidationRange();
+                case 16: return bean.getValidationRule();
+                default: return null;
+            }
+        }
+    };
+
 }
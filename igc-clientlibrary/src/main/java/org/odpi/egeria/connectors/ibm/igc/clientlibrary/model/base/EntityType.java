@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code entity_type} asset type in IGC, displayed as '{@literal Entity Type}' in the IGC UI.
@@ -93,4 +94,24 @@ public class EntityType extends InformationAsset {
     @JsonProperty("member_type_for_query")
     public void setMemberTypeForQuery(MemberType memberTypeForQuery) { this.memberTypeForQuery = memberTypeForQuery; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<EntityType> PROPERTY_TABLE = new BeanPropertyTable<EntityType>(
+            "alias_(business_name)",
+            "entity_type_label",
+            "member_type",
+            "member_type_for_query") {
+        @Override
+        public Object getValue(EntityType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getEntityTypeLabel();
+                case 2: return bean.getMemberType();
+                case 3: return bean.getMemberTypeForQuery();
+                default: return null;
+            }
+        }
+    };
+
 }
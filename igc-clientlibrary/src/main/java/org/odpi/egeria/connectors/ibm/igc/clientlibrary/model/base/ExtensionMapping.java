@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class ExtensionMapping extends Reference {
     @JsonProperty("targets")
     public void setTargets(ItemList<InformationAsset> targets) { this.targets = targets; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ExtensionMapping> PROPERTY_TABLE = new BeanPropertyTable<ExtensionMapping>(
+            "description",
+            "extension_mapping_document",
+            "function",
+            "name",
+            "native_id",
+            "rule",
+            "sources",
+            "targets") {
+        @Override
+        public Object getValue(ExtensionMapping bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getExtensionMappingDocument();
+                case 2: return bean.getFunction();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getRule();
+                case 6: return bean.getSources();
+                case 7: return bean.getTargets();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 import java.util.List;
@@ -147,4 +148,30 @@ public class ExtensionMappingDocument extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ExtensionMappingDocument> PROPERTY_TABLE = new BeanPropertyTable<ExtensionMappingDocument>(
+            "extension_mappings",
+            "file_name",
+            "lineage_service_information",
+            "lineage_service_last_run_date",
+            "lineage_service_status",
+            "parent_folder",
+            "type") {
+        @Override
+        public Object getValue(ExtensionMappingDocument bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getExtensionMappings();
+                case 1: return bean.getFileName();
+                case 2: return bean.getLineageServiceInformation();
+                case 3: return bean.getLineageServiceLastRunDate();
+                case 4: return bean.getLineageServiceStatus();
+                case 5: return bean.getParentFolder();
+                case 6: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
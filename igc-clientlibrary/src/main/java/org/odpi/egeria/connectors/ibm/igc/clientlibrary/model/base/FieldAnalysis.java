@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -678,4 +679,88 @@ public class FieldAnalysis extends Reference {
     @JsonProperty("validation_type")
     public void setValidationType(List<String> validationType) { this.validationType = validationType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<FieldAnalysis> PROPERTY_TABLE = new BeanPropertyTable<FieldAnalysis>(
+            "average_value",
+            "classification",
+            "data_file_field",
+            "domain",
+            "include_constant_values",
+            "include_null_values",
+            "inferred_data_type",
+            "inferred_foreign_key",
+            "inferred_format",
+            "inferred_length",
+            "inferred_precision",
+            "inferred_primary_key",
+            "inferred_scale",
+            "name",
+            "native_id",
+            "nb_records_tested",
+            "number_of_complete_values",
+            "number_of_distinct_formats",
+            "number_of_distinct_values",
+            "number_of_empty_values",
+            "number_of_null_values",
+            "number_of_valid_values",
+            "number_of_zero_values",
+            "project",
+            "quality_score",
+            "quality_score_percent",
+            "quality_score_problems",
+            "require_unique_values",
+            "selected_foreign_key",
+            "selected_foreign_key_referenced",
+            "selected_foreign_key_references",
+            "selected_natural_key",
+            "selected_primary_key",
+            "table_analysis",
+            "validation_properties",
+            "validation_type") {
+        @Override
+        public Object getValue(FieldAnalysis bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAverageValue();
+                case 1: return bean.getClassification();
+                case 2: return bean.getDataFileField();
+                case 3: return bean.getDomain();
+                case 4: return bean.getIncludeConstantValues();
+                case 5: return bean.getIncludeNullValues();
+                case 6: return bean.getInferredDataType();
+                case 7: return bean.getInferredForeignKey();
+                case 8: return bean.getInferredFormat();
+                case 9: return bean.getInferredLength();
+                case 10: return bean.getInferredPrecision();
+                case 11: return bean.getInferredPrimaryKey();
+                case 12: return bean.getInferredScale();
+                case 13: return bean.getTheName();
+                case 14: return bean.getNativeId();
+                case 15: return bean.getNbRecordsTested();
+                case 16: return bean.getNumberOfCompleteValues();
+                case 17: return bean.getNumberOfDistinctFormats();
+                case 18: return bean.getNumberOfDistinctValues();
+                case 19: return bean.getNumberOfEmptyValues();
+                case 20: return bean.getNumberOfNullValues();
+                case 21: return bean.getNumberOfValidValues();
+                case 22: return bean.getNumberOfZeroValues();
+                case 23: return bean.getProject();
+                case 24: return bean.getQualityScore();
+                case 25: return bean.getQualityScorePercent();
+                case 26: return bean.getQualityScoreProblems();
+                case 27: return bean.getRequireUniqueValues();
+                case 28: return bean.getSelectedForeignKey();
+                case 29: return bean.getSelectedForeignKeyReferenced();
+                case 30: return bean.getSelectedForeignKeyReferences();
+                case 31: return bean.getSelectedNaturalKey();
+                case 32: return bean.getSelectedPrimaryKey();
+                case 33: return bean.getTableAnalysis();
+                case 34: return bean.getValidationProperties();
+                case 35: return bean.getValidationType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code file} asset type in IGC, displayed as '{@literal File}' in the IGC UI.
@@ -59,4 +60,20 @@ public class File extends InformationAsset {
     @JsonProperty("include_for_business_lineage")
     public void setIncludeForBusinessLineage(Boolean includeForBusinessLineage) { this.includeForBusinessLineage = includeForBusinessLineage; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<File> PROPERTY_TABLE = new BeanPropertyTable<File>(
+            "alias_(business_name)",
+            "include_for_business_lineage") {
+        @Override
+        public Object getValue(File bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getIncludeForBusinessLineage();
+                default: return null;
+            }
+        }
+    };
+
 }
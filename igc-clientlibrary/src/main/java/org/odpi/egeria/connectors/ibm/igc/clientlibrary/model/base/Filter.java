@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -162,4 +163,32 @@ public class Filter extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Filter> PROPERTY_TABLE = new BeanPropertyTable<Filter>(
+            "creator",
+            "detects_data_class",
+            "filter_expression",
+            "infosets",
+            "instance",
+            "sync_state",
+            "tool_id",
+            "url") {
+        @Override
+        public Object getValue(Filter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCreator();
+                case 1: return bean.getDetectsDataClass();
+                case 2: return bean.getFilterExpression();
+                case 3: return bean.getInfosets();
+                case 4: return bean.getInstance();
+                case 5: return bean.getSyncState();
+                case 6: return bean.getToolId();
+                case 7: return bean.getTheUrl();
+                default: return null;
+            }
+        }
+    };
+
 }
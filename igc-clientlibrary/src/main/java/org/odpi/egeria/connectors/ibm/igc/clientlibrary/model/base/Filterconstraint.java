@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -137,4 +138,28 @@ public class Filterconstraint extends MainObject {
     @JsonProperty("uses_flow_variable")
     public void setUsesFlowVariable(ItemList<DataItem> usesFlowVariable) { this.usesFlowVariable = usesFlowVariable; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Filterconstraint> PROPERTY_TABLE = new BeanPropertyTable<Filterconstraint>(
+            "filter_expression",
+            "has_function_call",
+            "native_id",
+            "of_link",
+            "usage",
+            "uses_flow_variable") {
+        @Override
+        public Object getValue(Filterconstraint bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getFilterExpression();
+                case 1: return bean.getHasFunctionCall();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getOfLink();
+                case 4: return bean.getUsage();
+                case 5: return bean.getUsesFlowVariable();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class Folder extends Reference {
     @JsonProperty("parent_folder")
     public void setParentFolder(Folder parentFolder) { this.parentFolder = parentFolder; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Folder> PROPERTY_TABLE = new BeanPropertyTable<Folder>(
+            "contains_folders",
+            "contains_mapping_documents",
+            "description",
+            "name",
+            "parent_folder") {
+        @Override
+        public Object getValue(Folder bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsFolders();
+                case 1: return bean.getContainsMappingDocuments();
+                case 2: return bean.getDescription();
+                case 3: return bean.getTheName();
+                case 4: return bean.getParentFolder();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -104,4 +105,24 @@ public class ForeignKey extends Reference {
     @JsonProperty("sorting")
     public void setSorting(List<String> sorting) { this.sorting = sorting; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ForeignKey> PROPERTY_TABLE = new BeanPropertyTable<ForeignKey>(
+            "database_table",
+            "included_database_columns",
+            "native_id",
+            "sorting") {
+        @Override
+        public Object getValue(ForeignKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDatabaseTable();
+                case 1: return bean.getIncludedDatabaseColumns();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getSorting();
+                default: return null;
+            }
+        }
+    };
+
 }
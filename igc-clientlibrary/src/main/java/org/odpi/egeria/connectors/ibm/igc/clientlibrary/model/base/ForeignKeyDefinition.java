@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -94,4 +95,24 @@ public class ForeignKeyDefinition extends Reference {
     @JsonProperty("table_definition")
     public void setTableDefinition(TableDefinition tableDefinition) { this.tableDefinition = tableDefinition; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ForeignKeyDefinition> PROPERTY_TABLE = new BeanPropertyTable<ForeignKeyDefinition>(
+            "column",
+            "references_columns",
+            "references_tables",
+            "table_definition") {
+        @Override
+        public Object getValue(ForeignKeyDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getColumn();
+                case 1: return bean.getReferencesColumns();
+                case 2: return bean.getReferencesTables();
+                case 3: return bean.getTableDefinition();
+                default: return null;
+            }
+        }
+    };
+
 }
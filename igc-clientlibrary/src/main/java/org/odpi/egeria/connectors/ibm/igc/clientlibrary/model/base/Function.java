@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -281,4 +282,46 @@ public class Function extends MainObject {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Function> PROPERTY_TABLE = new BeanPropertyTable<Function>(
+            "author",
+            "executed_by_function_call",
+            "external_name",
+            "has_function_call",
+            "has_parameter_def",
+            "is_inline",
+            "language",
+            "module_name",
+            "module_path",
+            "native_id",
+            "platform_type",
+            "returns_parameter_def",
+            "source_code",
+            "vendor",
+            "version") {
+        @Override
+        public Object getValue(Function bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAuthor();
+                case 1: return bean.getExecutedByFunctionCall();
+                case 2: return bean.getExternalName();
+                case 3: return bean.getHasFunctionCall();
+                case 4: return bean.getHasParameterDef();
+                case 5: return bean.getIsInline();
+                case 6: return bean.getLanguage();
+                case 7: return bean.getModuleName();
+                case 8: return bean.getModulePath();
+                case 9: return bean.getNativeId();
+                case 10: return bean.getPlatformType();
+                case 11: return bean.getReturnsParameterDef();
+                case 12: return bean.getSourceCode();
+                case 13: return bean.getVendor();
+                case 14: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
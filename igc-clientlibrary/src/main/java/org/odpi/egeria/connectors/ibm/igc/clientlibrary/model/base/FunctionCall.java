@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -153,4 +154,30 @@ public class FunctionCall extends Reference {
     @JsonProperty("used_in_function")
     public void setUsedInFunction(Function usedInFunction) { this.usedInFunction = usedInFunction; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<FunctionCall> PROPERTY_TABLE = new BeanPropertyTable<FunctionCall>(
+            "call_context",
+            "executes_function",
+            "for_transforms",
+            "function_name",
+            "stage_trigger",
+            "used_in_filter_constraint",
+            "used_in_function") {
+        @Override
+        public Object getValue(FunctionCall bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCallContext();
+                case 1: return bean.getExecutesFunction();
+                case 2: return bean.getForTransforms();
+                case 3: return bean.getFunctionName();
+                case 4: return bean.getStageTrigger();
+                case 5: return bean.getUsedInFilterConstraint();
+                case 6: return bean.getUsedInFunction();
+                default: return null;
+            }
+        }
+    };
+
 }
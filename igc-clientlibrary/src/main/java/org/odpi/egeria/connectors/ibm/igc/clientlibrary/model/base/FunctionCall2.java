@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -102,4 +103,24 @@ public class FunctionCall2 extends Reference {
     @JsonProperty("used_in_function")
     public void setUsedInFunction(Function usedInFunction) { this.usedInFunction = usedInFunction; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<FunctionCall2> PROPERTY_TABLE = new BeanPropertyTable<FunctionCall2>(
+            "call_context",
+            "executes_function",
+            "used_in_filter_constraint",
+            "used_in_function") {
+        @Override
+        public Object getValue(FunctionCall2 bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCallContext();
+                case 1: return bean.getExecutesFunction();
+                case 2: return bean.getUsedInFilterConstraint();
+                case 3: return bean.getUsedInFunction();
+                default: return null;
+            }
+        }
+    };
+
 }
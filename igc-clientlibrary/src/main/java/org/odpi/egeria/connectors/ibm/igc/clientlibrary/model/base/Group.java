@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -150,4 +151,30 @@ public class Group extends Reference {
     @JsonProperty("web_address")
     public void setWebAddress(String webAddress) { this.webAddress = webAddress; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Group> PROPERTY_TABLE = new BeanPropertyTable<Group>(
+            "email_address",
+            "group_name",
+            "location",
+            "organization",
+            "principal_id",
+            "type",
+            "web_address") {
+        @Override
+        public Object getValue(Group bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getEmailAddress();
+                case 1: return bean.getGroupName();
+                case 2: return bean.getLocation();
+                case 3: return bean.getOrganization();
+                case 4: return bean.getPrincipalId();
+                case 5: return bean.getTheType();
+                case 6: return bean.getWebAddress();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -306,4 +307,48 @@ public class HbaseNamespace extends InformationAsset {
     @JsonProperty("views")
     public void setViews(ItemList<View> views) { this.views = views; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<HbaseNamespace> PROPERTY_TABLE = new BeanPropertyTable<HbaseNamespace>(
+            "alias_(business_name)",
+            "data_policies",
+            "database",
+            "database_aliases",
+            "database_domains",
+            "database_tables",
+            "help_text",
+            "implements_logical_data_models",
+            "implements_physical_data_models",
+            "imported_from",
+            "include_for_business_lineage",
+            "mapped_to_mdm_models",
+            "owner",
+            "same_as_data_sources",
+            "suggested_term_assignments",
+            "views") {
+        @Override
+        public Object getValue(HbaseNamespace bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getDataPolicies();
+                case 2: return bean.getDatabase();
+                case 3: return bean.getDatabaseAliases();
+                case 4: return bean.getDatabaseDomains();
+                case 5: return bean.getDatabaseTables();
+                case 6: return bean.getHelpText();
+                case 7: return bean.getImplementsLogicalDataModels();
+                case 8: return bean.getImplementsPhysicalDataModels();
+                case 9: return bean.getImportedFrom();
+                case 10: return bean.getIncludeForBusinessLineage();
+                case 11: return bean.getMappedToMdmModels();
+                case 12: return bean.getOwner();
+                case 13: return bean.getSameAsDataSources();
+                case 14: return bean.getSuggestedTermAssignments();
+                case 15: return bean.getViews();
+                default: return null;
+            }
+        }
+    };
+
 }
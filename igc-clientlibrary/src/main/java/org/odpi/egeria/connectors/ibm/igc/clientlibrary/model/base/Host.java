@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -200,4 +201,36 @@ public class Host extends InformationAsset {
     @JsonProperty("transformation_projects")
     public void setTransformationProjects(ItemList<TransformationProject> transformationProjects) { this.transformationProjects = transformationProjects; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Host> PROPERTY_TABLE = new BeanPropertyTable<Host>(
+            "amazon_s3_buckets",
+            "data_connections",
+            "data_file_folders",
+            "data_files",
+            "databases",
+            "idoc_types",
+            "imported_from",
+            "location",
+            "network_node",
+            "transformation_projects") {
+        @Override
+        public Object getValue(Host bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAmazonS3Buckets();
+                case 1: return bean.getDataConnections();
+                case 2: return bean.getDataFileFolders();
+                case 3: return bean.getDataFiles();
+                case 4: return bean.getDatabases();
+                case 5: return bean.getIdocTypes();
+                case 6: return bean.getImportedFrom();
+                case 7: return bean.getLocation();
+                case 8: return bean.getNetworkNode();
+                case 9: return bean.getTransformationProjects();
+                default: return null;
+            }
+        }
+    };
+
 }
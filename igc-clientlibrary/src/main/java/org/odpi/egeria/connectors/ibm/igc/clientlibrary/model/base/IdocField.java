@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -184,4 +185,28 @@ public class IdocField extends InformationAsset {
     @JsonProperty("used_by_analytics_objects")
     public void setUsedByAnalyticsObjects(ItemList<AnalyticsObject> usedByAnalyticsObjects) { this.usedByAnalyticsObjects = usedByAnalyticsObjects; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<IdocField> PROPERTY_TABLE = new BeanPropertyTable<IdocField>(
+            "data_type",
+            "idoc_segment_type",
+            "idoc_type",
+            "odbc_type",
+            "type",
+            "used_by_analytics_objects") {
+        @Override
+        public Object getValue(IdocField bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataType();
+                case 1: return bean.getIdocSegmentType();
+                case 2: return bean.getIdocType();
+                case 3: return bean.getOdbcType();
+                case 4: return bean.getTheType();
+                case 5: return bean.getUsedByAnalyticsObjects();
+                default: return null;
+            }
+        }
+    };
+
 }
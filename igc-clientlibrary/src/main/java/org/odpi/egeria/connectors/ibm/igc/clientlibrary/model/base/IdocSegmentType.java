@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -207,4 +208,34 @@ public class IdocSegmentType extends InformationAsset {
     @JsonProperty("used_by_analytics_objects")
     public void setUsedByAnalyticsObjects(ItemList<AnalyticsObject> usedByAnalyticsObjects) { this.usedByAnalyticsObjects = usedByAnalyticsObjects; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<IdocSegmentType> PROPERTY_TABLE = new BeanPropertyTable<IdocSegmentType>(
+            "data_type",
+            "idoc_segment_type",
+            "idoc_type",
+            "level",
+            "min_/_max",
+            "of_idoc_segment_type",
+            "of_idoc_type",
+            "segment_definition",
+            "used_by_analytics_objects") {
+        @Override
+        public Object getValue(IdocSegmentType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataType();
+                case 1: return bean.getIdocSegmentType();
+                case 2: return bean.getIdocType();
+                case 3: return bean.getLevel();
+                case 4: return bean.getMinMax();
+                case 5: return bean.getOfIdocSegmentType();
+                case 6: return bean.getOfIdocType();
+                case 7: return bean.getSegmentDefinition();
+                case 8: return bean.getUsedByAnalyticsObjects();
+                default: return null;
+            }
+        }
+    };
+
 }
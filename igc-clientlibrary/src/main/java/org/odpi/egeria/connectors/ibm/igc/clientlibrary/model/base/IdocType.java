@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code idoc_type} asset type in IGC, displayed as '{@literal IDoc Type}' in the IGC UI.
@@ -93,4 +94,24 @@ public class IdocType extends InformationAsset {
     @JsonProperty("name_qualifier")
     public void setNameQualifier(String nameQualifier) { this.nameQualifier = nameQualifier; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<IdocType> PROPERTY_TABLE = new BeanPropertyTable<IdocType>(
+            "alias_(business_name)",
+            "host",
+            "include_for_business_lineage",
+            "name_qualifier") {
+        @Override
+        public Object getValue(IdocType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getHost();
+                case 2: return bean.getIncludeForBusinessLineage();
+                case 3: return bean.getNameQualifier();
+                default: return null;
+            }
+        }
+    };
+
 }
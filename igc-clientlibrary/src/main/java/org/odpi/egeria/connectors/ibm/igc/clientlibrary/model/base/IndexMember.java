@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class IndexMember extends Reference {
     @JsonProperty("uses_data_field")
     public void setUsesDataField(DataItem usesDataField) { this.usesDataField = usesDataField; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<IndexMember> PROPERTY_TABLE = new BeanPropertyTable<IndexMember>(
+            "of_index",
+            "sequence",
+            "uses_data_field") {
+        @Override
+        public Object getValue(IndexMember bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getOfIndex();
+                case 1: return bean.getSequence();
+                case 2: return bean.getUsesDataField();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class InferredForeignKey extends Reference {
     @JsonProperty("uses_database_fields")
     public void setUsesDatabaseFields(ItemList<DatabaseColumn> usesDatabaseFields) { this.usesDatabaseFields = usesDatabaseFields; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InferredForeignKey> PROPERTY_TABLE = new BeanPropertyTable<InferredForeignKey>(
+            "long_description",
+            "name",
+            "native_id",
+            "references_inferred_keys",
+            "short_description",
+            "table_analysis",
+            "total_records",
+            "uses_database_fields") {
+        @Override
+        public Object getValue(InferredForeignKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getLongDescription();
+                case 1: return bean.getTheName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getReferencesInferredKeys();
+                case 4: return bean.getShortDescription();
+                case 5: return bean.getTableAnalysis();
+                case 6: return bean.getTotalRecords();
+                case 7: return bean.getUsesDatabaseFields();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -180,4 +181,34 @@ public class InferredKey extends Reference {
     @JsonProperty("total_records")
     public void setTotalRecords(Number totalRecords) { this.totalRecords = totalRecords; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InferredKey> PROPERTY_TABLE = new BeanPropertyTable<InferredKey>(
+            "inferred_database_fields",
+            "long_description",
+            "name",
+            "native_id",
+            "primary_key",
+            "referenced_by_inferred_foreign_keys",
+            "short_description",
+            "table_analysis",
+            "total_records") {
+        @Override
+        public Object getValue(InferredKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getInferredDatabaseFields();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getPrimaryKey();
+                case 5: return bean.getReferencedByInferredForeignKeys();
+                case 6: return bean.getShortDescription();
+                case 7: return bean.getTableAnalysis();
+                case 8: return bean.getTotalRecords();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -368,4 +369,42 @@ public class InformationAsset extends MainObject {
     @JsonProperty("written_by_(user_defined)")
     public void setWrittenByUserDefined(ItemList<InformationAsset> writtenByUserDefined) { this.writtenByUserDefined = writtenByUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationAsset> PROPERTY_TABLE = new BeanPropertyTable<InformationAsset>(
+            "blueprint_elements",
+            "impacted_by",
+            "impacts_on",
+            "in_collections",
+            "native_id",
+            "read_by_(design)",
+            "read_by_(operational)",
+            "read_by_(static)",
+            "read_by_(user_defined)",
+            "written_by_(design)",
+            "written_by_(operational)",
+            "written_by_(static)",
+            "written_by_(user_defined)") {
+        @Override
+        public Object getValue(InformationAsset bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBlueprintElements();
+                case 1: return bean.getImpactedBy();
+                case 2: return bean.getImpactsOn();
+                case 3: return bean.getInCollections();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getReadByDesign();
+                case 6: return bean.getReadByOperational();
+                case 7: return bean.getReadByStatic();
+                case 8: return bean.getReadByUserDefined();
+                case 9: return bean.getWrittenByDesign();
+                case 10: return bean.getWrittenByOperational();
+                case 11: return bean.getWrittenByStatic();
+                case 12: return bean.getWrittenByUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -186,4 +187,32 @@ public class InformationGovernancePolicy extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationGovernancePolicy> PROPERTY_TABLE = new BeanPropertyTable<InformationGovernancePolicy>(
+            "glossary_type",
+            "information_governance_rules",
+            "language",
+            "parent_policy",
+            "subpolicies",
+            "translations",
+            "workflow_current_state",
+            "workflow_stored_state") {
+        @Override
+        public Object getValue(InformationGovernancePolicy bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getGlossaryType();
+                case 1: return bean.getInformationGovernanceRules();
+                case 2: return bean.getLanguage();
+                case 3: return bean.getParentPolicy();
+                case 4: return bean.getSubpolicies();
+                case 5: return bean.getTranslations();
+                case 6: return bean.getWorkflowCurrentState();
+                case 7: return bean.getWorkflowStoredState();
+                default: return null;
+            }
+        }
+    };
+
 }
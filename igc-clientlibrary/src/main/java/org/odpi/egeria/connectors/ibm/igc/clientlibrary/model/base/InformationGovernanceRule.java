@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -203,4 +204,34 @@ public class InformationGovernanceRule extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationGovernanceRule> PROPERTY_TABLE = new BeanPropertyTable<InformationGovernanceRule>(
+            "glossary_type",
+            "governs_assets",
+            "implemented_by_assets",
+            "language",
+            "referencing_policies",
+            "related_rules",
+            "translations",
+            "workflow_current_state",
+            "workflow_stored_state") {
+        @Override
+        public Object getValue(InformationGovernanceRule bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getGlossaryType();
+                case 1: return bean.getGovernsAssets();
+                case 2: return bean.getImplementedByAssets();
+                case 3: return bean.getLanguage();
+                case 4: return bean.getReferencingPolicies();
+                case 5: return bean.getRelatedRules();
+                case 6: return bean.getTranslations();
+                case 7: return bean.getWorkflowCurrentState();
+                case 8: return bean.getWorkflowStoredState();
+                default: return null;
+            }
+        }
+    };
+
 }
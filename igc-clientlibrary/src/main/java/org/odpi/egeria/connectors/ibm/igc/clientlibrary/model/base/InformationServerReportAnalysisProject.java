@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.List;
 
@@ -197,4 +198,36 @@ public class InformationServerReportAnalysisProject extends Reference {
     @JsonProperty("table")
     public void setTable(List<String> table) { this.table = table; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServerReportAnalysisProject> PROPERTY_TABLE = new BeanPropertyTable<InformationServerReportAnalysisProject>(
+            "analysis_project",
+            "creator",
+            "database",
+            "description",
+            "host",
+            "name",
+            "native_id",
+            "product",
+            "schema",
+            "table") {
+        @Override
+        public Object getValue(InformationServerReportAnalysisProject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalysisProject();
+                case 1: return bean.getCreator();
+                case 2: return bean.getDatabase();
+                case 3: return bean.getDescription();
+                case 4: return bean.getHost();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getProduct();
+                case 8: return bean.getSchema();
+                case 9: return bean.getTable();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.List;
 
@@ -163,4 +164,32 @@ public class InformationServerReportJob extends Reference {
     @JsonProperty("transformation_project")
     public void setTransformationProject(String transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServerReportJob> PROPERTY_TABLE = new BeanPropertyTable<InformationServerReportJob>(
+            "creator",
+            "description",
+            "host_(engine)",
+            "job",
+            "name",
+            "native_id",
+            "product",
+            "transformation_project") {
+        @Override
+        public Object getValue(InformationServerReportJob bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCreator();
+                case 1: return bean.getDescription();
+                case 2: return bean.getHostEngine();
+                case 3: return bean.getJob();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getProduct();
+                case 7: return bean.getTransformationProject();
+                default: return null;
+            }
+        }
+    };
+
 }
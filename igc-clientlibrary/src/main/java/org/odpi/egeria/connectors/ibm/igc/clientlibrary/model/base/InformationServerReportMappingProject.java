@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -129,4 +130,28 @@ public class InformationServerReportMappingProject extends Reference {
     @JsonProperty("product")
     public void setProduct(String product) { this.product = product; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServerReportMappingProject> PROPERTY_TABLE = new BeanPropertyTable<InformationServerReportMappingProject>(
+            "creator",
+            "description",
+            "mapping_project",
+            "name",
+            "native_id",
+            "product") {
+        @Override
+        public Object getValue(InformationServerReportMappingProject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCreator();
+                case 1: return bean.getDescription();
+                case 2: return bean.getMappingProject();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getProduct();
+                default: return null;
+            }
+        }
+    };
+
 }
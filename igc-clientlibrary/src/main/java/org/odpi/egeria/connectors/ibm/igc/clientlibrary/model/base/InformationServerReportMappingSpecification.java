@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -129,4 +130,28 @@ public class InformationServerReportMappingSpecification extends Reference {
     @JsonProperty("report_on_object")
     public void setReportOnObject(ItemList<MainObject> reportOnObject) { this.reportOnObject = reportOnObject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServerReportMappingSpecification> PROPERTY_TABLE = new BeanPropertyTable<InformationServerReportMappingSpecification>(
+            "creator",
+            "description",
+            "name",
+            "native_id",
+            "product",
+            "report_on_object") {
+        @Override
+        public Object getValue(InformationServerReportMappingSpecification bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCreator();
+                case 1: return bean.getDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getProduct();
+                case 5: return bean.getReportOnObject();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.List;
 
@@ -61,4 +62,20 @@ public class InformationServerReportParameters extends Reference {
     @JsonProperty("value")
     public void setValue(List<String> value) { this.value = value; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServerReportParameters> PROPERTY_TABLE = new BeanPropertyTable<InformationServerReportParameters>(
+            "name",
+            "value") {
+        @Override
+        public Object getValue(InformationServerReportParameters bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheName();
+                case 1: return bean.getValue();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code information_services_application} asset type in IGC, displayed as '{@literal Information Services Application}' in the IGC UI.
@@ -59,4 +60,20 @@ public class InformationServicesApplication extends InformationAsset {
     @JsonProperty("information_services_project")
     public void setInformationServicesProject(InformationServicesProject informationServicesProject) { this.informationServicesProject = informationServicesProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServicesApplication> PROPERTY_TABLE = new BeanPropertyTable<InformationServicesApplication>(
+            "description",
+            "information_services_project") {
+        @Override
+        public Object getValue(InformationServicesApplication bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getInformationServicesProject();
+                default: return null;
+            }
+        }
+    };
+
 }
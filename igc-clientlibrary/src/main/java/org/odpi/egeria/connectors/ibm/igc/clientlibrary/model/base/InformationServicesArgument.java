@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -166,4 +167,30 @@ public class InformationServicesArgument extends Reference {
     @JsonProperty("reference_type")
     public void setReferenceType(String referenceType) { this.referenceType = referenceType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServicesArgument> PROPERTY_TABLE = new BeanPropertyTable<InformationServicesArgument>(
+            "argument_name",
+            "argument_type",
+            "default_value",
+            "description",
+            "information_services_operation",
+            "name",
+            "reference_type") {
+        @Override
+        public Object getValue(InformationServicesArgument bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getArgumentName();
+                case 1: return bean.getArgumentType();
+                case 2: return bean.getDefaultValue();
+                case 3: return bean.getDescription();
+                case 4: return bean.getInformationServicesOperation();
+                case 5: return bean.getTheName();
+                case 6: return bean.getReferenceType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -60,4 +61,20 @@ public class InformationServicesOperation extends MainObject {
     @JsonProperty("information_services_service")
     public void setInformationServicesService(InformationServicesService informationServicesService) { this.informationServicesService = informationServicesService; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServicesOperation> PROPERTY_TABLE = new BeanPropertyTable<InformationServicesOperation>(
+            "description",
+            "information_services_service") {
+        @Override
+        public Object getValue(InformationServicesOperation bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getInformationServicesService();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code information_services_project} asset type in IGC, displayed as '{@literal Information Services Project}' in the IGC UI.
@@ -59,4 +60,20 @@ public class InformationServicesProject extends InformationAsset {
     @JsonProperty("description")
     public void setDescription(String description) { this.description = description; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServicesProject> PROPERTY_TABLE = new BeanPropertyTable<InformationServicesProject>(
+            "deployment_status",
+            "description") {
+        @Override
+        public Object getValue(InformationServicesProject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDeploymentStatus();
+                case 1: return bean.getDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -60,4 +61,20 @@ public class InformationServicesService extends MainObject {
     @JsonProperty("information_services_application")
     public void setInformationServicesApplication(InformationServicesApplication informationServicesApplication) { this.informationServicesApplication = informationServicesApplication; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InformationServicesService> PROPERTY_TABLE = new BeanPropertyTable<InformationServicesService>(
+            "description",
+            "information_services_application") {
+        @Override
+        public Object getValue(InformationServicesService bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getInformationServicesApplication();
+                default: return null;
+            }
+        }
+    };
+
 }
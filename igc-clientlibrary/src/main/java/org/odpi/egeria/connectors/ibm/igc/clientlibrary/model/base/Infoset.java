@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -321,4 +322,48 @@ public class Infoset extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Infoset> PROPERTY_TABLE = new BeanPropertyTable<Infoset>(
+            "alias_(business_name)",
+            "applied_data_classes",
+            "composition",
+            "contributing_operations",
+            "contributing_volumes",
+            "created",
+            "created_with",
+            "creator",
+            "instance",
+            "object_count",
+            "size",
+            "sync_state",
+            "sync_type",
+            "tool_id",
+            "type",
+            "url") {
+        @Override
+        public Object getValue(Infoset bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAppliedDataClasses();
+                case 2: return bean.getComposition();
+                case 3: return bean.getContributingOperations();
+                case 4: return bean.getContributingVolumes();
+                case 5: return bean.getCreated();
+                case 6: return bean.getCreatedWith();
+                case 7: return bean.getCreator();
+                case 8: return bean.getInstance();
+                case 9: return bean.getObjectCount();
+                case 10: return bean.getSize();
+                case 11: return bean.getSyncState();
+                case 12: return bean.getSyncType();
+                case 13: return bean.getToolId();
+                case 14: return bean.getTheType();
+                case 15: return bean.getTheUrl();
+                default: return null;
+            }
+        }
+    };
+
 }
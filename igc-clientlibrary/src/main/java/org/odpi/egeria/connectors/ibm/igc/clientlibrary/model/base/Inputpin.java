@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class Inputpin extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Inputpin> PROPERTY_TABLE = new BeanPropertyTable<Inputpin>(
+            "is_target_of_link",
+            "of_job_component",
+            "sequence") {
+        @Override
+        public Object getValue(Inputpin bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getIsTargetOfLink();
+                case 1: return bean.getOfJobComponent();
+                case 2: return bean.getSequence();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -179,4 +180,34 @@ public class Instance extends InformationAsset {
     @JsonProperty("volumes")
     public void setVolumes(ItemList<Volume> volumes) { this.volumes = volumes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Instance> PROPERTY_TABLE = new BeanPropertyTable<Instance>(
+            "alias_(business_name)",
+            "filters",
+            "infosets",
+            "primary_contact",
+            "secondary_contact",
+            "sync_state",
+            "tool_id",
+            "url",
+            "volumes") {
+        @Override
+        public Object getValue(Instance bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getFilters();
+                case 2: return bean.getInfosets();
+                case 3: return bean.getPrimaryContact();
+                case 4: return bean.getSecondaryContact();
+                case 5: return bean.getSyncState();
+                case 6: return bean.getToolId();
+                case 7: return bean.getTheUrl();
+                case 8: return bean.getVolumes();
+                default: return null;
+            }
+        }
+    };
+
 }
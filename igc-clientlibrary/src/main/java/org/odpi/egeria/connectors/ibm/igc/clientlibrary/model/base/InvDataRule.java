@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -228,4 +229,38 @@ public class InvDataRule extends Reference {
     @JsonProperty("steward")
     public void setSteward(ItemList<AsclSteward> steward) { this.steward = steward; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InvDataRule> PROPERTY_TABLE = new BeanPropertyTable<InvDataRule>(
+            "assigned_to_terms",
+            "data_rule_definitions",
+            "expression",
+            "long_description",
+            "name",
+            "native_id",
+            "project",
+            "short_&_long_description",
+            "short_description",
+            "status",
+            "steward") {
+        @Override
+        public Object getValue(InvDataRule bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedToTerms();
+                case 1: return bean.getDataRuleDefinitions();
+                case 2: return bean.getExpression();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getProject();
+                case 7: return bean.getShortLongDescription();
+                case 8: return bean.getShortDescription();
+                case 9: return bean.getStatus();
+                case 10: return bean.getSteward();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -263,4 +264,42 @@ public class InvDataRuleDefinition extends Reference {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InvDataRuleDefinition> PROPERTY_TABLE = new BeanPropertyTable<InvDataRuleDefinition>(
+            "assigned_to_terms",
+            "contact",
+            "data_rule_set_defintions",
+            "data_rules",
+            "expression",
+            "long_description",
+            "name",
+            "native_id",
+            "project",
+            "published",
+            "short_&_long_description",
+            "short_description",
+            "status") {
+        @Override
+        public Object getValue(InvDataRuleDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedToTerms();
+                case 1: return bean.getContact();
+                case 2: return bean.getDataRuleSetDefintions();
+                case 3: return bean.getDataRules();
+                case 4: return bean.getExpression();
+                case 5: return bean.getLongDescription();
+                case 6: return bean.getTheName();
+                case 7: return bean.getNativeId();
+                case 8: return bean.getProject();
+                case 9: return bean.getPublished();
+                case 10: return bean.getShortLongDescription();
+                case 11: return bean.getShortDescription();
+                case 12: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -210,4 +211,36 @@ public class InvDataRuleSet extends Reference {
     @JsonProperty("steward")
     public void setSteward(ItemList<AsclSteward> steward) { this.steward = steward; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InvDataRuleSet> PROPERTY_TABLE = new BeanPropertyTable<InvDataRuleSet>(
+            "assigned_to_terms",
+            "data_rule_set_definitions",
+            "long_description",
+            "name",
+            "native_id",
+            "project",
+            "short_&_long_description",
+            "short_description",
+            "status",
+            "steward") {
+        @Override
+        public Object getValue(InvDataRuleSet bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedToTerms();
+                case 1: return bean.getDataRuleSetDefinitions();
+                case 2: return bean.getLongDescription();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getProject();
+                case 6: return bean.getShortLongDescription();
+                case 7: return bean.getShortDescription();
+                case 8: return bean.getStatus();
+                case 9: return bean.getSteward();
+                default: return null;
+            }
+        }
+    };
+
 }
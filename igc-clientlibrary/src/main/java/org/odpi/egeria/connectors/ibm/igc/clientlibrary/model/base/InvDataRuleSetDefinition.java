@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -245,4 +246,40 @@ public class InvDataRuleSetDefinition extends Reference {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<InvDataRuleSetDefinition> PROPERTY_TABLE = new BeanPropertyTable<InvDataRuleSetDefinition>(
+            "assigned_to_terms",
+            "contact",
+            "data_rule_definitions",
+            "data_rule_sets",
+            "long_description",
+            "name",
+            "native_id",
+            "project",
+            "published",
+            "short_&_long_description",
+            "short_description",
+            "status") {
+        @Override
+        public Object getValue(InvDataRuleSetDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedToTerms();
+                case 1: return bean.getContact();
+                case 2: return bean.getDataRuleDefinitions();
+                case 3: return bean.getDataRuleSets();
+                case 4: return bean.getLongDescription();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getProject();
+                case 8: return bean.getPublished();
+                case 9: return bean.getShortLongDescription();
+                case 10: return bean.getShortDescription();
+                case 11: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -94,4 +95,24 @@ public class Job extends MainObject {
     @JsonProperty("release_status")
     public void setReleaseStatus(String releaseStatus) { this.releaseStatus = releaseStatus; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Job> PROPERTY_TABLE = new BeanPropertyTable<Job>(
+            "has_job_def",
+            "host_system",
+            "native_id",
+            "release_status") {
+        @Override
+        public Object getValue(Job bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getHasJobDef();
+                case 1: return bean.getHostSystem();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getReleaseStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class JobConstraint extends Reference {
     @JsonProperty("uses_flow_variable")
     public void setUsesFlowVariable(ItemList<DataItem> usesFlowVariable) { this.usesFlowVariable = usesFlowVariable; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobConstraint> PROPERTY_TABLE = new BeanPropertyTable<JobConstraint>(
+            "expression",
+            "name",
+            "native_id",
+            "of_link",
+            "uses_flow_variable") {
+        @Override
+        public Object getValue(JobConstraint bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getExpression();
+                case 1: return bean.getTheName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getOfLink();
+                case 4: return bean.getUsesFlowVariable();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.Date;
 
@@ -95,4 +96,24 @@ public class JobFailEvent extends Reference {
     @JsonProperty("time")
     public void setTime(Date time) { this.time = time; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobFailEvent> PROPERTY_TABLE = new BeanPropertyTable<JobFailEvent>(
+            "job_run_activity",
+            "message",
+            "row_count",
+            "time") {
+        @Override
+        public Object getValue(JobFailEvent bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getJobRunActivity();
+                case 1: return bean.getMessage();
+                case 2: return bean.getRowCount();
+                case 3: return bean.getTime();
+                default: return null;
+            }
+        }
+    };
+
 }
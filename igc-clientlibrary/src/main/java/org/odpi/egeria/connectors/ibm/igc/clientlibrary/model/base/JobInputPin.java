@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -282,4 +283,46 @@ public class JobInputPin extends Reference {
     @JsonProperty("txn_behaviour")
     public void setTxnBehaviour(Number txnBehaviour) { this.txnBehaviour = txnBehaviour; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobInputPin> PROPERTY_TABLE = new BeanPropertyTable<JobInputPin>(
+            "a_xmeta_locking_root",
+            "condition_not_met",
+            "enable_tx_group",
+            "has_ds_meta_bag",
+            "has_dsmf_column_info",
+            "internal_id",
+            "is_target_of_link",
+            "link_type",
+            "lookup_fail",
+            "of_job_component",
+            "partner",
+            "pin_type",
+            "sequence",
+            "transaction_size",
+            "txn_behaviour") {
+        @Override
+        public Object getValue(JobInputPin bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getConditionNotMet();
+                case 2: return bean.getEnableTxGroup();
+                case 3: return bean.getHasDsMetaBag();
+                case 4: return bean.getHasDsmfColumnInfo();
+                case 5: return bean.getInternalId();
+                case 6: return bean.getIsTargetOfLink();
+                case 7: return bean.getLinkType();
+                case 8: return bean.getLookupFail();
+                case 9: return bean.getOfJobComponent();
+                case 10: return bean.getPartner();
+                case 11: return bean.getPinType();
+                case 12: return bean.getSequence();
+                case 13: return bean.getTransactionSize();
+                case 14: return bean.getTxnBehaviour();
+                default: return null;
+            }
+        }
+    };
+
 }
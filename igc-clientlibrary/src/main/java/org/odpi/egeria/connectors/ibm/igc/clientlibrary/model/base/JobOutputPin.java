@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -214,4 +215,38 @@ public class JobOutputPin extends Reference {
     @JsonProperty("top_text_pos")
     public void setTopTextPos(Number topTextPos) { this.topTextPos = topTextPos; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobOutputPin> PROPERTY_TABLE = new BeanPropertyTable<JobOutputPin>(
+            "a_xmeta_locking_root",
+            "has_ds_argument_map",
+            "has_ds_meta_bag",
+            "internal_id",
+            "is_source_of_link",
+            "left_text_pos",
+            "of_job_component",
+            "partner",
+            "pin_type",
+            "sequence",
+            "top_text_pos") {
+        @Override
+        public Object getValue(JobOutputPin bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getHasDsArgumentMap();
+                case 2: return bean.getHasDsMetaBag();
+                case 3: return bean.getInternalId();
+                case 4: return bean.getIsSourceOfLink();
+                case 5: return bean.getLeftTextPos();
+                case 6: return bean.getOfJobComponent();
+                case 7: return bean.getPartner();
+                case 8: return bean.getPinType();
+                case 9: return bean.getSequence();
+                case 10: return bean.getTopTextPos();
+                default: return null;
+            }
+        }
+    };
+
 }
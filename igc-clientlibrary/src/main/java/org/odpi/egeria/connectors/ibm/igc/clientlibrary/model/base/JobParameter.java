@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class JobParameter extends Reference {
     @JsonProperty("value")
     public void setValue(String value) { this.value = value; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobParameter> PROPERTY_TABLE = new BeanPropertyTable<JobParameter>(
+            "job_run",
+            "name",
+            "value") {
+        @Override
+        public Object getValue(JobParameter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getJobRun();
+                case 1: return bean.getTheName();
+                case 2: return bean.getValue();
+                default: return null;
+            }
+        }
+    };
+
 }
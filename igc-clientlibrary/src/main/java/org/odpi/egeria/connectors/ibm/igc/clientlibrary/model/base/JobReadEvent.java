@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.Date;
 import java.util.List;
@@ -96,4 +97,24 @@ public class JobReadEvent extends Reference {
     @JsonProperty("time")
     public void setTime(Date time) { this.time = time; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobReadEvent> PROPERTY_TABLE = new BeanPropertyTable<JobReadEvent>(
+            "job_run_activity",
+            "reads_from",
+            "row_count",
+            "time") {
+        @Override
+        public Object getValue(JobReadEvent bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getJobRunActivity();
+                case 1: return bean.getReadsFrom();
+                case 2: return bean.getRowCount();
+                case 3: return bean.getTime();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -181,4 +182,34 @@ public class JobRun extends Reference {
     @JsonProperty("wave_number")
     public void setWaveNumber(String waveNumber) { this.waveNumber = waveNumber; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobRun> PROPERTY_TABLE = new BeanPropertyTable<JobRun>(
+            "ending_date",
+            "invocation_id",
+            "job",
+            "omd_file_name",
+            "parameters",
+            "starting_date",
+            "translated_status_code",
+            "translated_summary",
+            "wave_number") {
+        @Override
+        public Object getValue(JobRun bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getEndingDate();
+                case 1: return bean.getInvocationId();
+                case 2: return bean.getJob();
+                case 3: return bean.getOmdFileName();
+                case 4: return bean.getParameters();
+                case 5: return bean.getStartingDate();
+                case 6: return bean.getTranslatedStatusCode();
+                case 7: return bean.getTranslatedSummary();
+                case 8: return bean.getWaveNumber();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.List;
 
@@ -112,4 +113,26 @@ public class JobRunActivity extends Reference {
     @JsonProperty("x_emits_write_event_display_name")
     public void setXEmitsWriteEventDisplayName(List<String> xEmitsWriteEventDisplayName) { this.xEmitsWriteEventDisplayName = xEmitsWriteEventDisplayName; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobRunActivity> PROPERTY_TABLE = new BeanPropertyTable<JobRunActivity>(
+            "job_run",
+            "name",
+            "x_emits_fail_events_display_name",
+            "x_emits_read_event_display_name",
+            "x_emits_write_event_display_name") {
+        @Override
+        public Object getValue(JobRunActivity bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getJobRun();
+                case 1: return bean.getTheName();
+                case 2: return bean.getXEmitsFailEventsDisplayName();
+                case 3: return bean.getXEmitsReadEventDisplayName();
+                case 4: return bean.getXEmitsWriteEventDisplayName();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -230,4 +231,40 @@ public class JobStageParameters extends Reference {
     @JsonProperty("view_data")
     public void setViewData(Number viewData) { this.viewData = viewData; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobStageParameters> PROPERTY_TABLE = new BeanPropertyTable<JobStageParameters>(
+            "a_xmeta_locking_root",
+            "conv_type",
+            "display_style",
+            "for_input",
+            "for_output",
+            "for_stage",
+            "hidden",
+            "locked",
+            "of_ds_parameter_def",
+            "quote_string",
+            "transaction_groupable",
+            "view_data") {
+        @Override
+        public Object getValue(JobStageParameters bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getConvType();
+                case 2: return bean.getDisplayStyle();
+                case 3: return bean.getForInput();
+                case 4: return bean.getForOutput();
+                case 5: return bean.getForStage();
+                case 6: return bean.getHidden();
+                case 7: return bean.getLocked();
+                case 8: return bean.getOfDsParameterDef();
+                case 9: return bean.getQuoteString();
+                case 10: return bean.getTransactionGroupable();
+                case 11: return bean.getViewData();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -196,4 +197,36 @@ public class JobStageRecord extends MainObject {
     @JsonProperty("record_name")
     public void setRecordName(String recordName) { this.recordName = recordName; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobStageRecord> PROPERTY_TABLE = new BeanPropertyTable<JobStageRecord>(
+            "a_xmeta_locking_root",
+            "has_ds_flow_variable",
+            "internal_id",
+            "native_id",
+            "of_ds_stage",
+            "other_records_initialization_flag",
+            "record_id_name",
+            "record_id_name_value_relation",
+            "record_id_value",
+            "record_name") {
+        @Override
+        public Object getValue(JobStageRecord bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getHasDsFlowVariable();
+                case 2: return bean.getInternalId();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getOfDsStage();
+                case 5: return bean.getOtherRecordsInitializationFlag();
+                case 6: return bean.getRecordIdName();
+                case 7: return bean.getRecordIdNameValueRelation();
+                case 8: return bean.getRecordIdValue();
+                case 9: return bean.getRecordName();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.Date;
 
@@ -95,4 +96,24 @@ public class JobWriteEvent extends Reference {
     @JsonProperty("writes_to")
     public void setWritesTo(String writesTo) { this.writesTo = writesTo; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<JobWriteEvent> PROPERTY_TABLE = new BeanPropertyTable<JobWriteEvent>(
+            "job_run_activity",
+            "row_count",
+            "time",
+            "writes_to") {
+        @Override
+        public Object getValue(JobWriteEvent bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getJobRunActivity();
+                case 1: return bean.getRowCount();
+                case 2: return bean.getTime();
+                case 3: return bean.getWritesTo();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -119,4 +120,26 @@ public class Keycomponent extends Reference {
     @JsonProperty("uses_data_field")
     public void setUsesDataField(DataItem usesDataField) { this.usesDataField = usesDataField; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Keycomponent> PROPERTY_TABLE = new BeanPropertyTable<Keycomponent>(
+            "of_key",
+            "references_data_field",
+            "sequence",
+            "sorting_order",
+            "uses_data_field") {
+        @Override
+        public Object getValue(Keycomponent bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getOfKey();
+                case 1: return bean.getReferencesDataField();
+                case 2: return bean.getSequence();
+                case 3: return bean.getSortingOrder();
+                case 4: return bean.getUsesDataField();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class LineageContainer extends InformationAsset {
     @JsonProperty("sub_business_container")
     public void setSubBusinessContainer(ItemList<Category> subBusinessContainer) { this.subBusinessContainer = subBusinessContainer; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LineageContainer> PROPERTY_TABLE = new BeanPropertyTable<LineageContainer>(
+            "information_assets",
+            "parent_container",
+            "sub_business_container") {
+        @Override
+        public Object getValue(LineageContainer bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getInformationAssets();
+                case 1: return bean.getParentContainer();
+                case 2: return bean.getSubBusinessContainer();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class LineageReportTemplate extends Reference {
     @JsonProperty("uses_lineage_filter")
     public void setUsesLineageFilter(ItemList<Lineagefilter> usesLineageFilter) { this.usesLineageFilter = usesLineageFilter; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LineageReportTemplate> PROPERTY_TABLE = new BeanPropertyTable<LineageReportTemplate>(
+            "asset_display_properties",
+            "long_description",
+            "name",
+            "native_id",
+            "uses_lineage_filter") {
+        @Override
+        public Object getValue(LineageReportTemplate bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssetDisplayProperties();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getUsesLineageFilter();
+                default: return null;
+            }
+        }
+    };
+
 }
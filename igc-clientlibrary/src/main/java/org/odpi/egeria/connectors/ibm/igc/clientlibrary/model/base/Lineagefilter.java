@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -43,4 +44,18 @@ public class Lineagefilter extends Reference {
     @JsonProperty("name")
     public void setTheName(String name) { this.name = name; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Lineagefilter> PROPERTY_TABLE = new BeanPropertyTable<Lineagefilter>(
+            "name") {
+        @Override
+        public Object getValue(Lineagefilter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheName();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class Link extends Reference {
     @JsonProperty("stage_columns")
     public void setStageColumns(ItemList<DataItem> stageColumns) { this.stageColumns = stageColumns; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Link> PROPERTY_TABLE = new BeanPropertyTable<Link>(
+            "input_stages",
+            "job_or_container",
+            "long_description",
+            "name",
+            "native_id",
+            "output_stages",
+            "short_description",
+            "stage_columns") {
+        @Override
+        public Object getValue(Link bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getInputStages();
+                case 1: return bean.getJobOrContainer();
+                case 2: return bean.getLongDescription();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getOutputStages();
+                case 6: return bean.getShortDescription();
+                case 7: return bean.getStageColumns();
+                default: return null;
+            }
+        }
+    };
+
 }
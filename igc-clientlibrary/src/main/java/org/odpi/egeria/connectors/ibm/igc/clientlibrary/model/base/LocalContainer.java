@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -43,4 +44,18 @@ public class LocalContainer extends SharedContainer {
     @JsonProperty("job_or_container")
     public void setJobOrContainer(ItemList<MainObject> jobOrContainer) { this.jobOrContainer = jobOrContainer; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LocalContainer> PROPERTY_TABLE = new BeanPropertyTable<LocalContainer>(
+            "job_or_container") {
+        @Override
+        public Object getValue(LocalContainer bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getJobOrContainer();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -281,4 +282,46 @@ public class LogicalDataModel extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalDataModel> PROPERTY_TABLE = new BeanPropertyTable<LogicalDataModel>(
+            "alias_(business_name)",
+            "author",
+            "contains_logical_data_models",
+            "design_tool",
+            "implemented_by_database_schemas",
+            "implemented_by_physical_data_models",
+            "imported_from",
+            "logical_data_model",
+            "logical_domains",
+            "logical_entities",
+            "methodology",
+            "namespace",
+            "package",
+            "subject_areas",
+            "version") {
+        @Override
+        public Object getValue(LogicalDataModel bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAuthor();
+                case 2: return bean.getContainsLogicalDataModels();
+                case 3: return bean.getDesignTool();
+                case 4: return bean.getImplementedByDatabaseSchemas();
+                case 5: return bean.getImplementedByPhysicalDataModels();
+                case 6: return bean.getImportedFrom();
+                case 7: return bean.getLogicalDataModel();
+                case 8: return bean.getLogicalDomains();
+                case 9: return bean.getLogicalEntities();
+                case 10: return bean.getMethodology();
+                case 11: return bean.getNamespace();
+                case 12: return bean.getPackage();
+                case 13: return bean.getSubjectAreas();
+                case 14: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -265,4 +266,44 @@ public class LogicalDomain extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalDomain> PROPERTY_TABLE = new BeanPropertyTable<LogicalDomain>(
+            "child_domains",
+            "data_type",
+            "default_value",
+            "entity_attributes",
+            "length",
+            "logical_data_model",
+            "long_description",
+            "name",
+            "native_id",
+            "native_type",
+            "null_value",
+            "parent_domain",
+            "scale",
+            "short_description") {
+        @Override
+        public Object getValue(LogicalDomain bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getChildDomains();
+                case 1: return bean.getDataType();
+                case 2: return bean.getDefaultValue();
+                case 3: return bean.getEntityAttributes();
+                case 4: return bean.getLength();
+                case 5: return bean.getLogicalDataModel();
+                case 6: return bean.getLongDescription();
+                case 7: return bean.getTheName();
+                case 8: return bean.getNativeId();
+                case 9: return bean.getNativeType();
+                case 10: return bean.getNullValue();
+                case 11: return bean.getParentDomain();
+                case 12: return bean.getScale();
+                case 13: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -264,4 +265,44 @@ public class LogicalEntity extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalEntity> PROPERTY_TABLE = new BeanPropertyTable<LogicalEntity>(
+            "alias_(business_name)",
+            "entity_attributes",
+            "implemented_by_database_tables_or_views",
+            "implemented_by_design_tables_or_views",
+            "imported_from",
+            "logical_data_model",
+            "logical_foreign_keys",
+            "logical_inversion_keys",
+            "logical_keys",
+            "physical_name",
+            "subject_areas",
+            "subtypes",
+            "supertypes",
+            "type") {
+        @Override
+        public Object getValue(LogicalEntity bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getEntityAttributes();
+                case 2: return bean.getImplementedByDatabaseTablesOrViews();
+                case 3: return bean.getImplementedByDesignTablesOrViews();
+                case 4: return bean.getImportedFrom();
+                case 5: return bean.getLogicalDataModel();
+                case 6: return bean.getLogicalForeignKeys();
+                case 7: return bean.getLogicalInversionKeys();
+                case 8: return bean.getLogicalKeys();
+                case 9: return bean.getPhysicalName();
+                case 10: return bean.getSubjectAreas();
+                case 11: return bean.getSubtypes();
+                case 12: return bean.getSupertypes();
+                case 13: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
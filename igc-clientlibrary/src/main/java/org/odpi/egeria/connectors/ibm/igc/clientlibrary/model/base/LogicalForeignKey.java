@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class LogicalForeignKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalForeignKey> PROPERTY_TABLE = new BeanPropertyTable<LogicalForeignKey>(
+            "child_entity_attributes",
+            "logical_entity",
+            "long_description",
+            "name",
+            "native_id",
+            "physical_name",
+            "referenced_by_entity_attributes",
+            "short_description") {
+        @Override
+        public Object getValue(LogicalForeignKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getChildEntityAttributes();
+                case 1: return bean.getLogicalEntity();
+                case 2: return bean.getLongDescription();
+                case 3: return bean.getTheName();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getPhysicalName();
+                case 6: return bean.getReferencedByEntityAttributes();
+                case 7: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -164,4 +165,32 @@ public class LogicalInversionKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalInversionKey> PROPERTY_TABLE = new BeanPropertyTable<LogicalInversionKey>(
+            "defined_on_entity_attributes",
+            "expression",
+            "logical_entity",
+            "long_description",
+            "name",
+            "native_id",
+            "physical_name",
+            "short_description") {
+        @Override
+        public Object getValue(LogicalInversionKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefinedOnEntityAttributes();
+                case 1: return bean.getExpression();
+                case 2: return bean.getLogicalEntity();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getPhysicalName();
+                case 7: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
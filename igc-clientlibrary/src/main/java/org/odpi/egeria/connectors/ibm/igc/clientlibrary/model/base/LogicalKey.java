@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -198,4 +199,36 @@ public class LogicalKey extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalKey> PROPERTY_TABLE = new BeanPropertyTable<LogicalKey>(
+            "defined_on_entity_attributes",
+            "expression",
+            "logical_entity",
+            "long_description",
+            "name",
+            "native_id",
+            "physical_name",
+            "primary_key",
+            "referenced_by_logical_keys",
+            "short_description") {
+        @Override
+        public Object getValue(LogicalKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefinedOnEntityAttributes();
+                case 1: return bean.getExpression();
+                case 2: return bean.getLogicalEntity();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getPhysicalName();
+                case 7: return bean.getPrimaryKey();
+                case 8: return bean.getReferencedByLogicalKeys();
+                case 9: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -147,4 +148,30 @@ public class LogicalValidationList extends Reference {
     @JsonProperty("values")
     public void setValues(List<String> values) { this.values = values; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalValidationList> PROPERTY_TABLE = new BeanPropertyTable<LogicalValidationList>(
+            "logical_data_model",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description",
+            "used_by_entity_attributes",
+            "values") {
+        @Override
+        public Object getValue(LogicalValidationList bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getLogicalDataModel();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getShortDescription();
+                case 5: return bean.getUsedByEntityAttributes();
+                case 6: return bean.getValues();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -163,4 +164,32 @@ public class LogicalValidationRange extends Reference {
     @JsonProperty("used_by_entity_attributes")
     public void setUsedByEntityAttributes(ItemList<EntityAttribute> usedByEntityAttributes) { this.usedByEntityAttributes = usedByEntityAttributes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalValidationRange> PROPERTY_TABLE = new BeanPropertyTable<LogicalValidationRange>(
+            "logical_data_model",
+            "long_description",
+            "maximum_value",
+            "minimum_value",
+            "name",
+            "native_id",
+            "short_description",
+            "used_by_entity_attributes") {
+        @Override
+        public Object getValue(LogicalValidationRange bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getLogicalDataModel();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getMaximumValue();
+                case 3: return bean.getMinimumValue();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getShortDescription();
+                case 7: return bean.getUsedByEntityAttributes();
+                default: return null;
+            }
+        }
+    };
+
 }
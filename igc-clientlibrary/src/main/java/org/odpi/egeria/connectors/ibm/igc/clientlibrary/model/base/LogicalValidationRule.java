@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -180,4 +181,34 @@ public class LogicalValidationRule extends Reference {
     @JsonProperty("used_by_entity_attributes")
     public void setUsedByEntityAttributes(ItemList<EntityAttribute> usedByEntityAttributes) { this.usedByEntityAttributes = usedByEntityAttributes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalValidationRule> PROPERTY_TABLE = new BeanPropertyTable<LogicalValidationRule>(
+            "logical_data_model",
+            "long_description",
+            "name",
+            "native_id",
+            "rule_expression",
+            "rule_type",
+            "short_description",
+            "top_element",
+            "used_by_entity_attributes") {
+        @Override
+        public Object getValue(LogicalValidationRule bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getLogicalDataModel();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getRuleExpression();
+                case 5: return bean.getRuleType();
+                case 6: return bean.getShortDescription();
+                case 7: return bean.getTopElement();
+                case 8: return bean.getUsedByEntityAttributes();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -243,4 +244,38 @@ public class LogicalVariable extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<LogicalVariable> PROPERTY_TABLE = new BeanPropertyTable<LogicalVariable>(
+            "assigned_to_terms",
+            "binding",
+            "data_type",
+            "long_description",
+            "name",
+            "native_id",
+            "short_&_long_description",
+            "short_description",
+            "status",
+            "stewards",
+            "type") {
+        @Override
+        public Object getValue(LogicalVariable bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedToTerms();
+                case 1: return bean.getBinding();
+                case 2: return bean.getDataType();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getShortLongDescription();
+                case 7: return bean.getShortDescription();
+                case 8: return bean.getStatus();
+                case 9: return bean.getStewards();
+                case 10: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code machine_profile} asset type in IGC, displayed as '{@literal Machine Profile}' in the IGC UI.
@@ -110,4 +111,26 @@ public class MachineProfile extends InformationAsset {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MachineProfile> PROPERTY_TABLE = new BeanPropertyTable<MachineProfile>(
+            "host",
+            "platform_type",
+            "port_number",
+            "transfer_type",
+            "transformation_project") {
+        @Override
+        public Object getValue(MachineProfile bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getHost();
+                case 1: return bean.getPlatformType();
+                case 2: return bean.getPortNumber();
+                case 3: return bean.getTransferType();
+                case 4: return bean.getTransformationProject();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -193,4 +194,32 @@ public class MainObject extends Reference {
     @JsonProperty("stewards")
     public void setStewards(ItemList<AsclSteward> stewards) { this.stewards = stewards; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MainObject> PROPERTY_TABLE = new BeanPropertyTable<MainObject>(
+            "assigned_to_terms",
+            "governed_by_rules",
+            "implements_rules",
+            "labels",
+            "long_description",
+            "name",
+            "short_description",
+            "stewards") {
+        @Override
+        public Object getValue(MainObject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedToTerms();
+                case 1: return bean.getGovernedByRules();
+                case 2: return bean.getImplementsRules();
+                case 3: return bean.getLabels();
+                case 4: return bean.getLongDescription();
+                case 5: return bean.getTheName();
+                case 6: return bean.getShortDescription();
+                case 7: return bean.getStewards();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -266,4 +267,44 @@ public class Mapping extends Reference {
     @JsonProperty("target_terms")
     public void setTargetTerms(ItemList<Term> targetTerms) { this.targetTerms = targetTerms; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Mapping> PROPERTY_TABLE = new BeanPropertyTable<Mapping>(
+            "description",
+            "last_update_description",
+            "mapping_specification",
+            "name",
+            "rule_description",
+            "rule_expression",
+            "source_column_names",
+            "source_columns",
+            "source_terms",
+            "status",
+            "tags",
+            "target_column_names",
+            "target_columns",
+            "target_terms") {
+        @Override
+        public Object getValue(Mapping bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getLastUpdateDescription();
+                case 2: return bean.getMappingSpecification();
+                case 3: return bean.getTheName();
+                case 4: return bean.getRuleDescription();
+                case 5: return bean.getRuleExpression();
+                case 6: return bean.getSourceColumnNames();
+                case 7: return bean.getSourceColumns();
+                case 8: return bean.getSourceTerms();
+                case 9: return bean.getStatus();
+                case 10: return bean.getTags();
+                case 11: return bean.getTargetColumnNames();
+                case 12: return bean.getTargetColumns();
+                case 13: return bean.getTargetTerms();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -129,4 +130,28 @@ public class MappingComponent extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MappingComponent> PROPERTY_TABLE = new BeanPropertyTable<MappingComponent>(
+            "long_description",
+            "mapping_project",
+            "name",
+            "native_id",
+            "shared_containers",
+            "short_description") {
+        @Override
+        public Object getValue(MappingComponent bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getLongDescription();
+                case 1: return bean.getMappingProject();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getSharedContainers();
+                case 5: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
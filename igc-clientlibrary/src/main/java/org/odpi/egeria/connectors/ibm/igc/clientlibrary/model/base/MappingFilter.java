@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.List;
 
@@ -78,4 +79,22 @@ public class MappingFilter extends Reference {
     @JsonProperty("rule_expression")
     public void setRuleExpression(String ruleExpression) { this.ruleExpression = ruleExpression; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MappingFilter> PROPERTY_TABLE = new BeanPropertyTable<MappingFilter>(
+            "description",
+            "name",
+            "rule_expression") {
+        @Override
+        public Object getValue(MappingFilter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getTheName();
+                case 2: return bean.getRuleExpression();
+                default: return null;
+            }
+        }
+    };
+
 }
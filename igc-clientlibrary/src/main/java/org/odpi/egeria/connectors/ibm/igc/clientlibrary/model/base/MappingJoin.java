@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -96,4 +97,24 @@ public class MappingJoin extends Reference {
     @JsonProperty("primary_key_columns")
     public void setPrimaryKeyColumns(ItemList<DatabaseColumn> primaryKeyColumns) { this.primaryKeyColumns = primaryKeyColumns; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MappingJoin> PROPERTY_TABLE = new BeanPropertyTable<MappingJoin>(
+            "description",
+            "foreign_key_columns",
+            "name",
+            "primary_key_columns") {
+        @Override
+        public Object getValue(MappingJoin bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getForeignKeyColumns();
+                case 2: return bean.getTheName();
+                case 3: return bean.getPrimaryKeyColumns();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class MappingProject extends InformationAsset {
     @JsonProperty("mapping_specifications")
     public void setMappingSpecifications(ItemList<MappingSpecification> mappingSpecifications) { this.mappingSpecifications = mappingSpecifications; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MappingProject> PROPERTY_TABLE = new BeanPropertyTable<MappingProject>(
+            "generated_jobs",
+            "mapping_components",
+            "mapping_specifications") {
+        @Override
+        public Object getValue(MappingProject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getGeneratedJobs();
+                case 1: return bean.getMappingComponents();
+                case 2: return bean.getMappingSpecifications();
+                default: return null;
+            }
+        }
+    };
+
 }
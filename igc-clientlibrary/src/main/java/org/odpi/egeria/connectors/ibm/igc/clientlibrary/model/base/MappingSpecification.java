@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -254,4 +255,40 @@ public class MappingSpecification extends InformationAsset {
     @JsonProperty("target_database_tables_or_views")
     public void setTargetDatabaseTablesOrViews(ItemList<Datagroup> targetDatabaseTablesOrViews) { this.targetDatabaseTablesOrViews = targetDatabaseTablesOrViews; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MappingSpecification> PROPERTY_TABLE = new BeanPropertyTable<MappingSpecification>(
+            "description",
+            "filters",
+            "generated_jobs",
+            "include_for_lineage",
+            "information_server_reports",
+            "joins",
+            "mapping_project",
+            "mappings",
+            "owner",
+            "source_database_tables_or_views",
+            "status",
+            "target_database_tables_or_views") {
+        @Override
+        public Object getValue(MappingSpecification bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getFilters();
+                case 2: return bean.getGeneratedJobs();
+                case 3: return bean.getIncludeForLineage();
+                case 4: return bean.getInformationServerReports();
+                case 5: return bean.getJoins();
+                case 6: return bean.getMappingProject();
+                case 7: return bean.getMappings();
+                case 8: return bean.getOwner();
+                case 9: return bean.getSourceDatabaseTablesOrViews();
+                case 10: return bean.getStatus();
+                case 11: return bean.getTargetDatabaseTablesOrViews();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code masking_rule} asset type in IGC, displayed as '{@literal Masking Rule}' in the IGC UI.
@@ -42,4 +43,18 @@ public class MaskingRule extends InformationAsset {
     @JsonProperty("rule_logic")
     public void setRuleLogic(String ruleLogic) { this.ruleLogic = ruleLogic; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MaskingRule> PROPERTY_TABLE = new BeanPropertyTable<MaskingRule>(
+            "rule_logic") {
+        @Override
+        public Object getValue(MaskingRule bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getRuleLogic();
+                default: return null;
+            }
+        }
+    };
+
 }
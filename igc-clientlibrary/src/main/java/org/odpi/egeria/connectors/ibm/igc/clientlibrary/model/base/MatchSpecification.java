@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -129,4 +130,28 @@ public class MatchSpecification extends InformationAsset {
     @JsonProperty("used_by_stages")
     public void setUsedByStages(ItemList<Stage> usedByStages) { this.usedByStages = usedByStages; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MatchSpecification> PROPERTY_TABLE = new BeanPropertyTable<MatchSpecification>(
+            "dataFields",
+            "data_quality_specifications",
+            "folder",
+            "transformation_project",
+            "type",
+            "used_by_stages") {
+        @Override
+        public Object getValue(MatchSpecification bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDatafields();
+                case 1: return bean.getDataQualitySpecifications();
+                case 2: return bean.getFolder();
+                case 3: return bean.getTransformationProject();
+                case 4: return bean.getTheType();
+                case 5: return bean.getUsedByStages();
+                default: return null;
+            }
+        }
+    };
+
 }
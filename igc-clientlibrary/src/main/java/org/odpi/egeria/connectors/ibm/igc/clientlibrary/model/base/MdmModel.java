@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -128,4 +129,28 @@ public class MdmModel extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MdmModel> PROPERTY_TABLE = new BeanPropertyTable<MdmModel>(
+            "alias_(business_name)",
+            "contains_attributes_types",
+            "contains_member_types",
+            "contains_physical_objects",
+            "namespace",
+            "version") {
+        @Override
+        public Object getValue(MdmModel bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getContainsAttributesTypes();
+                case 2: return bean.getContainsMemberTypes();
+                case 3: return bean.getContainsPhysicalObjects();
+                case 4: return bean.getNamespace();
+                case 5: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
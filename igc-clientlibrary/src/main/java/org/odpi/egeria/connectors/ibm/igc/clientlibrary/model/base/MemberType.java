@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class MemberType extends InformationAsset {
     @JsonProperty("member_type_label")
     public void setMemberTypeLabel(String memberTypeLabel) { this.memberTypeLabel = memberTypeLabel; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MemberType> PROPERTY_TABLE = new BeanPropertyTable<MemberType>(
+            "alias_(business_name)",
+            "contains_attributes",
+            "contains_composite_views",
+            "contains_entity_types",
+            "mdm_model",
+            "mdm_model_for_query",
+            "member_type_label") {
+        @Override
+        public Object getValue(MemberType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getContainsAttributes();
+                case 2: return bean.getContainsCompositeViews();
+                case 3: return bean.getContainsEntityTypes();
+                case 4: return bean.getMdmModel();
+                case 5: return bean.getMdmModelForQuery();
+                case 6: return bean.getMemberTypeLabel();
+                default: return null;
+            }
+        }
+    };
+
 }
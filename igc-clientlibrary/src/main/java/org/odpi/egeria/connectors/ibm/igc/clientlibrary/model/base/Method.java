@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -213,4 +214,38 @@ public class Method extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Method> PROPERTY_TABLE = new BeanPropertyTable<Method>(
+            "input_parameters",
+            "object_type",
+            "output_values",
+            "reads_from_(design)",
+            "reads_from_(operational)",
+            "reads_from_(static)",
+            "reads_from_(user_defined)",
+            "writes_to_(design)",
+            "writes_to_(operational)",
+            "writes_to_(static)",
+            "writes_to_(user_defined)") {
+        @Override
+        public Object getValue(Method bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getInputParameters();
+                case 1: return bean.getObjectType();
+                case 2: return bean.getOutputValues();
+                case 3: return bean.getReadsFromDesign();
+                case 4: return bean.getReadsFromOperational();
+                case 5: return bean.getReadsFromStatic();
+                case 6: return bean.getReadsFromUserDefined();
+                case 7: return bean.getWritesToDesign();
+                case 8: return bean.getWritesToOperational();
+                case 9: return bean.getWritesToStatic();
+                case 10: return bean.getWritesToUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
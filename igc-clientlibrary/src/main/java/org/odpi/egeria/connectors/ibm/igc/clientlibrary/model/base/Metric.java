@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -159,4 +160,30 @@ public class Metric extends InformationAsset {
     @JsonProperty("status")
     public void setStatus(String status) { this.status = status; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Metric> PROPERTY_TABLE = new BeanPropertyTable<Metric>(
+            "benchmark",
+            "data_policies",
+            "execution_history",
+            "measure",
+            "project",
+            "references_data_rules_or_data_rule_sets",
+            "status") {
+        @Override
+        public Object getValue(Metric bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBenchmark();
+                case 1: return bean.getDataPolicies();
+                case 2: return bean.getExecutionHistory();
+                case 3: return bean.getMeasure();
+                case 4: return bean.getProject();
+                case 5: return bean.getReferencesDataRulesOrDataRuleSets();
+                case 6: return bean.getStatus();
+                default: return null;
+            }
+        }
+    };
+
 }
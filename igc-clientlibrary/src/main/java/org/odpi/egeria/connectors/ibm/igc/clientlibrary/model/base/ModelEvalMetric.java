@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import java.util.Date;
 
@@ -95,4 +96,24 @@ public class ModelEvalMetric extends Reference {
     @JsonProperty("value")
     public void setValue(String value) { this.value = value; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ModelEvalMetric> PROPERTY_TABLE = new BeanPropertyTable<ModelEvalMetric>(
+            "eval_date",
+            "metric_type",
+            "of_model",
+            "value") {
+        @Override
+        public Object getValue(ModelEvalMetric bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getEvalDate();
+                case 1: return bean.getMetricType();
+                case 2: return bean.getOfModel();
+                case 3: return bean.getValue();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -95,4 +96,24 @@ public class MwbDatabaseAlias extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<MwbDatabaseAlias> PROPERTY_TABLE = new BeanPropertyTable<MwbDatabaseAlias>(
+            "database",
+            "name",
+            "referenced_by_jobs",
+            "type") {
+        @Override
+        public Object getValue(MwbDatabaseAlias bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDatabase();
+                case 1: return bean.getTheName();
+                case 2: return bean.getReferencedByJobs();
+                case 3: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -111,4 +112,26 @@ public class Navigationdescriptor extends Reference {
     @JsonProperty("of_class_descriptor")
     public void setOfClassDescriptor(Classdescriptor ofClassDescriptor) { this.ofClassDescriptor = ofClassDescriptor; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Navigationdescriptor> PROPERTY_TABLE = new BeanPropertyTable<Navigationdescriptor>(
+            "description",
+            "display_name",
+            "expression",
+            "name",
+            "of_class_descriptor") {
+        @Override
+        public Object getValue(Navigationdescriptor bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getDisplayName();
+                case 2: return bean.getExpression();
+                case 3: return bean.getTheName();
+                case 4: return bean.getOfClassDescriptor();
+                default: return null;
+            }
+        }
+    };
+
 }
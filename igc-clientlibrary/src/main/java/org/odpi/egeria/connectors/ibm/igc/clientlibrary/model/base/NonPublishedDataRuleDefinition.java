@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -61,4 +62,20 @@ public class NonPublishedDataRuleDefinition extends DataRuleDefinition {
     @JsonProperty("design_bindings")
     public void setDesignBindings(ItemList<DatabaseColumn> designBindings) { this.designBindings = designBindings; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<NonPublishedDataRuleDefinition> PROPERTY_TABLE = new BeanPropertyTable<NonPublishedDataRuleDefinition>(
+            "data_rules",
+            "design_bindings") {
+        @Override
+        public Object getValue(NonPublishedDataRuleDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataRules();
+                case 1: return bean.getDesignBindings();
+                default: return null;
+            }
+        }
+    };
+
 }
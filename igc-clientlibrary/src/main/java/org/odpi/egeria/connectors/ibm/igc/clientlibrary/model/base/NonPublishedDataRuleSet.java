@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class NonPublishedDataRuleSet extends DataRuleSetDefinition {
     @JsonProperty("design_bindings")
     public void setDesignBindings(ItemList<DatabaseColumn> designBindings) { this.designBindings = designBindings; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<NonPublishedDataRuleSet> PROPERTY_TABLE = new BeanPropertyTable<NonPublishedDataRuleSet>(
+            "data_rule_definitions",
+            "data_rule_sets",
+            "design_bindings") {
+        @Override
+        public Object getValue(NonPublishedDataRuleSet bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataRuleDefinitions();
+                case 1: return bean.getDataRuleSets();
+                case 2: return bean.getDesignBindings();
+                default: return null;
+            }
+        }
+    };
+
 }
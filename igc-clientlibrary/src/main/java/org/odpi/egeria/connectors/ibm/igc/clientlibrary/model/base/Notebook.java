@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -197,4 +198,36 @@ public class Notebook extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Notebook> PROPERTY_TABLE = new BeanPropertyTable<Notebook>(
+            "analytics_project",
+            "environment",
+            "first_published_date",
+            "input_training_notebook_inv",
+            "logical_name",
+            "model_input_training_column",
+            "package_name",
+            "system_equiv_id",
+            "tool",
+            "url") {
+        @Override
+        public Object getValue(Notebook bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalyticsProject();
+                case 1: return bean.getEnvironment();
+                case 2: return bean.getFirstPublishedDate();
+                case 3: return bean.getInputTrainingNotebookInv();
+                case 4: return bean.getLogicalName();
+                case 5: return bean.getModelInputTrainingColumn();
+                case 6: return bean.getPackageName();
+                case 7: return bean.getSystemEquivId();
+                case 8: return bean.getTool();
+                case 9: return bean.getTheUrl();
+                default: return null;
+            }
+        }
+    };
+
 }
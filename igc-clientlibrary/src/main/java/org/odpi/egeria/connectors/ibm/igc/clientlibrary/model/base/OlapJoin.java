@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -189,4 +190,34 @@ public class OlapJoin extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<OlapJoin> PROPERTY_TABLE = new BeanPropertyTable<OlapJoin>(
+            "bi_model",
+            "business_name",
+            "condition",
+            "contains_references",
+            "name",
+            "native_id",
+            "referenced_by_an_olap_cube",
+            "short_description",
+            "type") {
+        @Override
+        public Object getValue(OlapJoin bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiModel();
+                case 1: return bean.getBusinessName();
+                case 2: return bean.getCondition();
+                case 3: return bean.getContainsReferences();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getReferencedByAnOlapCube();
+                case 7: return bean.getShortDescription();
+                case 8: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
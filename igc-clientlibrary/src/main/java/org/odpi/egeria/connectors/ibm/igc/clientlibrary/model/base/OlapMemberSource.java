@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class OlapMemberSource extends Reference {
     @JsonProperty("olap_member")
     public void setOlapMember(BiCollectionMember olapMember) { this.olapMember = olapMember; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<OlapMemberSource> PROPERTY_TABLE = new BeanPropertyTable<OlapMemberSource>(
+            "data_field",
+            "native_id",
+            "olap_member") {
+        @Override
+        public Object getValue(OlapMemberSource bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataField();
+                case 1: return bean.getNativeId();
+                case 2: return bean.getOlapMember();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class Olaphierarchyassociation extends MainObject {
     @JsonProperty("x_of_olap_level")
     public void setXOfOlapLevel(ItemList<BiLevel> xOfOlapLevel) { this.xOfOlapLevel = xOfOlapLevel; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Olaphierarchyassociation> PROPERTY_TABLE = new BeanPropertyTable<Olaphierarchyassociation>(
+            "business_name",
+            "has_child_olap_level",
+            "has_parent_olap_level",
+            "native_id",
+            "of_olap_hierarchy_member",
+            "sequence",
+            "x_of_olap_level") {
+        @Override
+        public Object getValue(Olaphierarchyassociation bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBusinessName();
+                case 1: return bean.getHasChildOlapLevel();
+                case 2: return bean.getHasParentOlapLevel();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getOfOlapHierarchyMember();
+                case 5: return bean.getSequence();
+                case 6: return bean.getXOfOlapLevel();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -138,4 +139,28 @@ public class Olapjoinref extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Olapjoinref> PROPERTY_TABLE = new BeanPropertyTable<Olapjoinref>(
+            "alias",
+            "cardinality",
+            "joins_database_table",
+            "joins_olap_collection",
+            "native_id",
+            "sequence") {
+        @Override
+        public Object getValue(Olapjoinref bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAlias();
+                case 1: return bean.getCardinality();
+                case 2: return bean.getJoinsDatabaseTable();
+                case 3: return bean.getJoinsOlapCollection();
+                case 4: return bean.getNativeId();
+                case 5: return bean.getSequence();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class Olapmodelgroup extends MainObject {
     @JsonProperty("native_id")
     public void setNativeId(String nativeId) { this.nativeId = nativeId; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Olapmodelgroup> PROPERTY_TABLE = new BeanPropertyTable<Olapmodelgroup>(
+            "bi_model",
+            "business_name",
+            "native_id") {
+        @Override
+        public Object getValue(Olapmodelgroup bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBiModel();
+                case 1: return bean.getBusinessName();
+                case 2: return bean.getNativeId();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -111,4 +112,26 @@ public class OslcLink extends Reference {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<OslcLink> PROPERTY_TABLE = new BeanPropertyTable<OslcLink>(
+            "description",
+            "link_type",
+            "of_main_object",
+            "of_provider_connection",
+            "url") {
+        @Override
+        public Object getValue(OslcLink bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getLinkType();
+                case 2: return bean.getOfMainObject();
+                case 3: return bean.getOfProviderConnection();
+                case 4: return bean.getTheUrl();
+                default: return null;
+            }
+        }
+    };
+
 }
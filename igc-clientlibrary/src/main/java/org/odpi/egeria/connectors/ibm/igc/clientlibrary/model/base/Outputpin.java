@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class Outputpin extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Outputpin> PROPERTY_TABLE = new BeanPropertyTable<Outputpin>(
+            "is_source_of_link",
+            "of_job_component",
+            "sequence") {
+        @Override
+        public Object getValue(Outputpin bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getIsSourceOfLink();
+                case 1: return bean.getOfJobComponent();
+                case 2: return bean.getSequence();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -249,4 +250,40 @@ public class Parameter extends DataItem {
     @JsonProperty("usage")
     public void setUsage(String usage) { this.usage = usage; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Parameter> PROPERTY_TABLE = new BeanPropertyTable<Parameter>(
+            "connection_property",
+            "defines_parameter_val",
+            "is_connection_property",
+            "is_parameter_set",
+            "is_return_of_function",
+            "of_container_def",
+            "of_function",
+            "of_job_def",
+            "of_parameter_set",
+            "of_stage_type",
+            "of_stored_procedure",
+            "usage") {
+        @Override
+        public Object getValue(Parameter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getConnectionProperty();
+                case 1: return bean.getDefinesParameterVal();
+                case 2: return bean.getIsConnectionProperty();
+                case 3: return bean.getIsParameterSet();
+                case 4: return bean.getIsReturnOfFunction();
+                case 5: return bean.getOfContainerDef();
+                case 6: return bean.getOfFunction();
+                case 7: return bean.getOfJobDef();
+                case 8: return bean.getOfParameterSet();
+                case 9: return bean.getOfStageType();
+                case 10: return bean.getOfStoredProcedure();
+                case 11: return bean.getUsage();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class ParameterSet extends InformationAsset {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ParameterSet> PROPERTY_TABLE = new BeanPropertyTable<ParameterSet>(
+            "jobs",
+            "parameters",
+            "transformation_project") {
+        @Override
+        public Object getValue(ParameterSet bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getJobs();
+                case 1: return bean.getParameters();
+                case 2: return bean.getTransformationProject();
+                default: return null;
+            }
+        }
+    };
+
 }
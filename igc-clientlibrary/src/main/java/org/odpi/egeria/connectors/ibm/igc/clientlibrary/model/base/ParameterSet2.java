@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class ParameterSet2 extends MainObject {
     @JsonProperty("used_as_parameter_def")
     public void setUsedAsParameterDef(ItemList<Parameter> usedAsParameterDef) { this.usedAsParameterDef = usedAsParameterDef; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ParameterSet2> PROPERTY_TABLE = new BeanPropertyTable<ParameterSet2>(
+            "has_parameter_def",
+            "native_id",
+            "used_as_parameter_def") {
+        @Override
+        public Object getValue(ParameterSet2 bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getHasParameterDef();
+                case 1: return bean.getNativeId();
+                case 2: return bean.getUsedAsParameterDef();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -210,4 +211,36 @@ public class ParameterSetDefinition extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ParameterSetDefinition> PROPERTY_TABLE = new BeanPropertyTable<ParameterSetDefinition>(
+            "context",
+            "default_value",
+            "display_caption",
+            "long_description",
+            "name",
+            "native_id",
+            "parameters",
+            "referenced_by_jobs",
+            "short_description",
+            "type") {
+        @Override
+        public Object getValue(ParameterSetDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheContext();
+                case 1: return bean.getDefaultValue();
+                case 2: return bean.getDisplayCaption();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getParameters();
+                case 7: return bean.getReferencedByJobs();
+                case 8: return bean.getShortDescription();
+                case 9: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -190,4 +191,34 @@ public class Parameterval extends Reference {
     @JsonProperty("value_expression")
     public void setValueExpression(String valueExpression) { this.valueExpression = valueExpression; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Parameterval> PROPERTY_TABLE = new BeanPropertyTable<Parameterval>(
+            "binds_parameter_def",
+            "for_data_connection",
+            "for_function_call",
+            "for_job_object",
+            "has_function_call",
+            "parameter_name",
+            "sequence",
+            "usage",
+            "value_expression") {
+        @Override
+        public Object getValue(Parameterval bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBindsParameterDef();
+                case 1: return bean.getForDataConnection();
+                case 2: return bean.getForFunctionCall();
+                case 3: return bean.getForJobObject();
+                case 4: return bean.getHasFunctionCall();
+                case 5: return bean.getParameterName();
+                case 6: return bean.getSequence();
+                case 7: return bean.getUsage();
+                case 8: return bean.getValueExpression();
+                default: return null;
+            }
+        }
+    };
+
 }
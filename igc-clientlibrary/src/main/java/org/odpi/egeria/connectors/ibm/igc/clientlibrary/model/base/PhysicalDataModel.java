@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -298,4 +299,48 @@ public class PhysicalDataModel extends InformationAsset {
     @JsonProperty("target_dbms")
     public void setTargetDbms(String targetDbms) { this.targetDbms = targetDbms; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<PhysicalDataModel> PROPERTY_TABLE = new BeanPropertyTable<PhysicalDataModel>(
+            "alias_(business_name)",
+            "author",
+            "contains_design_stored_procedures",
+            "contains_design_tables",
+            "contains_design_views",
+            "contains_physical_models",
+            "implemented_by_data_files",
+            "implemented_by_database_schemas",
+            "implements_logical_data_models",
+            "imported_from",
+            "namespace",
+            "package",
+            "physical_domains",
+            "physical_model",
+            "target_database",
+            "target_dbms") {
+        @Override
+        public Object getValue(PhysicalDataModel bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getAuthor();
+                case 2: return bean.getContainsDesignStoredProcedures();
+                case 3: return bean.getContainsDesignTables();
+                case 4: return bean.getContainsDesignViews();
+                case 5: return bean.getContainsPhysicalModels();
+                case 6: return bean.getImplementedByDataFiles();
+                case 7: return bean.getImplementedByDatabaseSchemas();
+                case 8: return bean.getImplementsLogicalDataModels();
+                case 9: return bean.getImportedFrom();
+                case 10: return bean.getNamespace();
+                case 11: return bean.getPackage();
+                case 12: return bean.getPhysicalDomains();
+                case 13: return bean.getPhysicalModel();
+                case 14: return bean.getTargetDatabase();
+                case 15: return bean.getTargetDbms();
+                default: return null;
+            }
+        }
+    };
+
 }
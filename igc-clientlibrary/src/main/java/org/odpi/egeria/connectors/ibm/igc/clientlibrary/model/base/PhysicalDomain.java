@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -270,4 +271,38 @@ public class PhysicalDomain extends Reference {
     @JsonProperty("used_by_data_items")
     public void setUsedByDataItems(ItemList<DesignColumn> usedByDataItems) { this.usedByDataItems = usedByDataItems; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<PhysicalDomain> PROPERTY_TABLE = new BeanPropertyTable<PhysicalDomain>(
+            "data_type",
+            "fraction",
+            "length",
+            "long_description",
+            "name",
+            "native_id",
+            "odbc_type",
+            "physical_data_model",
+            "short_&_long_description",
+            "short_description",
+            "used_by_data_items") {
+        @Override
+        public Object getValue(PhysicalDomain bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataType();
+                case 1: return bean.getFraction();
+                case 2: return bean.getLength();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getOdbcType();
+                case 7: return bean.getPhysicalDataModel();
+                case 8: return bean.getShortLongDescription();
+                case 9: return bean.getShortDescription();
+                case 10: return bean.getUsedByDataItems();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class PhysicalObject extends InformationAsset {
     @JsonProperty("physical_object")
     public void setPhysicalObject(ItemList<PhysicalObject> physicalObject) { this.physicalObject = physicalObject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<PhysicalObject> PROPERTY_TABLE = new BeanPropertyTable<PhysicalObject>(
+            "alias_(business_name)",
+            "contains_physical_object_attributes",
+            "contains_physical_objects",
+            "context",
+            "maps_database_tables_or_views",
+            "mdm_model",
+            "physical_object") {
+        @Override
+        public Object getValue(PhysicalObject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getContainsPhysicalObjectAttributes();
+                case 2: return bean.getContainsPhysicalObjects();
+                case 3: return bean.getTheContext();
+                case 4: return bean.getMapsDatabaseTablesOrViews();
+                case 5: return bean.getMdmModel();
+                case 6: return bean.getPhysicalObject();
+                default: return null;
+            }
+        }
+    };
+
 }
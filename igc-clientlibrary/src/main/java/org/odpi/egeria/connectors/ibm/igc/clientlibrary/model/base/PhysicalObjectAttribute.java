@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code physical_object_attribute} asset type in IGC, displayed as '{@literal Physical Object Attribute}' in the IGC UI.
@@ -93,4 +94,24 @@ public class PhysicalObjectAttribute extends InformationAsset {
     @JsonProperty("physical_object_for_query")
     public void setPhysicalObjectForQuery(PhysicalObject physicalObjectForQuery) { this.physicalObjectForQuery = physicalObjectForQuery; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<PhysicalObjectAttribute> PROPERTY_TABLE = new BeanPropertyTable<PhysicalObjectAttribute>(
+            "alias_(business_name)",
+            "maps_database_fields",
+            "physical_object",
+            "physical_object_for_query") {
+        @Override
+        public Object getValue(PhysicalObjectAttribute bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getMapsDatabaseFields();
+                case 2: return bean.getPhysicalObject();
+                case 3: return bean.getPhysicalObjectForQuery();
+                default: return null;
+            }
+        }
+    };
+
 }
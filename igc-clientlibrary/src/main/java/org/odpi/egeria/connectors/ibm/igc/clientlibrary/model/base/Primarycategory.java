@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -94,4 +95,24 @@ public class Primarycategory extends Reference {
     @JsonProperty("uses_business_category")
     public void setUsesBusinessCategory(MainObject usesBusinessCategory) { this.usesBusinessCategory = usesBusinessCategory; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Primarycategory> PROPERTY_TABLE = new BeanPropertyTable<Primarycategory>(
+            "color",
+            "icon",
+            "name",
+            "uses_business_category") {
+        @Override
+        public Object getValue(Primarycategory bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getColor();
+                case 1: return bean.getIcon();
+                case 2: return bean.getTheName();
+                case 3: return bean.getUsesBusinessCategory();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -162,4 +163,32 @@ public class Propdescriptor extends Reference {
     @JsonProperty("value_type")
     public void setValueType(String valueType) { this.valueType = valueType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Propdescriptor> PROPERTY_TABLE = new BeanPropertyTable<Propdescriptor>(
+            "attribute_name",
+            "description",
+            "display_name",
+            "is_attribute",
+            "name",
+            "of_class_descriptor",
+            "value_expression",
+            "value_type") {
+        @Override
+        public Object getValue(Propdescriptor bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAttributeName();
+                case 1: return bean.getDescription();
+                case 2: return bean.getDisplayName();
+                case 3: return bean.getIsAttribute();
+                case 4: return bean.getTheName();
+                case 5: return bean.getOfClassDescriptor();
+                case 6: return bean.getValueExpression();
+                case 7: return bean.getValueType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -231,4 +232,40 @@ public class Providerpropertyinfo extends Reference {
     @JsonProperty("property_data_type")
     public void setPropertyDataType(String propertyDataType) { this.propertyDataType = propertyDataType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Providerpropertyinfo> PROPERTY_TABLE = new BeanPropertyTable<Providerpropertyinfo>(
+            "complex_attribute_source",
+            "default_value",
+            "description",
+            "display_name",
+            "has_directory_provider_property",
+            "has_provider_property_info_extended",
+            "is_complex_attribute",
+            "is_editable",
+            "is_required",
+            "is_searchable",
+            "name",
+            "property_data_type") {
+        @Override
+        public Object getValue(Providerpropertyinfo bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getComplexAttributeSource();
+                case 1: return bean.getDefaultValue();
+                case 2: return bean.getDescription();
+                case 3: return bean.getDisplayName();
+                case 4: return bean.getHasDirectoryProviderProperty();
+                case 5: return bean.getHasProviderPropertyInfoExtended();
+                case 6: return bean.getIsComplexAttribute();
+                case 7: return bean.getIsEditable();
+                case 8: return bean.getIsRequired();
+                case 9: return bean.getIsSearchable();
+                case 10: return bean.getTheName();
+                case 11: return bean.getPropertyDataType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class Providerpropertyinfoextended extends Reference {
     @JsonProperty("str_value")
     public void setStrValue(String strValue) { this.strValue = strValue; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Providerpropertyinfoextended> PROPERTY_TABLE = new BeanPropertyTable<Providerpropertyinfoextended>(
+            "name",
+            "of_provider_property_info",
+            "str_value") {
+        @Override
+        public Object getValue(Providerpropertyinfoextended bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheName();
+                case 1: return bean.getOfProviderPropertyInfo();
+                case 2: return bean.getStrValue();
+                default: return null;
+            }
+        }
+    };
+
 }
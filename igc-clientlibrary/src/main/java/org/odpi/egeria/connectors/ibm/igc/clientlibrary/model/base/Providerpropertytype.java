@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -104,4 +105,24 @@ public class Providerpropertytype extends Reference {
     @JsonProperty("property_type")
     public void setPropertyType(String propertyType) { this.propertyType = propertyType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Providerpropertytype> PROPERTY_TABLE = new BeanPropertyTable<Providerpropertytype>(
+            "description",
+            "has_directory_provider_property",
+            "name",
+            "property_type") {
+        @Override
+        public Object getValue(Providerpropertytype bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getHasDirectoryProviderProperty();
+                case 2: return bean.getTheName();
+                case 3: return bean.getPropertyType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class PublishedDataRuleDefinition extends DataRuleDefinition {
     @JsonProperty("root_folder")
     public void setRootFolder(String rootFolder) { this.rootFolder = rootFolder; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<PublishedDataRuleDefinition> PROPERTY_TABLE = new BeanPropertyTable<PublishedDataRuleDefinition>(
+            "copied_into_data_rule_stages",
+            "is_valid",
+            "root_folder") {
+        @Override
+        public Object getValue(PublishedDataRuleDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCopiedIntoDataRuleStages();
+                case 1: return bean.getIsValid();
+                case 2: return bean.getRootFolder();
+                default: return null;
+            }
+        }
+    };
+
 }
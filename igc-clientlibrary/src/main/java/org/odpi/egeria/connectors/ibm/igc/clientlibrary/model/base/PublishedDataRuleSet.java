@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -43,4 +44,18 @@ public class PublishedDataRuleSet extends DataRuleSetDefinition {
     @JsonProperty("data_rule_definitions")
     public void setDataRuleDefinitions(ItemList<PublishedDataRuleDefinition> dataRuleDefinitions) { this.dataRuleDefinitions = dataRuleDefinitions; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<PublishedDataRuleSet> PROPERTY_TABLE = new BeanPropertyTable<PublishedDataRuleSet>(
+            "data_rule_definitions") {
+        @Override
+        public Object getValue(PublishedDataRuleSet bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataRuleDefinitions();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -212,4 +213,36 @@ public class QualityProblem extends Reference {
     @JsonProperty("qualityScore")
     public void setQualityscore(Number qualityscore) { this.qualityscore = qualityscore; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<QualityProblem> PROPERTY_TABLE = new BeanPropertyTable<QualityProblem>(
+            "Column",
+            "QualityProblemTypeDescription",
+            "QualityProblemTypeName",
+            "confidence",
+            "data_quality_score",
+            "details",
+            "occurrences",
+            "percent_occurrences",
+            "problem_type",
+            "qualityScore") {
+        @Override
+        public Object getValue(QualityProblem bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getColumn();
+                case 1: return bean.getQualityproblemtypedescription();
+                case 2: return bean.getQualityproblemtypename();
+                case 3: return bean.getConfidence();
+                case 4: return bean.getDataQualityScore();
+                case 5: return bean.getDetails();
+                case 6: return bean.getOccurrences();
+                case 7: return bean.getPercentOccurrences();
+                case 8: return bean.getProblemType();
+                case 9: return bean.getQualityscore();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class QualityProblemType extends Reference {
     @JsonProperty("name")
     public void setTheName(String name) { this.name = name; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<QualityProblemType> PROPERTY_TABLE = new BeanPropertyTable<QualityProblemType>(
+            "code",
+            "description",
+            "name") {
+        @Override
+        public Object getValue(QualityProblemType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCode();
+                case 1: return bean.getDescription();
+                case 2: return bean.getTheName();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -146,4 +147,30 @@ public class RShinyApp extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<RShinyApp> PROPERTY_TABLE = new BeanPropertyTable<RShinyApp>(
+            "analytics_project",
+            "contains_r_shiny_app_object",
+            "first_published_date",
+            "logical_name",
+            "package_name",
+            "system_equiv_id",
+            "url") {
+        @Override
+        public Object getValue(RShinyApp bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalyticsProject();
+                case 1: return bean.getContainsRShinyAppObject();
+                case 2: return bean.getFirstPublishedDate();
+                case 3: return bean.getLogicalName();
+                case 4: return bean.getPackageName();
+                case 5: return bean.getSystemEquivId();
+                case 6: return bean.getTheUrl();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code r_shiny_app_object} asset type in IGC, displayed as '{@literal RShiny App Object}' in the IGC UI.
@@ -93,4 +94,24 @@ public class RShinyAppObject extends InformationAsset {
     @JsonProperty("system_equiv_id")
     public void setSystemEquivId(String systemEquivId) { this.systemEquivId = systemEquivId; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<RShinyAppObject> PROPERTY_TABLE = new BeanPropertyTable<RShinyAppObject>(
+            "from_r_shiny_app",
+            "path",
+            "studio_asset_type",
+            "system_equiv_id") {
+        @Override
+        public Object getValue(RShinyAppObject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getFromRShinyApp();
+                case 1: return bean.getPath();
+                case 2: return bean.getStudioAssetType();
+                case 3: return bean.getSystemEquivId();
+                default: return null;
+            }
+        }
+    };
+
 }
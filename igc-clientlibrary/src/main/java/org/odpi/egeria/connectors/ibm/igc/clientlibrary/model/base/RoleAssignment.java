@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -95,4 +96,24 @@ public class RoleAssignment extends Reference {
     @JsonProperty("sequence")
     public void setSequence(Number sequence) { this.sequence = sequence; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<RoleAssignment> PROPERTY_TABLE = new BeanPropertyTable<RoleAssignment>(
+            "assigns_principal",
+            "defined_by_system_role",
+            "has_role_context",
+            "sequence") {
+        @Override
+        public Object getValue(RoleAssignment bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignsPrincipal();
+                case 1: return bean.getDefinedBySystemRole();
+                case 2: return bean.getHasRoleContext();
+                case 3: return bean.getSequence();
+                default: return null;
+            }
+        }
+    };
+
 }
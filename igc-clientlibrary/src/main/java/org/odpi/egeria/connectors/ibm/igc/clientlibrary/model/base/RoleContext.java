@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -61,4 +62,20 @@ public class RoleContext extends Reference {
     @JsonProperty("defines_role_assignment")
     public void setDefinesRoleAssignment(ItemList<RoleAssignment> definesRoleAssignment) { this.definesRoleAssignment = definesRoleAssignment; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<RoleContext> PROPERTY_TABLE = new BeanPropertyTable<RoleContext>(
+            "context_id",
+            "defines_role_assignment") {
+        @Override
+        public Object getValue(RoleContext bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContextId();
+                case 1: return bean.getDefinesRoleAssignment();
+                default: return null;
+            }
+        }
+    };
+
 }
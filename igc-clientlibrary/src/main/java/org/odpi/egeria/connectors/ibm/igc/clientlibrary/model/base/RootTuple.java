@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -111,4 +112,26 @@ public class RootTuple extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<RootTuple> PROPERTY_TABLE = new BeanPropertyTable<RootTuple>(
+            "endpoint",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description") {
+        @Override
+        public Object getValue(RootTuple bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getEndpoint();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class Routine extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Routine> PROPERTY_TABLE = new BeanPropertyTable<Routine>(
+            "arguments",
+            "author",
+            "copyright",
+            "source_code",
+            "transformation_project",
+            "vendor",
+            "version") {
+        @Override
+        public Object getValue(Routine bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getArguments();
+                case 1: return bean.getAuthor();
+                case 2: return bean.getCopyright();
+                case 3: return bean.getSourceCode();
+                case 4: return bean.getTransformationProject();
+                case 5: return bean.getVendor();
+                case 6: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
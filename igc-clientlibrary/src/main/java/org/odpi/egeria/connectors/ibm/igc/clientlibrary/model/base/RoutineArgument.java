@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code routine_argument} asset type in IGC, displayed as '{@literal Routine Argument}' in the IGC UI.
@@ -42,4 +43,18 @@ public class RoutineArgument extends DataItem {
     @JsonProperty("function")
     public void setFunction(Routine function) { this.function = function; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<RoutineArgument> PROPERTY_TABLE = new BeanPropertyTable<RoutineArgument>(
+            "function") {
+        @Override
+        public Object getValue(RoutineArgument bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getFunction();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import java.util.List;
 
 /**
@@ -94,4 +95,24 @@ public class RuleExecutionResult extends InformationAsset {
     @JsonProperty("nbRecordsTested")
     public void setNbrecordstested(Number nbrecordstested) { this.nbrecordstested = nbrecordstested; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<RuleExecutionResult> PROPERTY_TABLE = new BeanPropertyTable<RuleExecutionResult>(
+            "benchmark",
+            "nbFailed",
+            "nbPassed",
+            "nbRecordsTested") {
+        @Override
+        public Object getValue(RuleExecutionResult bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBenchmark();
+                case 1: return bean.getNbfailed();
+                case 2: return bean.getNbpassed();
+                case 3: return bean.getNbrecordstested();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -162,4 +163,32 @@ public class SapConnection extends Reference {
     @JsonProperty("short_description")
     public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<SapConnection> PROPERTY_TABLE = new BeanPropertyTable<SapConnection>(
+            "connection_string",
+            "data_connectors",
+            "host",
+            "imports_idoc_types",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description") {
+        @Override
+        public Object getValue(SapConnection bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getConnectionString();
+                case 1: return bean.getDataConnectors();
+                case 2: return bean.getHost();
+                case 3: return bean.getImportsIdocTypes();
+                case 4: return bean.getLongDescription();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getShortDescription();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -44,4 +45,18 @@ public class SequenceJob extends Dsjob {
     @JsonProperty("sequences_jobs")
     public void setSequencesJobs(ItemList<Dsjob> sequencesJobs) { this.sequencesJobs = sequencesJobs; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<SequenceJob> PROPERTY_TABLE = new BeanPropertyTable<SequenceJob>(
+            "sequences_jobs") {
+        @Override
+        public Object getValue(SequenceJob bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getSequencesJobs();
+                default: return null;
+            }
+        }
+    };
+
 }
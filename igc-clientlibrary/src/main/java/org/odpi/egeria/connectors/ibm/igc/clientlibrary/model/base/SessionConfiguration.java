@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -94,4 +95,24 @@ public class SessionConfiguration extends Reference {
     @JsonProperty("wake_up_interval")
     public void setWakeUpInterval(Number wakeUpInterval) { this.wakeUpInterval = wakeUpInterval; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<SessionConfiguration> PROPERTY_TABLE = new BeanPropertyTable<SessionConfiguration>(
+            "max_sessions",
+            "name",
+            "time_to_live",
+            "wake_up_interval") {
+        @Override
+        public Object getValue(SessionConfiguration bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getMaxSessions();
+                case 1: return bean.getTheName();
+                case 2: return bean.getTimeToLive();
+                case 3: return bean.getWakeUpInterval();
+                default: return null;
+            }
+        }
+    };
+
 }
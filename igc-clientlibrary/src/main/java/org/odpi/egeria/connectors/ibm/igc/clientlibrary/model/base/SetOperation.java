@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -121,4 +122,26 @@ public class SetOperation extends Reference {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<SetOperation> PROPERTY_TABLE = new BeanPropertyTable<SetOperation>(
+            "additional_inputs",
+            "infoset",
+            "primary_input",
+            "secondary_input",
+            "type") {
+        @Override
+        public Object getValue(SetOperation bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAdditionalInputs();
+                case 1: return bean.getInfoset();
+                case 2: return bean.getPrimaryInput();
+                case 3: return bean.getSecondaryInput();
+                case 4: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -295,4 +296,46 @@ public class SharedContainer extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<SharedContainer> PROPERTY_TABLE = new BeanPropertyTable<SharedContainer>(
+            "annotations",
+            "local_containers",
+            "mapping_components",
+            "parameter_sets",
+            "parameters",
+            "referenced_by_containers",
+            "referenced_by_stages",
+            "references_containers",
+            "shared_containers",
+            "source_mappings",
+            "stages",
+            "target_mappings",
+            "transformation_project",
+            "type",
+            "version") {
+        @Override
+        public Object getValue(SharedContainer bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnnotations();
+                case 1: return bean.getLocalContainers();
+                case 2: return bean.getMappingComponents();
+                case 3: return bean.getParameterSets();
+                case 4: return bean.getParameters();
+                case 5: return bean.getReferencedByContainers();
+                case 6: return bean.getReferencedByStages();
+                case 7: return bean.getReferencesContainers();
+                case 8: return bean.getSharedContainers();
+                case 9: return bean.getSourceMappings();
+                case 10: return bean.getStages();
+                case 11: return bean.getTargetMappings();
+                case 12: return bean.getTransformationProject();
+                case 13: return bean.getTheType();
+                case 14: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -689,4 +690,94 @@ public class Stage extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Stage> PROPERTY_TABLE = new BeanPropertyTable<Stage>(
+            "after_sql",
+            "all_sql_statements",
+            "before_sql",
+            "constraints",
+            "data_rule_definition",
+            "data_source_or_server",
+            "delete_sql",
+            "file",
+            "host",
+            "input_links",
+            "insert_sql",
+            "job",
+            "job_or_container",
+            "manually_bound_to",
+            "match_specifications",
+            "next_stages",
+            "output_links",
+            "previous_stages",
+            "reads_from_(design)",
+            "reads_from_(operational)",
+            "reads_from_(static)",
+            "reads_from_(user_defined)",
+            "references_container",
+            "references_data_connection_mapping",
+            "references_table_definitions",
+            "runs_sequences_jobs",
+            "schema",
+            "shared_or_local_container",
+            "sql_statement",
+            "stage_variable",
+            "standardization_rule_sets",
+            "table",
+            "type",
+            "type_definition",
+            "update_sql",
+            "writes_to_(design)",
+            "writes_to_(operational)",
+            "writes_to_(static)",
+            "writes_to_(user_defined)") {
+        @Override
+        public Object getValue(Stage bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAfterSql();
+                case 1: return bean.getAllSqlStatements();
+                case 2: return bean.getBeforeSql();
+                case 3: return bean.getConstraints();
+                case 4: return bean.getDataRuleDefinition();
+                case 5: return bean.getDataSourceOrServer();
+                case 6: return bean.getDeleteSql();
+                case 7: return bean.getFile();
+                case 8: return bean.getHost();
+                case 9: return bean.getInputLinks();
+                case 10: return bean.getInsertSql();
+                case 11: return bean.getJob();
+                case 12: return bean.getJobOrContainer();
+                case 13: return bean.getManuallyBoundTo();
+                case 14: return bean.getMatchSpecifications();
+                case 15: return bean.getNextStages();
+                case 16: return bean.getOutputLinks();
+                case 17: return bean.getPreviousStages();
+                case 18: return bean.getReadsFromDesign();
+                case 19: return bean.getReadsFromOperational();
+                case 20: return bean.getReadsFromStatic();
+                case 21: return bean.getReadsFromUserDefined();
+                case 22: return bean.getReferencesContainer();
+                case 23: return bean.getReferencesDataConnectionMapping();
+                case 24: return bean.getReferencesTableDefinitions();
+                case 25: return bean.getRunsSequencesJobs();
+                case 26: return bean.getSchema();
+                case 27: return bean.getSharedOrLocalContainer();
+                case 28: return bean.getSqlStatement();
+                case 29: return bean.getStageVariable();
+                case 30: return bean.getStandardizationRuleSets();
+                case 31: return bean.getTable();
+                case 32: return bean.getTheType();
+                case 33: return bean.getTypeDefinition();
+                case 34: return bean.getUpdateSql();
+                case 35: return bean.getWritesToDesign();
+                case 36: return bean.getWritesToOperational();
+                case 37: return bean.getWritesToStatic();
+                case 38: return bean.getWritesToUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
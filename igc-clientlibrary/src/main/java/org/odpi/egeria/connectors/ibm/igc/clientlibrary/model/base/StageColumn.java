@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.interfaces.ColumnLevelLineage;
 
@@ -275,4 +276,44 @@ public class StageColumn extends DataItem implements ColumnLevelLineage {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StageColumn> PROPERTY_TABLE = new BeanPropertyTable<StageColumn>(
+            "constraints",
+            "expression",
+            "key",
+            "link",
+            "next_stage_columns",
+            "previous_stage_columns",
+            "reads_from_(design)",
+            "reads_from_(operational)",
+            "reads_from_(static)",
+            "reads_from_(user_defined)",
+            "writes_to_(design)",
+            "writes_to_(operational)",
+            "writes_to_(static)",
+            "writes_to_(user_defined)") {
+        @Override
+        public Object getValue(StageColumn bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getConstraints();
+                case 1: return bean.getExpression();
+                case 2: return bean.getKey();
+                case 3: return bean.getLink();
+                case 4: return bean.getNextStageColumns();
+                case 5: return bean.getPreviousStageColumns();
+                case 6: return bean.getReadsFromDesign();
+                case 7: return bean.getReadsFromOperational();
+                case 8: return bean.getReadsFromStatic();
+                case 9: return bean.getReadsFromUserDefined();
+                case 10: return bean.getWritesToDesign();
+                case 11: return bean.getWritesToOperational();
+                case 12: return bean.getWritesToStatic();
+                case 13: return bean.getWritesToUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -94,4 +95,24 @@ public class StageDataRuleDefinition extends Reference {
     @JsonProperty("stage_logic")
     public void setStageLogic(String stageLogic) { this.stageLogic = stageLogic; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StageDataRuleDefinition> PROPERTY_TABLE = new BeanPropertyTable<StageDataRuleDefinition>(
+            "based_on_rule",
+            "name",
+            "stage",
+            "stage_logic") {
+        @Override
+        public Object getValue(StageDataRuleDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBasedOnRule();
+                case 1: return bean.getTheName();
+                case 2: return bean.getStage();
+                case 3: return bean.getStageLogic();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -115,4 +116,26 @@ public class StageType extends InformationAsset {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StageType> PROPERTY_TABLE = new BeanPropertyTable<StageType>(
+            "author",
+            "copyright",
+            "steward",
+            "vendor",
+            "version") {
+        @Override
+        public Object getValue(StageType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAuthor();
+                case 1: return bean.getCopyright();
+                case 2: return bean.getSteward();
+                case 3: return bean.getVendor();
+                case 4: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
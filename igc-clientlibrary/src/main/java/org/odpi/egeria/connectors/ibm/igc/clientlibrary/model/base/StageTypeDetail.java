@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code stage_type_detail} asset type in IGC, displayed as '{@literal Stage Type Detail}' in the IGC UI.
@@ -59,4 +60,20 @@ public class StageTypeDetail extends DataItem {
     @JsonProperty("of_stage_type")
     public void setOfStageType(StageType ofStageType) { this.ofStageType = ofStageType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StageTypeDetail> PROPERTY_TABLE = new BeanPropertyTable<StageTypeDetail>(
+            "display_caption",
+            "of_stage_type") {
+        @Override
+        public Object getValue(StageTypeDetail bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDisplayCaption();
+                case 1: return bean.getOfStageType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.interfaces.ColumnLevelLineage;
 
@@ -101,4 +102,24 @@ public class StageVariable extends DataItem implements ColumnLevelLineage {
     @JsonProperty("stage")
     public void setStage(Stage stage) { this.stage = stage; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StageVariable> PROPERTY_TABLE = new BeanPropertyTable<StageVariable>(
+            "expression",
+            "next_stage_columns",
+            "previous_stage_columns",
+            "stage") {
+        @Override
+        public Object getValue(StageVariable bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getExpression();
+                case 1: return bean.getNextStageColumns();
+                case 2: return bean.getPreviousStageColumns();
+                case 3: return bean.getStage();
+                default: return null;
+            }
+        }
+    };
+
 }
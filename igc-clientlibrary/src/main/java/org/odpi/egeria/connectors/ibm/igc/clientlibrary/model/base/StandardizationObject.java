@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
@@ -181,4 +182,34 @@ public class StandardizationObject extends Reference {
     @JsonProperty("used_by_stages")
     public void setUsedByStages(ItemList<Stage> usedByStages) { this.usedByStages = usedByStages; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StandardizationObject> PROPERTY_TABLE = new BeanPropertyTable<StandardizationObject>(
+            "data_quality_specifications",
+            "fields",
+            "folder",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description",
+            "type",
+            "used_by_stages") {
+        @Override
+        public Object getValue(StandardizationObject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataQualitySpecifications();
+                case 1: return bean.getFields();
+                case 2: return bean.getFolder();
+                case 3: return bean.getLongDescription();
+                case 4: return bean.getTheName();
+                case 5: return bean.getNativeId();
+                case 6: return bean.getShortDescription();
+                case 7: return bean.getTheType();
+                case 8: return bean.getUsedByStages();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -128,4 +129,28 @@ public class StandardizationRuleSet extends InformationAsset {
     @JsonProperty("used_by_stages")
     public void setUsedByStages(ItemList<Stage> usedByStages) { this.usedByStages = usedByStages; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StandardizationRuleSet> PROPERTY_TABLE = new BeanPropertyTable<StandardizationRuleSet>(
+            "data_quality_specifications",
+            "folder",
+            "help_text",
+            "transformation_project",
+            "type",
+            "used_by_stages") {
+        @Override
+        public Object getValue(StandardizationRuleSet bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataQualitySpecifications();
+                case 1: return bean.getFolder();
+                case 2: return bean.getHelpText();
+                case 3: return bean.getTransformationProject();
+                case 4: return bean.getTheType();
+                case 5: return bean.getUsedByStages();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -44,4 +45,18 @@ public class Steward extends Reference {
     @JsonProperty("assigned_by_contact_assignment")
     public void setAssignedByContactAssignment(ItemList<Associativeobject> assignedByContactAssignment) { this.assignedByContactAssignment = assignedByContactAssignment; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Steward> PROPERTY_TABLE = new BeanPropertyTable<Steward>(
+            "assigned_by_contact_assignment") {
+        @Override
+        public Object getValue(Steward bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignedByContactAssignment();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -60,4 +61,20 @@ public class StewardUser extends User {
     @JsonProperty("managed_assets_basic")
     public void setManagedAssetsBasic(ItemList<MainObject> managedAssetsBasic) { this.managedAssetsBasic = managedAssetsBasic; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StewardUser> PROPERTY_TABLE = new BeanPropertyTable<StewardUser>(
+            "managed_assets",
+            "managed_assets_basic") {
+        @Override
+        public Object getValue(StewardUser bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getManagedAssets();
+                case 1: return bean.getManagedAssetsBasic();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -264,4 +265,44 @@ public class StoredProcedure extends Datagroup {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StoredProcedure> PROPERTY_TABLE = new BeanPropertyTable<StoredProcedure>(
+            "alias_(business_name)",
+            "error_code",
+            "implements_design_stored_procedures",
+            "imported_from",
+            "reads_from_(design)",
+            "reads_from_(operational)",
+            "reads_from_(static)",
+            "reads_from_(user_defined)",
+            "source_code",
+            "stored_procedure_parameters",
+            "writes_to_(design)",
+            "writes_to_(operational)",
+            "writes_to_(static)",
+            "writes_to_(user_defined)") {
+        @Override
+        public Object getValue(StoredProcedure bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getErrorCode();
+                case 2: return bean.getImplementsDesignStoredProcedures();
+                case 3: return bean.getImportedFrom();
+                case 4: return bean.getReadsFromDesign();
+                case 5: return bean.getReadsFromOperational();
+                case 6: return bean.getReadsFromStatic();
+                case 7: return bean.getReadsFromUserDefined();
+                case 8: return bean.getSourceCode();
+                case 9: return bean.getStoredProcedureParameters();
+                case 10: return bean.getWritesToDesign();
+                case 11: return bean.getWritesToOperational();
+                case 12: return bean.getWritesToStatic();
+                case 13: return bean.getWritesToUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -264,4 +265,44 @@ public class StoredProcedureDefinition extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StoredProcedureDefinition> PROPERTY_TABLE = new BeanPropertyTable<StoredProcedureDefinition>(
+            "alias_(business_name)",
+            "in_parameters",
+            "include_for_business_lineage",
+            "inout_parameters",
+            "out_parameters",
+            "reads_from_(design)",
+            "reads_from_(operational)",
+            "reads_from_(static)",
+            "reads_from_(user_defined)",
+            "result_columns",
+            "writes_to_(design)",
+            "writes_to_(operational)",
+            "writes_to_(static)",
+            "writes_to_(user_defined)") {
+        @Override
+        public Object getValue(StoredProcedureDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAliasBusinessName();
+                case 1: return bean.getInParameters();
+                case 2: return bean.getIncludeForBusinessLineage();
+                case 3: return bean.getInoutParameters();
+                case 4: return bean.getOutParameters();
+                case 5: return bean.getReadsFromDesign();
+                case 6: return bean.getReadsFromOperational();
+                case 7: return bean.getReadsFromStatic();
+                case 8: return bean.getReadsFromUserDefined();
+                case 9: return bean.getResultColumns();
+                case 10: return bean.getWritesToDesign();
+                case 11: return bean.getWritesToOperational();
+                case 12: return bean.getWritesToStatic();
+                case 13: return bean.getWritesToUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -274,4 +275,42 @@ public class StoredProcedureParameter extends InformationAsset {
     @JsonProperty("writes_to_(user_defined)")
     public void setWritesToUserDefined(ItemList<InformationAsset> writesToUserDefined) { this.writesToUserDefined = writesToUserDefined; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<StoredProcedureParameter> PROPERTY_TABLE = new BeanPropertyTable<StoredProcedureParameter>(
+            "data_type",
+            "fraction",
+            "length",
+            "minimum_length",
+            "reads_from_(design)",
+            "reads_from_(operational)",
+            "reads_from_(static)",
+            "reads_from_(user_defined)",
+            "stored_procedure",
+            "writes_to_(design)",
+            "writes_to_(operational)",
+            "writes_to_(static)",
+            "writes_to_(user_defined)") {
+        @Override
+        public Object getValue(StoredProcedureParameter bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataType();
+                case 1: return bean.getFraction();
+                case 2: return bean.getLength();
+                case 3: return bean.getMinimumLength();
+                case 4: return bean.getReadsFromDesign();
+                case 5: return bean.getReadsFromOperational();
+                case 6: return bean.getReadsFromStatic();
+                case 7: return bean.getReadsFromUserDefined();
+                case 8: return bean.getStoredProcedure();
+                case 9: return bean.getWritesToDesign();
+                case 10: return bean.getWritesToOperational();
+                case 11: return bean.getWritesToStatic();
+                case 12: return bean.getWritesToUserDefined();
+                default: return null;
+            }
+        }
+    };
+
 }
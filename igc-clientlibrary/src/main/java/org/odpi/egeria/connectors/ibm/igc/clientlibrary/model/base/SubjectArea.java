@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -112,4 +113,26 @@ public class SubjectArea extends InformationAsset {
     @JsonProperty("logical_entities")
     public void setLogicalEntities(ItemList<LogicalEntity> logicalEntities) { this.logicalEntities = logicalEntities; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<SubjectArea> PROPERTY_TABLE = new BeanPropertyTable<SubjectArea>(
+            "author",
+            "comments",
+            "imported_from",
+            "logical_data_model",
+            "logical_entities") {
+        @Override
+        public Object getValue(SubjectArea bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAuthor();
+                case 1: return bean.getComments();
+                case 2: return bean.getImportedFrom();
+                case 3: return bean.getLogicalDataModel();
+                case 4: return bean.getLogicalEntities();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -169,4 +170,30 @@ public class SystemRole extends MainObject {
     @JsonProperty("role_type")
     public void setRoleType(String roleType) { this.roleType = roleType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<SystemRole> PROPERTY_TABLE = new BeanPropertyTable<SystemRole>(
+            "defines_role_assignment",
+            "native_id",
+            "of_acl_entry",
+            "of_principal",
+            "product",
+            "role_id",
+            "role_type") {
+        @Override
+        public Object getValue(SystemRole bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDefinesRoleAssignment();
+                case 1: return bean.getNativeId();
+                case 2: return bean.getOfAclEntry();
+                case 3: return bean.getOfPrincipal();
+                case 4: return bean.getProduct();
+                case 5: return bean.getRoleId();
+                case 6: return bean.getRoleType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -311,4 +312,48 @@ public class TableAnalysis extends Reference {
     @JsonProperty("selected_primary_key")
     public void setSelectedPrimaryKey(ItemList<DatabaseColumn> selectedPrimaryKey) { this.selectedPrimaryKey = selectedPrimaryKey; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TableAnalysis> PROPERTY_TABLE = new BeanPropertyTable<TableAnalysis>(
+            "database_table_or_view",
+            "foreign_key_violations",
+            "name",
+            "native_id",
+            "nb_record_tested",
+            "number_of_fields",
+            "number_of_rows",
+            "primary_key_duplicates",
+            "project",
+            "quality_score",
+            "quality_score_percent",
+            "quality_score_problems",
+            "review_date",
+            "selected_foreign_key",
+            "selected_natural_key",
+            "selected_primary_key") {
+        @Override
+        public Object getValue(TableAnalysis bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDatabaseTableOrView();
+                case 1: return bean.getForeignKeyViolations();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getNbRecordTested();
+                case 5: return bean.getNumberOfFields();
+                case 6: return bean.getNumberOfRows();
+                case 7: return bean.getPrimaryKeyDuplicates();
+                case 8: return bean.getProject();
+                case 9: return bean.getQualityScore();
+                case 10: return bean.getQualityScorePercent();
+                case 11: return bean.getQualityScoreProblems();
+                case 12: return bean.getReviewDate();
+                case 13: return bean.getSelectedForeignKey();
+                case 14: return bean.getSelectedNaturalKey();
+                case 15: return bean.getSelectedPrimaryKey();
+                default: return null;
+            }
+        }
+    };
+
 }
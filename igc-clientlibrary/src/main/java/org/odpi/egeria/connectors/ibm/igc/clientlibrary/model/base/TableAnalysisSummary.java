@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -317,4 +318,50 @@ public class TableAnalysisSummary extends Reference {
     @JsonProperty("steward")
     public void setSteward(ItemList<Steward> steward) { this.steward = steward; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TableAnalysisSummary> PROPERTY_TABLE = new BeanPropertyTable<TableAnalysisSummary>(
+            "analyzed_table",
+            "assigned_to_terms",
+            "foreign_key_violations",
+            "inferred_foreign_keys",
+            "inferred_primary_keys",
+            "long_description",
+            "native_id",
+            "number_of_fields",
+            "number_of_rows",
+            "primary_key_duplicates",
+            "project_name",
+            "promoted_by_principal",
+            "review_date",
+            "reviewed_by_principal",
+            "short_&_long_description",
+            "short_description",
+            "steward") {
+        @Override
+        public Object getValue(TableAnalysisSummary bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAnalyzedTable();
+                case 1: return bean.getAssignedToTerms();
+                case 2: return bean.getForeignKeyViolations();
+                case 3: return bean.getInferredForeignKeys();
+                case 4: return bean.getInferredPrimaryKeys();
+                case 5: return bean.getLongDescription();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getNumberOfFields();
+                case 8: return bean.getNumberOfRows();
+                case 9: return bean.getPrimaryKeyDuplicates();
+                case 10: return bean.getProjectName();
+                case 11: return bean.getPromotedByPrincipal();
+                case 12: return bean.getReviewDate();
+                case 13: return bean.getReviewedByPrincipal();
+                case 14: return bean.getShortLongDescription();
+                case 15: return bean.getShortDescription();
+                case 16: return bean.getSteward();
+                default: return null;
+            }
+        }
+    };
+
 }
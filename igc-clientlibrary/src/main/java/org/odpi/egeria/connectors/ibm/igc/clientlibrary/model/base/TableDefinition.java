@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -332,4 +333,52 @@ public class TableDefinition extends DataItemDefinition {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TableDefinition> PROPERTY_TABLE = new BeanPropertyTable<TableDefinition>(
+            "column_definitions",
+            "computer",
+            "data_collection",
+            "data_connection",
+            "data_schema",
+            "data_source_name",
+            "data_source_type",
+            "data_store",
+            "foreign_keys",
+            "included_by_stages",
+            "machine_or_platform_type",
+            "mainframe_access_type",
+            "owner",
+            "referenced_by_data_sources",
+            "referenced_by_foreign_keys",
+            "software_product",
+            "table_type",
+            "transformation_project") {
+        @Override
+        public Object getValue(TableDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getColumnDefinitions();
+                case 1: return bean.getComputer();
+                case 2: return bean.getDataCollection();
+                case 3: return bean.getDataConnection();
+                case 4: return bean.getDataSchema();
+                case 5: return bean.getDataSourceName();
+                case 6: return bean.getDataSourceType();
+                case 7: return bean.getDataStore();
+                case 8: return bean.getForeignKeys();
+                case 9: return bean.getIncludedByStages();
+                case 10: return bean.getMachineOrPlatformType();
+                case 11: return bean.getMainframeAccessType();
+                case 12: return bean.getOwner();
+                case 13: return bean.getReferencedByDataSources();
+                case 14: return bean.getReferencedByForeignKeys();
+                case 15: return bean.getSoftwareProduct();
+                case 16: return bean.getTableType();
+                case 17: return bean.getTransformationProject();
+                default: return null;
+            }
+        }
+    };
+
 }
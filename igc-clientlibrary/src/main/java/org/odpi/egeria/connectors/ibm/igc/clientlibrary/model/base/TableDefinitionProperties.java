@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -383,4 +384,58 @@ public class TableDefinitionProperties extends Reference {
     @JsonProperty("version")
     public void setVersion(String version) { this.version = version; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TableDefinitionProperties> PROPERTY_TABLE = new BeanPropertyTable<TableDefinitionProperties>(
+            "a_xmeta_locking_root",
+            "access_type",
+            "allow_column_mapping",
+            "apt_record_prop",
+            "import_location",
+            "locator",
+            "multivalued",
+            "nls_map_name",
+            "of_ds_table_definition",
+            "pad_char",
+            "platform_type",
+            "registration_timestamp",
+            "seq_col_headers",
+            "seq_col_space",
+            "seq_delimiter",
+            "seq_fixed_width",
+            "seq_null_string",
+            "seq_omit_new_line",
+            "seq_quote_char",
+            "sp_error_codes",
+            "version") {
+        @Override
+        public Object getValue(TableDefinitionProperties bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAXmetaLockingRoot();
+                case 1: return bean.getAccessType();
+                case 2: return bean.getAllowColumnMapping();
+                case 3: return bean.getAptRecordProp();
+                case 4: return bean.getImportLocation();
+                case 5: return bean.getLocator();
+                case 6: return bean.getMultivalued();
+                case 7: return bean.getNlsMapName();
+                case 8: return bean.getOfDsTableDefinition();
+                case 9: return bean.getPadChar();
+                case 10: return bean.getPlatformType();
+                case 11: return bean.getRegistrationTimestamp();
+                case 12: return bean.getSeqColHeaders();
+                case 13: return bean.getSeqColSpace();
+                case 14: return bean.getSeqDelimiter();
+                case 15: return bean.getSeqFixedWidth();
+                case 16: return bean.getSeqNullString();
+                case 17: return bean.getSeqOmitNewLine();
+                case 18: return bean.getSeqQuoteChar();
+                case 19: return bean.getSpErrorCodes();
+                case 20: return bean.getVersion();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -543,4 +544,72 @@ public class Term extends InformationAsset {
     @JsonProperty("workflow_stored_state")
     public void setWorkflowStoredState(List<String> workflowStoredState) { this.workflowStoredState = workflowStoredState; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Term> PROPERTY_TABLE = new BeanPropertyTable<Term>(
+            "Automation_Rules",
+            "abbreviation",
+            "additional_abbreviation",
+            "assigned_assets",
+            "assigned_terms",
+            "category_path",
+            "example",
+            "glossary_type",
+            "has_a",
+            "has_a_term",
+            "has_types",
+            "is_a_type_of",
+            "is_modifier",
+            "is_of",
+            "language",
+            "parent_category",
+            "preferred_synonym",
+            "referencing_categories",
+            "related_terms",
+            "replaced_by",
+            "replaces",
+            "status",
+            "synonyms",
+            "translations",
+            "type",
+            "usage",
+            "workflow_current_state",
+            "workflow_stored_state") {
+        @Override
+        public Object getValue(Term bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAutomationRules();
+                case 1: return bean.getAbbreviation();
+                case 2: return bean.getAdditionalAbbreviation();
+                case 3: return bean.getAssignedAssets();
+                case 4: return bean.getAssignedTerms();
+                case 5: return bean.getCategoryPath();
+                case 6: return bean.getExample();
+                case 7: return bean.getGlossaryType();
+                case 8: return bean.getHasA();
+                case 9: return bean.getHasATerm();
+                case 10: return bean.getHasTypes();
+                case 11: return bean.getIsATypeOf();
+                case 12: return bean.getIsModifier();
+                case 13: return bean.getIsOf();
+                case 14: return bean.getLanguage();
+                case 15: return bean.getParentCategory();
+                case 16: return bean.getPreferredSynonym();
+                case 17: return bean.getReferencingCategories();
+                case 18: return bean.getRelatedTerms();
+                case 19: return bean.getReplacedBy();
+                case 20: return bean.getReplaces();
+                case 21: return bean.getStatus();
+                case 22: return bean.getSynonyms();
+                case 23: return bean.getTranslations();
+                case 24: return bean.getTheType();
+                case 25: return bean.getUsage();
+                case 26: return bean.getWorkflowCurrentState();
+                case 27: return bean.getWorkflowStoredState();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -77,4 +78,22 @@ public class TermAssignment extends Reference {
     @JsonProperty("confidence_percent")
     public void setConfidencePercent(Number confidencePercent) { this.confidencePercent = confidencePercent; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TermAssignment> PROPERTY_TABLE = new BeanPropertyTable<TermAssignment>(
+            "assign_to_object",
+            "assign_to_term",
+            "confidence_percent") {
+        @Override
+        public Object getValue(TermAssignment bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAssignToObject();
+                case 1: return bean.getAssignToTerm();
+                case 2: return bean.getConfidencePercent();
+                default: return null;
+            }
+        }
+    };
+
 }
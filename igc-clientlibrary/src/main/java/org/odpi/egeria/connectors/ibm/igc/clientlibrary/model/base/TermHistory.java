@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -199,4 +200,36 @@ public class TermHistory extends Reference {
     @JsonProperty("workflow_new_state")
     public void setWorkflowNewState(String workflowNewState) { this.workflowNewState = workflowNewState; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TermHistory> PROPERTY_TABLE = new BeanPropertyTable<TermHistory>(
+            "changed_properties",
+            "comment",
+            "date",
+            "edited_by",
+            "term",
+            "user_task_key",
+            "user_task_name",
+            "workflow_event",
+            "workflow_instance_id",
+            "workflow_new_state") {
+        @Override
+        public Object getValue(TermHistory bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getChangedProperties();
+                case 1: return bean.getComment();
+                case 2: return bean.getDate();
+                case 3: return bean.getEditedBy();
+                case 4: return bean.getTerm();
+                case 5: return bean.getUserTaskKey();
+                case 6: return bean.getUserTaskName();
+                case 7: return bean.getWorkflowEvent();
+                case 8: return bean.getWorkflowInstanceId();
+                case 9: return bean.getWorkflowNewState();
+                default: return null;
+            }
+        }
+    };
+
 }
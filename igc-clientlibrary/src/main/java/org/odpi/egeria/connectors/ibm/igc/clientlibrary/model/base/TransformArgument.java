@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 
 /**
  * POJO for the {@code transform_argument} asset type in IGC, displayed as '{@literal Transform Argument}' in the IGC UI.
@@ -59,4 +60,20 @@ public class TransformArgument extends DataItem {
     @JsonProperty("transform")
     public void setTransform(TransformsFunction transform) { this.transform = transform; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TransformArgument> PROPERTY_TABLE = new BeanPropertyTable<TransformArgument>(
+            "data_elements",
+            "transform") {
+        @Override
+        public Object getValue(TransformArgument bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataElements();
+                case 1: return bean.getTransform();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -279,4 +280,44 @@ public class TransformationProject extends InformationAsset {
     @JsonProperty("transforms")
     public void setTransforms(ItemList<TransformsFunction> transforms) { this.transforms = transforms; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TransformationProject> PROPERTY_TABLE = new BeanPropertyTable<TransformationProject>(
+            "containers",
+            "folders",
+            "host_(engine)",
+            "include_for_lineage",
+            "include_for_lineage_desc",
+            "jobs",
+            "machine_profiles",
+            "match_specifications",
+            "parameter_sets",
+            "routines",
+            "stage_types",
+            "standardization_rule_sets",
+            "table_definitions",
+            "transforms") {
+        @Override
+        public Object getValue(TransformationProject bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainers();
+                case 1: return bean.getFolders();
+                case 2: return bean.getHostEngine();
+                case 3: return bean.getIncludeForLineage();
+                case 4: return bean.getIncludeForLineageDesc();
+                case 5: return bean.getJobs();
+                case 6: return bean.getMachineProfiles();
+                case 7: return bean.getMatchSpecifications();
+                case 8: return bean.getParameterSets();
+                case 9: return bean.getRoutines();
+                case 10: return bean.getStageTypes();
+                case 11: return bean.getStandardizationRuleSets();
+                case 12: return bean.getTableDefinitions();
+                case 13: return bean.getTransforms();
+                default: return null;
+            }
+        }
+    };
+
 }
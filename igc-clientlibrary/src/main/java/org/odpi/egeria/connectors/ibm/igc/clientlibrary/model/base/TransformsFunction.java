@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -146,4 +147,30 @@ public class TransformsFunction extends Reference {
     @JsonProperty("transformation_project")
     public void setTransformationProject(TransformationProject transformationProject) { this.transformationProject = transformationProject; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TransformsFunction> PROPERTY_TABLE = new BeanPropertyTable<TransformsFunction>(
+            "arguments",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description",
+            "source_code",
+            "transformation_project") {
+        @Override
+        public Object getValue(TransformsFunction bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getArguments();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getShortDescription();
+                case 5: return bean.getSourceCode();
+                case 6: return bean.getTransformationProject();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class Tuple extends Reference {
     @JsonProperty("tuple_attributes")
     public void setTupleAttributes(ItemList<TupleAttribute> tupleAttributes) { this.tupleAttributes = tupleAttributes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Tuple> PROPERTY_TABLE = new BeanPropertyTable<Tuple>(
+            "long_description",
+            "name",
+            "native_id",
+            "short_description",
+            "tuple_attributes") {
+        @Override
+        public Object getValue(Tuple bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getLongDescription();
+                case 1: return bean.getTheName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getShortDescription();
+                case 4: return bean.getTupleAttributes();
+                default: return null;
+            }
+        }
+    };
+
 }
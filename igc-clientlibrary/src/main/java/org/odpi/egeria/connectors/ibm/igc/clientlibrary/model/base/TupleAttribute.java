@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -190,4 +191,28 @@ public class TupleAttribute extends InformationAsset {
     @JsonProperty("type")
     public void setTheType(String type) { this.type = type; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<TupleAttribute> PROPERTY_TABLE = new BeanPropertyTable<TupleAttribute>(
+            "collection_type",
+            "length",
+            "tuple",
+            "tuple_attribute",
+            "tuple_or_tuple_attribute",
+            "type") {
+        @Override
+        public Object getValue(TupleAttribute bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCollectionType();
+                case 1: return bean.getLength();
+                case 2: return bean.getTuple();
+                case 3: return bean.getTupleAttribute();
+                case 4: return bean.getTupleOrTupleAttribute();
+                case 5: return bean.getTheType();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -303,4 +304,48 @@ public class User extends Reference {
     @JsonProperty("surname")
     public void setSurname(String surname) { this.surname = surname; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<User> PROPERTY_TABLE = new BeanPropertyTable<User>(
+            "business_address",
+            "courtesy_title",
+            "email_address",
+            "fax_number",
+            "full_name",
+            "given_name",
+            "home_phone_number",
+            "instant_message_id",
+            "job_title",
+            "location",
+            "mobile_phone_number",
+            "office_phone_number",
+            "organization",
+            "pager_number",
+            "principal_id",
+            "surname") {
+        @Override
+        public Object getValue(User bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBusinessAddress();
+                case 1: return bean.getCourtesyTitle();
+                case 2: return bean.getEmailAddress();
+                case 3: return bean.getFaxNumber();
+                case 4: return bean.getFullName();
+                case 5: return bean.getGivenName();
+                case 6: return bean.getHomePhoneNumber();
+                case 7: return bean.getInstantMessageId();
+                case 8: return bean.getJobTitle();
+                case 9: return bean.getLocation();
+                case 10: return bean.getMobilePhoneNumber();
+                case 11: return bean.getOfficePhoneNumber();
+                case 12: return bean.getOrganization();
+                case 13: return bean.getPagerNumber();
+                case 14: return bean.getPrincipalId();
+                case 15: return bean.getSurname();
+                default: return null;
+            }
+        }
+    };
+
 }
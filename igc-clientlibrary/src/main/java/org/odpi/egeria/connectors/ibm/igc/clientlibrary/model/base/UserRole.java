@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -95,4 +96,24 @@ public class UserRole extends Reference {
     @JsonProperty("users")
     public void setUsers(ItemList<Steward> users) { this.users = users; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<UserRole> PROPERTY_TABLE = new BeanPropertyTable<UserRole>(
+            "name",
+            "native_id",
+            "system_role",
+            "users") {
+        @Override
+        public Object getValue(UserRole bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheName();
+                case 1: return bean.getNativeId();
+                case 2: return bean.getSystemRole();
+                case 3: return bean.getUsers();
+                default: return null;
+            }
+        }
+    };
+
 }
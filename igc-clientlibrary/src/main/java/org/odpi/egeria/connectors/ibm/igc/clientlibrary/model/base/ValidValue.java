@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -146,4 +147,30 @@ public class ValidValue extends Reference {
     @JsonProperty("valid_value_list")
     public void setValidValueList(ValidValueList validValueList) { this.validValueList = validValueList; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ValidValue> PROPERTY_TABLE = new BeanPropertyTable<ValidValue>(
+            "design_column",
+            "name",
+            "native_id",
+            "rule_component",
+            "rule_type",
+            "short_description",
+            "valid_value_list") {
+        @Override
+        public Object getValue(ValidValue bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDesignColumn();
+                case 1: return bean.getTheName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getRuleComponent();
+                case 4: return bean.getRuleType();
+                case 5: return bean.getShortDescription();
+                case 6: return bean.getValidValueList();
+                default: return null;
+            }
+        }
+    };
+
 }
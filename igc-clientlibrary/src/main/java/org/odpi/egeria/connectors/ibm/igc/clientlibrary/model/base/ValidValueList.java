@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -129,4 +130,28 @@ public class ValidValueList extends Reference {
     @JsonProperty("valid_values")
     public void setValidValues(ItemList<DataItemValue> validValues) { this.validValues = validValues; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ValidValueList> PROPERTY_TABLE = new BeanPropertyTable<ValidValueList>(
+            "design_column",
+            "name",
+            "native_id",
+            "short_description",
+            "valid_value_list",
+            "valid_values") {
+        @Override
+        public Object getValue(ValidValueList bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDesignColumn();
+                case 1: return bean.getTheName();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getShortDescription();
+                case 4: return bean.getValidValueList();
+                case 5: return bean.getValidValues();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -180,4 +181,34 @@ public class ValidValueRange extends Reference {
     @JsonProperty("valid_value_list")
     public void setValidValueList(ValidValueList validValueList) { this.validValueList = validValueList; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ValidValueRange> PROPERTY_TABLE = new BeanPropertyTable<ValidValueRange>(
+            "design_column",
+            "is_max_inclusive",
+            "is_min_inclusive",
+            "maximum_value",
+            "minimum_value",
+            "name",
+            "native_id",
+            "short_description",
+            "valid_value_list") {
+        @Override
+        public Object getValue(ValidValueRange bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDesignColumn();
+                case 1: return bean.getIsMaxInclusive();
+                case 2: return bean.getIsMinInclusive();
+                case 3: return bean.getMaximumValue();
+                case 4: return bean.getMinimumValue();
+                case 5: return bean.getTheName();
+                case 6: return bean.getNativeId();
+                case 7: return bean.getShortDescription();
+                case 8: return bean.getValidValueList();
+                default: return null;
+            }
+        }
+    };
+
 }
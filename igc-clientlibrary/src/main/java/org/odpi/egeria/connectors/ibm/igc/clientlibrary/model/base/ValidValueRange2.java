@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -180,4 +181,34 @@ public class ValidValueRange2 extends Reference {
     @JsonProperty("valid_value_list_of_contains_valid_values_inverse")
     public void setValidValueListOfContainsValidValuesInverse(ItemList<ValidValueList2> validValueListOfContainsValidValuesInverse) { this.validValueListOfContainsValidValuesInverse = validValueListOfContainsValidValuesInverse; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ValidValueRange2> PROPERTY_TABLE = new BeanPropertyTable<ValidValueRange2>(
+            "custom_attribute_def_of_has_valid_values_inverse",
+            "is_case_sensitive",
+            "is_max_inclusive",
+            "is_min_inclusive",
+            "is_not",
+            "maximum_value",
+            "minimum_value",
+            "sequence",
+            "valid_value_list_of_contains_valid_values_inverse") {
+        @Override
+        public Object getValue(ValidValueRange2 bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCustomAttributeDefOfHasValidValuesInverse();
+                case 1: return bean.getIsCaseSensitive();
+                case 2: return bean.getIsMaxInclusive();
+                case 3: return bean.getIsMinInclusive();
+                case 4: return bean.getIsNot();
+                case 5: return bean.getMaximumValue();
+                case 6: return bean.getMinimumValue();
+                case 7: return bean.getSequence();
+                case 8: return bean.getValidValueListOfContainsValidValuesInverse();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -128,4 +129,28 @@ public class ValidityTable extends Reference {
     @JsonProperty("validity_type")
     public void setValidityType(String validityType) { this.validityType = validityType; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<ValidityTable> PROPERTY_TABLE = new BeanPropertyTable<ValidityTable>(
+            "database_columns",
+            "long_description",
+            "name",
+            "native_id",
+            "short_description",
+            "validity_type") {
+        @Override
+        public Object getValue(ValidityTable bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDatabaseColumns();
+                case 1: return bean.getLongDescription();
+                case 2: return bean.getTheName();
+                case 3: return bean.getNativeId();
+                case 4: return bean.getShortDescription();
+                case 5: return bean.getValidityType();
+                default: return null;
+            }
+        }
+    };
+
 }
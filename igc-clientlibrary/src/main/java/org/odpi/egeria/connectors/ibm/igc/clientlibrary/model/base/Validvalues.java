@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -112,4 +113,26 @@ public class Validvalues extends Reference {
     @JsonProperty("valid_value_list_of_contains_valid_values_inverse")
     public void setValidValueListOfContainsValidValuesInverse(ItemList<ValidValueList2> validValueListOfContainsValidValuesInverse) { this.validValueListOfContainsValidValuesInverse = validValueListOfContainsValidValuesInverse; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Validvalues> PROPERTY_TABLE = new BeanPropertyTable<Validvalues>(
+            "custom_attribute_def_of_has_valid_values_inverse",
+            "is_case_sensitive",
+            "is_not",
+            "sequence",
+            "valid_value_list_of_contains_valid_values_inverse") {
+        @Override
+        public Object getValue(Validvalues bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getCustomAttributeDefOfHasValidValuesInverse();
+                case 1: return bean.getIsCaseSensitive();
+                case 2: return bean.getIsNot();
+                case 3: return bean.getSequence();
+                case 4: return bean.getValidValueListOfContainsValidValuesInverse();
+                default: return null;
+            }
+        }
+    };
+
 }
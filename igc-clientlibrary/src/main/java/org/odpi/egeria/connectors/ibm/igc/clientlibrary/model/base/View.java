@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
@@ -764,4 +765,98 @@ public class View extends Datagroup {
     @JsonProperty("target_mapping_specifications")
     public void setTargetMappingSpecifications(ItemList<MappingSpecification> targetMappingSpecifications) { this.targetMappingSpecifications = targetMappingSpecifications; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<View> PROPERTY_TABLE = new BeanPropertyTable<View>(
+            "FKViolationCount",
+            "PKDuplicateCount",
+            "Row Count",
+            "alias_(business_name)",
+            "analysis",
+            "based_upon_database_tables",
+            "bi_model_collections",
+            "bi_report_queries",
+            "data_policies",
+            "database_aliases",
+            "database_columns",
+            "database_indexes",
+            "defined_foreign_key",
+            "defined_non_primary_key",
+            "defined_primary_key",
+            "expression",
+            "fieldCount",
+            "implements_design_tables_or_views",
+            "implements_logical_entities",
+            "imported_from",
+            "lineage_service_information",
+            "lineage_service_last_run_date",
+            "lineage_service_status",
+            "mapped_to_physical_objects",
+            "multi_column_analysis",
+            "nbRecordTested",
+            "qualityScore",
+            "qualityScore_bubble",
+            "quality_benchmark",
+            "quality_dimension",
+            "referenced_by_views",
+            "reviewDate",
+            "same_as_data_sources",
+            "selected_foreign_key",
+            "selected_natural_key",
+            "selected_primary_key",
+            "source_mapping_specifications",
+            "suggested_term_assignments",
+            "synchronized_from",
+            "table_definitions",
+            "target_mapping_specifications") {
+        @Override
+        public Object getValue(View bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getFkviolationcount();
+                case 1: return bean.getPkduplicatecount();
+                case 2: return bean.getRowCount();
+                case 3: return bean.getAliasBusinessName();
+                case 4: return bean.getAnalysis();
+                case 5: return bean.getBasedUponDatabaseTables();
+                case 6: return bean.getBiModelCollections();
+                case 7: return bean.getBiReportQueries();
+                case 8: return bean.getDataPolicies();
+                case 9: return bean.getDatabaseAliases();
+                case 10: return bean.getDatabaseColumns();
+                case 11: return bean.getDatabaseIndexes();
+                case 12: return bean.getDefinedForeignKey();
+                case 13: return bean.getDefinedNonPrimaryKey();
+                case 14: return bean.getDefinedPrimaryKey();
+                case 15: return bean.getExpression();
+                case 16: return bean.getFieldcount();
+                case 17: return bean.getImplementsDesignTablesOrViews();
+                case 18: return bean.getImplementsLogicalEntities();
+                case 19: return bean.getImportedFrom();
+                case 20: return bean.getLineageServiceInformation();
+                case 21: return bean.getLineageServiceLastRunDate();
+                case 22: return bean.getLineageServiceStatus();
+                case 23: return bean.getMappedToPhysicalObjects();
+                case 24: return bean.getMultiColumnAnalysis();
+                case 25: return bean.getNbrecordtested();
+                case 26: return bean.getQualityscore();
+                case 27: return bean.getQualityscoreBubble();
+                case 28: return bean.getQualityBenchmark();
+                case 29: return bean.getQualityDimension();
+                case 30: return bean.getReferencedByViews();
+                case 31: return bean.getReviewdate();
+                case 32: return bean.getSameAsDataSources();
+                case 33: return bean.getSelectedForeignKey();
+                case 34: return bean.getSelectedNaturalKey();
+                case 35: return bean.getSelectedPrimaryKey();
+                case 36: return bean.getSourceMappingSpecifications();
+                case 37: return bean.getSuggestedTermAssignments();
+                case 38: return bean.getSynchronizedFrom();
+                case 39: return bean.getTableDefinitions();
+                case 40: return bean.getTargetMappingSpecifications();
+                default: return null;
+            }
+        }
+    };
+
 }
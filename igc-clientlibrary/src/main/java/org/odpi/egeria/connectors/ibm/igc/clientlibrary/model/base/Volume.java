@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
 
@@ -242,4 +243,40 @@ public class Volume extends InformationAsset {
     @JsonProperty("url")
     public void setTheUrl(String url) { this.url = url; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<Volume> PROPERTY_TABLE = new BeanPropertyTable<Volume>(
+            "data_server",
+            "infosets",
+            "instance",
+            "last_harvested",
+            "object_count",
+            "server_name",
+            "size",
+            "source_type",
+            "sync_state",
+            "tool_id",
+            "type",
+            "url") {
+        @Override
+        public Object getValue(Volume bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDataServer();
+                case 1: return bean.getInfosets();
+                case 2: return bean.getInstance();
+                case 3: return bean.getLastHarvested();
+                case 4: return bean.getObjectCount();
+                case 5: return bean.getServerName();
+                case 6: return bean.getSize();
+                case 7: return bean.getSourceType();
+                case 8: return bean.getSyncState();
+                case 9: return bean.getToolId();
+                case 10: return bean.getTheType();
+                case 11: return bean.getTheUrl();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -94,4 +95,24 @@ public class VolumeContribution extends Reference {
     @JsonProperty("volume")
     public void setVolume(Volume volume) { this.volume = volume; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<VolumeContribution> PROPERTY_TABLE = new BeanPropertyTable<VolumeContribution>(
+            "infoset",
+            "object_count",
+            "size",
+            "volume") {
+        @Override
+        public Object getValue(VolumeContribution bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getInfoset();
+                case 1: return bean.getObjectCount();
+                case 2: return bean.getSize();
+                case 3: return bean.getVolume();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.Date;
@@ -130,4 +131,28 @@ public class WarehouseMapping extends Reference {
     @JsonProperty("warehouse_mapping_document")
     public void setWarehouseMappingDocument(ItemList<WarehouseMappingDocument> warehouseMappingDocument) { this.warehouseMappingDocument = warehouseMappingDocument; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<WarehouseMapping> PROPERTY_TABLE = new BeanPropertyTable<WarehouseMapping>(
+            "description",
+            "name",
+            "rule",
+            "sources",
+            "targets",
+            "warehouse_mapping_document") {
+        @Override
+        public Object getValue(WarehouseMapping bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getTheName();
+                case 2: return bean.getRule();
+                case 3: return bean.getSources();
+                case 4: return bean.getTargets();
+                case 5: return bean.getWarehouseMappingDocument();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -315,4 +316,50 @@ public class XmlSchemaDefinition extends InformationAsset {
     @JsonProperty("xpath")
     public void setXpath(String xpath) { this.xpath = xpath; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XmlSchemaDefinition> PROPERTY_TABLE = new BeanPropertyTable<XmlSchemaDefinition>(
+            "contains_xsd_attribute_groups",
+            "contains_xsd_attributes",
+            "contains_xsd_complex_types",
+            "contains_xsd_element_groups",
+            "contains_xsd_elements",
+            "contains_xsd_simple_types",
+            "default_namespace",
+            "id",
+            "imports_xsd_schemas",
+            "includes_xsd_schemas",
+            "language",
+            "overrides_xsd_schemas",
+            "redefines_xsd_schemas",
+            "target_namespace",
+            "version",
+            "xml_schema_library",
+            "xpath") {
+        @Override
+        public Object getValue(XmlSchemaDefinition bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsXsdAttributeGroups();
+                case 1: return bean.getContainsXsdAttributes();
+                case 2: return bean.getContainsXsdComplexTypes();
+                case 3: return bean.getContainsXsdElementGroups();
+                case 4: return bean.getContainsXsdElements();
+                case 5: return bean.getContainsXsdSimpleTypes();
+                case 6: return bean.getDefaultNamespace();
+                case 7: return bean.getTheId();
+                case 8: return bean.getImportsXsdSchemas();
+                case 9: return bean.getIncludesXsdSchemas();
+                case 10: return bean.getLanguage();
+                case 11: return bean.getOverridesXsdSchemas();
+                case 12: return bean.getRedefinesXsdSchemas();
+                case 13: return bean.getTargetNamespace();
+                case 14: return bean.getVersion();
+                case 15: return bean.getXmlSchemaLibrary();
+                case 16: return bean.getXpath();
+                default: return null;
+            }
+        }
+    };
+
 }
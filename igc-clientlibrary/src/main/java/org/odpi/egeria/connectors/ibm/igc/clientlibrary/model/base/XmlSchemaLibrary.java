@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -77,4 +78,22 @@ public class XmlSchemaLibrary extends InformationAsset {
     @JsonProperty("xml_schema_definitions")
     public void setXmlSchemaDefinitions(ItemList<XmlSchemaDefinition> xmlSchemaDefinitions) { this.xmlSchemaDefinitions = xmlSchemaDefinitions; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XmlSchemaLibrary> PROPERTY_TABLE = new BeanPropertyTable<XmlSchemaLibrary>(
+            "description",
+            "id",
+            "xml_schema_definitions") {
+        @Override
+        public Object getValue(XmlSchemaLibrary bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getDescription();
+                case 1: return bean.getTheId();
+                case 2: return bean.getXmlSchemaDefinitions();
+                default: return null;
+            }
+        }
+    };
+
 }
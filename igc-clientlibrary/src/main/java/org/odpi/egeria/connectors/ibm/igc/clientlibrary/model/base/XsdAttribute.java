@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -508,4 +509,70 @@ public class XsdAttribute extends InformationAsset {
     @JsonProperty("xsd_simple_type_definition")
     public void setXsdSimpleTypeDefinition(XsdSimpleType xsdSimpleTypeDefinition) { this.xsdSimpleTypeDefinition = xsdSimpleTypeDefinition; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdAttribute> PROPERTY_TABLE = new BeanPropertyTable<XsdAttribute>(
+            "context",
+            "data_type",
+            "default_value",
+            "enumeration_value",
+            "fixed_value",
+            "fraction_digits",
+            "inheritable",
+            "is_maximum_range_inclusive",
+            "is_maximum_range_inclusive_string",
+            "is_minimum_range_inclusive",
+            "is_minimum_range_inclusive_string",
+            "length",
+            "max_length",
+            "maximum_range",
+            "min_length",
+            "minimum_range",
+            "name_form",
+            "namespace",
+            "pattern_expression",
+            "referenced_by_xsd_attribute_groups",
+            "referenced_by_xsd_complex_type",
+            "referenced_by_xsd_elements",
+            "timezone",
+            "total_digits",
+            "usage",
+            "white_space",
+            "xsd_simple_type_definition") {
+        @Override
+        public Object getValue(XsdAttribute bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheContext();
+                case 1: return bean.getDataType();
+                case 2: return bean.getDefaultValue();
+                case 3: return bean.getEnumerationValue();
+                case 4: return bean.getFixedValue();
+                case 5: return bean.getFractionDigits();
+                case 6: return bean.getInheritable();
+                case 7: return bean.getIsMaximumRangeInclusive();
+                case 8: return bean.getIsMaximumRangeInclusiveString();
+                case 9: return bean.getIsMinimumRangeInclusive();
+                case 10: return bean.getIsMinimumRangeInclusiveString();
+                case 11: return bean.getLength();
+                case 12: return bean.getMaxLength();
+                case 13: return bean.getMaximumRange();
+                case 14: return bean.getMinLength();
+                case 15: return bean.getMinimumRange();
+                case 16: return bean.getNameForm();
+                case 17: return bean.getNamespace();
+                case 18: return bean.getPatternExpression();
+                case 19: return bean.getReferencedByXsdAttributeGroups();
+                case 20: return bean.getReferencedByXsdComplexType();
+                case 21: return bean.getReferencedByXsdElements();
+                case 22: return bean.getTimezone();
+                case 23: return bean.getTotalDigits();
+                case 24: return bean.getUsage();
+                case 25: return bean.getWhiteSpace();
+                case 26: return bean.getXsdSimpleTypeDefinition();
+                default: return null;
+            }
+        }
+    };
+
 }
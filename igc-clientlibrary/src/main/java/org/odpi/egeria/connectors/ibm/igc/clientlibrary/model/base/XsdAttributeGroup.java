@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -145,4 +146,30 @@ public class XsdAttributeGroup extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdAttributeGroup> PROPERTY_TABLE = new BeanPropertyTable<XsdAttributeGroup>(
+            "contains_xsd_attributes",
+            "referenced_by_xsd_attribute_groups",
+            "referenced_by_xsd_complex_types",
+            "referenced_by_xsd_elements",
+            "references_xsd_attribute_groups",
+            "references_xsd_attributes",
+            "xsd_schema") {
+        @Override
+        public Object getValue(XsdAttributeGroup bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsXsdAttributes();
+                case 1: return bean.getReferencedByXsdAttributeGroups();
+                case 2: return bean.getReferencedByXsdComplexTypes();
+                case 3: return bean.getReferencedByXsdElements();
+                case 4: return bean.getReferencesXsdAttributeGroups();
+                case 5: return bean.getReferencesXsdAttributes();
+                case 6: return bean.getXsdSchema();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -129,4 +130,28 @@ public class XsdAttributeReference extends Reference {
     @JsonProperty("xsd_element")
     public void setXsdElement(ItemList<MainObject> xsdElement) { this.xsdElement = xsdElement; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdAttributeReference> PROPERTY_TABLE = new BeanPropertyTable<XsdAttributeReference>(
+            "native_id",
+            "references_xsd_attribute",
+            "usage",
+            "xsd_attribute_group",
+            "xsd_complex_type",
+            "xsd_element") {
+        @Override
+        public Object getValue(XsdAttributeReference bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getNativeId();
+                case 1: return bean.getReferencesXsdAttribute();
+                case 2: return bean.getUsage();
+                case 3: return bean.getXsdAttributeGroup();
+                case 4: return bean.getXsdComplexType();
+                case 5: return bean.getXsdElement();
+                default: return null;
+            }
+        }
+    };
+
 }
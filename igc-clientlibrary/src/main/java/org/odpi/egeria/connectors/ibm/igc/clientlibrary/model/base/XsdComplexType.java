@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -391,4 +392,58 @@ public class XsdComplexType extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdComplexType> PROPERTY_TABLE = new BeanPropertyTable<XsdComplexType>(
+            "abstract",
+            "base_type",
+            "block",
+            "contains_xsd_attributes",
+            "contains_xsd_elements",
+            "default",
+            "defines_xsd_elements",
+            "extended_by_xsd_complex_type",
+            "extends_xsd_complex_type",
+            "extends_xsd_element",
+            "extends_xsd_simple_type",
+            "mixed",
+            "references_xsd_attribute_groups",
+            "references_xsd_attributes",
+            "references_xsd_element_group",
+            "references_xsd_elements",
+            "restricted_by_xsd_complex_type",
+            "restricts_xsd_complex_type",
+            "restricts_xsd_element",
+            "type",
+            "xsd_schema") {
+        @Override
+        public Object getValue(XsdComplexType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getAbstract();
+                case 1: return bean.getBaseType();
+                case 2: return bean.getBlock();
+                case 3: return bean.getContainsXsdAttributes();
+                case 4: return bean.getContainsXsdElements();
+                case 5: return bean.getDefault();
+                case 6: return bean.getDefinesXsdElements();
+                case 7: return bean.getExtendedByXsdComplexType();
+                case 8: return bean.getExtendsXsdComplexType();
+                case 9: return bean.getExtendsXsdElement();
+                case 10: return bean.getExtendsXsdSimpleType();
+                case 11: return bean.getMixed();
+                case 12: return bean.getReferencesXsdAttributeGroups();
+                case 13: return bean.getReferencesXsdAttributes();
+                case 14: return bean.getReferencesXsdElementGroup();
+                case 15: return bean.getReferencesXsdElements();
+                case 16: return bean.getRestrictedByXsdComplexType();
+                case 17: return bean.getRestrictsXsdComplexType();
+                case 18: return bean.getRestrictsXsdElement();
+                case 19: return bean.getTheType();
+                case 20: return bean.getXsdSchema();
+                default: return null;
+            }
+        }
+    };
+
 }
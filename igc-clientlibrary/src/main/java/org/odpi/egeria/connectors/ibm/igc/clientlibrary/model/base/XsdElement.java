@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -793,4 +794,102 @@ public class XsdElement extends InformationAsset {
     @JsonProperty("xsd_simple_type_definition")
     public void setXsdSimpleTypeDefinition(XsdSimpleType xsdSimpleTypeDefinition) { this.xsdSimpleTypeDefinition = xsdSimpleTypeDefinition; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdElement> PROPERTY_TABLE = new BeanPropertyTable<XsdElement>(
+            "contains_attributes",
+            "contains_elements",
+            "context",
+            "data_type",
+            "default_value",
+            "enumeration_value",
+            "extends_xsd_complex_type",
+            "fixed_value",
+            "foreign_keys",
+            "fraction_digits",
+            "is_abstract",
+            "is_maximum_range_inclusive",
+            "is_maximum_range_inclusive_string",
+            "is_minimum_range_inclusive",
+            "is_minimum_range_inclusive_string",
+            "is_nullable",
+            "length",
+            "max_length",
+            "max_occurs",
+            "maximum_range",
+            "min_length",
+            "min_occurs",
+            "minimum_range",
+            "name_form",
+            "namespace",
+            "pattern_expression",
+            "primary_keys",
+            "referenced_by_xsd_complex_types",
+            "referenced_by_xsd_element_groups",
+            "referenced_by_xsd_elements",
+            "references_xsd_attribute_groups",
+            "references_xsd_attributes",
+            "references_xsd_element_groups",
+            "references_xsd_elements",
+            "restricts_xsd_complex_type",
+            "restricts_xsd_simple_type",
+            "timezone",
+            "total_digits",
+            "type",
+            "unique_keys",
+            "white_space",
+            "xsd_complex_type_definition",
+            "xsd_simple_type_definition") {
+        @Override
+        public Object getValue(XsdElement bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsAttributes();
+                case 1: return bean.getContainsElements();
+                case 2: return bean.getTheContext();
+                case 3: return bean.getDataType();
+                case 4: return bean.getDefaultValue();
+                case 5: return bean.getEnumerationValue();
+                case 6: return bean.getExtendsXsdComplexType();
+                case 7: return bean.getFixedValue();
+                case 8: return bean.getForeignKeys();
+                case 9: return bean.getFractionDigits();
+                case 10: return bean.getIsAbstract();
+                case 11: return bean.getIsMaximumRangeInclusive();
+                case 12: return bean.getIsMaximumRangeInclusiveString();
+                case 13: return bean.getIsMinimumRangeInclusive();
+                case 14: return bean.getIsMinimumRangeInclusiveString();
+                case 15: return bean.getIsNullable();
+                case 16: return bean.getLength();
+                case 17: return bean.getMaxLength();
+                case 18: return bean.getMaxOccurs();
+                case 19: return bean.getMaximumRange();
+                case 20: return bean.getMinLength();
+                case 21: return bean.getMinOccurs();
+                case 22: return bean.getMinimumRange();
+                case 23: return bean.getNameForm();
+                case 24: return bean.getNamespace();
+                case 25: return bean.getPatternExpression();
+                case 26: return bean.getPrimaryKeys();
+                case 27: return bean.getReferencedByXsdComplexTypes();
+                case 28: return bean.getReferencedByXsdElementGroups();
+                case 29: return bean.getReferencedByXsdElements();
+                case 30: return bean.getReferencesXsdAttributeGroups();
+                case 31: return bean.getReferencesXsdAttributes();
+                case 32: return bean.getReferencesXsdElementGroups();
+                case 33: return bean.getReferencesXsdElements();
+                case 34: return bean.getRestrictsXsdComplexType();
+                case 35: return bean.getRestrictsXsdSimpleType();
+                case 36: return bean.getTimezone();
+                case 37: return bean.getTotalDigits();
+                case 38: return bean.getTheType();
+                case 39: return bean.getUniqueKeys();
+                case 40: return bean.getWhiteSpace();
+                case 41: return bean.getXsdComplexTypeDefinition();
+                case 42: return bean.getXsdSimpleTypeDefinition();
+                default: return null;
+            }
+        }
+    };
+
 }
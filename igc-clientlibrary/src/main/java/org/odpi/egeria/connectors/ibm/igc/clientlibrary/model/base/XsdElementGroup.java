@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
 /**
@@ -153,4 +154,30 @@ public class XsdElementGroup extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdElementGroup> PROPERTY_TABLE = new BeanPropertyTable<XsdElementGroup>(
+            "contains_xsd_elements",
+            "referenced_by_xsd_element_groups",
+            "references_by_xsd_elements",
+            "references_xsd_element_groups",
+            "references_xsd_elements",
+            "type",
+            "xsd_schema") {
+        @Override
+        public Object getValue(XsdElementGroup bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getContainsXsdElements();
+                case 1: return bean.getReferencedByXsdElementGroups();
+                case 2: return bean.getReferencesByXsdElements();
+                case 3: return bean.getReferencesXsdElementGroups();
+                case 4: return bean.getReferencesXsdElements();
+                case 5: return bean.getTheType();
+                case 6: return bean.getXsdSchema();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 
 /**
@@ -145,4 +146,30 @@ public class XsdElementReference extends Reference {
     @JsonProperty("xsd_element_group")
     public void setXsdElementGroup(XsdElementGroup xsdElementGroup) { this.xsdElementGroup = xsdElementGroup; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdElementReference> PROPERTY_TABLE = new BeanPropertyTable<XsdElementReference>(
+            "max_occurs",
+            "min_occurs",
+            "native_id",
+            "referenced_xsd_element",
+            "xsd_complex_type",
+            "xsd_element",
+            "xsd_element_group") {
+        @Override
+        public Object getValue(XsdElementReference bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getMaxOccurs();
+                case 1: return bean.getMinOccurs();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getReferencedXsdElement();
+                case 4: return bean.getXsdComplexType();
+                case 5: return bean.getXsdElement();
+                case 6: return bean.getXsdElementGroup();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -146,4 +147,30 @@ public class XsdForeignKey extends Reference {
     @JsonProperty("xsd_elements_or_attributes")
     public void setXsdElementsOrAttributes(ItemList<MainObject> xsdElementsOrAttributes) { this.xsdElementsOrAttributes = xsdElementsOrAttributes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdForeignKey> PROPERTY_TABLE = new BeanPropertyTable<XsdForeignKey>(
+            "name",
+            "namespace",
+            "native_id",
+            "referenced_xsd_keys",
+            "selector",
+            "xsd_element",
+            "xsd_elements_or_attributes") {
+        @Override
+        public Object getValue(XsdForeignKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheName();
+                case 1: return bean.getNamespace();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getReferencedXsdKeys();
+                case 4: return bean.getSelector();
+                case 5: return bean.getXsdElement();
+                case 6: return bean.getXsdElementsOrAttributes();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 import java.util.List;
 
@@ -509,4 +510,70 @@ public class XsdSimpleType extends InformationAsset {
     @JsonProperty("xsd_schema")
     public void setXsdSchema(XmlSchemaDefinition xsdSchema) { this.xsdSchema = xsdSchema; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdSimpleType> PROPERTY_TABLE = new BeanPropertyTable<XsdSimpleType>(
+            "base_type",
+            "defines_xsd_attributes",
+            "defines_xsd_elements",
+            "extended_by_xsd_complex_type",
+            "extended_by_xsd_simple_type",
+            "extends_xsd_element",
+            "extends_xsd_simple_type",
+            "final",
+            "fraction",
+            "length",
+            "max_length",
+            "min_length",
+            "restricted_by_xsd_simple_type",
+            "restriction_enumeration_values",
+            "restriction_maximum_inclusive",
+            "restriction_maximum_inclusive_string",
+            "restriction_maximum_value",
+            "restriction_minimum_inclusive",
+            "restriction_minimum_inclusive_string",
+            "restriction_minimum_value",
+            "restriction_pattern",
+            "restricts_xsd_element",
+            "restricts_xsd_simple_type",
+            "timezone",
+            "total_digits",
+            "whitespace",
+            "xsd_schema") {
+        @Override
+        public Object getValue(XsdSimpleType bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getBaseType();
+                case 1: return bean.getDefinesXsdAttributes();
+                case 2: return bean.getDefinesXsdElements();
+                case 3: return bean.getExtendedByXsdComplexType();
+                case 4: return bean.getExtendedByXsdSimpleType();
+                case 5: return bean.getExtendsXsdElement();
+                case 6: return bean.getExtendsXsdSimpleType();
+                case 7: return bean.getFinal();
+                case 8: return bean.getFraction();
+                case 9: return bean.getLength();
+                case 10: return bean.getMaxLength();
+                case 11: return bean.getMinLength();
+                case 12: return bean.getRestrictedByXsdSimpleType();
+                case 13: return bean.getRestrictionEnumerationValues();
+                case 14: return bean.getRestrictionMaximumInclusive();
+                case 15: return bean.getRestrictionMaximumInclusiveString();
+                case 16: return bean.getRestrictionMaximumValue();
+                case 17: return bean.getRestrictionMinimumInclusive();
+                case 18: return bean.getRestrictionMinimumInclusiveString();
+                case 19: return bean.getRestrictionMinimumValue();
+                case 20: return bean.getRestrictionPattern();
+                case 21: return bean.getRestrictsXsdElement();
+                case 22: return bean.getRestrictsXsdSimpleType();
+                case 23: return bean.getTimezone();
+                case 24: return bean.getTotalDigits();
+                case 25: return bean.getWhitespace();
+                case 26: return bean.getXsdSchema();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.BeanPropertyTable;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
 import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
 
@@ -150,4 +151,30 @@ public class XsdUniqueKey extends Reference {
     @JsonProperty("xsd_elements_or_attributes")
     public void setXsdElementsOrAttributes(ItemList<MainObject> xsdElementsOrAttributes) { this.xsdElementsOrAttributes = xsdElementsOrAttributes; }
 
+    /**
+     * Table of the properties declared by this object, for reading them by ordinal rather than through reflection.
+     */
+    public static final BeanPropertyTable<XsdUniqueKey> PROPERTY_TABLE = new BeanPropertyTable<XsdUniqueKey>(
+            "name",
+            "namespace",
+            "native_id",
+            "referenced_by_xsd_keys",
+            "selector",
+            "xsd_element",
+            "xsd_elements_or_attributes") {
+        @Override
+        public Object getValue(XsdUniqueKey bean, int ordinal) {
+            switch (ordinal) {
+                case 0: return bean.getTheName();
+                case 1: return bean.getNamespace();
+                case 2: return bean.getNativeId();
+                case 3: return bean.getReferencedByXsdKeys();
+                case 4: return bean.getSelector();
+                case 5: return bean.getXsdElement();
+                case 6: return bean.getXsdElementsOrAttributes();
+                default: return null;
+            }
+        }
+    };
+
 }
@@ -0,0 +1,78 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table of the properties declared by a single IGC bean (POJO) class, through which the value of each property can
+ * be read by its ordinal within the table, as a direct call to its getter rather than through any reflection.
+ * <br><br>
+ * A table is generated into each bean class (as a static field named {@link #FIELD_NAME}) by the IGCBeanGenerator,
+ * and only covers the properties declared by that class itself: properties inherited from a supertype are covered by
+ * the supertype's own table.
+ *
+ * @param <T> the IGC bean class whose properties the table covers
+ */
+public abstract class BeanPropertyTable<T> {
+
+    public static final String FIELD_NAME = "PROPERTY_TABLE";
+
+    private final List<String> properties;
+
+    /**
+     * Create a new table over the provided properties, whose ordinals are their positions in the list.
+     *
+     * @param properties the names of the IGC properties declared by the bean class
+     */
+    protected BeanPropertyTable(String... properties) {
+        this.properties = Collections.unmodifiableList(Arrays.asList(properties));
+    }
+
+    /**
+     * Retrieve the names of the properties covered by this table, in ordinal order.
+     *
+     * @return {@code List<String>}
+     */
+    public List<String> getProperties() { return properties; }
+
+    /**
+     * Retrieve the ordinal of the provided property within this table.
+     *
+     * @param property the name of the IGC property
+     * @return int, or -1 if the property is not covered by this table
+     */
+    public int getOrdinal(String property) { return properties.indexOf(property); }
+
+    /**
+     * Retrieve the value of the property with the provided ordinal from the provided bean.
+     *
+     * @param bean the bean from which to retrieve the value
+     * @param ordinal the ordinal of the property within this table
+     * @return Object
+     */
+    public abstract Object getValue(T bean, int ordinal);
+
+    /**
+     * Retrieve the table generated into the provided bean class itself (not any of its supertypes), if there is one.
+     *
+     * @param beanClass the bean class for which to retrieve the table
+     * @return {@code BeanPropertyTable<?>}, or null if the class has no generated table
+     */
+    public static BeanPropertyTable<?> getDeclaredTable(Class<?> beanClass) {
+        try {
+            Field field = beanClass.getDeclaredField(FIELD_NAME);
+            if (Modifier.isStatic(field.getModifiers()) && BeanPropertyTable.class.isAssignableFrom(field.getType())) {
+                return (BeanPropertyTable<?>) field.get(null);
+            }
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            // Fall-through to returning null: the class has no (accessible) generated table
+        }
+        return null;
+    }
+
+}
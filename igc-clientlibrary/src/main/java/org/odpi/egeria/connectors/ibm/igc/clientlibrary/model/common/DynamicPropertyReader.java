@@ -13,12 +13,52 @@ import java.util.function.Function;
  * Will need to instantiate one of these readers for every property * POJO combination (and best to cache them as they
  * are used to avoid re-bootstrapping when they'll be used multiple times)
  *
+ * Where the POJO (or the supertype declaring the property) has a generated {@link BeanPropertyTable}, the reader
+ * simply reads the property through the table by its ordinal, and only otherwise bootstraps a getter through the
+ * LambdaMetafactory.
+ *
  * Based on simple example at:
  * https://github.com/ge0ffrey/ge0ffrey-presentations/blob/master/code/fasterreflection/fasterreflection-framework/src/main/java/be/ge0ffrey/presentations/fasterreflection/framework/LambdaMetafactoryBeanPropertyReader.java
  */
 public class DynamicPropertyReader {
 
     private final Function getterFunction;
+    private final BeanPropertyTable table;
+    private final int ordinal;
+
+    /**
+     * Retrieve a dynamic property reader for the provided POJO and property, reading through a generated property
+     * table wherever one covers the property.
+     *
+     * @param pojoClass the class against which the dynamic reader should operate
+     * @param propertyName the name of the property for this dynamic reader
+     * @return DynamicPropertyReader
+     * @throws IllegalArgumentException if no reader can be created for the property
+     */
+    public static DynamicPropertyReader forProperty(Class<?> pojoClass, String propertyName) {
+        for (Class<?> declaring = pojoClass; declaring != null && !declaring.equals(Object.class); declaring = declaring.getSuperclass()) {
+            BeanPropertyTable<?> declared = BeanPropertyTable.getDeclaredTable(declaring);
+            if (declared != null) {
+                int position = declared.getOrdinal(propertyName);
+                if (position >= 0) {
+                    return new DynamicPropertyReader(declared, position);
+                }
+            }
+        }
+        return new DynamicPropertyReader(pojoClass, propertyName);
+    }
+
+    /**
+     * Construct a new dynamic property reader over a generated property table.
+     *
+     * @param table the generated table covering the property
+     * @param ordinal the ordinal of the property within the table
+     */
+    private DynamicPropertyReader(BeanPropertyTable<?> table, int ordinal) {
+        this.getterFunction = null;
+        this.table = table;
+        this.ordinal = ordinal;
+    }
 
     /**
      * Construct a new dynamic property reader.
@@ -49,6 +89,8 @@ public class DynamicPropertyReader {
         } catch (LambdaConversionException | NoSuchMethodException | IllegalAccessException e) {
             throw new IllegalArgumentException("Lambda creation failed for method (" + getterMethod + ").", e);
         }
+        table = null;
+        ordinal = -1;
         try {
             getterFunction = (Function) site.getTarget().invokeExact();
         } catch (Throwable e) {
@@ -64,6 +106,9 @@ public class DynamicPropertyReader {
      */
     @SuppressWarnings("unchecked")
     public Object getProperty(Object pojo) {
+        if (table != null) {
+            return table.getValue(pojo, ordinal);
+        }
         return getterFunction.apply(pojo);
     }
 
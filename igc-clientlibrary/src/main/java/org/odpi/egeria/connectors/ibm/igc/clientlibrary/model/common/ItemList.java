@@ -23,15 +23,19 @@ public class ItemList<T extends Reference> extends ObjectPrinter {
 
     /**
      * The 'paging' property of an ItemList gives the paging details of this particular page.
+     * <br><br>
+     * (Left null until it is first retrieved, rather than created along with the list, as lists bound from a payload
+     * normally have their paging set from the payload itself.)
      */
-    protected Paging paging = new Paging();
+    protected Paging paging;
 
     /**
      * The 'items' property of an ItemList gives the actual items that are part of this particular page.
      * <br><br>
-     * Will be a ArrayList of {@link Reference} objects.
+     * Will be a ArrayList of {@link Reference} objects. (Likewise left null until it is first retrieved, when not set
+     * from a payload.)
      */
-    protected List<T> items = new ArrayList<>();
+    protected List<T> items;
 
     /**
      * Retrieve the paging characteristics of this list.
@@ -40,6 +44,9 @@ public class ItemList<T extends Reference> extends ObjectPrinter {
      * @see #paging
      */
     public Paging getPaging() {
+        if (paging == null) {
+            paging = new Paging();
+        }
         return paging;
     }
 
@@ -60,6 +67,9 @@ public class ItemList<T extends Reference> extends ObjectPrinter {
      * @see #items
      */
     public List<T> getItems() {
+        if (items == null) {
+            items = new ArrayList<>();
+        }
         return items;
     }
 
@@ -79,7 +89,7 @@ public class ItemList<T extends Reference> extends ObjectPrinter {
      * @return Boolean
      */
     public boolean hasMorePages() {
-        return (this.paging.hasMore());
+        return (getPaging().hasMore());
     }
 
     /**
@@ -0,0 +1,343 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.IGCRestConstants;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compact representation of a single search result: only the properties that were returned for it (that is, those
+ * projected by the search), held in a flat array indexed by the ordinal of each property within a {@link Layout} that
+ * is shared by every result of the same type with the same properties.
+ * <br><br>
+ * Simple values (strings, numbers, dates and booleans) are held directly, while any other value (for example a
+ * relationship) is held as the JSON returned for it until it is first read. The result is only bound to its full POJO
+ * when it is first needed: either explicitly (see {@link #getBean()}) or to read a property that was not projected.
+ * Either way, the values read are those that would be read from the POJO bound directly from the search result.
+ * <br><br>
+ * (Like the POJOs themselves, a record is not intended to be shared between threads as it is read.)
+ */
+public class ProjectedRecord {
+
+    private final Layout layout;
+    private final Object[] values;
+    private Reference bean;
+
+    /**
+     * Create a new record for a search result, whose values are held in the ordinal order of the provided layout.
+     *
+     * @param layout the layout of the properties of the record
+     * @param values the value of each property in the layout
+     */
+    ProjectedRecord(Layout layout, Object[] values) {
+        this.layout = layout;
+        this.values = values;
+        this.bean = null;
+    }
+
+    /**
+     * Retrieve the layout of the properties held by this record.
+     *
+     * @return Layout
+     */
+    public Layout getLayout() { return layout; }
+
+    /**
+     * Retrieve the IGC asset type of this record.
+     *
+     * @return String
+     */
+    public String getType() { return layout.getType(); }
+
+    /**
+     * Retrieve the Repository ID (RID) of this record.
+     *
+     * @return String
+     */
+    public String getId() { return (String) getProjectedValue(layout.getOrdinal("_id")); }
+
+    /**
+     * Retrieve the name of this record.
+     *
+     * @return String
+     */
+    public String getName() { return (String) getProjectedValue(layout.getOrdinal("_name")); }
+
+    /**
+     * Indicates whether the provided property was projected (returned for this record by the search).
+     *
+     * @param property the name of the IGC property
+     * @return boolean
+     */
+    public boolean isProjected(String property) { return layout.getOrdinal(property) >= 0; }
+
+    /**
+     * Retrieve the value of the provided property, as it would be retrieved from the POJO of this record. A property
+     * that was not projected is read from the POJO itself, binding it first if it is not yet bound.
+     *
+     * @param property the name of the IGC property
+     * @return Object
+     * @throws IGCParsingException if the value (or the POJO) cannot be bound from the search result
+     * @throws IGCIOException if the POJO of this record has no such property
+     */
+    public Object getValue(String property) throws IGCParsingException, IGCIOException {
+        int ordinal = layout.getOrdinal(property);
+        if (ordinal >= 0) {
+            Object value = values[ordinal];
+            if (value instanceof JsonNode && !layout.isJson(ordinal)) {
+                value = layout.bindValue(ordinal, (JsonNode) value);
+                values[ordinal] = value;
+            }
+            return value;
+        }
+        return layout.getUnprojectedValue(getBean(), property);
+    }
+
+    /**
+     * Retrieve the POJO of this record, binding it from the projected values the first time it is retrieved.
+     *
+     * @param <T> the type of POJO into which the record is bound
+     * @return T
+     * @throws IGCParsingException if the POJO cannot be bound from the search result
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Reference> T getBean() throws IGCParsingException {
+        if (bean == null) {
+            bean = layout.bindBean(values);
+        }
+        return (T) bean;
+    }
+
+    /**
+     * Indicates whether this record has yet been bound to its POJO.
+     *
+     * @return boolean
+     */
+    public boolean isBound() { return bean != null; }
+
+    /**
+     * Retrieve the value held for the property with the provided ordinal, for the header properties that are always
+     * held as they were returned.
+     *
+     * @param ordinal the ordinal of the property within the layout (or -1 if not projected)
+     * @return Object
+     */
+    private Object getProjectedValue(int ordinal) {
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getType() + ":" + getId();
+    }
+
+    /**
+     * The ordered properties of the results of a single IGC asset type that have the same projected properties, and
+     * how each of them is bound to the POJO of that type.
+     */
+    public static final class Layout {
+
+        private final String type;
+        private final Class<?> pojoClass;
+        private final ObjectMapper mapper;
+        private final String[] properties;
+        private final JavaType[] javaTypes;
+        private final Map<String, Integer> ordinals;
+        private final Map<String, DynamicPropertyReader> unprojectedReaders;
+
+        /**
+         * Create a new layout over the provided properties, skipping any that are not bound to a getter of the POJO (as
+         * these are ignored when binding the POJO as well).
+         *
+         * @param type the IGC asset type of the results
+         * @param pojoClass the POJO to which results of the type are bound
+         * @param mapper the ObjectMapper through which to bind values
+         * @param returned the names of the properties returned for the results, in the order they were returned
+         */
+        Layout(String type, Class<?> pojoClass, ObjectMapper mapper, List<String> returned) {
+            this.type = type;
+            this.pojoClass = pojoClass;
+            this.mapper = mapper;
+            List<String> names = new ArrayList<>(returned.size());
+            List<JavaType> types = new ArrayList<>(returned.size());
+            for (String property : returned) {
+                try {
+                    Method getter = pojoClass.getMethod(IGCRestConstants.getGetterNameForProperty(property));
+                    JsonProperty bound = getter.getAnnotation(JsonProperty.class);
+                    if (bound != null && bound.value().equals(property)) {
+                        names.add(property);
+                        types.add(mapper.getTypeFactory().constructType(getter.getGenericReturnType()));
+                    }
+                } catch (NoSuchMethodException e) {
+                    // Skip the property, as above
+                }
+            }
+            this.properties = names.toArray(new String[0]);
+            this.javaTypes = types.toArray(new JavaType[0]);
+            this.ordinals = new HashMap<>();
+            for (int i = 0; i < properties.length; i++) {
+                ordinals.put(properties[i], i);
+            }
+            this.unprojectedReaders = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Retrieve the IGC asset type of the results with this layout.
+         *
+         * @return String
+         */
+        public String getType() { return type; }
+
+        /**
+         * Retrieve the POJO to which results with this layout are bound.
+         *
+         * @return Class
+         */
+        public Class<?> getPojoClass() { return pojoClass; }
+
+        /**
+         * Retrieve the names of the properties of this layout, in ordinal order.
+         *
+         * @return {@code List<String>}
+         */
+        public List<String> getProperties() { return Collections.unmodifiableList(Arrays.asList(properties)); }
+
+        /**
+         * Retrieve the ordinal of the provided property within this layout.
+         *
+         * @param property the name of the IGC property
+         * @return int, or -1 if the property is not in this layout
+         */
+        public int getOrdinal(String property) {
+            Integer ordinal = property == null ? null : ordinals.get(property);
+            return ordinal == null ? -1 : ordinal;
+        }
+
+        /**
+         * Create a record with this layout from the JSON of a single search result.
+         *
+         * @param result the JSON of the search result
+         * @return ProjectedRecord
+         */
+        ProjectedRecord read(JsonNode result) {
+            Object[] values = new Object[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                values[i] = readValue(i, result.get(properties[i]));
+            }
+            return new ProjectedRecord(this, values);
+        }
+
+        /**
+         * Retrieve the value to hold for the property with the provided ordinal: the value itself if it is a simple
+         * value of the type expected by the POJO, otherwise the JSON from which to bind it when it is first read.
+         *
+         * @param ordinal the ordinal of the property
+         * @param node the JSON value of the property
+         * @return Object
+         */
+        private Object readValue(int ordinal, JsonNode node) {
+            if (node == null || node.isNull()) {
+                return null;
+            }
+            Class<?> expected = javaTypes[ordinal].getRawClass();
+            if (expected.equals(String.class) && node.isTextual()) {
+                return node.textValue();
+            } else if (expected.equals(Number.class) && node.isNumber()) {
+                return node.numberValue();
+            } else if (expected.equals(Date.class) && node.isIntegralNumber()) {
+                return new Date(node.longValue());
+            } else if ((expected.equals(Boolean.class) || expected.equals(boolean.class)) && node.isBoolean()) {
+                return node.booleanValue();
+            }
+            return node;
+        }
+
+        /**
+         * Indicates whether the property with the provided ordinal is itself of a JSON type on the POJO (so is never
+         * bound from the JSON held for it).
+         *
+         * @param ordinal the ordinal of the property
+         * @return boolean
+         */
+        private boolean isJson(int ordinal) {
+            return JsonNode.class.isAssignableFrom(javaTypes[ordinal].getRawClass());
+        }
+
+        /**
+         * Bind the JSON held for the property with the provided ordinal into the type expected by the POJO.
+         *
+         * @param ordinal the ordinal of the property
+         * @param node the JSON value of the property
+         * @return Object
+         * @throws IGCParsingException if the value cannot be bound
+         */
+        private Object bindValue(int ordinal, JsonNode node) throws IGCParsingException {
+            try {
+                return mapper.convertValue(node, javaTypes[ordinal]);
+            } catch (IllegalArgumentException e) {
+                throw new IGCParsingException("Unable to translate JSON into property value.", type + "::" + properties[ordinal], e);
+            }
+        }
+
+        /**
+         * Bind the POJO of a record with this layout from the values held for it (resolving the POJO from its type,
+         * just as for any search result).
+         *
+         * @param values the values held by the record
+         * @return Reference
+         * @throws IGCParsingException if the POJO cannot be bound
+         */
+        private Reference bindBean(Object[] values) throws IGCParsingException {
+            ObjectNode result = mapper.createObjectNode();
+            for (int i = 0; i < properties.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                } else if (value instanceof Date) {
+                    result.put(properties[i], ((Date) value).getTime());
+                } else {
+                    result.set(properties[i], value instanceof JsonNode ? (JsonNode) value : mapper.valueToTree(value));
+                }
+            }
+            try {
+                return mapper.treeToValue(result, Reference.class);
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                throw new IGCParsingException("Unable to translate JSON into POJO.", result.toString(), e);
+            }
+        }
+
+        /**
+         * Retrieve the value of a property that is not in this layout from the POJO of a record.
+         *
+         * @param bean the POJO of the record
+         * @param property the name of the IGC property
+         * @return Object
+         * @throws IGCIOException if the POJO has no such property
+         */
+        private Object getUnprojectedValue(Reference bean, String property) throws IGCIOException {
+            DynamicPropertyReader reader;
+            try {
+                reader = unprojectedReaders.computeIfAbsent(property, p -> DynamicPropertyReader.forProperty(pojoClass, p));
+            } catch (IllegalArgumentException e) {
+                throw new IGCIOException("Unable to find accessor for object type and property.", type + "::" + property, e);
+            }
+            return reader.getProperty(bean);
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import java.util.List;
+
+/**
+ * A single page of search results, held as {@link ProjectedRecord}s rather than bound to their POJOs, along with the
+ * 'paging' details of the page (as for an {@link ItemList}).
+ */
+public class ProjectedRecordList {
+
+    private final List<ProjectedRecord> items;
+    private final Paging paging;
+
+    /**
+     * Create a new page of search results.
+     *
+     * @param items the results on the page
+     * @param paging the paging details of the page
+     */
+    public ProjectedRecordList(List<ProjectedRecord> items, Paging paging) {
+        this.items = items;
+        this.paging = paging == null ? new Paging() : paging;
+    }
+
+    /**
+     * Retrieve the results on this page.
+     *
+     * @return {@code List<ProjectedRecord>}
+     */
+    public List<ProjectedRecord> getItems() { return items; }
+
+    /**
+     * Retrieve the paging details of this page.
+     *
+     * @return Paging
+     */
+    public Paging getPaging() { return paging; }
+
+    /**
+     * Returns true iff there are more (unretrieved) pages of results after this one.
+     *
+     * @return Boolean
+     */
+    public boolean hasMorePages() {
+        return paging.hasMore();
+    }
+
+}
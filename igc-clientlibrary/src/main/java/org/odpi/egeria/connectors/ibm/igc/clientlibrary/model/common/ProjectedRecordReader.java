@@ -0,0 +1,89 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCParsingException;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reads pages of search results into {@link ProjectedRecord}s, sharing a single layout between all of the results of
+ * the same type that have the same properties (across pages and searches).
+ */
+public class ProjectedRecordReader {
+
+    private final ObjectMapper mapper;
+    private final Function<String, Class<?>> pojoForType;
+    private final Map<String, ProjectedRecord.Layout> layouts;
+
+    /**
+     * Create a new reader of search results.
+     *
+     * @param mapper the ObjectMapper through which search results are otherwise bound to their POJOs
+     * @param pojoForType the POJO to which results of each IGC asset type are bound (or null to bind as a Reference)
+     */
+    public ProjectedRecordReader(ObjectMapper mapper, Function<String, Class<?>> pojoForType) {
+        this.mapper = mapper;
+        this.pojoForType = pojoForType;
+        this.layouts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Read a page of search results (in the same form as an {@link ItemList}) into records.
+     *
+     * @param json the JSON page of search results
+     * @return ProjectedRecordList
+     * @throws IGCParsingException if the page cannot be read
+     */
+    public ProjectedRecordList read(String json) throws IGCParsingException {
+        List<ProjectedRecord> items = new ArrayList<>();
+        Paging paging;
+        try {
+            JsonNode page = mapper.readTree(json);
+            JsonNode pagingNode = page.path("paging");
+            paging = pagingNode.isObject() ? mapper.treeToValue(pagingNode, Paging.class) : null;
+            for (JsonNode result : page.path("items")) {
+                items.add(getLayout(result).read(result));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IGCParsingException("Unable to translate JSON into projected records.", json, e);
+        }
+        return new ProjectedRecordList(items, paging);
+    }
+
+    /**
+     * Forget every layout read so far (for example, because the POJO for a type has changed).
+     */
+    public void clear() {
+        layouts.clear();
+    }
+
+    /**
+     * Retrieve the layout for the provided search result, creating it if this is the first result of its type with
+     * its properties.
+     *
+     * @param result the JSON of the search result
+     * @return ProjectedRecord.Layout
+     */
+    private ProjectedRecord.Layout getLayout(JsonNode result) {
+        String type = result.path("_type").asText(null);
+        List<String> returned = new ArrayList<>(result.size());
+        StringBuilder key = new StringBuilder(String.valueOf(type));
+        Iterator<String> names = result.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            returned.add(name);
+            key.append(",").append(name);
+        }
+        return layouts.computeIfAbsent(key.toString(), k -> {
+            Class<?> pojoClass = pojoForType.apply(type);
+            return new ProjectedRecord.Layout(type, pojoClass == null ? Reference.class : pojoClass, mapper, returned);
+        });
+    }
+
+}
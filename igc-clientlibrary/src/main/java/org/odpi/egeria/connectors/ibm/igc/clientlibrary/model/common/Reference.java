@@ -20,6 +20,8 @@ import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.*;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The ultimate parent object for all IGC assets, it contains only the most basic information common to every single
@@ -228,7 +230,7 @@ public class Reference extends ObjectPrinter {
      * Used to uniquely identify the object without relying on its ID (RID) remaining static.
      */
     @JsonIgnore
-    private Identity identity = null;
+    private volatile Identity identity = null;
 
     /**
      * Used to indicate whether this asset has been fully retrieved already (true) or not (false).
@@ -266,8 +268,17 @@ public class Reference extends ObjectPrinter {
     /**
      * The '_url' property provides a navigable link directly to the full details of asset this Reference represents,
      * within a given IGC environment.
+     * <br><br>
+     * The link is held as the part up to its last '/' (a single instance of which is shared by all objects, for up to
+     * a limited number of distinct bases) and the part after it, which is only retained when it differs from the '_id'
+     * that has been set. This only reduces the memory used by the link itself: the object is otherwise bound in full,
+     * like any other.
      */
-    protected String _url;
+    protected String _urlBase;
+    protected String _urlRemainder;
+
+    private static final int MAX_SHARED_URL_BASES = 64;
+    private static final Map<String, String> sharedUrlBases = new ConcurrentHashMap<>();
 
     @JsonProperty("created_by")
     protected String createdBy;
@@ -382,25 +393,65 @@ public class Reference extends ObjectPrinter {
      * @see #_id
      */
     @JsonProperty("_id")
-    public void setId(String _id) { this._id = _id; }
+    public void setId(String _id) {
+        if (_urlBase != null && _urlRemainder == null && this._id != null && !this._id.equals(_id)) {
+            // Retain the remainder of the URL, which was the previous '_id'
+            _urlRemainder = this._id;
+        }
+        this._id = _id;
+    }
 
     /**
      * Retrieve the IGC REST API URL to the object instance's details.
      *
      * @return String
-     * @see #_url
+     * @see #_urlBase
      */
     @JsonProperty("_url")
-    public String getUrl() { return _url; }
+    public String getUrl() {
+        if (_urlBase == null) {
+            return _urlRemainder;
+        }
+        return _urlBase + (_urlRemainder == null ? _id : _urlRemainder);
+    }
 
     /**
      * Set the IGC REST API URL of the object instance's details.
      *
      * @param _url of the IGC object instance
-     * @see #_url
+     * @see #_urlBase
      */
     @JsonProperty("_url")
-    public void setUrl(String _url) { this._url = _url; }
+    public void setUrl(String _url) {
+        int slash = _url == null ? -1 : _url.lastIndexOf('/');
+        if (slash < 0) {
+            this._urlBase = null;
+            this._urlRemainder = _url;
+        } else {
+            this._urlBase = getSharedUrlBase(_url.substring(0, slash + 1));
+            String remainder = _url.substring(slash + 1);
+            this._urlRemainder = remainder.equals(_id) ? null : remainder;
+        }
+    }
+
+    /**
+     * Retrieve the single shared instance of the provided base URL (up to a limited number of distinct bases).
+     *
+     * @param urlBase the base URL
+     * @return String
+     */
+    private static String getSharedUrlBase(String urlBase) {
+        String shared = sharedUrlBases.get(urlBase);
+        if (shared == null) {
+            if (sharedUrlBases.size() < MAX_SHARED_URL_BASES) {
+                shared = sharedUrlBases.putIfAbsent(urlBase, urlBase);
+            }
+            if (shared == null) {
+                shared = urlBase;
+            }
+        }
+        return shared;
+    }
 
     /**
      * Retrieve the {@code created_by} property (displayed as '{@literal Created By}') of the object.
@@ -554,7 +605,8 @@ public class Reference extends ObjectPrinter {
     }
 
     /**
-     * Retrieves the semantic identity of the asset.
+     * Retrieves the semantic identity of the asset. (The same asset may be shared between threads through an
+     * ObjectCache, so the identity is only ever populated by one thread at a time.)
      *
      * @param igcrest a REST API connection to use in confirming the identity of the asset
      * @param cache a cache of information that may already have been retrieved about the provided object
@@ -564,7 +616,7 @@ public class Reference extends ObjectPrinter {
      * @throws IGCIOException if there is any issue accessing the POJO defining the type and its properties
      */
     @JsonIgnore
-    public Identity getIdentity(IGCRestClient igcrest, ObjectCache cache) throws IGCConnectivityException, IGCParsingException, IGCIOException {
+    public synchronized Identity getIdentity(IGCRestClient igcrest, ObjectCache cache) throws IGCConnectivityException, IGCParsingException, IGCIOException {
         if (!isIdentityPopulated()) {
             // If the _context is null, it is not populated, while if it is empty it has been populated but there
             // simply is no context for this object
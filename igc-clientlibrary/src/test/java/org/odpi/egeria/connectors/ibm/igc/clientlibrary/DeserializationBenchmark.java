@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.ItemList;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.Reference;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Measures the cost of binding the mocked IGC responses into beans, with the object mapper configured as by the
+ * client library both with and without the Blackbird module registered (which replaces the reflective access to the
+ * bean properties with generated accessors). Each invocation binds every response of one set of the mocked responses:
+ * the pages of search results under 'by_rid' or the fully-retrieved assets under 'full_by_rid'.
+ * Only run in the 'benchmark' profile (eg. {@code mvn -Dbenchmark test}), where JMH forks its own JVM for the
+ * measurements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeserializationBenchmark {
+
+    private static final TypeReference<ItemList<Reference>> PAGE_OF_RESULTS = new TypeReference<ItemList<Reference>>(){};
+
+    @Param({"by_rid", "full_by_rid"})
+    public String responses;
+
+    private List<String> payloads;
+    private ObjectMapper reflective;
+    private ObjectMapper blackbird;
+
+    public DeserializationBenchmark() {
+        // Do nothing...
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        payloads = getPayloads(responses.equals("by_rid") ? "by_rid/**/*.json" : "full_by_rid/*.json");
+        reflective = getMapper();
+        blackbird = getMapper().registerModule(new BlackbirdModule());
+    }
+
+    @Benchmark
+    public void reflective(Blackhole blackhole) throws IOException {
+        bindAll(reflective, blackhole);
+    }
+
+    @Benchmark
+    public void blackbird(Blackhole blackhole) throws IOException {
+        bindAll(blackbird, blackhole);
+    }
+
+    @Test
+    public void runBenchmark() throws RunnerException {
+        assertFalse(new Runner(new OptionsBuilder()
+                .include(getClass().getName() + ".*")
+                .forks(1)
+                .build()).run().isEmpty());
+    }
+
+    private void bindAll(ObjectMapper mapper, Blackhole blackhole) throws IOException {
+        // Search results (by_rid) are pages of assets, while fully-retrieved assets (full_by_rid) are each on their own
+        boolean pages = responses.equals("by_rid");
+        for (String payload : payloads) {
+            blackhole.consume(pages ? mapper.readValue(payload, PAGE_OF_RESULTS) : mapper.readValue(payload, Reference.class));
+        }
+    }
+
+    private static ObjectMapper getMapper() {
+        return new ObjectMapper()
+                .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+                .enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+    }
+
+    private static List<String> getPayloads(String pattern) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(pattern);
+        List<String> payloads = new ArrayList<>();
+        for (Resource resource : resources) {
+            try (InputStream stream = resource.getInputStream()) {
+                payloads.add(StreamUtils.copyToString(stream, StandardCharsets.UTF_8));
+            }
+        }
+        if (payloads.isEmpty()) {
+            throw new IOException("No mocked IGC responses found matching: " + pattern);
+        }
+        return payloads;
+    }
+
+}
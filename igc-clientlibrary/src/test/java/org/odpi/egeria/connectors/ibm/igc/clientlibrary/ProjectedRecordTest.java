@@ -0,0 +1,141 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCIOException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.DatabaseColumn;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Term;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.*;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the reading of search results into projected records, the sharing of their layouts, and the lazy binding of
+ * each record to its POJO.
+ */
+public class ProjectedRecordTest {
+
+    private static final String PAGE = "{\"paging\":{\"numTotal\":3,\"pageSize\":2,\"begin\":0,\"end\":1,"
+            + "\"next\":\"https://localhost:1080/ibm/iis/igc-rest/v1/search?begin=2\"},\"items\":["
+            + "{\"_id\":\"col1\",\"_type\":\"database_column\",\"_name\":\"CUSTID\",\"name\":\"CUSTID\",\"fraction\":2,"
+            + "\"display_size\":\"\",\"nullabilityFlag\":true,\"averageValue\":\"42\",\"created_on\":1546300800000,"
+            + "\"database_table\":{\"_id\":\"tbl1\",\"_type\":\"database_table\",\"_name\":\"CUSTOMERS\"},\"not_in_pojo\":\"x\"},"
+            + "{\"_id\":\"col2\",\"_type\":\"database_column\",\"_name\":\"NAME\",\"name\":\"NAME\",\"fraction\":0,"
+            + "\"display_size\":20,\"nullabilityFlag\":false,\"averageValue\":[\"a\",\"b\"],\"created_on\":1546300900000,"
+            + "\"database_table\":null,\"not_in_pojo\":\"y\"},"
+            + "{\"_id\":\"term1\",\"_type\":\"term\",\"_name\":\"Customer\",\"assigned_assets\":{\"paging\":{\"numTotal\":1,"
+            + "\"pageSize\":10,\"begin\":0,\"end\":0},\"items\":[{\"_id\":\"col1\",\"_type\":\"database_column\",\"_name\":\"CUSTID\"}]}}"
+            + "]}";
+
+    private static final List<String> PROPERTIES = Arrays.asList("_id", "_type", "_name", "name", "fraction",
+            "display_size", "nullabilityFlag", "averageValue", "created_on", "database_table");
+
+    private ObjectMapper mapper;
+    private ProjectedRecordReader reader;
+
+    public ProjectedRecordTest() {
+        // Do nothing...
+    }
+
+    @BeforeMethod
+    public void setup() {
+        // Configured as the client's own mapper is for binding search results
+        mapper = new ObjectMapper()
+                .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+                .enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+        reader = new ProjectedRecordReader(mapper, type -> type.equals("term") ? Term.class : DatabaseColumn.class);
+    }
+
+    @Test
+    public void testLayouts() throws IGCException {
+
+        ProjectedRecordList page = reader.read(PAGE);
+        assertEquals(page.getItems().size(), 3);
+        assertTrue(page.hasMorePages());
+        assertEquals(page.getPaging().getEndIndex(), Integer.valueOf(1));
+
+        // Results of the same type with the same properties share a single layout, which only covers the properties
+        // that are bound to the POJO
+        ProjectedRecord first = page.getItems().get(0);
+        ProjectedRecord second = page.getItems().get(1);
+        ProjectedRecord term = page.getItems().get(2);
+        assertSame(first.getLayout(), second.getLayout());
+        assertNotSame(first.getLayout(), term.getLayout());
+        assertEquals(first.getLayout().getProperties(), PROPERTIES);
+        assertEquals(first.getLayout().getPojoClass(), DatabaseColumn.class);
+        assertFalse(first.isProjected("not_in_pojo"));
+        assertEquals(first.getLayout().getOrdinal("fraction"), 4);
+        assertEquals(first.getLayout().getOrdinal("length"), -1);
+
+        // ... across pages as well
+        assertSame(reader.read(PAGE).getItems().get(0).getLayout(), first.getLayout());
+        assertEquals(term.toString(), "term:term1");
+
+    }
+
+    @Test
+    public void testValuesAsBound() throws IGCException, IOException {
+
+        ProjectedRecordList page = reader.read(PAGE);
+        List<Reference> bound = mapper.readValue(PAGE, new TypeReference<ItemList<Reference>>(){}).getItems();
+
+        // Every projected value is the value read from the POJO bound directly from the same result
+        for (int i = 0; i < bound.size(); i++) {
+            ProjectedRecord record = page.getItems().get(i);
+            Reference bean = bound.get(i);
+            assertEquals(record.getId(), bean.getId());
+            assertEquals(record.getName(), bean.getName());
+            for (String property : record.getLayout().getProperties()) {
+                Object expected = DynamicPropertyReader.forProperty(bean.getClass(), property).getProperty(bean);
+                assertEquals(mapper.valueToTree(record.getValue(property)), mapper.valueToTree(expected), record + "::" + property);
+            }
+            assertFalse(record.isBound(), record.toString());
+        }
+
+        // ... including the simple values held directly, rather than as JSON
+        ProjectedRecord first = page.getItems().get(0);
+        assertEquals(first.getValue("fraction"), 2);
+        assertNull(first.getValue("display_size"));
+        assertEquals(first.getValue("nullabilityFlag"), Boolean.TRUE);
+        assertEquals(first.getValue("created_on"), new Date(1546300800000L));
+        assertEquals(first.getValue("averageValue"), Arrays.asList("42"));
+        assertEquals(((Reference) first.getValue("database_table")).getId(), "tbl1");
+        ItemList<?> assigned = (ItemList<?>) page.getItems().get(2).getValue("assigned_assets");
+        assertEquals(assigned.getItems().get(0).getId(), "col1");
+
+    }
+
+    @Test
+    public void testLazyBinding() throws IGCException {
+
+        ProjectedRecord record = reader.read(PAGE).getItems().get(0);
+        assertFalse(record.isBound());
+
+        // A property that was not projected is read from the POJO, which is only then bound (and only once)
+        assertNull(record.getValue("length"));
+        assertTrue(record.isBound());
+        DatabaseColumn column = record.getBean();
+        assertSame(record.getBean(), column);
+        assertEquals(column.getId(), "col1");
+        assertEquals(column.getFraction(), 2);
+        assertEquals(column.getCreatedOn(), new Date(1546300800000L));
+        assertEquals(column.getDatabaseTable().getName(), "CUSTOMERS");
+        assertNull(column.getDisplaySize());
+
+        // ... but a property the POJO does not have at all cannot be read
+        assertThrows(IGCIOException.class, () -> record.getValue("not_in_pojo"));
+
+    }
+
+}
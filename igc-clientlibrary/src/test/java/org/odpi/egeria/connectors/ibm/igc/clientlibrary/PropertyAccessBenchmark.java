@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.egeria.connectors.ibm.igc.clientlibrary;
+
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.errors.IGCException;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.base.Term;
+import org.odpi.egeria.connectors.ibm.igc.clientlibrary.model.common.DynamicPropertyReader;
+import org.odpi.egeria.connectors.ibm.information.server.mocks.MockConstants;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Measures the cost of reading a property of an asset by its IGC property name, through each of the ways the client
+ * library can do so:
+ * <ul>
+ *     <li>the reader over the generated property table of the bean (where the bean has one),</li>
+ *     <li>the reader over a LambdaMetafactory-generated getter,</li>
+ *     <li>plain reflection, as the baseline, and</li>
+ *     <li>the client's own lookup of the cached reader for the type and property, followed by the read.</li>
+ * </ul>
+ * Only run in the 'benchmark' profile (eg. {@code mvn -Dbenchmark test}), where JMH forks its own JVM for the
+ * measurements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PropertyAccessBenchmark {
+
+    @Param({"abbreviation", "glossary_type", "short_description"})
+    public String property;
+
+    private Term term;
+    private IGCRestClient client;
+    private DynamicPropertyReader tableReader;
+    private DynamicPropertyReader lambdaReader;
+    private Method getter;
+
+    public PropertyAccessBenchmark() {
+        // Do nothing...
+    }
+
+    @Setup
+    public void setup() throws IGCException, NoSuchMethodException {
+        term = new Term();
+        term.setId("rid0");
+        term.setType("term");
+        term.setAbbreviation("ADDR");
+        term.setGlossaryType("PUBLISHED");
+        term.setShortDescription("The postal address");
+        client = new IGCRestClient(MockConstants.IGC_HOST, MockConstants.IGC_PORT, MockConstants.IGC_USER, MockConstants.IGC_PASS);
+        tableReader = DynamicPropertyReader.forProperty(Term.class, property);
+        lambdaReader = new DynamicPropertyReader(Term.class, property);
+        getter = Term.class.getMethod(IGCRestConstants.getGetterNameForProperty(property));
+    }
+
+    @Benchmark
+    public Object propertyTable() {
+        return tableReader.getProperty(term);
+    }
+
+    @Benchmark
+    public Object lambdaMetafactory() {
+        return lambdaReader.getProperty(term);
+    }
+
+    @Benchmark
+    public Object reflection() throws IllegalAccessException, InvocationTargetException {
+        return getter.invoke(term);
+    }
+
+    @Benchmark
+    public Object clientLookup() throws IGCException {
+        return client.getPropertyByName(term, property);
+    }
+
+    @Test
+    public void runBenchmark() throws RunnerException {
+        assertFalse(new Runner(new OptionsBuilder()
+                .include(getClass().getName() + ".*")
+                .forks(1)
+                .build()).run().isEmpty());
+    }
+
+}
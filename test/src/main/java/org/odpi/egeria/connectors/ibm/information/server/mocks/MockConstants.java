@@ -8,11 +8,13 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.model.JsonBody;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.JsonBody.json;
 import static org.mockserver.model.Parameter.param;
+import static org.mockserver.model.StringBody.subString;
 
 /**
  * A set of constants that can be re-used across various modules' tests.
@@ -24,6 +26,7 @@ public class MockConstants {
     public static final String IGC_ENDPOINT = IGC_HOST + ":" + IGC_PORT;
     public static final String IGC_USER = "isadmin";
     public static final String IGC_PASS = "isadmin";
+    public static final String LATENCY_PROPERTY = "mockserver.latency";
 
     public static final String EGERIA_USER = "admin";
     public static final int EGERIA_PAGESIZE = 100;
@@ -235,14 +238,15 @@ public class MockConstants {
     }
 
     /**
-     * Create a mock OpenIGC asset deletion request for the removal of an OMRS Stub.
+     * Create a mock OpenIGC asset deletion request for the removal of an OMRS Stub. (As stubs are deleted in batches,
+     * this matches any deletion document that includes the stub.)
      * @param type the type of the IGC asset whose stub should be deleted
      * @param rid the RID of the IGC asset whose stub should be deleted
      * @return HttpRequest
      */
     public static HttpRequest deleteOMRSStubRequest(String type, String rid) {
         return request().withMethod("DELETE").withPath(IGC_REST_EP + "bundles/assets")
-                .withBody("<?xml version=\"1.0\" encoding=\"UTF-8\"?><doc xmlns=\"http://www.ibm.com/iis/flow-doc\"><assets><asset class=\"$OMRS-Stub\" repr=\"" + type + "_" + rid + "\" ID=\"stub1\"><attribute name=\"name\" value=\"" + type + "_" + rid + "\"></attribute></asset></assets><assetsToDelete>stub1</assetsToDelete></doc>");
+                .withBody(subString("<asset class=\"$OMRS-Stub\" repr=\"" + type + "_" + rid + "\""));
     }
 
     /**
@@ -415,7 +419,18 @@ public class MockConstants {
      * @return HttpResponse
      */
     public static HttpResponse withResponse(String body) {
-        return response().withBody(body);
+        return withLatency(response().withBody(body));
+    }
+
+    /**
+     * Delay the provided mock response by the latency (in milliseconds) given by the LATENCY_PROPERTY system
+     * property, if any, to better approximate the response times of a real environment.
+     * @param response to delay
+     * @return HttpResponse
+     */
+    public static HttpResponse withLatency(HttpResponse response) {
+        long latency = Long.getLong(LATENCY_PROPERTY, 0L);
+        return latency > 0 ? response.withDelay(TimeUnit.MILLISECONDS, latency) : response;
     }
 
 }
@@ -18,6 +18,7 @@ import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -566,6 +567,15 @@ public class MockServerExpectations implements PluginExpectationInitializer {
                                     MatchType.ONLY_MATCHING_FIELDS
                             )))
                     .respond(withResponse(getResourceFileContents("by_rid" + File.separator + type + File.separator + rid + ".json")));
+            // Entities retrieved in bulk are searched for by a list of RIDs, which for a single RID gives the same result
+            mockServerClient
+                    .withSecure(true)
+                    .when(searchRequest(
+                            json(
+                                    "{\"types\":[\"" + type + "\"],\"where\":{\"conditions\":[{\"property\":\"_id\",\"operator\":\"in\",\"value\":[\"" + rid + "\"]}]}}",
+                                    MatchType.ONLY_MATCHING_FIELDS
+                            )))
+                    .respond(withResponse(getResourceFileContents("by_rid" + File.separator + type + File.separator + rid + ".json")));
         }
     }
 
@@ -1347,6 +1357,11 @@ public class MockServerExpectations implements PluginExpectationInitializer {
         setDeletionDetail(mockServerClient, caseName, "data_file_field", "b1c497ce.60641b50.001mts4ph.b75dalt.59n30t.apvv8opio0bm9t60s96lh");
         setDeletionDetail(mockServerClient, caseName, "data_file_field", "b1c497ce.60641b50.001mts4ph.b75a2vb.jpldmv.h2n1pd5bj6ed5naskcuh1");
         setDeletionDetail(mockServerClient, caseName, "data_file_field", "b1c497ce.60641b50.001mts4ph.b7logan.ga9gvm.j9d35qlopvumnpjjlptfl");
+        // The stubs of the fields contained within the record are retrieved together, in a single search
+        setStubLookupForRids(mockServerClient, caseName, "data_file_fields.json",
+                "data_file_field_b1c497ce.60641b50.001mts4ph.b75dalt.59n30t.apvv8opio0bm9t60s96lh",
+                "data_file_field_b1c497ce.60641b50.001mts4ph.b7logan.ga9gvm.j9d35qlopvumnpjjlptfl",
+                "data_file_field_b1c497ce.60641b50.001mts4ph.b75a2vb.jpldmv.h2n1pd5bj6ed5naskcuh1");
 
         setStubLookupForRid(mockServerClient, caseName, "data_file_folder", "b1c497ce.11727c74.001mts4ph.b86popc.fmed0i.m91ns5n533hivl7v9hop8");
         setStubLookupForRid(mockServerClient, caseName, "term", "6662c0f2.e1b1ec6c.00263phiu.ns4tojl.pbf2qr.91blj7n4rsg7ddf37590i");
@@ -1373,22 +1388,19 @@ public class MockServerExpectations implements PluginExpectationInitializer {
     }
 
     private void setStubCreations(MockServerClient mockServerClient) {
+        // Stubs are upserted in batches, so confirm the upsert of every document ID a batch could include
         mockServerClient
                 .withSecure(true)
                 .when(MockConstants.createOpenIGCAssetRequest())
-                .respond(withResponse(getResourceFileContents("openigc" + File.separator + "stub_term.json")));
-        mockServerClient
-                .withSecure(true)
-                .when(MockConstants.createOpenIGCAssetRequest())
-                .respond(withResponse(getResourceFileContents("openigc" + File.separator + "stub_database_column.json")));
+                .respond(withResponse(getResourceFileContents("openigc" + File.separator + "stubs.json")));
     }
 
     private void setStubDeletion(MockServerClient mockServerClient, String type, String rid) {
+        // A successful deletion has no response body
         mockServerClient
                 .withSecure(true)
                 .when(MockConstants.deleteOMRSStubRequest(type, rid))
-                .respond(withResponse(getResourceFileContents("openigc" + File.separator + "stub_database_column.json")));
-        // Note that it doesn't really matter what we respond with as the contents are not used anyway
+                .respond(withLatency(response()));
     }
 
     private void setStubLookups(MockServerClient mockServerClient, String caseName) {
@@ -1432,6 +1444,17 @@ public class MockServerExpectations implements PluginExpectationInitializer {
                 .respond(withResponse(getResourceFileContents("by_case" + File.separator + caseName + File.separator + type + "_" + rid + ".json")));
     }
 
+    private void setStubLookupForRids(MockServerClient mockServerClient, String caseName, String filename, String... stubNames) {
+        String names = Arrays.stream(stubNames).map(name -> "\"" + name + "\"").collect(Collectors.joining(","));
+        mockServerClient
+                .withSecure(true)
+                .when(searchRequest(json(
+                        "{\"types\":[\"$OMRS-Stub\"],\"where\":{\"conditions\":[{\"property\":\"name\",\"operator\":\"in\",\"value\":[" + names + "]}],\"operator\":\"and\"}}",
+                        MatchType.ONLY_MATCHING_FIELDS
+                )))
+                .respond(withResponse(getResourceFileContents("by_case" + File.separator + caseName + File.separator + filename)));
+    }
+
     private void setChangeSetTest(MockServerClient mockServerClient) {
         String caseName = "ChangeSetTest";
         JsonBody termRequest = json(